@@ -0,0 +1,13 @@
+package scramble.benchmark;
+
+/**
+ * Values shared by the benchmarks.
+ */
+final class Benchmarks {
+
+    /** Seed of every map and random number used by the benchmarks. */
+    static final long SEED = 1981L;
+
+    private Benchmarks() {
+    }
+}
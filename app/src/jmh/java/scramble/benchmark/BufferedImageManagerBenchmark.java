@@ -0,0 +1,59 @@
+package scramble.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.common.util.BufferedImageManager;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandPart;
+
+/**
+ * Colour changes of a sprite of the landscape, as done for the brick walls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferedImageManagerBenchmark {
+
+    private BufferedImage sprite;
+
+    /** Loads the sprite. */
+    @Setup
+    public void setup() {
+        this.sprite = LandUtils.getSprite(LandPart.DARK_BRICK_WALL);
+    }
+
+    /**
+     * Changes the colours clockwise.
+     *
+     * @return the changed image
+     */
+    @Benchmark
+    public BufferedImage changeColorClockwise() {
+        return BufferedImageManager.changeColorClockwise(sprite, 0);
+    }
+
+    /**
+     * Changes the colours counter clockwise.
+     *
+     * @return the changed image
+     */
+    @Benchmark
+    public BufferedImage changeColorCounterClockwise() {
+        return BufferedImageManager.changeColorCounterClockwise(sprite, 0);
+    }
+}
@@ -0,0 +1,147 @@
+package scramble.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.controller.map.MapController;
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.common.impl.GameElementImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapElement;
+import scramble.model.spaceship.SpaceShip;
+import scramble.model.world.LandscapeModel;
+import scramble.utility.Constants;
+
+/**
+ * Collisions of a bullet and of the spaceship against the landscape loaded
+ * around the screen. Both are placed in the middle of the screen, where they
+ * touch nothing, so every element of the landscape is checked by the scan of
+ * the elements, while the terrain index only looks at the columns under them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int GRAZING_DEPTH = 4;
+
+    private LandscapeModel landscape;
+    private List<MapElement> columns;
+    private Bullet bullet;
+    private SpaceShip spaceship;
+    private SpaceShip grazingSpaceship;
+
+    /** Loads the landscape at the beginning of the map. */
+    @Setup
+    public void setup() {
+        this.landscape = new LandscapeModel(new MapController(new GameRandomImpl(Benchmarks.SEED)));
+        this.columns = new ArrayList<>();
+        for (final MapColumn column : landscape.getLoadedColumns()) {
+            this.columns.addAll(column.getElements());
+        }
+        this.bullet = new Bullet(Constants.WINDOW_WIDTH / 2, Constants.WINDOW_HEIGHT / 2, BulletType.TYPE_HORIZONTAL,
+                new SplittableRandom(Benchmarks.SEED));
+        this.spaceship = new SpaceShip(Constants.WINDOW_WIDTH / 4, Constants.WINDOW_HEIGHT / 2,
+                Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT, new SplittableRandom(Benchmarks.SEED));
+        final int floor = columns.stream()
+                .filter(e -> e.getHitBoxX() < Constants.WINDOW_WIDTH / 4 + Constants.SPACESHIP_WIDTH
+                        && e.getHitBoxX() + e.getHitBoxWidth() > Constants.WINDOW_WIDTH / 4
+                        && e.getHitBoxY() > Constants.WINDOW_HEIGHT / 2)
+                .mapToInt(MapElement::getHitBoxY).min().orElse(Constants.WINDOW_HEIGHT);
+        this.grazingSpaceship = new SpaceShip(Constants.WINDOW_WIDTH / 4,
+                floor - Constants.SPACESHIP_HEIGHT + GRAZING_DEPTH, Constants.SPACESHIP_WIDTH,
+                Constants.SPACESHIP_HEIGHT, new SplittableRandom(Benchmarks.SEED));
+    }
+
+    /**
+     * Checks the hit box of the bullet against the elements of the landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean bulletGroundCollision() {
+        return scanElements(bullet);
+    }
+
+    /**
+     * Checks the hit box of the spaceship against the elements of the
+     * landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean spaceshipGroundCollision() {
+        return scanElements(spaceship);
+    }
+
+    /**
+     * Checks the bullet against the terrain index of the landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean bulletTerrainIndex() {
+        return bullet.checkGroundCollision(landscape);
+    }
+
+    /**
+     * Checks the spaceship against the terrain index of the landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean spaceshipTerrainIndex() {
+        return spaceship.checkGroundCollision(landscape);
+    }
+
+    /**
+     * Checks the hit box of a spaceship that grazes the floor against the
+     * terrain index of the landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean grazingSpaceshipBox() {
+        return landscape.hitsTerrain(grazingSpaceship.getX(), grazingSpaceship.getY(),
+                grazingSpaceship.getWidth(), grazingSpaceship.getHeight());
+    }
+
+    /**
+     * Checks the pixels of a spaceship that grazes the floor against the
+     * terrain index of the landscape.
+     *
+     * @return the result of the check
+     */
+    @Benchmark
+    public boolean grazingSpaceshipMask() {
+        return grazingSpaceship.checkGroundCollision(landscape);
+    }
+
+    /* The hit box of an element against the ones of the landscape, one by one. */
+    private boolean scanElements(final GameElementImpl element) {
+        for (final MapElement me : columns) {
+            if (element.hasCollided(me)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package scramble.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapLayout;
+
+/**
+ * Scroll of the window of columns loaded around the screen. Every call moves
+ * the window one column forward, wrapping at the end of the map, as the
+ * landscape does while scrolling. The building of a whole map, whose stages are generated at
+ * the same time, is measured too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapControllerBenchmark {
+
+    private MapController mapController;
+    private MapLayout layout;
+
+    /** Builds the whole map, waiting for every stage to be generated. */
+    @Setup
+    public void setup() {
+        this.layout = MapLayout.load();
+        this.mapController = new MapController(new GameRandomImpl(Benchmarks.SEED), this.layout);
+        this.mapController.loadAllStages();
+    }
+
+    /**
+     * Builds a whole map whose layout is known, waiting for every stage.
+     *
+     * @return the map
+     */
+    @Benchmark
+    public MapController loadAllStages() {
+        final MapController map = new MapController(new GameRandomImpl(Benchmarks.SEED), this.layout);
+        map.loadAllStages();
+        return map;
+    }
+
+    /**
+     * Moves the window of the loaded columns one column forward.
+     *
+     * @return the column that entered the window
+     */
+    @Benchmark
+    public MapColumn advance() {
+        mapController.advance();
+        return mapController.getWindow().get(mapController.getWindow().size() - 1);
+    }
+}
@@ -0,0 +1,73 @@
+package scramble.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.raw.RawData;
+import scramble.utility.Constants;
+
+/**
+ * Conversion of the data of a stage into the columns of the map. The data is
+ * read from the CSV files once; before every conversion the generator is
+ * brought to the heights it has when it reaches the stage in the game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageGeneratorBenchmark {
+
+    /** The stage to convert, 0 being the prestage. */
+    @Param({ "0", "1", "2", "3", "4", "5", "6" })
+    private int stage;
+
+    private final List<RawData> stages = List.of(LandsDataLoader.getPrestageData(),
+            LandsDataLoader.getStage1Data(), LandsDataLoader.getStage2Data(), LandsDataLoader.getStage3Data(),
+            LandsDataLoader.getStage4Data(), LandsDataLoader.getStage5Data(), LandsDataLoader.getStage6Data());
+    private StageGenerator generator;
+
+    /** Creates the generator and converts every stage that comes before. */
+    @Setup(Level.Invocation)
+    public void setup() {
+        this.generator = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT), new SplittableRandom(Benchmarks.SEED));
+        for (int i = 0; i < stage; i++) {
+            generator.convertDataToMapStage(stages.get(i), lengthOf(i));
+        }
+    }
+
+    /**
+     * Converts the stage.
+     *
+     * @return the columns of the stage
+     */
+    @Benchmark
+    public List<MapColumn> convertDataToMapStage() {
+        return generator.convertDataToMapStage(stages.get(stage), lengthOf(stage));
+    }
+
+    private static int lengthOf(final int stage) {
+        return stage == 0 ? Constants.SPRITE_PER_PRESTAGE_WIDTH : Constants.SPRITE_PER_STAGE_WIDTH;
+    }
+}
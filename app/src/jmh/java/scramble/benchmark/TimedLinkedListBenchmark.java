@@ -0,0 +1,66 @@
+package scramble.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scramble.model.common.api.TimedLinkedList;
+import scramble.model.common.impl.TimedLinkedListImpl;
+
+/**
+ * Churn of a {@link TimedLinkedList}: at every update some elements are added
+ * and the oldest ones expire, so the size of the list stays the same, as it
+ * happens with the explosions of the bombs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimedLinkedListBenchmark {
+
+    private static final long UPDATE_MS = 32;
+    private static final long LIFETIME_MS = 1000;
+
+    /** Number of elements added at every update. */
+    @Param({ "1", "16" })
+    private int added;
+
+    private TimedLinkedList<Integer> list;
+    private List<Integer> elements;
+
+    /** Fills the list until elements start to expire. */
+    @Setup
+    public void setup() {
+        this.list = new TimedLinkedListImpl<>();
+        this.elements = IntStream.range(0, added).boxed().toList();
+        for (long time = 0; time < LIFETIME_MS; time += UPDATE_MS) {
+            churn();
+        }
+    }
+
+    /**
+     * Adds the elements of an update and expires the oldest ones.
+     *
+     * @return the list
+     */
+    @Benchmark
+    public TimedLinkedList<Integer> churn() {
+        list.addAll(elements, LIFETIME_MS);
+        list.update(UPDATE_MS);
+        return list;
+    }
+}
@@ -3,15 +3,58 @@
  */
 package scramble;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
 import scramble.controller.input.InputControl;
+import scramble.controller.loop.impl.FixedStepGameLoop;
+import scramble.controller.profiling.Profiler;
+import scramble.controller.replay.Replay;
+import scramble.controller.replay.ReplayPlayer;
+import scramble.controller.replay.ReplayRecorder;
+import scramble.controller.session.GameSession;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.util.TileVariants;
 import scramble.view.compact.GameView;
+import scramble.view.compact.RenderBackend;
 
 /**
  * Main class for the game. It instantiate the Game View and the controller,
  * that handles the game inputs.
+ *
+ * <p>
+ * Started with the {@code --headless} argument, the game runs without any
+ * window as fast as possible and logs how many ticks are run every second.
+ * With {@code --seed=N} the game is generated from the given seed, so that a
+ * run can be played again exactly. With {@code --renderer=canvas} the window
+ * is drawn by the game loop on a page flipped canvas instead of being
+ * repainted by Swing. With {@code --profile=FILE} the timings of every phase
+ * of the game are appended to the file every few seconds; while playing they
+ * are shown by pressing F3. With {@code --record=FILE} every input of the
+ * player is recorded and written to the file when the game is closed, and with
+ * {@code --replay=FILE} the recorded game is played again without any window,
+ * as fast as possible. With {@code --endless} the game is played on a map
+ * with no end, made up as the landscape scrolls.
+ * </p>
  */
 public class App {
 
+    private static final Logger LOG = Logger.getLogger(App.class.getName());
+    private static final String HEADLESS_ARG = "--headless";
+    private static final String TICKS_ARG = "--ticks=";
+    private static final String SEED_ARG = "--seed=";
+    private static final String RENDERER_ARG = "--renderer=";
+    private static final String PROFILE_ARG = "--profile=";
+    private static final String RECORD_ARG = "--record=";
+    private static final String REPLAY_ARG = "--replay=";
+    private static final String ENDLESS_ARG = "--endless";
+    private static final long HEADLESS_TICKS = 100_000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final double PERCENT = 100;
+
     /**
      * Auto-generated test.
      *
@@ -28,9 +71,128 @@ public class App {
      */
     public static void main(final String[] args) {
 
-        final GameView gameView = new GameView();
+        pathArg(args, PROFILE_ARG).ifPresent(Profiler::setDumpFile);
+        final Optional<Path> replayFile = pathArg(args, REPLAY_ARG);
+        if (replayFile.isPresent()) {
+            runReplay(replayFile.get());
+            return;
+        }
+        final long seed = longArg(args, SEED_ARG, System.nanoTime());
+        LOG.info("Seed: " + seed);
+        final boolean endless = Arrays.asList(args).contains(ENDLESS_ARG);
+        if (Arrays.asList(args).contains(HEADLESS_ARG)) {
+            runHeadless(longArg(args, TICKS_ARG, HEADLESS_TICKS), seed, endless);
+            return;
+        }
+
+        final RenderBackend renderBackend = Arrays.stream(args)
+                .filter(a -> a.startsWith(RENDERER_ARG))
+                .map(a -> RenderBackend.fromName(a.substring(RENDERER_ARG.length())))
+                .findFirst()
+                .orElse(RenderBackend.SWING);
+        LOG.info("Renderer: " + renderBackend);
+        final GameView gameView = new GameView(new GameRandomImpl(seed), renderBackend, endless);
+        logTileVariants();
+        // The recorder is set before the game loop is started by the setup of the view
+        pathArg(args, RECORD_ARG).ifPresent(file -> record(gameView.getSession(), file, endless));
         gameView.setupGameView();
         final InputControl controller = new InputControl(gameView);
         gameView.addKeyListener(controller);
     }
+
+    /*
+     * Records the inputs of the session and writes them when the game is
+     * closed, together with the kind of map it is played on.
+     */
+    private static void record(final GameSession session, final Path file, final boolean endless) {
+        final ReplayRecorder recorder = new ReplayRecorder(session.getRandom().getSeed(), endless);
+        session.setRecorder(recorder);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                recorder.save(file);
+            } catch (final IOException e) {
+                LOG.severe("Ops!");
+                LOG.severe(e.toString());
+            }
+        }));
+    }
+
+    /*
+     * Plays a recorded game again without a window and tells if it has ended
+     * in the recorded state.
+     */
+    private static void runReplay(final Path file) {
+        final Replay replay;
+        try {
+            replay = Replay.load(file);
+        } catch (final IOException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+            return;
+        }
+        LOG.info(String.format("Replaying %d ticks and %d inputs, seed %d%s", replay.getTicks(),
+                replay.getEvents().size(), replay.getSeed(), replay.isEndless() ? ", map with no end" : ""));
+        final long start = System.nanoTime();
+        final boolean exact = new ReplayPlayer(replay).play();
+        Profiler.flush();
+        final long elapsed = Math.max(1, System.nanoTime() - start);
+        LOG.info(String.format("%d ticks in %d ms, %d ticks/s", replay.getTicks(), elapsed / 1_000_000,
+                replay.getTicks() * NANOS_PER_SECOND / elapsed));
+        if (exact) {
+            LOG.info("The replay ended in the recorded state");
+        } else {
+            LOG.severe("The replay did not end in the recorded state");
+        }
+    }
+
+    /*
+     * Plays the given number of ticks without a window, starting a new game
+     * every time the previous one ends.
+     */
+    private static void runHeadless(final long ticks, final long seed, final boolean endless) {
+        final GameSession session = new GameSession(new FixedStepGameLoop(), new GameRandomImpl(seed), endless);
+        logTileVariants();
+        session.start();
+        final long start = System.nanoTime();
+        long reportStart = start;
+        long reportTicks = 0;
+        for (long i = 0; i < ticks; i++) {
+            if (!session.isPlaying()) {
+                session.reset();
+                session.start();
+            }
+            session.step();
+            reportTicks++;
+            final long now = System.nanoTime();
+            if (now - reportStart >= NANOS_PER_SECOND) {
+                LOG.info(String.format("%d ticks/s", reportTicks * NANOS_PER_SECOND / (now - reportStart)));
+                reportStart = now;
+                reportTicks = 0;
+            }
+        }
+        Profiler.flush();
+        final long elapsed = Math.max(1, System.nanoTime() - start);
+        LOG.info(String.format("%d ticks in %d ms, %d ticks/s", ticks, elapsed / 1_000_000,
+                ticks * NANOS_PER_SECOND / elapsed));
+    }
+
+    private static void logTileVariants() {
+        LOG.info(String.format("Tile variants: %d built, hit rate %.1f%%", TileVariants.getMisses(),
+                TileVariants.getHitRate() * PERCENT));
+    }
+
+    private static Optional<Path> pathArg(final String[] args, final String prefix) {
+        return Arrays.stream(args)
+                .filter(a -> a.startsWith(prefix))
+                .map(a -> Path.of(a.substring(prefix.length())))
+                .findFirst();
+    }
+
+    private static long longArg(final String[] args, final String prefix, final long defaultValue) {
+        return Arrays.stream(args)
+                .filter(a -> a.startsWith(prefix))
+                .map(a -> Long.parseLong(a.substring(prefix.length())))
+                .findFirst()
+                .orElse(defaultValue);
+    }
 }
@@ -1,11 +1,8 @@
 package scramble.controller.command.impl;
 
 import scramble.controller.command.api.Command;
+import scramble.controller.session.GameSession;
 import scramble.model.bullets.BulletType;
-import scramble.model.spaceship.SpaceShip;
-import scramble.view.compact.BulletsPanel;
-
-import java.util.logging.Logger;
 
 /**
  * Implementation of Command interface. handles the player (bullet) commands and
@@ -13,31 +10,17 @@ import java.util.logging.Logger;
  */
 public class BulletCommand implements Command {
 
-    private static final Logger LOG = Logger.getLogger(BulletsPanel.class.getName());
-
-    private BulletsPanel gamePanel;
-    private SpaceShip spaceship;
+    private final GameSession session;
     private final BulletType type;
 
     /**
      * Class constructor.
      *
-     * @param panel     the game panel to update
-     * @param type      the type of the bullet
-     * @param spaceship
+     * @param session the game session to update
+     * @param type    the type of the bullet
      */
-    public BulletCommand(final BulletsPanel panel, final BulletType type, final SpaceShip spaceship) {
-        final BulletsPanel tempPanel;
-        final SpaceShip tempSpaceship;
-        try {
-            tempPanel = panel.clone();
-            tempSpaceship = spaceship.clone();
-            this.spaceship = tempSpaceship;
-            this.gamePanel = tempPanel;
-        } catch (CloneNotSupportedException e) {
-            LOG.severe("Ops!");
-            LOG.severe(e.toString());
-        }
+    public BulletCommand(final GameSession session, final BulletType type) {
+        this.session = session;
         this.type = type;
     }
 
@@ -47,7 +30,7 @@ public class BulletCommand implements Command {
      */
     @Override
     public void execute() {
-        gamePanel.shootBullet(type, spaceship);
+        session.shoot(type);
     }
 
 }
@@ -1,10 +1,8 @@
 package scramble.controller.command.impl;
 
-import java.util.logging.Logger;
-
 import scramble.controller.command.api.Command;
+import scramble.controller.session.GameSession;
 import scramble.model.spaceship.Directions;
-import scramble.view.compact.SpaceShipPanel;
 
 /**
  * Implementation of Command Directionserface. handles the player (ship)
@@ -13,33 +11,27 @@ import scramble.view.compact.SpaceShipPanel;
  */
 public final class SpaceShipCommand implements Command {
 
-    private static final Logger LOG = Logger.getLogger(SpaceShipPanel.class.getName());
-
-    private SpaceShipPanel spaceShipPanel;
+    private final GameSession session;
     private final Directions direction;
+    private final boolean active;
 
     /**
      * Class constructor.
      * 
-     * @param spaceShipPanel the game panel to update
-     * @param direction      the spaceship direction
+     * @param session   the game session to update
+     * @param direction the spaceship direction
+     * @param active    {@code true} if the spaceship starts moving in the
+     *                  direction, {@code false} if it stops
      */
-    public SpaceShipCommand(final SpaceShipPanel spaceShipPanel, final Directions direction) {
-        final SpaceShipPanel tmp;
-        try {
-            tmp = spaceShipPanel.clone();
-            this.spaceShipPanel = tmp;
-
-        } catch (CloneNotSupportedException e) {
-            LOG.severe("Ops!");
-            LOG.severe(e.toString());
-        }
+    public SpaceShipCommand(final GameSession session, final Directions direction, final boolean active) {
+        this.session = session;
         this.direction = direction;
+        this.active = active;
     }
 
     @Override
     public void execute() {
-        spaceShipPanel.moveSpaceship(direction);
+        session.moveSpaceship(direction, active);
     }
 
 }
@@ -6,17 +6,19 @@ import java.awt.event.KeyEvent;
 import scramble.model.spaceship.Directions;
 import scramble.controller.command.impl.BulletCommand;
 import scramble.controller.command.impl.SpaceShipCommand;
+import scramble.controller.session.GameSession;
 import scramble.model.bullets.BulletType;
 import scramble.view.compact.GameView;
 
 /**
  * Implementation of InputControl. Extends KeyAdapter in order to get the
- * necessary key bindings.
+ * necessary key bindings. The keys are turned into commands queued on the
+ * {@link GameSession} of the view.
  */
 public class InputControl extends KeyAdapter {
 
-    private static boolean explPause;
     private final GameView gameView;
+    private final GameSession session;
 
     /**
      * Class constructor.
@@ -25,35 +27,22 @@ public class InputControl extends KeyAdapter {
      */
     public InputControl(final GameView gameView) {
         this.gameView = new GameView(gameView);
+        this.session = this.gameView.getSession();
     }
 
     /** {@inheritDoc} */
     @Override
     public void keyPressed(final KeyEvent e) {
-        if (!gameView.getSpaceshipPanel().getSpaceship().isHit()) {
-            final int key = e.getKeyCode();
-            switch (key) {
-                case KeyEvent.VK_UP ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.UP));
-                case KeyEvent.VK_DOWN ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.DOWN));
-                case KeyEvent.VK_LEFT ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.LEFT));
-                case KeyEvent.VK_RIGHT ->
-                    gameView.getSpaceshipPanel().sendCommand(
-                            new SpaceShipCommand(gameView.getSpaceshipPanel(), Directions.RIGHT));
-                case KeyEvent.VK_SPACE -> gameView.getBulletsPanel()
-                        .sendCommandBullet(new BulletCommand(gameView.getBulletsPanel(),
-                                BulletType.TYPE_HORIZONTAL, gameView.getSpaceshipPanel().getSpaceship()));
-                case KeyEvent.VK_1 -> gameView.getBulletsPanel()
-                        .sendCommandBullet(new BulletCommand(gameView.getBulletsPanel(),
-                                BulletType.TYPE_BOMB, gameView.getSpaceshipPanel().getSpaceship()));
-                default -> {
-                    break;
-                }
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_UP -> session.submit(new SpaceShipCommand(session, Directions.UP, true));
+            case KeyEvent.VK_DOWN -> session.submit(new SpaceShipCommand(session, Directions.DOWN, true));
+            case KeyEvent.VK_LEFT -> session.submit(new SpaceShipCommand(session, Directions.LEFT, true));
+            case KeyEvent.VK_RIGHT -> session.submit(new SpaceShipCommand(session, Directions.RIGHT, true));
+            case KeyEvent.VK_SPACE -> session.submit(new BulletCommand(session, BulletType.TYPE_HORIZONTAL));
+            case KeyEvent.VK_1 -> session.submit(new BulletCommand(session, BulletType.TYPE_BOMB));
+            case KeyEvent.VK_F3 -> gameView.getHudPanel().toggleProfiler();
+            default -> {
+                break;
             }
         }
     }
@@ -63,16 +52,16 @@ public class InputControl extends KeyAdapter {
     public void keyReleased(final KeyEvent e) {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_UP:
-                gameView.getSpaceshipPanel().getSpaceship().setAbove(false);
+                session.submit(new SpaceShipCommand(session, Directions.UP, false));
                 break;
             case KeyEvent.VK_DOWN:
-                gameView.getSpaceshipPanel().getSpaceship().setDown(false);
+                session.submit(new SpaceShipCommand(session, Directions.DOWN, false));
                 break;
             case KeyEvent.VK_RIGHT:
-                gameView.getSpaceshipPanel().getSpaceship().setRight(false);
+                session.submit(new SpaceShipCommand(session, Directions.RIGHT, false));
                 break;
             case KeyEvent.VK_LEFT:
-                gameView.getSpaceshipPanel().getSpaceship().setLeft(false);
+                session.submit(new SpaceShipCommand(session, Directions.LEFT, false));
                 break;
             case KeyEvent.VK_ENTER:
                 if (!gameView.getGameOverPanel().isOverlayOn() && gameView.getMainPanel().getComponentCount() == 2) {
@@ -84,22 +73,4 @@ public class InputControl extends KeyAdapter {
         }
     }
 
-    /**
-     * Getter for explosion pause state.
-     *
-     * @return true if paused
-     */
-    public static boolean isExplPause() {
-        return explPause;
-    }
-
-    /**
-     * Setter for the boolean describing pause state.
-     *
-     * @param bool the new value
-     */
-    public static void setPaused(final boolean bool) {
-        explPause = bool;
-    }
-
 }
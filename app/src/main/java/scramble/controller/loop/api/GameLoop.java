@@ -0,0 +1,65 @@
+package scramble.controller.loop.api;
+
+/**
+ * Interface for the game loop. The loop advances the game with a fixed
+ * timestep and runs every scheduled task in the order given by
+ * {@link TickPhase}.
+ */
+public interface GameLoop {
+
+    /**
+     * Schedules a new task on the loop. The returned task is stopped.
+     *
+     * @param phase    the phase in which the task runs
+     * @param periodMs the period of the task in milliseconds, rounded to a
+     *                 whole number of ticks
+     * @param action   the action to run
+     * @return the scheduled task
+     */
+    LoopTask schedule(TickPhase phase, int periodMs, Runnable action);
+
+    /**
+     * Runs a single tick, followed by the render phase.
+     */
+    void step();
+
+    /**
+     * Advances the loop to the given time, running as many ticks as needed to
+     * catch up, followed by a single render phase.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @return the number of ticks executed
+     */
+    int advance(long nowNanos);
+
+    /**
+     * Starts driving the loop with the wall clock.
+     */
+    void start();
+
+    /**
+     * Stops driving the loop with the wall clock.
+     */
+    void stop();
+
+    /**
+     * Tells if the loop is driven by the wall clock.
+     *
+     * @return {@code true} if the loop is running
+     */
+    boolean isRunning();
+
+    /**
+     * Getter for the number of ticks executed since the creation of the loop.
+     *
+     * @return the tick count
+     */
+    long getTickCount();
+
+    /**
+     * Getter for the timing budget report of the loop.
+     *
+     * @return the last completed report
+     */
+    LoopStats getStats();
+}
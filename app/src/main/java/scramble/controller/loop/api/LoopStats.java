@@ -0,0 +1,117 @@
+package scramble.controller.loop.api;
+
+import java.util.Locale;
+
+/**
+ * Immutable report of the timing budget of a {@link GameLoop}, measured over
+ * the last completed reporting window.
+ */
+public final class LoopStats {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long tickCount;
+    private final long droppedTicks;
+    private final int maxCatchUpTicks;
+    private final long averageTickNanos;
+    private final long maxTickNanos;
+    private final long averageRenderNanos;
+    private final long tickNanos;
+
+    /**
+     * Class constructor.
+     *
+     * @param tickCount          total number of ticks executed
+     * @param droppedTicks       total number of ticks skipped because the loop
+     *                           was too late to catch up
+     * @param maxCatchUpTicks    highest number of ticks run in a single frame
+     * @param averageTickNanos   average time spent in a tick
+     * @param maxTickNanos       highest time spent in a tick
+     * @param averageRenderNanos average time spent in the render phase
+     * @param tickNanos          the fixed length of a tick
+     */
+    public LoopStats(final long tickCount, final long droppedTicks, final int maxCatchUpTicks,
+            final long averageTickNanos, final long maxTickNanos, final long averageRenderNanos,
+            final long tickNanos) {
+        this.tickCount = tickCount;
+        this.droppedTicks = droppedTicks;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.averageTickNanos = averageTickNanos;
+        this.maxTickNanos = maxTickNanos;
+        this.averageRenderNanos = averageRenderNanos;
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * Getter for the number of executed ticks.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Getter for the number of dropped ticks.
+     *
+     * @return the dropped ticks
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Getter for the highest number of ticks run in a single frame.
+     *
+     * @return the max catch up ticks
+     */
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    /**
+     * Getter for the average time spent in a tick.
+     *
+     * @return the average tick time in nanoseconds
+     */
+    public long getAverageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /**
+     * Getter for the highest time spent in a tick.
+     *
+     * @return the max tick time in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Getter for the average time spent rendering a frame.
+     *
+     * @return the average render time in nanoseconds
+     */
+    public long getAverageRenderNanos() {
+        return averageRenderNanos;
+    }
+
+    /**
+     * Fraction of the tick length used by the simulation and the render.
+     * A value greater than 1 means the loop cannot keep up.
+     *
+     * @return the used fraction of the timing budget
+     */
+    public double getBudgetUsage() {
+        return (double) (averageTickNanos + averageRenderNanos) / tickNanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "ticks=%d dropped=%d maxCatchUp=%d tick(avg=%.3fms max=%.3fms) render(avg=%.3fms) budget=%.1f%%",
+                tickCount, droppedTicks, maxCatchUpTicks, averageTickNanos / NANOS_PER_MILLI,
+                maxTickNanos / NANOS_PER_MILLI, averageRenderNanos / NANOS_PER_MILLI, getBudgetUsage() * 100);
+    }
+}
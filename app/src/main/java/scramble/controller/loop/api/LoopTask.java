@@ -0,0 +1,42 @@
+package scramble.controller.loop.api;
+
+/**
+ * Interface for a task scheduled on a {@link GameLoop}.
+ *
+ * <p>
+ * It mirrors the lifecycle of a {@link javax.swing.Timer}: a task is created
+ * stopped, and it runs once every period while it is running.
+ * </p>
+ */
+public interface LoopTask {
+
+    /**
+     * Starts the task. The first execution happens after a full period.
+     */
+    void start();
+
+    /**
+     * Stops the task.
+     */
+    void stop();
+
+    /**
+     * Restarts the task, discarding the elapsed part of the current period.
+     */
+    void restart();
+
+    /**
+     * Tells if the task is running.
+     *
+     * @return {@code true} if the task is running
+     */
+    boolean isRunning();
+
+    /**
+     * Setter for the repeat flag. A task that does not repeat is removed from
+     * the loop after its first execution.
+     *
+     * @param repeats {@code false} to run the task only once
+     */
+    void setRepeats(boolean repeats);
+}
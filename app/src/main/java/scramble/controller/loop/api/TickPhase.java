@@ -0,0 +1,25 @@
+package scramble.controller.loop.api;
+
+/**
+ * Enum for the phases of a single tick of the {@link GameLoop}.
+ *
+ * <p>
+ * The phases are executed in the order in which they are declared, so every
+ * system sees the state left by the systems of the previous phases.
+ * </p>
+ */
+public enum TickPhase {
+
+    /** Player input is applied. */
+    INPUT,
+    /** Game elements and landscape are moved. */
+    MOVEMENT,
+    /** New game elements enter the screen. */
+    SPAWN,
+    /** Collisions are detected and resolved. */
+    COLLISION,
+    /** Scores, fuel and explosions are updated. */
+    SCORING,
+    /** The view is repainted, at most once per frame. */
+    RENDER
+}
@@ -0,0 +1,297 @@
+package scramble.controller.loop.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import scramble.controller.loop.api.GameLoop;
+import scramble.controller.loop.api.LoopStats;
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
+import scramble.utility.Constants;
+
+/**
+ * Implementation of the interface {@link GameLoop} with a fixed timestep
+ * accumulator.
+ *
+ * <p>
+ * Every tick runs the scheduled tasks phase by phase, in the order of
+ * {@link TickPhase}. Tasks of the {@link TickPhase#RENDER} phase are only
+ * marked as due during the ticks and run once at the end of the frame, so a
+ * late frame catches up on the simulation without repainting in between.
+ * When the loop falls more than {@link Constants#MAX_CATCH_UP_TICKS} ticks
+ * behind, the exceeding ticks are dropped.
+ * </p>
+ *
+ * <p>
+ * The time spent in every phase is recorded in the {@link Profiler}, which is
+ * asked to publish its report once per second.
+ * </p>
+ *
+ * <p>
+ * Once started, the loop runs on a thread of its own, so that the simulation
+ * is never delayed by painting or by input handling. Every task is run by
+ * that thread; the other threads talk to the game through commands and
+ * snapshots. Stopping the loop waits for its thread to end, and a thread
+ * started again waits for the one before it, so the ticks are never run by
+ * two threads at the same time.
+ * </p>
+ *
+ * @see GameLoop
+ */
+public class FixedStepGameLoop implements GameLoop {
+
+    private static final Logger LOG = Logger.getLogger(FixedStepGameLoop.class.getName());
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(Constants.GAME_TICK_MS);
+    private static final int TICKS_PER_REPORT = 1000 / Constants.GAME_TICK_MS;
+    private static final int REPORTS_PER_LOG = 10;
+    private static final String THREAD_NAME = "game-loop";
+    private static final ProfiledSection TICK_SECTION = Profiler.section("loop.tick");
+    private static final ProfiledSection[] PHASE_SECTIONS = new ProfiledSection[TickPhase.values().length];
+
+    static {
+        for (final TickPhase phase : TickPhase.values()) {
+            PHASE_SECTIONS[phase.ordinal()] = Profiler.section("phase." + phase);
+        }
+    }
+
+    private final List<LoopTaskImpl> tasks;
+    private final List<LoopTaskImpl> dueRenderTasks;
+    private final long[] phaseNanos = new long[TickPhase.values().length];
+    private final boolean[] phaseRan = new boolean[TickPhase.values().length];
+    private volatile Thread thread;
+    private Thread previous;
+
+    private long lastNanos;
+    private long accumulator;
+    private long tickCount;
+    private long droppedTicks;
+
+    private int windowTicks;
+    private int windowFrames;
+    private int windowMaxCatchUp;
+    private long windowTickNanos;
+    private long windowMaxTickNanos;
+    private long windowRenderNanos;
+    private int reports;
+    private volatile LoopStats stats;
+
+    /**
+     * Class constructor.
+     */
+    public FixedStepGameLoop() {
+        this.tasks = new CopyOnWriteArrayList<>();
+        this.dueRenderTasks = new ArrayList<>();
+        this.stats = new LoopStats(0, 0, 0, 0, 0, 0, TICK_NANOS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LoopTask schedule(final TickPhase phase, final int periodMs, final Runnable action) {
+        final int periodTicks = Math.max(1, Math.round((float) periodMs / Constants.GAME_TICK_MS));
+        final LoopTaskImpl task = new LoopTaskImpl(phase, periodTicks, action);
+        int index = 0;
+        while (index < tasks.size() && tasks.get(index).getPhase().compareTo(phase) <= 0) {
+            index++;
+        }
+        tasks.add(index, task);
+        return task;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void step() {
+        tick();
+        render();
+        windowFrames++;
+        windowMaxCatchUp = Math.max(windowMaxCatchUp, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int advance(final long nowNanos) {
+        if (lastNanos == 0) {
+            lastNanos = nowNanos;
+        }
+        accumulator += nowNanos - lastNanos;
+        lastNanos = nowNanos;
+
+        int steps = 0;
+        while (accumulator >= TICK_NANOS && steps < Constants.MAX_CATCH_UP_TICKS) {
+            tick();
+            accumulator -= TICK_NANOS;
+            steps++;
+        }
+        if (accumulator >= TICK_NANOS) {
+            droppedTicks += accumulator / TICK_NANOS;
+            accumulator %= TICK_NANOS;
+        }
+        if (steps > 0) {
+            render();
+            windowFrames++;
+            windowMaxCatchUp = Math.max(windowMaxCatchUp, steps);
+        }
+        return steps;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        final Thread before = this.previous;
+        final Thread loopThread = new Thread(() -> run(before), THREAD_NAME);
+        loopThread.setDaemon(true);
+        this.thread = loopThread;
+        this.previous = loopThread;
+        loopThread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Unless it is called by the loop thread itself, it returns once the
+     * thread has ended.
+     * </p>
+     */
+    @Override
+    public void stop() {
+        final Thread loopThread;
+        synchronized (this) {
+            loopThread = this.thread;
+            this.thread = null;
+        }
+        if (loopThread != null && loopThread != Thread.currentThread()) {
+            LockSupport.unpark(loopThread);
+            join(loopThread);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LoopStats getStats() {
+        return stats;
+    }
+
+    /*
+     * Body of the loop thread: it waits for the thread before it to end, then
+     * advances the loop and sleeps until the next tick is due, until the loop
+     * is stopped or started again on a new thread.
+     */
+    private void run(final Thread before) {
+        if (before != null) {
+            join(before);
+        }
+        lastNanos = 0;
+        accumulator = 0;
+        while (thread == Thread.currentThread()) {
+            try {
+                advance(System.nanoTime());
+            } catch (final RuntimeException e) {
+                LOG.severe("Ops!");
+                LOG.severe(e.toString());
+            }
+            LockSupport.parkNanos(TICK_NANOS - accumulator);
+        }
+    }
+
+    private static void join(final Thread loopThread) {
+        try {
+            loopThread.join();
+        } catch (final InterruptedException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick() {
+        final long start = System.nanoTime();
+        for (final LoopTaskImpl task : tasks) {
+            if (task.tick()) {
+                if (task.getPhase() == TickPhase.RENDER) {
+                    if (!dueRenderTasks.contains(task)) {
+                        dueRenderTasks.add(task);
+                    }
+                } else {
+                    final long taskStart = System.nanoTime();
+                    task.run();
+                    phaseNanos[task.getPhase().ordinal()] += System.nanoTime() - taskStart;
+                    phaseRan[task.getPhase().ordinal()] = true;
+                }
+            }
+            if (task.isExpired() && !dueRenderTasks.contains(task)) {
+                tasks.remove(task);
+            }
+        }
+        tickCount++;
+        final long elapsed = System.nanoTime() - start;
+        for (int i = 0; i < phaseRan.length; i++) {
+            if (phaseRan[i]) {
+                PHASE_SECTIONS[i].record(phaseNanos[i]);
+                phaseRan[i] = false;
+                phaseNanos[i] = 0;
+            }
+        }
+        TICK_SECTION.record(elapsed);
+        windowTicks++;
+        windowTickNanos += elapsed;
+        windowMaxTickNanos = Math.max(windowMaxTickNanos, elapsed);
+        if (windowTicks >= TICKS_PER_REPORT) {
+            report();
+        }
+    }
+
+    private void render() {
+        final long start = System.nanoTime();
+        for (final LoopTaskImpl task : dueRenderTasks) {
+            task.run();
+            if (task.isExpired()) {
+                tasks.remove(task);
+            }
+        }
+        final boolean rendered = !dueRenderTasks.isEmpty();
+        dueRenderTasks.clear();
+        final long elapsed = System.nanoTime() - start;
+        windowRenderNanos += elapsed;
+        if (rendered) {
+            PHASE_SECTIONS[TickPhase.RENDER.ordinal()].record(elapsed);
+        }
+    }
+
+    private void report() {
+        this.stats = new LoopStats(tickCount, droppedTicks, windowMaxCatchUp, windowTickNanos / windowTicks,
+                windowMaxTickNanos, windowFrames == 0 ? 0 : windowRenderNanos / windowFrames, TICK_NANOS);
+        windowTicks = 0;
+        windowFrames = 0;
+        windowMaxCatchUp = 0;
+        windowTickNanos = 0;
+        windowMaxTickNanos = 0;
+        windowRenderNanos = 0;
+        reports++;
+        if (reports % REPORTS_PER_LOG == 0 && LOG.isLoggable(Level.FINE)) {
+            LOG.fine(stats.toString());
+        }
+        Profiler.publishIfDue();
+    }
+}
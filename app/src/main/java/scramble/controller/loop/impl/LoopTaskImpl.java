@@ -0,0 +1,114 @@
+package scramble.controller.loop.impl;
+
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+
+/**
+ * Implementation of the interface {@link LoopTask}, counting the ticks
+ * elapsed since its last execution.
+ *
+ * @see LoopTask
+ */
+public class LoopTaskImpl implements LoopTask {
+
+    private final TickPhase phase;
+    private final int periodTicks;
+    private final Runnable action;
+
+    private boolean running;
+    private boolean repeats;
+    private int elapsedTicks;
+
+    /**
+     * Class constructor.
+     *
+     * @param phase       the phase in which the task runs
+     * @param periodTicks the period of the task in ticks
+     * @param action      the action to run
+     */
+    public LoopTaskImpl(final TickPhase phase, final int periodTicks, final Runnable action) {
+        this.phase = phase;
+        this.periodTicks = periodTicks;
+        this.action = action;
+        this.repeats = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        if (!running) {
+            elapsedTicks = 0;
+            running = true;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart() {
+        elapsedTicks = 0;
+        running = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRepeats(final boolean repeats) {
+        this.repeats = repeats;
+    }
+
+    /**
+     * Getter for the phase of the task.
+     *
+     * @return the phase
+     */
+    public TickPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Tells if the task must be removed from the loop.
+     *
+     * @return {@code true} if the task has already run and does not repeat
+     */
+    public boolean isExpired() {
+        return !repeats && !running;
+    }
+
+    /**
+     * Counts a tick and tells if the task is due.
+     *
+     * @return {@code true} if a full period has elapsed
+     */
+    public boolean tick() {
+        if (!running) {
+            return false;
+        }
+        elapsedTicks++;
+        if (elapsedTicks < periodTicks) {
+            return false;
+        }
+        elapsedTicks = 0;
+        if (!repeats) {
+            running = false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the action of the task.
+     */
+    public void run() {
+        action.run();
+    }
+}
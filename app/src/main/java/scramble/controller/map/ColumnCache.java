@@ -0,0 +1,215 @@
+package scramble.controller.map;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+import scramble.model.map.api.MapColumn;
+
+/**
+ * The columns of a map kept in chunks of {@link #CHUNK_SIZE} columns, which
+ * are built from the source of the map the first time they are asked for.
+ * Only a fixed number of chunks is kept: when there is no room for one more,
+ * the chunk that has not been used for the longest time is dropped, and it is
+ * built again if it is asked for later. The chunks under the columns in use,
+ * set by {@link #use(int, int)}, are never dropped, so a column that is in use
+ * is the one handed out for its index. The memory the columns take does not
+ * depend on how long the map is.
+ *
+ * <p>
+ * The chunks do not depend on each other, nor on the order in which they are
+ * built, so the ones after a chunk, in the direction the map scrolls, can be
+ * prefetched: they are built in the background, and the window of the
+ * columns finds them ready when it gets there.
+ * </p>
+ *
+ * <p>
+ * The cache is used by a single thread; only the chunks are built by others.
+ * A chunk is handed to the listener of the cache, by the thread that uses
+ * it, when it is used for the first time after being built.
+ * </p>
+ */
+public class ColumnCache {
+
+    /** The number of columns of a chunk. */
+    public static final int CHUNK_SIZE = 64;
+
+    private final IntFunction<List<MapColumn>> source;
+    private final ObjIntConsumer<List<MapColumn>> listener;
+    private final Executor executor;
+    private final int size;
+    private final int chunkCount;
+    private final int capacity;
+    private final int ahead;
+    private final Map<Integer, Chunk> chunks = new LinkedHashMap<>(16, 0.75f, true);
+    private int built;
+    private int firstInUse;
+    private int inUse;
+
+    /**
+     * Class constructor. Nothing is built until a column is asked for.
+     *
+     * @param source   the builder of the chunks, by their index: it is given
+     *                 the index of a chunk and returns its columns; it must
+     *                 be safe to call at the same time
+     * @param listener told of every chunk when it is used for the first time
+     *                 after being built, with its index
+     * @param executor the threads the chunks are built by
+     * @param size     the number of columns of the map
+     * @param capacity the number of chunks that are kept
+     * @param ahead    the number of chunks prefetched after the one asked for
+     */
+    public ColumnCache(final IntFunction<List<MapColumn>> source, final ObjIntConsumer<List<MapColumn>> listener,
+            final Executor executor, final int size, final int capacity, final int ahead) {
+        if (capacity <= ahead) {
+            throw new IllegalArgumentException("The cache can not keep the chunks it prefetches");
+        }
+        this.source = source;
+        this.listener = listener;
+        this.executor = executor;
+        this.size = size;
+        this.chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.capacity = capacity;
+        this.ahead = ahead;
+    }
+
+    /**
+     * Returns a column of the map, waiting for its chunk to be built if it is
+     * not ready.
+     *
+     * @param column the index of the column
+     * @return the column
+     */
+    public MapColumn get(final int column) {
+        return getChunk(column / CHUNK_SIZE).get(column % CHUNK_SIZE);
+    }
+
+    /**
+     * Returns the columns of a chunk, waiting for it to be built if it is not
+     * ready. The chunk becomes the last one to be dropped.
+     *
+     * @param chunk the index of the chunk
+     * @return the columns of the chunk
+     */
+    public List<MapColumn> getChunk(final int chunk) {
+        Chunk entry = this.chunks.get(chunk);
+        if (entry == null) {
+            entry = build(chunk);
+        }
+        final List<MapColumn> columns = entry.columns.join();
+        if (!entry.used) {
+            entry.used = true;
+            this.listener.accept(columns, chunk);
+        }
+        return columns;
+    }
+
+    /**
+     * Builds in the background the chunks after the one of a column, if they
+     * are not kept. After the last chunk of the map come the first ones.
+     *
+     * @param column the index of the column
+     */
+    public void prefetch(final int column) {
+        final int chunk = column / CHUNK_SIZE;
+        for (int i = 1; i <= Math.min(this.ahead, this.chunkCount - 1); i++) {
+            final int next = (chunk + i) % this.chunkCount;
+            if (!this.chunks.containsKey(next)) {
+                build(next);
+            }
+        }
+    }
+
+    /**
+     * Sets the columns in use, whose chunks are not dropped.
+     *
+     * @param column  the index of the first column in use
+     * @param columns the number of columns in use, which go on with the first
+     *                columns of the map after its end
+     */
+    public void use(final int column, final int columns) {
+        this.firstInUse = column;
+        this.inUse = columns;
+    }
+
+    /**
+     * Tells if a chunk is kept, either built or being built.
+     *
+     * @param chunk the index of the chunk
+     * @return {@code true} if the chunk is kept
+     */
+    public boolean contains(final int chunk) {
+        return this.chunks.containsKey(chunk);
+    }
+
+    /**
+     * Getter for the number of chunks that are kept.
+     *
+     * @return the number of chunks
+     */
+    public int size() {
+        return this.chunks.size();
+    }
+
+    /**
+     * Getter for the number of chunks that can be kept.
+     *
+     * @return the number of chunks
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Getter for the number of chunks of the map.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    /**
+     * Getter for the number of chunks built since the creation, counting again
+     * the ones built after being dropped.
+     *
+     * @return the number of chunks
+     */
+    public int getBuilt() {
+        return this.built;
+    }
+
+    private Chunk build(final int chunk) {
+        final Chunk entry = new Chunk(CompletableFuture.supplyAsync(() -> this.source.apply(chunk), this.executor));
+        this.chunks.put(chunk, entry);
+        this.built++;
+        final Iterator<Integer> eldest = this.chunks.keySet().iterator();
+        while (this.chunks.size() > this.capacity && eldest.hasNext()) {
+            if (!isInUse(eldest.next())) {
+                eldest.remove();
+            }
+        }
+        return entry;
+    }
+
+    /* Tells if a chunk has some columns in use, counting from the first one. */
+    private boolean isInUse(final int chunk) {
+        final int offset = Math.floorMod(chunk * CHUNK_SIZE - this.firstInUse, this.size);
+        return offset < this.inUse || offset + Math.min(CHUNK_SIZE, this.size - chunk * CHUNK_SIZE) > this.size;
+    }
+
+    private static final class Chunk {
+
+        private final CompletableFuture<List<MapColumn>> columns;
+        private boolean used;
+
+        Chunk(final CompletableFuture<List<MapColumn>> columns) {
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package scramble.controller.map;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+
+/**
+ * The columns of the map loaded around the screen, kept in a ring of fixed
+ * size. The window moves one column at a time: the column that leaves it on
+ * the left is replaced by the one that enters on the right, and nothing is
+ * allocated.
+ *
+ * <p>
+ * After the last column of the map, the window goes on with the first ones.
+ * The columns keep the x coordinate they have on the map, so
+ * {@link #getX(int)} gives the x where a column of the window is, counting
+ * from the start of the map the window began on.
+ * </p>
+ */
+public class ColumnWindow {
+
+    private final MapColumn[] ring;
+    private final IntFunction<MapColumn> columns;
+    private final int mapSize;
+    private final List<MapColumn> view = new View();
+    private int head;
+    private int first;
+
+    /**
+     * Class constructor. The window starts on the first column of the map.
+     *
+     * @param capacity the number of columns of the window, at most the number
+     *                 of columns of the map
+     * @param mapSize  the number of columns of the map
+     * @param columns  the columns of the map, by their index
+     */
+    public ColumnWindow(final int capacity, final int mapSize, final IntFunction<MapColumn> columns) {
+        this.ring = new MapColumn[Math.min(capacity, mapSize)];
+        this.columns = columns;
+        this.mapSize = mapSize;
+        moveTo(0);
+    }
+
+    /**
+     * Moves the window so that it starts on a column, loading all of it again.
+     *
+     * @param column the index of the first column of the window; out of the
+     *               map it is wrapped around it
+     */
+    public final void moveTo(final int column) {
+        this.first = Math.floorMod(column, this.mapSize);
+        this.head = 0;
+        for (int i = 0; i < this.ring.length; i++) {
+            this.ring[i] = this.columns.apply((this.first + i) % this.mapSize);
+        }
+    }
+
+    /** Moves the window one column forward. */
+    public void advance() {
+        this.ring[this.head] = this.columns.apply((this.first + this.ring.length) % this.mapSize);
+        this.head = next(this.head);
+        this.first = (this.first + 1) % this.mapSize;
+    }
+
+    /**
+     * Returns a column of the window.
+     *
+     * @param index the position of the column in the window, from the left
+     * @return the column
+     */
+    public MapColumn get(final int index) {
+        Objects.checkIndex(index, this.ring.length);
+        final int slot = this.head + index;
+        return this.ring[slot < this.ring.length ? slot : slot - this.ring.length];
+    }
+
+    /**
+     * Returns the x coordinate of a column of the window. The columns after
+     * the end of the map are placed after its last one.
+     *
+     * @param index the position of the column in the window, from the left
+     * @return the x coordinate of the column
+     */
+    public int getX(final int index) {
+        final int x = get(index).getX();
+        return this.first + index < this.mapSize ? x : x + LandUtils.multiplyPixelPerSprite(this.mapSize);
+    }
+
+    /**
+     * Getter for the index of the first column of the window in the map.
+     *
+     * @return the index of the column
+     */
+    public int getFirst() {
+        return this.first;
+    }
+
+    /**
+     * Getter for the index of the last column of the window in the map.
+     *
+     * @return the index of the column
+     */
+    public int getLast() {
+        return (this.first + this.ring.length - 1) % this.mapSize;
+    }
+
+    /**
+     * Getter for the number of columns of the window.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.ring.length;
+    }
+
+    /**
+     * Returns a read-only view of the columns of the window, from the left. It
+     * is not a copy: it follows the window as it moves.
+     *
+     * @return the view of the columns
+     */
+    public List<MapColumn> asList() {
+        return this.view;
+    }
+
+    private int next(final int slot) {
+        return slot + 1 == this.ring.length ? 0 : slot + 1;
+    }
+
+    private final class View extends AbstractList<MapColumn> implements RandomAccess {
+
+        @Override
+        public MapColumn get(final int index) {
+            return ColumnWindow.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return ColumnWindow.this.size();
+        }
+    }
+}
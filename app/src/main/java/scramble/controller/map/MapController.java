@@ -1,17 +1,33 @@
 package scramble.controller.map;
 
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
+import scramble.model.common.api.GameRandom;
 import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
 import scramble.model.common.impl.PairImpl;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.api.MapStageFactory;
+import scramble.model.map.impl.EndlessLayout;
+import scramble.model.map.impl.HeightField;
+import scramble.model.map.impl.MapLayout;
 import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.impl.StageLayout;
+import scramble.model.map.impl.TileTable;
 import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.elaborator.RawDataGenerator;
+import scramble.model.map.util.elaborator.StageGenerator;
 import scramble.model.map.util.enums.LandBehaviour;
-import scramble.view.compact.GameView;
-import scramble.view.compact.LandscapePanel;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.StagePart;
+import scramble.utility.Constants;
 
 /**
  * The {@code MapController} class is responsible for the preparation of data
@@ -23,97 +39,282 @@ import scramble.view.compact.LandscapePanel;
  * making sure it is ready for display.
  * </p>
  *
+ * <p>
+ * Only the {@link MapLayout} of the map is loaded when the controller is
+ * made: it is all the rest of the game needs to know about the parts of the
+ * map that are not on the screen yet. The columns themselves are kept in a
+ * {@link ColumnCache} of {@link #CACHED_CHUNKS} chunks, built in the
+ * background as the {@link ColumnWindow} of the columns to display gets
+ * close to them and dropped once it has left them behind, so the memory they
+ * take does not grow with the length of the map. The spawn positions are
+ * read from the layout one chunk at a time, by
+ * {@link #getSpawnPositions(int)}, without building the columns.
+ * </p>
+ *
+ * <p>
+ * A map with no end, made by {@link #endless(GameRandom)}, can not make its
+ * columns again once it has left them behind: it is kept in a ring of
+ * {@link EndlessLayout#KEPT_STAGES} stages instead, generated by a
+ * {@link StageProducer}. Every stage is generated just ahead of the window
+ * and takes the place of the oldest one, with its checkpoint, so the memory
+ * it takes does not grow however long the game goes on.
+ * </p>
+ *
  * @see MapStageFactory
  */
 public class MapController {
-    private static final MapStageFactory<MapColumn> STAGE_FACTORY = new MapStageFactoryImpl();
-    private static List<Integer> stageStartingX = new ArrayList<>();
-    private static List<Pair<Integer, Integer>> flatPositions = new ArrayList<>();
-    private static List<Pair<Integer, Integer>> brickWallPosition = new ArrayList<>();
-    private static int endOfMapX;
+    /** Numebr of columns on screen. */
+    public static final int COLUMNS_ON_SCREEN = LandUtils.dividePixelPerSprite(Constants.WINDOW_WIDTH);
+    /** Number of columns that aren't seen on screen but are still loaded. */
+    public static final int EXTRA_COLUMNS_LOADED = 20;
+    /** Number of total columns loaded. */
+    public static final int TOTAL_COLUMNS_LOADED = COLUMNS_ON_SCREEN + EXTRA_COLUMNS_LOADED;
+    /** Number of chunks of columns kept in the cache of a map with an end. */
+    public static final int CACHED_CHUNKS = 8;
+
+    private static final ProfiledSection COLUMNS_SECTION = Profiler.section("map.columns");
+    private static final int CHECKPOINT_OFFSET_X = Constants.WINDOW_WIDTH / 2;
+    private static final int STAGES_AHEAD = 1;
+    private static final int CHUNKS_AHEAD = 2;
+    private static final int CHUNK_SIZE = ColumnCache.CHUNK_SIZE;
 
-    private final List<MapColumn> columns;
-    private int columnIndex;
-    private int currentX;
-    private static final int CHECKPOINT_OFFSET_X = GameView.WINDOW_WIDTH / 2;
+    private int endOfMapX;
+
+    private final GameRandom random;
+    private MapLayout layout;
+    private StageProducer<MapColumn> stages;
+    private final ColumnCache cache;
+    private final MapColumn[] columns;
+    private final HeightField heightField;
+    private final ColumnWindow window;
+    private int loadedStages;
+    private int requestedStages;
+    private int generation;
 
     /**
-     * Controller for the class {@link MapController}.
+     * Controller for the class {@link MapController}, with a map generated from
+     * a random seed.
      */
     public MapController() {
-        final List<List<MapColumn>> stages = this.fillStage();
-        this.columnIndex = 0;
-        this.columns = new ArrayList<>();
-        this.fillColumns(stages);
-        this.currentX = 0;
+        this(new GameRandomImpl());
+    }
+
+    /**
+     * Controller for the class {@link MapController}.
+     *
+     * @param random the random service whose {@link RandomStream#MAP} stream
+     *               generates the map
+     */
+    public MapController(final GameRandom random) {
+        this(random, MapLayout.load());
     }
 
     /**
-     * Return the columns that have to be displayed. For optimization purpose, only
-     * a fiew columns will be returned.
-     * <p>
-     * The number of returned columns is defined by
-     * {@link LandscapePanel#TOTAL_COLUMNS_LOADED}.
-     * </p>
+     * Controller for the class {@link MapController}, for a map whose layout
+     * is already known.
      *
-     * @return a list of columns
+     * @param random the random service whose {@link RandomStream#MAP} stream
+     *               picks the sprites of the map
+     * @param layout the layout of the map
      */
-    public List<MapColumn> getColumnsToDisplay() {
-        final List<MapColumn> columnsToDisplay = new ArrayList<>();
-        final int end;
-        if (columnIndex + LandscapePanel.TOTAL_COLUMNS_LOADED >= columns.size()) {
-            end = columnIndex + LandscapePanel.TOTAL_COLUMNS_LOADED - columns.size();
+    public MapController(final GameRandom random, final MapLayout layout) {
+        this(random, layout, layout.size());
+    }
+
+    private MapController(final GameRandom random, final MapLayout layout, final int capacity) {
+        this.random = random;
+        this.layout = layout;
+        this.heightField = new HeightField(capacity);
+        if (layout.isEndless()) {
+            this.cache = null;
+            this.columns = new MapColumn[capacity];
+            this.stages = newStages(random, layout);
+            this.loadStage(1);
         } else {
-            end = LandscapePanel.TOTAL_COLUMNS_LOADED;
-        }
-        for (int i = 0; i < end; i++) {
-            columnsToDisplay.add(columns.get(this.columnIndex + i));
+            final MapStageFactoryImpl stageFactory = new MapStageFactoryImpl(random.getStream(RandomStream.MAP),
+                    layout, random.getSeed());
+            this.cache = new ColumnCache(chunk -> stageFactory.columns(chunk * CHUNK_SIZE,
+                    Math.min((chunk + 1) * CHUNK_SIZE, layout.size())), this::loadChunk, StageProducer.POOL,
+                    layout.size(), CACHED_CHUNKS, CHUNKS_AHEAD);
+            this.columns = null;
         }
-        this.currentX = columns.get(columnIndex).getX();
-        this.columnIndex += LandscapePanel.EXTRA_COLUMNS_LOADED;
-        if (this.columnIndex + LandUtils.dividePixelPerSprite(GameView.WINDOW_WIDTH)
-                + 4 > this.columns
-                        .size()) {
-            this.columnIndex = 0;
-        }
-        return columnsToDisplay;
+        this.endOfMapX = this.layout.size() * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - Constants.WINDOW_WIDTH / 2;
+        this.window = new ColumnWindow(TOTAL_COLUMNS_LOADED, this.layout.size(), this::getColumn);
+        this.loadAhead();
+    }
+
+    /**
+     * Makes the controller of a map with no end, whose stages are made up as
+     * the window gets close to them and forgotten once it has left them
+     * behind.
+     *
+     * @param random the random service whose {@link RandomStream#MAP} stream
+     *               generates the map
+     * @return the controller
+     * @see EndlessLayout
+     */
+    public static MapController endless(final GameRandom random) {
+        return new MapController(random, new EndlessLayout(random.split(RandomStream.MAP)),
+                EndlessLayout.KEPT_STAGES * RawDataGenerator.STAGE_LENGTH);
+    }
+
+    /**
+     * Getter for the window of the columns loaded around the screen. The
+     * number of its columns is defined by {@link #TOTAL_COLUMNS_LOADED}.
+     *
+     * @return the window of the columns
+     */
+    @SuppressFBWarnings
+    public ColumnWindow getWindow() {
+        return this.window;
     }
 
     /**
-     * Reset the Landscape to the indicated x position.
+     * Moves the window of the loaded columns one column forward. After the
+     * last column of the map it goes on with the first ones.
+     */
+    public void advance() {
+        final long start = COLUMNS_SECTION.begin();
+        this.window.advance();
+        this.loadAhead();
+        COLUMNS_SECTION.end(start);
+    }
+
+    /**
+     * Reset the Landscape to the indicated x position. On a map with no end,
+     * a position in a stage that is not kept any more starts a new map.
      *
      * @param x position to reset the Landscape
      */
     public void resetToX(final int x) {
-        this.columnIndex = x / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+        final int column = Math.floorDiv(x, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE);
+        if (isEndless() && this.layout.getStage(Math.floorMod(column, this.layout.size())) < getFirstKeptStage()) {
+            this.restart();
+        }
+        this.window.moveTo(column);
+        this.loadAhead();
+    }
+
+    /**
+     * Tells if the map has no end.
+     *
+     * @return {@code true} if the stages are made up as the game goes on
+     * @see #endless(GameRandom)
+     */
+    public boolean isEndless() {
+        return this.layout.isEndless();
+    }
+
+    /**
+     * Getter for the number of times the map has been started again. The
+     * columns of a new map are not the ones of the old map, even where they
+     * have the same index.
+     *
+     * @return the number of new maps
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Returns the stage of the map a position of the screen is in: the stage
+     * whose checkpoint is the last one before the position.
+     *
+     * @param x the x coordinate of the left edge of the screen on the map
+     * @return the index of the stage, 0 before the checkpoint of the first one
+     */
+    public int getStageAt(final int x) {
+        final int column = Math.floorDiv(x + CHECKPOINT_OFFSET_X - 1, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE);
+        return column < 0 ? 0 : this.layout.getStage(Math.min(column, this.layout.size() - 1));
+    }
+
+    /**
+     * Returns the checkpoint the map goes back to from a position of the
+     * screen: the one of the stage the position is in, or the start of the
+     * map before the checkpoint of the first stage.
+     *
+     * @param x the x coordinate of the left edge of the screen on the map
+     * @return the x coordinate of the checkpoint
+     */
+    public int getCheckPointX(final int x) {
+        final int stage = getStageAt(x);
+        return stage == 0 ? 0
+                : this.layout.getStageStart(stage) * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - CHECKPOINT_OFFSET_X;
     }
 
     /**
      * Getter for the list of the starting x position of
-     * each stage.
+     * each stage. On a map with no end, only the stages that are kept are in
+     * the list.
      *
      * @return the list with all the starter x position of each stage
      */
-    public static List<Integer> getStageStartingX() {
-        return new ArrayList<>(stageStartingX);
+    public List<Integer> getStageStartingX() {
+        final List<Integer> stageStartingX = new ArrayList<>();
+        final int end = isEndless() ? this.loadedStages : this.layout.getStageCount();
+        for (int stage = getFirstKeptStage(); stage < end; stage++) {
+            stageStartingX.add(this.layout.getStageStart(stage) * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE
+                    - CHECKPOINT_OFFSET_X);
+        }
+        return stageStartingX;
     }
 
     /**
-     * Getter for the flat floor Position of the stages.
-     * 
-     * @return the flat floor position
+     * Returns the positions of a chunk of the map where an enemy can be placed:
+     * the flat floors after the prestage and the brick columns, from left to
+     * right. They are read from the layout of the map, so the columns of the
+     * chunk are not built.
+     *
+     * @param chunk the index of the chunk, whose first column is
+     *              {@code chunk * ColumnCache.CHUNK_SIZE}; on a map with no end
+     *              it must be kept
+     * @return the x coordinate of every position, with the y coordinate of the
+     *         floor there
+     */
+    public List<Pair<Integer, Integer>> getSpawnPositions(final int chunk) {
+        final int first = chunk * CHUNK_SIZE;
+        if (isEndless() && this.layout.getStage(first) < getFirstKeptStage()) {
+            throw new IllegalStateException("Chunk " + chunk + " is not kept any more");
+        }
+        final List<Pair<Integer, Integer>> positions = new ArrayList<>();
+        final int end = Math.min(first + CHUNK_SIZE, this.layout.size());
+        for (int x = first; x < end; x++) {
+            final LandBehaviour behaviour = this.layout.getFloorBehaviour(x);
+            if (behaviour == LandBehaviour.BRICK || behaviour == LandBehaviour.FLAT && this.layout.getStage(x) > 0) {
+                positions.add(new PairImpl<>(LandUtils.multiplyPixelPerSprite(x), this.layout.getFloorY(x)));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Getter for the number of chunks of the map, each one
+     * {@link ColumnCache#CHUNK_SIZE} columns long but the last one.
+     *
+     * @return the number of chunks
      */
-    public List<Pair<Integer, Integer>> getFlatFloorPositions() {
-        return new ArrayList<>(flatPositions);
+    public int getChunkCount() {
+        return (this.layout.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
     }
 
     /**
-     * Getter for the flat floor Position of the stages.
-     * 
-     * @return the flat floor position
+     * Getter for the number of chunks of columns that are kept in the cache,
+     * built or being built. A map with no end keeps its stages instead.
+     *
+     * @return the number of chunks
      */
-    public List<Pair<Integer, Integer>> getBrickFloorPosition() {
-        return new ArrayList<>(brickWallPosition);
+    public int getCachedChunks() {
+        return isEndless() ? 0 : this.cache.size();
+    }
+
+    /**
+     * Getter for the number of chunks of columns built since the creation,
+     * counting again the ones built after being dropped from the cache.
+     *
+     * @return the number of chunks
+     */
+    public int getBuiltChunks() {
+        return isEndless() ? 0 : this.cache.getBuilt();
     }
 
     /**
@@ -122,7 +323,7 @@ public class MapController {
      * @return the current x position
      */
     public int getCurrentMapX() {
-        return currentX;
+        return this.window.getFirst() * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
     }
 
     /**
@@ -130,8 +331,70 @@ public class MapController {
      * 
      * @return x coordinate of the end of the map
      */
-    public static int getEndOfMapX() {
-        return endOfMapX - GameView.WINDOW_WIDTH / 2;
+    public int getEndOfMapX() {
+        return endOfMapX - Constants.WINDOW_WIDTH / 2;
+    }
+
+    /**
+     * Getter for the heights of the floor and of the ceiling of every column
+     * of the map.
+     *
+     * @return the height field of the map
+     */
+    @SuppressFBWarnings
+    public HeightField getHeightField() {
+        return this.heightField;
+    }
+
+    /**
+     * Getter for a column of the map.
+     *
+     * @param index the index of the column, from the start of the map
+     * @return the column
+     */
+    public MapColumn getColumn(final int index) {
+        if (!isEndless()) {
+            return this.cache.get(index);
+        }
+        this.loadStage(this.layout.getStage(index));
+        return this.columns[index % this.columns.length];
+    }
+
+    /**
+     * Waits for every stage of the map to be generated and loads them. The
+     * chunks of a map with an end are loaded one after the other, and only
+     * the last ones are kept.
+     */
+    public void loadAllStages() {
+        if (isEndless()) {
+            this.loadStage(this.layout.getStageCount() - 1);
+            return;
+        }
+        for (int chunk = 0; chunk < this.cache.getChunkCount(); chunk++) {
+            this.cache.getChunk(chunk);
+        }
+    }
+
+    /**
+     * Getter for the number of stages whose columns are loaded. The stages
+     * are loaded in order: on a map with an end, they are the ones up to the
+     * furthest column loaded.
+     *
+     * @return the number of stages
+     */
+    public int getLoadedStages() {
+        return this.loadedStages;
+    }
+
+    /**
+     * Getter for the number of stages that have been asked for, either loaded
+     * or being generated: up to the furthest chunk prefetched, on a map with
+     * an end, or to the last stage asked to the {@link StageProducer}.
+     *
+     * @return the number of stages
+     */
+    public int getRequestedStages() {
+        return isEndless() ? this.stages.getRequested() : this.requestedStages;
     }
 
     /**
@@ -140,40 +403,98 @@ public class MapController {
      * @return the number of columns in this controller
      */
     public int getMapSize() {
-        return this.columns.size();
+        return this.layout.size();
+    }
+
+    /**
+     * Getter for the number of columns of the {@link HeightField}: all the
+     * columns of the map, or the ones of the stages kept of a map with no end.
+     *
+     * @return the number of columns
+     */
+    public int getCapacity() {
+        return this.heightField.size();
     }
 
-    private List<List<MapColumn>> fillStage() {
-        final List<List<MapColumn>> stages = new ArrayList<>();
-        stages.add(STAGE_FACTORY.prestage());
-        stages.add(STAGE_FACTORY.stage1());
-        stages.add(STAGE_FACTORY.stage2());
-        stages.add(STAGE_FACTORY.stage3());
-        stages.add(STAGE_FACTORY.stage4());
-        stages.add(STAGE_FACTORY.stage5());
-        stages.add(STAGE_FACTORY.stage6());
-        return stages;
+    /*
+     * The stages of a map with no end are made up when they are asked for, in
+     * order: the layout and the sprites of a stage are worked out at once,
+     * its columns are built in the background.
+     */
+    private static StageProducer<MapColumn> newStages(final GameRandom random, final MapLayout layout) {
+        final StageGenerator sprites = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT), random.getStream(RandomStream.MAP), null);
+        return new StageProducer<>(stage -> {
+            final StageLayout stageLayout = layout.getStageLayout(stage);
+            final Map<StagePart, LandPart[]> parts = sprites.pickSprites(stageLayout);
+            return () -> StageGenerator.buildStage(stageLayout, parts, new TileTable());
+        }, layout.getStageCount(), STAGES_AHEAD);
+    }
+
+    /* Starts a new map with no end, from its first stage. */
+    private void restart() {
+        this.layout = new EndlessLayout(this.random.split(RandomStream.MAP));
+        this.stages = newStages(this.random, this.layout);
+        this.loadedStages = 0;
+        this.generation++;
+        this.loadStage(1);
+    }
+
+    /*
+     * Puts the heights of a chunk in the height field, the first time it is
+     * used after being built, and moves the loaded stages up to it.
+     */
+    private void loadChunk(final List<MapColumn> chunk, final int index) {
+        int x = index * CHUNK_SIZE;
+        for (final MapColumn column : chunk) {
+            this.heightField.setColumn(x++, column);
+        }
+        this.loadedStages = Math.max(this.loadedStages, this.layout.getStage(x - 1) + 1);
     }
 
-    private void fillColumns(final List<List<MapColumn>> stages) {
-        int x = 0;
-        for (final List<MapColumn> mapStage : stages) {
-            stageStartingX.add(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - CHECKPOINT_OFFSET_X);
+    private int getFirstKeptStage() {
+        return isEndless() ? Math.max(0, this.loadedStages - EndlessLayout.KEPT_STAGES) : 0;
+    }
+
+    /*
+     * Loads the stage after the one the window ends in, so it is ready when
+     * the window gets there.
+     */
+    private void loadAhead() {
+        if (isEndless()) {
+            this.loadStage(this.layout.getStage(this.window.getLast()) + 1);
+            return;
+        }
+        this.cache.use(this.window.getFirst(), this.window.size());
+        this.cache.prefetch(this.window.getLast());
+        final int last = Math.min((this.window.getLast() / CHUNK_SIZE + CHUNKS_AHEAD + 1) * CHUNK_SIZE,
+                this.layout.size()) - 1;
+        this.requestedStages = Math.max(this.requestedStages, this.layout.getStage(last) + 1);
+    }
+
+    /*
+     * Loads the columns of every stage of a map with no end up to the given
+     * one, waiting for the ones that are not ready, and asks for the stages
+     * after it.
+     */
+    private void loadStage(final int stage) {
+        final int last = Math.min(stage, this.layout.getStageCount() - 1);
+        this.stages.request(last);
+        while (this.loadedStages <= last) {
+            final List<MapColumn> mapStage = this.stages.get(this.loadedStages);
+            if (mapStage.size() != this.layout.getStageSize(this.loadedStages)) {
+                throw new IllegalStateException("Stage " + this.loadedStages + " does not match its layout");
+            }
+            int x = this.layout.getStageStart(this.loadedStages);
             for (final MapColumn column : mapStage) {
                 column.updateX(x * column.gettWidth());
-                this.columns.add(column);
-                if (column.getFloorBehaviour() == LandBehaviour.FLAT && stageStartingX.size() > 1) {
-                    flatPositions.add(new PairImpl<>(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                            column.getFloorPosition().getSecondElement()));
-                }
-                if (column.getFloorBehaviour() == LandBehaviour.BRICK) {
-                    brickWallPosition.add(new PairImpl<>(x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                            column.getFloorPosition().getSecondElement()));
-                }
+                this.columns[x % this.columns.length] = column;
+                this.heightField.setColumn(x % this.columns.length, column);
                 x++;
             }
+            this.stages.release(this.loadedStages + 1);
+            this.loadedStages++;
         }
-        endOfMapX = x * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE - GameView.WINDOW_WIDTH / 2;
     }
 
 }
@@ -0,0 +1,168 @@
+package scramble.controller.map;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Generates the stages of a map in the background, on a {@link ForkJoinPool},
+ * only a few stages ahead of the ones that are asked for.
+ *
+ * <p>
+ * The stages do not depend on each other, nor on the order in which they are
+ * generated, so all the stages that have been asked for are generated at the
+ * same time, one per thread; they are handed out in order anyway, each one as
+ * soon as it is ready. A stage is only generated once a stage at most
+ * {@code ahead} stages before it has been asked for, so the threads never run
+ * far ahead of the game; when they have nothing left to do, they end.
+ * </p>
+ *
+ * <p>
+ * The stages that have been handed out can be released, so that a map with
+ * no end keeps only the few stages around the ones that are asked for.
+ * </p>
+ *
+ * @param <X> the type of the columns of a stage
+ */
+public class StageProducer<X> {
+
+    private static final long KEEP_ALIVE_MS = 1000;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    /** The threads the stages are generated by, shared with the {@link ColumnCache}. */
+    static final ForkJoinPool POOL = new ForkJoinPool(THREADS, pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("map-stages-" + thread.getPoolIndex());
+        return thread;
+    }, null, false, 0, THREADS, 1, null, KEEP_ALIVE_MS, TimeUnit.MILLISECONDS);
+
+    private final IntFunction<Supplier<List<X>>> stages;
+    private final int size;
+    private final Deque<CompletableFuture<List<X>>> produced = new ArrayDeque<>();
+    private final int ahead;
+    private int released;
+
+    /**
+     * Class constructor. Nothing is generated until a stage is asked for.
+     *
+     * @param stages the generators of the stages, in order; they must be
+     *               safe to call at the same time
+     * @param ahead  the number of stages generated after the last one asked
+     *               for
+     */
+    public StageProducer(final List<Supplier<List<X>>> stages, final int ahead) {
+        this(List.copyOf(stages)::get, stages.size(), ahead);
+    }
+
+    /**
+     * Class constructor, for stages that are worked out when they are asked
+     * for. Nothing is generated until a stage is asked for.
+     *
+     * @param stages the generators of the stages, by their index; the
+     *               function is called in order, once for every stage, by
+     *               the thread that asks for the stages, while the generators
+     *               it returns must be safe to call at the same time
+     * @param size   the number of stages of the map
+     * @param ahead  the number of stages generated after the last one asked
+     *               for
+     */
+    public StageProducer(final IntFunction<Supplier<List<X>>> stages, final int size, final int ahead) {
+        this.stages = stages;
+        this.size = size;
+        this.ahead = ahead;
+    }
+
+    /**
+     * Asks for a stage, without waiting for it: the stage, and the ones
+     * {@code ahead} of it, are generated in the background.
+     *
+     * @param stage the index of the stage
+     */
+    public void request(final int stage) {
+        final int last = (int) Math.min((long) stage + this.ahead, this.size - 1);
+        while (getRequested() <= last) {
+            this.produced.add(CompletableFuture.supplyAsync(this.stages.apply(getRequested()), POOL));
+        }
+    }
+
+    /**
+     * Returns a stage, waiting for it to be generated if it is not ready.
+     *
+     * @param stage the index of the stage, not released yet
+     * @return the columns of the stage
+     */
+    public List<X> get(final int stage) {
+        request(stage);
+        return getFuture(stage).join();
+    }
+
+    /**
+     * Forgets every stage before the given one, so that they can be
+     * collected. They can not be asked for again.
+     *
+     * @param stage the index of the first stage to keep
+     */
+    public void release(final int stage) {
+        while (this.released < stage && !this.produced.isEmpty()) {
+            this.produced.removeFirst();
+            this.released++;
+        }
+    }
+
+    /**
+     * Tells if a stage has been generated.
+     *
+     * @param stage the index of the stage
+     * @return {@code true} if the stage is ready
+     */
+    public boolean isReady(final int stage) {
+        return stage >= this.released && stage < getRequested() && getFuture(stage).isDone();
+    }
+
+    /**
+     * Getter for the number of stages that have been asked for, directly or
+     * because they are ahead of one that was.
+     *
+     * @return the number of stages
+     */
+    public int getRequested() {
+        return this.released + this.produced.size();
+    }
+
+    /**
+     * Getter for the number of stages that are kept, from the first one not
+     * released to the last one asked for.
+     *
+     * @return the number of stages
+     */
+    public int getKept() {
+        return this.produced.size();
+    }
+
+    /**
+     * Getter for the number of stages of the map.
+     *
+     * @return the number of stages
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private CompletableFuture<List<X>> getFuture(final int stage) {
+        if (stage < this.released) {
+            throw new IllegalStateException("Stage " + stage + " has been released");
+        }
+        int index = this.released;
+        for (final CompletableFuture<List<X>> future : this.produced) {
+            if (index++ == stage) {
+                return future;
+            }
+        }
+        throw new IllegalStateException("Stage " + stage + " has not been asked for");
+    }
+}
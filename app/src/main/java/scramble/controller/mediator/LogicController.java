@@ -1,79 +1,86 @@
 package scramble.controller.mediator;
 
-import java.awt.event.ActionEvent;
-import javax.swing.Timer;
-
-import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import scramble.controller.input.InputControl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import scramble.controller.map.MapController;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
 import scramble.model.bullets.Bullet;
 import scramble.model.bullets.BulletType;
+import scramble.model.common.api.BroadPhase;
+import scramble.model.common.api.CollisionCategory;
+import scramble.model.common.api.CollisionEvents;
+import scramble.model.common.api.CollisionType;
+import scramble.model.common.impl.CollisionEventBuffer;
+import scramble.model.common.impl.GameElementImpl;
 import scramble.model.common.impl.PairImpl;
+import scramble.model.common.impl.UniformGrid;
+import scramble.model.common.util.Sweep;
 import scramble.model.enemy.Boss;
 import scramble.model.enemy.Rocket;
-import scramble.model.spaceship.FuelBar;
+import scramble.model.scores.Scores;
 import scramble.model.tank.FuelTank;
-import scramble.view.compact.FuelTankPanel;
-import scramble.view.compact.GameView;
-import scramble.view.compact.RocketPanel;
-import scramble.view.compact.SpaceShipPanel;
+import scramble.model.world.World;
 import scramble.utility.Constants;
 
 /**
  * This class handles the Collision on the map.
- * It implements the interface designed and uses game view to handle
- * the game elements.
+ * It checks the elements of the {@link World} against each other and keeps
+ * track of the lives, of the checkpoints and of the current stage.
+ *
+ * <p>
+ * At every check the rockets, the boss and the tanks are put in a
+ * {@link BroadPhase}, so that the spaceship and each bullet are only checked
+ * against the few elements near them.
+ * </p>
+ *
+ * <p>
+ * The checks are swept: the elements are found where they passed since the
+ * previous check, not only where they are, so a fast bullet can not go
+ * through a thin enemy or a brick column between two checks. A bullet hits
+ * the first thing it meets along its way.
+ * </p>
+ *
+ * <p>
+ * The detection and the resolution of the collisions are two stages: the
+ * first one only writes the contacts in a reusable buffer of
+ * {@link CollisionEvents}, reading the elements through the views of the
+ * models instead of copies; the second one applies their effects, the points
+ * and the fuel refills included. So every check sees the world as it was at
+ * the beginning of the tick.
+ * </p>
  */
 public class LogicController {
 
-    private static int lives;
-    private static List<PairImpl<Integer, Integer>> checkPoints = new ArrayList<>();
-    private final SpaceShipPanel spaceShipPanel;
-    private final RocketPanel rocketPanel;
-    private final FuelTankPanel fuelTankPanel;
-    private final GameView gameView;
-    private final Timer collisionTimer;
-    private final Timer fuelCheckTimer;
+    private static final ProfiledSection BROAD_PHASE_SECTION = Profiler.section("collision.broadphase");
+    private static final ProfiledSection GROUND_SECTION = Profiler.section("collision.ground");
+    private static final ProfiledSection BULLETS_SECTION = Profiler.section("collision.bullets");
+    private static final ProfiledSection ENEMIES_SECTION = Profiler.section("collision.enemies");
+    private static final ProfiledSection CEILING_SECTION = Profiler.section("collision.ceiling");
+    private static final ProfiledSection RESOLVE_SECTION = Profiler.section("collision.resolve");
+
+    private final World world;
+    private final BroadPhase<GameElementImpl> broadPhase = new UniformGrid<>(Constants.WINDOW_WIDTH,
+            Constants.WINDOW_HEIGHT, Constants.COLLISION_CELL_SIZE);
+    private final CollisionEvents<GameElementImpl> events = new CollisionEventBuffer<>();
+    private final List<Bullet> removedBullets = new ArrayList<>();
+    private final List<Bullet> explodedBombs = new ArrayList<>();
+    private final List<PairImpl<Integer, Integer>> checkPoints = new ArrayList<>();
+    private int lives;
+    private int stage;
 
     /**
      * Class constructor.
      *
-     * @param gameView the calling class
+     * @param world the world to check
      */
-    public LogicController(final GameView gameView) {
+    public LogicController(final World world) {
+        this.world = world;
         resetLives();
-        this.gameView = new GameView(gameView);
-
-        this.spaceShipPanel = this.gameView.getSpaceshipPanel();
-        this.rocketPanel = this.gameView.getRocketPanel();
-        this.fuelTankPanel = this.gameView.getFuelTankPanel();
         addCheckPoints();
-        fuelCheckTimer = new Timer(100, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                finishedFuel(gameView.getHudPanel().getFuelBar());
-            }
-        });
-
-        collisionTimer = new Timer(16, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-
-                touchedGround();
-                checkHorizontalBulletCollisions();
-                checkBombBulletCollisions();
-                touchedEnemy();
-                checkEnemyCeilingCollision();
-
-            }
-        });
-
-        fuelCheckTimer.start();
-        collisionTimer.start();
     }
 
     /**
@@ -81,33 +88,27 @@ public class LogicController {
      *
      * @return number of lives remaining
      */
-    public static int getLives() {
+    public int getLives() {
         return lives;
     }
 
     /** Sets lives to MAX_LIVES in case game starts anew. */
-    public static void resetLives() {
+    public final void resetLives() {
         lives = Constants.MAX_LIVES;
     }
 
-    /** Starts collision timer. */
-    public void startCollisionTimer() {
-        collisionTimer.start();
-    }
-
-    /** Starts check fuel timer. */
-    public void startFuelCheckTimer() {
-        fuelCheckTimer.start();
-    }
-
-    /** Stops collision timer. */
-    public void stopCollisionTimer() {
-        collisionTimer.stop();
+    /** Decrement lives counter. */
+    public void lostLife() {
+        lives--;
     }
 
-    /** Stops check fuel timer. */
-    public void stopFuelCheckTimer() {
-        fuelCheckTimer.stop();
+    /**
+     * Checks if game is over.
+     *
+     * @return true if lives are over
+     */
+    public boolean isGameOver() {
+        return lives == 0;
     }
 
     /**
@@ -115,153 +116,328 @@ public class LogicController {
      *
      * @return the checkpoint list
      */
-    public static List<PairImpl<Integer, Integer>> getCheckPoints() {
+    public List<PairImpl<Integer, Integer>> getCheckPoints() {
         return new ArrayList<>(checkPoints);
     }
 
-    /* Check if a collision is happenning between landscape and spaceship. */
-    private void touchedGround() {
-        if (spaceShipPanel.getSpaceship().checkGroundCollision(gameView.getLandscapePanel().getColumns())) {
-            iteraction();
+    /**
+     * Calculates nearest checkpoint behind the current position of the map.
+     *
+     * @return the x position of the checkpoint
+     */
+    public int returnToCheckPoint() {
+        final MapController mapController = world.getLandscape().getMapController();
+        if (mapController.isEndless()) {
+            return mapController.getCheckPointX(world.getLandscape().getCurrentMapX());
+        }
+        final List<Integer> stageStartingX = mapController.getStageStartingX();
+        for (int i = stageStartingX.size() - 1; i > 1; i--) {
+            if (stageStartingX.get(i) < world.getLandscape().getCurrentMapX()) {
+                return stageStartingX.get(i);
+            }
         }
+        return stageStartingX.get(1);
     }
 
-    /* Check if a collision is happening between enemy and spaceship */
-    private void touchedEnemy() {
-        if (spaceShipPanel.getSpaceship().checkEnemyCollision(rocketPanel.getRockets())) {
-            iteraction();
-        }
+    /**
+     * Getter for the stage the spaceship is flying over.
+     *
+     * @return the stage, 0 before the first one
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /** Reset the number of stages to the starting stage. */
+    public void resetStage() {
+        this.stage = 0;
     }
 
     /**
-     * Behaviour for case when fuel is depleted.
-     * 
-     * @param fuelBar the fuel bar.
+     * Updates the stage from the current position of the map. On a map with
+     * no end, the stages after the last one of the HUD start it again.
      */
-    private void finishedFuel(final FuelBar fuelBar) {
-        if (fuelBar.checkFuelZero()) {
-            iteraction();
+    public void updateStage() {
+        final MapController mapController = world.getLandscape().getMapController();
+        final int pos = mapController.getCurrentMapX();
+        if (mapController.isEndless()) {
+            final int current = mapController.getStageAt(pos);
+            stage = current == 0 ? 0 : 1 + (current - 1) % Constants.MAX_STAGES;
+            return;
+        }
+        for (int i = 1; i < checkPoints.size(); i++) {
+            final boolean beforeNext = i + 1 == checkPoints.size()
+                    || pos < checkPoints.get(i + 1).getFirstElement();
+            if (pos > checkPoints.get(i).getFirstElement() && beforeNext) {
+                stage = i;
+            }
         }
     }
 
-    private void timerLogic() {
-        gameView.stopAllPanelTimers();
-        InputControl.setPaused(true);
-        final Timer delayTimer = new Timer(3500, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                startFuelCheckTimer();
-                startCollisionTimer();
-                InputControl.setPaused(false);
-                spaceShipPanel.getSpaceship().setHit(false);
-                if (isGameOver()) {
-                    gameView.setStart();
-                    resetLives();
-                } else {
-                    gameView.restartAllPanelTimers();
-                    lostLife();
-                    gameView.restartFromCheckPoint(gameView.returnToCheckPoint());
+    /**
+     * Checks every collision of the world. Bullets that hit something are
+     * removed, enemies and tanks are marked as hit.
+     *
+     * @return {@code true} if the spaceship has touched the landscape or an enemy
+     */
+    public boolean checkCollisions() {
+        detectCollisions();
+        return resolveCollisions();
+    }
+
+    /**
+     * Finds every contact of the world since the previous check and writes it
+     * in the {@link CollisionEvents} of the controller. No element is changed,
+     * until the events are resolved.
+     */
+    public void detectCollisions() {
+        events.clear();
+        long start = BROAD_PHASE_SECTION.begin();
+        fillBroadPhase();
+        BROAD_PHASE_SECTION.end(start);
+        start = GROUND_SECTION.begin();
+        detectGround();
+        GROUND_SECTION.end(start);
+        start = BULLETS_SECTION.begin();
+        detectBullets();
+        BULLETS_SECTION.end(start);
+        start = ENEMIES_SECTION.begin();
+        detectEnemy();
+        ENEMIES_SECTION.end(start);
+        start = CEILING_SECTION.begin();
+        detectCeiling();
+        CEILING_SECTION.end(start);
+        endSweeps();
+    }
+
+    /**
+     * Applies the effects of the contacts found by the last detection: the
+     * bullets that hit something are removed and the bombs explode, enemies and
+     * tanks are marked as hit and the spaceship as destroyed. The first hit on
+     * a rocket or on the boss scores its points, the first one on a tank
+     * refills the fuel. Every event is applied once.
+     *
+     * @return {@code true} if the spaceship has touched the landscape or an enemy
+     */
+    public boolean resolveCollisions() {
+        final long start = RESOLVE_SECTION.begin();
+        boolean spaceshipHit = false;
+        for (int i = 0; i < events.size(); i++) {
+            final GameElementImpl first = events.getFirst(i);
+            final GameElementImpl second = events.getSecond(i);
+            switch (events.getType(i)) {
+                case SPACESHIP_TERRAIN, SPACESHIP_ROCKET -> spaceshipHit = true;
+                case BULLET_TERRAIN -> {
+                    ((Bullet) first).setHit(true);
+                    removeBullet((Bullet) first);
+                }
+                case BULLET_ROCKET -> {
+                    hitRocket((Rocket) second);
+                    removeBullet((Bullet) first);
+                }
+                case BULLET_BOSS -> {
+                    hitBoss((Boss) second);
+                    removeBullet((Bullet) first);
+                }
+                case BULLET_FUEL_TANK -> {
+                    hitFuelTank((FuelTank) second);
+                    removeBullet((Bullet) first);
+                }
+                case ROCKET_CEILING -> {
+                    ((Rocket) first).setHit(true);
+                    ((Rocket) first).setCrashed(true);
+                }
+                default -> {
                 }
-                gameView.getRocketPanel().setMapX(gameView.getLandscapePanel().getCurrentMapX());
-                gameView.getRocketPanel().resetRockets();
-                gameView.getFuelTankPanel().setMapX(gameView.getLandscapePanel().getCurrentMapX());
-                gameView.getFuelTankPanel().resetTanks();
             }
-        });
-        delayTimer.setRepeats(false);
-        delayTimer.start();
+        }
+        events.clear();
+        world.getBullets().removeBullets(removedBullets);
+        world.getBullets().addExplodingBullets(explodedBombs);
+        removedBullets.clear();
+        explodedBombs.clear();
+        if (spaceshipHit) {
+            world.getSpaceship().setHit(true);
+        }
+        RESOLVE_SECTION.end(start);
+        return spaceshipHit;
     }
 
-    /** Decrement lives counter. */
-    private void lostLife() {
-        lives--;
+    /**
+     * Getter for the contacts found by the last detection, not resolved yet.
+     *
+     * @return the events
+     */
+    @SuppressFBWarnings
+    public CollisionEvents<GameElementImpl> getEvents() {
+        return events;
     }
 
     /**
-     * Checks if game is over.
+     * Checks if the fuel is depleted.
      *
-     * @return true if lives are over
+     * @return {@code true} if there is no fuel left
      */
-    private boolean isGameOver() {
-        return lives == 0;
+    public boolean finishedFuel() {
+        return world.getFuelBar().checkFuelZero();
+    }
+
+    /* Check if a collision is happenning between landscape and spaceship. */
+    private void detectGround() {
+        if (world.getSpaceship().touchesGround(world.getLandscape())) {
+            events.add(CollisionType.SPACESHIP_TERRAIN, world.getSpaceship(), null);
+        }
+    }
+
+    /* Check if a collision is happening between enemy and spaceship */
+    private void detectEnemy() {
+        final int found = querySwept(world.getSpaceship(), CollisionCategory.HOSTILE);
+        for (int i = 0; i < found; i++) {
+            final Rocket rocket = (Rocket) broadPhase.getResult(i);
+            if (world.getSpaceship().touchesEnemy(rocket)) {
+                events.add(CollisionType.SPACESHIP_ROCKET, world.getSpaceship(), rocket);
+                return;
+            }
+        }
+    }
+
+    /* Puts the elements that can be hit in the broad phase, in the order in which they are checked. */
+    private void fillBroadPhase() {
+        broadPhase.clear();
+        for (final Rocket rocket : world.getRockets().getRocketsView()) {
+            addSwept(rocket, CollisionCategory.ROCKET);
+        }
+        final Boss boss = world.getRockets().getBoss();
+        if (Objects.nonNull(boss)) {
+            addSwept(boss, CollisionCategory.BOSS);
+        }
+        for (final FuelTank tank : world.getFuelTanks().getFuelTanksView()) {
+            addSwept(tank, CollisionCategory.FUEL_TANK);
+        }
+    }
+
+    /* Adds an element with the box that covers its movement since the previous check. */
+    private void addSwept(final GameElementImpl element, final CollisionCategory category) {
+        broadPhase.add(element, Math.min(element.getHitBoxX(), element.getHitBoxX() - element.getSweepDx()),
+                Math.min(element.getHitBoxY(), element.getHitBoxY() - element.getSweepDy()),
+                element.getHitBoxWidth() + Math.abs(element.getSweepDx()),
+                element.getHitBoxHeight() + Math.abs(element.getSweepDy()), category);
+    }
+
+    /* Finds the elements whose movement may have crossed the one of an element since the previous check. */
+    private int querySwept(final GameElementImpl element, final int mask) {
+        return broadPhase.query(Math.min(element.getHitBoxX(), element.getHitBoxX() - element.getSweepDx()),
+                Math.min(element.getHitBoxY(), element.getHitBoxY() - element.getSweepDy()),
+                element.getHitBoxWidth() + Math.abs(element.getSweepDx()),
+                element.getHitBoxHeight() + Math.abs(element.getSweepDy()), mask);
+    }
+
+    /* The next check sweeps the movements from the current positions. */
+    private void endSweeps() {
+        world.getSpaceship().endSweep();
+        for (final Bullet bullet : world.getBullets().getBulletsView()) {
+            bullet.endSweep();
+        }
+        for (final Rocket rocket : world.getRockets().getRocketsView()) {
+            rocket.endSweep();
+        }
+        final Boss boss = world.getRockets().getBoss();
+        if (Objects.nonNull(boss)) {
+            boss.endSweep();
+        }
+        for (final FuelTank tank : world.getFuelTanks().getFuelTanksView()) {
+            tank.endSweep();
+        }
     }
 
     /** Adds checkpoints. */
     private void addCheckPoints() {
+        if (world.getLandscape().getMapController().isEndless()) {
+            return;
+        }
+        final List<Integer> stageStartingX = world.getLandscape().getMapController().getStageStartingX();
         for (int i = 0; i < Constants.MAX_STAGES + 1; i++) {
-            checkPoints.add(new PairImpl<>(MapController.getStageStartingX().get(i),
-                    Constants.CHECKPOINT_Y_POSITION));
+            checkPoints.add(new PairImpl<>(stageStartingX.get(i), Constants.CHECKPOINT_Y_POSITION));
         }
     }
 
-    private void checkHorizontalBulletCollisions() {
-        final var bullets = gameView.getBulletsPanel();
-        final List<Bullet> bulletsToRemove = bullets.getBullets()
-                .stream()
-                .filter(bullet -> bullet.getType() == BulletType.TYPE_HORIZONTAL
-                        && (bullet.checkGroundCollision(gameView.getLandscapePanel().getColumns())
-                                || checkBulletEnemyCollision(bullet) || checkBulletTankCollision()))
-                .toList();
-        bullets.removeBullets(bulletsToRemove);
+    /*
+     * Checks the bullets and the bombs in the order in which they were shot,
+     * so the exploding bombs keep that order.
+     */
+    private void detectBullets() {
+        for (final Bullet bullet : world.getBullets().getBulletsView()) {
+            detectBulletHit(bullet);
+        }
     }
 
-    private boolean checkBulletEnemyCollision(final Bullet bullet) {
-        for (final Rocket rocket : rocketPanel.getRockets()) {
-            if (rocket.checkSingleBullet(bullet)) {
-                rocket.setHit(true);
-                return true;
+    /*
+     * Checks a bullet against the landscape and the rockets, the boss and the
+     * tanks near it. The first one met along the way of the bullet is hit; on
+     * a tie the landscape comes first, then the elements in this order.
+     */
+    private void detectBulletHit(final Bullet bullet) {
+        final double ground = bullet.groundTimeOfImpact(world.getLandscape());
+        double first = ground;
+        int hit = -1;
+        final int found = querySwept(bullet, CollisionCategory.SHOOTABLE);
+        for (int i = 0; i < found; i++) {
+            final double time = bullet.timeOfImpact(broadPhase.getResult(i));
+            if (time < first) {
+                first = time;
+                hit = i;
             }
         }
-        final Boss boss = rocketPanel.getBoss();
-        if (Objects.nonNull(boss) && boss.checkCollisionBullet(bullet)) {
-            boss.setHit(true);
-            return true;
+        if (hit < 0) {
+            if (Sweep.isHit(ground)) {
+                events.add(CollisionType.BULLET_TERRAIN, bullet, null);
+            }
+            return;
         }
-        return false;
-    }
-
-    private boolean checkEnemyCeilingCollision() {
-        final var rockets = gameView.getRocketPanel().getRockets();
-        for (final Rocket rocket : rockets) {
-            if (rocket.checkCollisionCeiling(gameView.getLandscapePanel().getCeilingElements())) {
-                rocket.setHit(true);
-                rocket.setCrashed(true);
-                return true;
+        switch (broadPhase.getResultCategory(hit)) {
+            case ROCKET -> events.add(CollisionType.BULLET_ROCKET, bullet, broadPhase.getResult(hit));
+            case BOSS -> events.add(CollisionType.BULLET_BOSS, bullet, broadPhase.getResult(hit));
+            case FUEL_TANK -> events.add(CollisionType.BULLET_FUEL_TANK, bullet, broadPhase.getResult(hit));
+            default -> {
             }
         }
-        return false;
     }
 
-    private boolean checkBulletTankCollision() {
-        final var bullets = gameView.getBulletsPanel().getBullets();
-        for (final FuelTank tank : fuelTankPanel.getFuelTanks()) {
-            if (tank.checkCollisionBullet(bullets)) {
-                tank.setDestroyed(true);
-                return true;
+    private void detectCeiling() {
+        for (final Rocket rocket : world.getRockets().getRocketsView()) {
+            if (rocket.checkCollisionCeiling(world.getLandscape())) {
+                events.add(CollisionType.ROCKET_CEILING, rocket, null);
             }
         }
-        return false;
     }
 
-    private void checkBombBulletCollisions() {
-        final var bullets = gameView.getBulletsPanel();
-        final List<Bullet> bulletsExploding = bullets.getBullets()
-                .stream()
-                .filter(bullet -> bullet.getType() == BulletType.TYPE_BOMB
-                        && (bullet.checkGroundCollision(gameView.getLandscapePanel().getColumns())
-                                || checkBulletEnemyCollision(bullet) || checkBulletTankCollision()))
-                .toList();
-        bullets.removeBullets(bulletsExploding);
-        bullets.addExplodingBullets(bulletsExploding);
+    /* A rocket scores when a bullet hits it first, not when it has already crashed or exploded. */
+    private void hitRocket(final Rocket rocket) {
+        if (!rocket.isHit() && !rocket.isExploded()) {
+            Scores.incrementCurrentScore(Constants.ROCKET_POINTS);
+        }
+        rocket.setHit(true);
     }
 
-    private void iteraction() {
+    private void hitBoss(final Boss boss) {
+        if (!boss.isHit()) {
+            Scores.incrementCurrentScore(Constants.BOSS_POINTS);
+        }
+        boss.setHit(true);
+    }
 
-        gameView.stopAllPanelTimers();
-        stopFuelCheckTimer();
-        stopCollisionTimer();
-        spaceShipPanel.getSpaceship().setHit(true);
-        timerLogic();
+    private void hitFuelTank(final FuelTank tank) {
+        if (!tank.isDestroyed()) {
+            world.getFuelBar().increaseFuel(Constants.FUEL_REFILL);
+        }
+        tank.setDestroyed(true);
+    }
 
+    /* The bullets leave the screen, the bombs explode where they are. */
+    private void removeBullet(final Bullet bullet) {
+        removedBullets.add(bullet);
+        if (bullet.getType() == BulletType.TYPE_BOMB) {
+            explodedBombs.add(bullet);
+        }
     }
 }
@@ -0,0 +1,103 @@
+package scramble.controller.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in nanoseconds, with log-linear buckets in the style
+ * of an HDR histogram: every power of two is split in
+ * {@value #SUB_BUCKETS} buckets, so any recorded value is reported with an
+ * error below 1/{@value #SUB_BUCKETS} of itself. Recording is a single
+ * atomic increment and never allocates, so it can be done on every tick and
+ * from any thread.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double P50 = 0.50;
+    private static final double P99 = 0.99;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Summarizes the values recorded since the last call and empties the
+     * histogram.
+     *
+     * @param name the name of the summary
+     * @return the summary
+     */
+    public LatencySummary drain(final String name) {
+        final long[] drained = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            drained[i] = counts.getAndSet(i, 0);
+            count += drained[i];
+        }
+        final long maxNanos = max.getAndSet(0);
+        return new LatencySummary(name, count, percentile(drained, count, P50, maxNanos),
+                percentile(drained, count, P99, maxNanos), maxNanos);
+    }
+
+    /**
+     * Finds the bucket of a value.
+     *
+     * @param value a non negative value
+     * @return the index of the bucket
+     */
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int mantissa = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Finds the highest value that falls in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the highest value of the bucket
+     */
+    static long highestValueOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static long percentile(final long[] drained, final long count, final double quantile,
+            final long maxNanos) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < drained.length; i++) {
+            seen += drained[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
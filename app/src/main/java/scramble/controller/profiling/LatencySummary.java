@@ -0,0 +1,88 @@
+package scramble.controller.profiling;
+
+import java.util.Locale;
+
+/**
+ * Immutable summary of the durations of a {@link ProfiledSection} over a
+ * reporting window.
+ */
+public final class LatencySummary {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final long count;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Class constructor.
+     *
+     * @param name     the name of the section
+     * @param count    number of durations recorded
+     * @param p50Nanos median duration
+     * @param p99Nanos 99th percentile of the durations
+     * @param maxNanos highest duration
+     */
+    public LatencySummary(final String name, final long count, final long p50Nanos, final long p99Nanos,
+            final long maxNanos) {
+        this.name = name;
+        this.count = count;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Getter for the name of the section.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for the number of durations recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter for the median duration.
+     *
+     * @return the median in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Getter for the 99th percentile of the durations.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Getter for the highest duration.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-28s n=%6d p50=%8.3fms p99=%8.3fms max=%8.3fms", name, count,
+                p50Nanos / NANOS_PER_MILLI, p99Nanos / NANOS_PER_MILLI, maxNanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,72 @@
+package scramble.controller.profiling;
+
+/**
+ * A part of the game whose duration is measured, such as a phase of the tick
+ * or the drawing of a panel. Sections are obtained once from the
+ * {@link Profiler} and kept in a field:
+ *
+ * <pre>{@code
+ * final long start = SECTION.begin();
+ * // measured code
+ * SECTION.end(start);
+ * }</pre>
+ */
+public final class ProfiledSection {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Class constructor.
+     *
+     * @param name the name of the section
+     */
+    ProfiledSection(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the name of the section.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Marks the beginning of a measure.
+     *
+     * @return the start time, to be given to {@link #end(long)}
+     */
+    public long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a measure and records its duration.
+     *
+     * @param start the value returned by {@link #begin()}
+     */
+    public void end(final long start) {
+        histogram.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Records a duration measured elsewhere.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * Summarizes the durations recorded since the last report.
+     *
+     * @return the summary
+     */
+    LatencySummary drain() {
+        return histogram.drain(name);
+    }
+}
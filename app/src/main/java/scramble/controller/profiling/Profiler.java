@@ -0,0 +1,157 @@
+package scramble.controller.profiling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import scramble.utility.Constants;
+
+/**
+ * Registry of the {@link ProfiledSection} of the game. Like a logger, a
+ * section is looked up by name once and then kept in a field, so measuring
+ * costs two reads of the clock and an atomic increment.
+ *
+ * <p>
+ * The game loop calls {@link #publishIfDue()} regularly, and once per second
+ * of wall clock every section is summarized and emptied. The summaries are
+ * kept for the overlay and, every
+ * {@link Constants#PROFILER_DUMP_REPORTS} reports, appended to the dump file
+ * if one was set. The file is written by a thread of its own, so the game
+ * loop that publishes the reports never waits for the disk.
+ * </p>
+ */
+public final class Profiler {
+
+    private static final Logger LOG = Logger.getLogger(Profiler.class.getName());
+    private static final Map<String, ProfiledSection> SECTIONS = new ConcurrentHashMap<>();
+    private static final long REPORT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "profiler-dump");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile List<LatencySummary> lastReport = List.of();
+    private static volatile Path dumpFile;
+    private static int reports;
+    private static long lastPublishNanos = System.nanoTime();
+
+    private Profiler() {
+    }
+
+    /**
+     * Finds the section with the given name, creating it the first time.
+     *
+     * @param name the name of the section
+     * @return the section
+     */
+    public static ProfiledSection section(final String name) {
+        return SECTIONS.computeIfAbsent(name, ProfiledSection::new);
+    }
+
+    /**
+     * Sets the file the reports are appended to.
+     *
+     * @param file the dump file, or {@code null} to stop dumping
+     */
+    public static void setDumpFile(final Path file) {
+        dumpFile = file;
+    }
+
+    /**
+     * Getter for the last report.
+     *
+     * @return the summaries of the sections that have recorded something, by
+     *         name
+     */
+    public static List<LatencySummary> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Publishes a new report if a second has passed since the last one.
+     */
+    public static synchronized void publishIfDue() {
+        final long now = System.nanoTime();
+        if (now - lastPublishNanos >= REPORT_NANOS) {
+            lastPublishNanos = now;
+            publish();
+        }
+    }
+
+    /**
+     * Publishes a report with what has been recorded since the last one and
+     * dumps it at once, for instance before the game is closed. It returns
+     * once every report has been written.
+     */
+    public static void flush() {
+        synchronized (Profiler.class) {
+            publish();
+            if (reports % Constants.PROFILER_DUMP_REPORTS != 0) {
+                dump(lastReport);
+            }
+        }
+        try {
+            WRITER.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+        }
+    }
+
+    /**
+     * Summarizes and empties every section, and dumps the report when it is
+     * due.
+     */
+    public static synchronized void publish() {
+        final List<LatencySummary> report = new ArrayList<>();
+        for (final ProfiledSection section : SECTIONS.values()) {
+            final LatencySummary summary = section.drain();
+            if (summary.getCount() > 0) {
+                report.add(summary);
+            }
+        }
+        report.sort(Comparator.comparing(LatencySummary::getName));
+        lastReport = List.copyOf(report);
+        reports++;
+        if (reports % Constants.PROFILER_DUMP_REPORTS == 0) {
+            dump(lastReport);
+        }
+    }
+
+    /* Formats the report and hands it to the writer thread. */
+    private static void dump(final List<LatencySummary> report) {
+        final Path file = dumpFile;
+        if (Objects.isNull(file)) {
+            return;
+        }
+        final StringBuilder text = new StringBuilder("# ").append(LocalDateTime.now()).append(System.lineSeparator());
+        report.forEach(s -> text.append(s).append(System.lineSeparator()));
+        WRITER.execute(() -> {
+            try {
+                Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                LOG.severe("Failed to dump the profiler report!");
+                LOG.severe(e.toString());
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package scramble.controller.replay;
+
+import scramble.controller.session.GameSession;
+import scramble.model.bullets.BulletType;
+import scramble.model.spaceship.Directions;
+
+/**
+ * The inputs that change a {@link GameSession}, as they are recorded in a
+ * {@link Replay}. The keys of the player become the movements and the shots,
+ * while the start and the reset of the session come from the menus.
+ */
+public enum InputAction {
+
+    /** The session starts a game. */
+    START,
+    /** The session goes back to the beginning of the map. */
+    RESET,
+    /** Movement of the spaceship upwards. */
+    MOVE_UP,
+    /** Movement of the spaceship downwards. */
+    MOVE_DOWN,
+    /** Movement of the spaceship to the left. */
+    MOVE_LEFT,
+    /** Movement of the spaceship to the right. */
+    MOVE_RIGHT,
+    /** Shot of a horizontal bullet. */
+    SHOOT,
+    /** Shot of a bomb. */
+    BOMB;
+
+    /**
+     * Returns the action that moves the spaceship in a direction.
+     *
+     * @param direction the direction
+     * @return the action
+     */
+    public static InputAction of(final Directions direction) {
+        return switch (direction) {
+            case UP -> MOVE_UP;
+            case DOWN -> MOVE_DOWN;
+            case LEFT -> MOVE_LEFT;
+            case RIGHT -> MOVE_RIGHT;
+        };
+    }
+
+    /**
+     * Returns the action that shoots a type of bullet.
+     *
+     * @param type the type of the bullet
+     * @return the action
+     */
+    public static InputAction of(final BulletType type) {
+        return type == BulletType.TYPE_BOMB ? BOMB : SHOOT;
+    }
+
+    /**
+     * Applies the action to a session. It must be called by the thread that
+     * runs the loop of the session.
+     *
+     * @param session the session
+     * @param pressed {@code true} if the key of a movement has been pressed,
+     *                {@code false} if it has been released; it is ignored by
+     *                the other actions
+     */
+    public void applyTo(final GameSession session, final boolean pressed) {
+        switch (this) {
+            case START -> session.start();
+            case RESET -> session.reset();
+            case MOVE_UP -> session.moveSpaceship(Directions.UP, pressed);
+            case MOVE_DOWN -> session.moveSpaceship(Directions.DOWN, pressed);
+            case MOVE_LEFT -> session.moveSpaceship(Directions.LEFT, pressed);
+            case MOVE_RIGHT -> session.moveSpaceship(Directions.RIGHT, pressed);
+            case SHOOT -> session.shoot(BulletType.TYPE_HORIZONTAL);
+            case BOMB -> session.shoot(BulletType.TYPE_BOMB);
+            default -> {
+                break;
+            }
+        }
+    }
+}
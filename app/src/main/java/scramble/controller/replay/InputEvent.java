@@ -0,0 +1,77 @@
+package scramble.controller.replay;
+
+/**
+ * An {@link InputAction} applied to the session on a tick of its loop.
+ */
+public final class InputEvent {
+
+    private final long tick;
+    private final InputAction action;
+    private final boolean pressed;
+
+    /**
+     * Class constructor.
+     *
+     * @param tick    the tick of the loop on which the action is applied
+     * @param action  the action
+     * @param pressed {@code true} if the key has been pressed, {@code false} if
+     *                it has been released
+     */
+    public InputEvent(final long tick, final InputAction action, final boolean pressed) {
+        this.tick = tick;
+        this.action = action;
+        this.pressed = pressed;
+    }
+
+    /**
+     * Getter for the tick on which the action is applied.
+     *
+     * @return the tick
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Getter for the action.
+     *
+     * @return the action
+     */
+    public InputAction getAction() {
+        return this.action;
+    }
+
+    /**
+     * Tells if the key has been pressed or released.
+     *
+     * @return {@code true} if the key has been pressed
+     */
+    public boolean isPressed() {
+        return this.pressed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof InputEvent)) {
+            return false;
+        }
+        final InputEvent other = (InputEvent) obj;
+        return tick == other.tick && action == other.action && pressed == other.pressed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(tick) * 31 + action.hashCode() * 2 + (pressed ? 1 : 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return tick + ":" + action + (pressed ? "+" : "-");
+    }
+}
@@ -0,0 +1,191 @@
+package scramble.controller.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded game: the seed of the session, whether it was played on a map
+ * with no end, the inputs applied to it tick by tick and the digest of the
+ * world at the end of the recording, that tells if a replay has played
+ * exactly the same game.
+ *
+ * <p>
+ * In the file every event takes the distance in ticks from the previous one,
+ * written in as few bytes as needed, and a byte with the action and whether
+ * the key was pressed, so a minute of play takes a few hundred bytes.
+ * </p>
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x53435250;
+    private static final int VERSION = 2;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+
+    private final long seed;
+    private final boolean endless;
+    private final long ticks;
+    private final long checksum;
+    private final List<InputEvent> events;
+
+    /**
+     * Class constructor for a game recorded on the map with an end.
+     *
+     * @param seed     the seed of the recorded session
+     * @param ticks    the number of ticks recorded
+     * @param checksum the digest of the session after the last tick
+     * @param events   the inputs, in the order in which they were applied
+     */
+    public Replay(final long seed, final long ticks, final long checksum, final List<InputEvent> events) {
+        this(seed, false, ticks, checksum, events);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param seed     the seed of the recorded session
+     * @param endless  {@code true} if the session was played on a map with no
+     *                 end
+     * @param ticks    the number of ticks recorded
+     * @param checksum the digest of the session after the last tick
+     * @param events   the inputs, in the order in which they were applied
+     */
+    public Replay(final long seed, final boolean endless, final long ticks, final long checksum,
+            final List<InputEvent> events) {
+        this.seed = seed;
+        this.endless = endless;
+        this.ticks = ticks;
+        this.checksum = checksum;
+        this.events = List.copyOf(events);
+    }
+
+    /**
+     * Getter for the seed of the recorded session.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Tells if the session was played on a map with no end.
+     *
+     * @return {@code true} if the map had no end
+     */
+    public boolean isEndless() {
+        return this.endless;
+    }
+
+    /**
+     * Getter for the number of ticks recorded.
+     *
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Getter for the digest of the session after the last tick.
+     *
+     * @return the digest
+     */
+    public long getChecksum() {
+        return this.checksum;
+    }
+
+    /**
+     * Getter for the inputs of the replay.
+     *
+     * @return the inputs, in the order in which they were applied
+     */
+    public List<InputEvent> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Writes the replay to a file, replacing it if it exists.
+     *
+     * @param file the file
+     * @throws IOException if the file can not be written
+     */
+    public void save(final Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeBoolean(endless);
+            out.writeLong(checksum);
+            writeVarLong(out, ticks);
+            writeVarLong(out, events.size());
+            long previousTick = 0;
+            for (final InputEvent event : events) {
+                writeVarLong(out, event.getTick() - previousTick);
+                out.writeByte(event.getAction().ordinal() << 1 | (event.isPressed() ? 1 : 0));
+                previousTick = event.getTick();
+            }
+        }
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file the file
+     * @return the replay
+     * @throws IOException if the file can not be read or is not a replay
+     */
+    public static Replay load(final Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not a replay: " + file);
+            }
+            final long seed = in.readLong();
+            final boolean endless = in.readBoolean();
+            final long checksum = in.readLong();
+            final long ticks = readVarLong(in);
+            final long size = readVarLong(in);
+            final InputAction[] actions = InputAction.values();
+            final List<InputEvent> events = new ArrayList<>();
+            long tick = 0;
+            for (long i = 0; i < size; i++) {
+                tick += readVarLong(in);
+                final int code = in.readUnsignedByte();
+                if (code >> 1 >= actions.length) {
+                    throw new IOException("Unknown input in replay: " + file);
+                }
+                events.add(new InputEvent(tick, actions[code >> 1], (code & 1) == 1));
+            }
+            return new Replay(seed, endless, ticks, checksum, events);
+        }
+    }
+
+    private static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        long rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            out.writeByte((int) (rest & VARINT_MASK) | VARINT_MORE);
+            rest >>>= VARINT_BITS;
+        }
+        out.writeByte((int) rest);
+    }
+
+    private static long readVarLong(final DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+        } while ((b & VARINT_MORE) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,58 @@
+package scramble.controller.replay;
+
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.session.GameSession;
+
+/**
+ * Plays a {@link Replay} again on a new {@link GameSession} created from its
+ * seed, on the same kind of map it was recorded on. Every input is submitted just before the tick on which it was
+ * applied, and the ticks are stepped one after the other without waiting, so
+ * the game is played again exactly and as fast as the machine allows.
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private final GameSession session;
+
+    /**
+     * Class constructor.
+     *
+     * @param replay the replay to play
+     */
+    public ReplayPlayer(final Replay replay) {
+        this.replay = replay;
+        this.session = new GameSession(replay.getSeed(), replay.isEndless());
+    }
+
+    /**
+     * Getter for the session on which the replay is played.
+     *
+     * @return the session
+     */
+    @SuppressFBWarnings
+    public GameSession getSession() {
+        return this.session;
+    }
+
+    /**
+     * Plays every tick of the replay.
+     *
+     * @return {@code true} if the game has ended in the same state in which it
+     *         was recorded
+     */
+    public boolean play() {
+        final List<InputEvent> events = replay.getEvents();
+        int next = 0;
+        for (long tick = 0; tick < replay.getTicks(); tick++) {
+            while (next < events.size() && events.get(next).getTick() == tick) {
+                final InputEvent event = events.get(next);
+                session.submit(() -> event.getAction().applyTo(session, event.isPressed()));
+                next++;
+            }
+            session.step();
+        }
+        return session.checksum() == replay.getChecksum();
+    }
+}
@@ -0,0 +1,87 @@
+package scramble.controller.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import scramble.controller.session.GameSession;
+
+/**
+ * Records the inputs applied to a {@link GameSession} into a {@link Replay}.
+ * The session tells the recorder every input together with the tick on which
+ * it is applied and, at the beginning of every tick, the digest of its world,
+ * so the replay can end on any tick. The replay can be taken from any thread.
+ */
+public class ReplayRecorder {
+
+    private final long seed;
+    private final boolean endless;
+    private final List<InputEvent> events = new ArrayList<>();
+    private long ticks;
+    private long checksum;
+
+    /**
+     * Class constructor for a session played on the map with an end.
+     *
+     * @param seed the seed of the recorded session
+     */
+    public ReplayRecorder(final long seed) {
+        this(seed, false);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param seed    the seed of the recorded session
+     * @param endless {@code true} if the session is played on a map with no
+     *                end
+     */
+    public ReplayRecorder(final long seed, final boolean endless) {
+        this.seed = seed;
+        this.endless = endless;
+    }
+
+    /**
+     * Records an input.
+     *
+     * @param tick    the tick on which the input is applied
+     * @param action  the input
+     * @param pressed {@code true} if the key has been pressed, {@code false} if
+     *                it has been released
+     */
+    public synchronized void record(final long tick, final InputAction action, final boolean pressed) {
+        this.events.add(new InputEvent(tick, action, pressed));
+    }
+
+    /**
+     * Records the state of the session before a tick, that is after the
+     * previous ticks have been played.
+     *
+     * @param tick     the tick about to be played
+     * @param digest   the digest of the session
+     */
+    public synchronized void checkpoint(final long tick, final long digest) {
+        this.ticks = tick;
+        this.checksum = digest;
+    }
+
+    /**
+     * Returns the replay of the ticks recorded up to the last checkpoint.
+     *
+     * @return the replay
+     */
+    public synchronized Replay toReplay() {
+        return new Replay(seed, endless, ticks, checksum, events.stream().filter(e -> e.getTick() < ticks).toList());
+    }
+
+    /**
+     * Writes the replay of the ticks recorded so far to a file.
+     *
+     * @param file the file
+     * @throws IOException if the file can not be written
+     */
+    public void save(final Path file) throws IOException {
+        toReplay().save(file);
+    }
+}
@@ -0,0 +1,362 @@
+package scramble.controller.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.command.api.Command;
+import scramble.controller.loop.api.GameLoop;
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+import scramble.controller.loop.impl.FixedStepGameLoop;
+import scramble.controller.mediator.LogicController;
+import scramble.controller.replay.InputAction;
+import scramble.controller.replay.ReplayRecorder;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.spaceship.Directions;
+import scramble.model.world.World;
+import scramble.model.world.WorldSnapshot;
+import scramble.utility.Constants;
+
+/**
+ * A single game, made of the {@link World} and of the rules that update it on
+ * a {@link GameLoop}. The session does not depend on any view: the window only
+ * reads the world to draw it, while a session created without a window can be
+ * stepped as fast as the machine allows.
+ *
+ * <p>
+ * Commands coming from the input are queued and executed at the beginning of
+ * the next tick, so that the world is only ever changed by the thread that
+ * runs the loop. The other way round, the view never reads the world: the
+ * loop publishes an immutable {@link WorldSnapshot} through an atomic
+ * reference, and the view draws the last one published.
+ * </p>
+ *
+ * <p>
+ * Every random number of the session comes from its {@link GameRandom}, so two
+ * sessions with the same seed that receive the same commands on the same ticks
+ * play exactly the same game. A {@link ReplayRecorder} can be attached to the
+ * session to record those commands, together with the tick on which they are
+ * executed.
+ * </p>
+ */
+public class GameSession {
+
+    private final GameLoop gameLoop;
+    private final GameRandom random;
+    private final World world;
+    private final LogicController logicController;
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final List<LoopTask> playTasks = new ArrayList<>();
+    private final AtomicReference<WorldSnapshot> snapshot = new AtomicReference<>(WorldSnapshot.EMPTY);
+    private SessionListener listener;
+    private ReplayRecorder recorder;
+    private boolean playing;
+
+    /**
+     * Class constructor for a session that owns its game loop. The loop is
+     * never started: the session moves forward only through {@link #step()}.
+     */
+    public GameSession() {
+        this(new FixedStepGameLoop(), new GameRandomImpl());
+    }
+
+    /**
+     * Class constructor for a session that owns its game loop and plays the
+     * game generated by a seed.
+     *
+     * @param seed the seed of every random number of the session
+     */
+    public GameSession(final long seed) {
+        this(seed, false);
+    }
+
+    /**
+     * Class constructor for a session that owns its game loop and plays the
+     * game generated by a seed, on a map with or without an end.
+     *
+     * @param seed    the seed of every random number of the session
+     * @param endless {@code true} to play on a map with no end
+     */
+    public GameSession(final long seed, final boolean endless) {
+        this(new FixedStepGameLoop(), new GameRandomImpl(seed), endless);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param gameLoop the loop that drives the session
+     * @param random   the source of every random number of the session
+     */
+    public GameSession(final GameLoop gameLoop, final GameRandom random) {
+        this(gameLoop, random, false);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param gameLoop the loop that drives the session
+     * @param random   the source of every random number of the session
+     * @param endless  {@code true} to play on a map with no end, until the
+     *                 lives are over
+     */
+    @SuppressFBWarnings
+    public GameSession(final GameLoop gameLoop, final GameRandom random, final boolean endless) {
+        this.gameLoop = gameLoop;
+        this.random = random;
+        this.world = new World(random, endless);
+        this.logicController = new LogicController(world);
+
+        this.gameLoop.schedule(TickPhase.INPUT, Constants.GAME_TICK_MS, this::executeCommands).start();
+
+        this.playTasks.add(gameLoop.schedule(TickPhase.MOVEMENT, Constants.GAME_TICK_MS,
+                world::updateSpaceship));
+        this.playTasks.add(gameLoop.schedule(TickPhase.MOVEMENT, Constants.ENTITY_UPDATE_MS, () -> {
+            world.updateElements();
+            if (world.getRockets().isBossOutOfScreen()) {
+                endGame(true);
+            }
+        }));
+        this.playTasks.add(gameLoop.schedule(TickPhase.SPAWN, Constants.SPAWN_CHECK_MS,
+                world::spawnElements));
+        this.playTasks.add(gameLoop.schedule(TickPhase.COLLISION, Constants.GAME_TICK_MS,
+                logicController::detectCollisions));
+        this.playTasks.add(gameLoop.schedule(TickPhase.COLLISION, Constants.FUEL_CHECK_MS, () -> {
+            if (logicController.finishedFuel()) {
+                spaceshipHit();
+            }
+        }));
+        this.playTasks.add(gameLoop.schedule(TickPhase.SCORING, Constants.GAME_TICK_MS, () -> {
+            if (logicController.resolveCollisions()) {
+                spaceshipHit();
+            }
+        }));
+        this.playTasks.add(gameLoop.schedule(TickPhase.SCORING, Constants.ENTITY_UPDATE_MS,
+                world::removeExploded));
+        this.playTasks.add(gameLoop.schedule(TickPhase.SCORING, Constants.FUEL_CONSUMPTION_MS, () -> {
+            logicController.updateStage();
+            world.getFuelBar().decreaseFuel(Constants.FUEL_DECREASE_AMOUNT);
+        }));
+    }
+
+    /**
+     * Getter for the world of the session.
+     *
+     * @return the world
+     */
+    @SuppressFBWarnings
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Getter for the random service of the session.
+     *
+     * @return the random service
+     */
+    @SuppressFBWarnings
+    public GameRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Getter for the logic controller of the session.
+     *
+     * @return the logic controller
+     */
+    @SuppressFBWarnings
+    public LogicController getLogicController() {
+        return this.logicController;
+    }
+
+    /**
+     * Getter for the game loop of the session.
+     *
+     * @return the game loop
+     */
+    @SuppressFBWarnings
+    public GameLoop getGameLoop() {
+        return this.gameLoop;
+    }
+
+    /**
+     * Getter for the last snapshot of the world published. It can be called
+     * from any thread.
+     *
+     * @return the snapshot
+     */
+    public WorldSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * Takes a snapshot of the world and publishes it, replacing the previous
+     * one. It must be called by the thread that runs the loop, usually in the
+     * {@link TickPhase#RENDER} phase.
+     */
+    public void publishSnapshot() {
+        this.snapshot.set(this.world.snapshot(this.gameLoop.getTickCount(), this.logicController.getLives(),
+                this.logicController.getStage()));
+    }
+
+    /**
+     * Setter for the listener of the end of the game. The listener is notified
+     * by the thread that runs the loop.
+     *
+     * @param listener the listener
+     */
+    public void setListener(final SessionListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Setter for the recorder of the inputs of the session. It must be set
+     * before the loop is started.
+     *
+     * @param recorder the recorder
+     */
+    @SuppressFBWarnings
+    public void setRecorder(final ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Computes a digest of the state of the session, that is the same for two
+     * sessions that played the same game. It must be called by the thread that
+     * runs the loop.
+     *
+     * @return the digest
+     */
+    public long checksum() {
+        return ((this.world.checksum() * 31 + this.gameLoop.getTickCount()) * 31
+                + this.logicController.getLives()) * 31 + this.logicController.getStage();
+    }
+
+    /**
+     * Tells if a game is being played.
+     *
+     * @return {@code true} between {@link #start()} and the end of the game
+     */
+    public boolean isPlaying() {
+        return this.playing;
+    }
+
+    /**
+     * Starts the game from the current state of the world. Like every method
+     * that changes the session, it must be called by the thread that runs the
+     * loop: other threads {@link #submit(Command)} a command that calls it.
+     */
+    public void start() {
+        record(InputAction.START, true);
+        this.playing = true;
+        this.playTasks.forEach(LoopTask::start);
+    }
+
+    /** Brings the session back to the beginning of the map, without playing. */
+    public void reset() {
+        record(InputAction.RESET, true);
+        this.playing = false;
+        this.playTasks.forEach(LoopTask::stop);
+        this.commands.clear();
+        this.world.getSpaceship().setHit(false);
+        this.world.reset(0);
+        this.logicController.resetLives();
+        this.logicController.resetStage();
+    }
+
+    /**
+     * Queues a command, that will be executed at the beginning of the next
+     * tick. It can be called from any thread.
+     *
+     * @param command the command
+     */
+    public void submit(final Command command) {
+        this.commands.add(command);
+    }
+
+    /**
+     * Runs a single tick of the game loop.
+     */
+    public void step() {
+        this.gameLoop.step();
+    }
+
+    /**
+     * Starts or stops the movement of the spaceship. A hit spaceship can not
+     * start moving.
+     *
+     * @param direction the direction
+     * @param active    {@code true} to start the movement, {@code false} to stop
+     *                  it
+     */
+    public void moveSpaceship(final Directions direction, final boolean active) {
+        record(InputAction.of(direction), active);
+        if (!active || !world.getSpaceship().isHit()) {
+            world.moveSpaceship(direction, active);
+        }
+    }
+
+    /**
+     * Shoots a bullet, unless the spaceship has been hit.
+     *
+     * @param type the type of the bullet
+     */
+    public void shoot(final BulletType type) {
+        record(InputAction.of(type), true);
+        if (playing && !world.getSpaceship().isHit()) {
+            world.shoot(type);
+        }
+    }
+
+    private void executeCommands() {
+        if (Objects.nonNull(recorder)) {
+            recorder.checkpoint(gameLoop.getTickCount(), checksum());
+        }
+        Command command = commands.poll();
+        while (Objects.nonNull(command)) {
+            command.execute();
+            command = commands.poll();
+        }
+    }
+
+    private void record(final InputAction action, final boolean pressed) {
+        if (Objects.nonNull(recorder)) {
+            recorder.record(gameLoop.getTickCount(), action, pressed);
+        }
+    }
+
+    private void spaceshipHit() {
+        this.playTasks.forEach(LoopTask::stop);
+        this.world.getSpaceship().setHit(true);
+        final LoopTask delayTimer = gameLoop.schedule(TickPhase.SCORING, Constants.RESPAWN_DELAY_MS, () -> {
+            this.world.getSpaceship().setHit(false);
+            if (logicController.isGameOver()) {
+                endGame(false);
+            } else {
+                logicController.lostLife();
+                world.reset(logicController.returnToCheckPoint());
+                this.playTasks.forEach(LoopTask::restart);
+            }
+        });
+        delayTimer.setRepeats(false);
+        delayTimer.start();
+    }
+
+    private void endGame(final boolean mapCompleted) {
+        this.playing = false;
+        this.playTasks.forEach(LoopTask::stop);
+        if (Objects.nonNull(listener)) {
+            if (mapCompleted) {
+                listener.onMapCompleted();
+            } else {
+                listener.onGameOver();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package scramble.controller.session;
+
+/**
+ * Listener of the events of a {@link GameSession} that end a game. The methods
+ * are called on the thread that runs the game loop.
+ */
+public interface SessionListener {
+
+    /** Called when the spaceship has lost its last life. */
+    void onGameOver();
+
+    /** Called when the boss has left the screen and the map is completed. */
+    void onMapCompleted();
+}
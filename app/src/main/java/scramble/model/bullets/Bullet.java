@@ -2,14 +2,17 @@ package scramble.model.bullets;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Random;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.SplittableRandom;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
+import scramble.model.common.util.SpriteLoader;
+import scramble.model.common.util.Sweep;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapElement;
 import scramble.utility.Constants;
 
@@ -20,12 +23,18 @@ import scramble.utility.Constants;
 public class Bullet extends GameElementImpl {
 
     private static final Logger LOG = Logger.getLogger(Bullet.class.getName());
+    private static final List<BufferedImage> HORIZONTAL_SPRITE = loadSprites("/bullets/bullet", ".png", 0,
+            BulletType.TYPE_HORIZONTAL);
+    private static final List<BufferedImage> BOMB_SPRITES = loadSprites("/bomb/bomb", ".png",
+            Constants.SPRITE_NUMBER_BOMB, BulletType.TYPE_BOMB);
+    private static final List<BufferedImage> BOMB_EXPLOSION_SPRITES = loadSprites(
+            "/bomb/explosion/bomb_explodes", ".png", Constants.SPRITE_NUMBER_BOMB_EXPLOSION, BulletType.TYPE_BOMB);
 
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> sprite;
     private final List<BufferedImage> explosionSprites;
     private final BulletType type;
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     private boolean animationComplete;
     private int currentSpriteIndex;
@@ -41,48 +50,40 @@ public class Bullet extends GameElementImpl {
      * @param type the type of the bullet
      */
     public Bullet(final int x, final int y, final BulletType type) {
+        this(x, y, type, new SplittableRandom());
+    }
+
+    /**
+     * Class construnctor.
+     *
+     * @param x      starting position on the X axis
+     * @param y      starting position on the Y axis
+     * @param type   the type of the bullet
+     * @param random the generator used to pick the explosion sprites
+     */
+    public Bullet(final int x, final int y, final BulletType type, final RandomGenerator random) {
         super(x, y, Constants.BULLETS_SIZE_MAP.get(type).getFirstElement(),
                 Constants.BULLETS_SIZE_MAP.get(type).getSecondElement());
-        this.sprites = new ArrayList<>();
-        this.sprite = new ArrayList<>();
-        this.explosionSprites = new ArrayList<>();
         this.type = type;
+        this.random = random;
 
         switch (type) {
             case TYPE_HORIZONTAL:
-                try {
-                    // Safe way to get resource
-                    sprite.add(ImageIO.read(Bullet.class.getResource("/bullets/bullet" + ".png")));
-                } catch (IOException e) {
-                    LOG.severe("Ops!");
-                    LOG.severe(e.toString());
-                }
+                this.sprite = HORIZONTAL_SPRITE;
+                this.sprites = Collections.emptyList();
+                this.explosionSprites = Collections.emptyList();
                 break;
 
             case TYPE_BOMB:
-                for (int i = 1; i <= Constants.SPRITE_NUMBER_BOMB; i++) {
-                    try {
-                        sprites.add(ImageIO.read(Bullet.class.getResource("/bomb/bomb" + i + ".png")));
-                    } catch (IOException e) {
-                        LOG.severe("Ops!");
-                        LOG.severe(e.toString());
-                    }
-                }
-
-                for (int i = 1; i <= Constants.SPRITE_NUMBER_BOMB_EXPLOSION; i++) {
-                    try {
-                        explosionSprites
-                                .add(ImageIO
-                                        .read(Bullet.class.getResource("/bomb/explosion/bomb_explodes" + i + ".png")));
-                    } catch (IOException e) {
-                        LOG.severe("Ops!");
-                        LOG.severe(e.toString());
-                    }
-                }
-
+                this.sprite = Collections.emptyList();
+                this.sprites = BOMB_SPRITES;
+                this.explosionSprites = BOMB_EXPLOSION_SPRITES;
                 break;
 
             default:
+                this.sprite = Collections.emptyList();
+                this.sprites = Collections.emptyList();
+                this.explosionSprites = Collections.emptyList();
                 break;
         }
         this.hit = false;
@@ -148,7 +149,11 @@ public class Bullet extends GameElementImpl {
      *
      * @param map the map
      * @return true it has touched the map
+     * @deprecated only the hit boxes are checked, at the current position:
+     *             use {@link #checkGroundCollision(TerrainIndex)}, which
+     *             follows the movement of the bullet
      */
+    @Deprecated
     public boolean checkGroundCollision(final List<MapElement> map) {
         for (final MapElement me : map) {
             if (hasCollided(me)) {
@@ -159,6 +164,33 @@ public class Bullet extends GameElementImpl {
         return false;
     }
 
+    /**
+     * Check if the bullet is colliding with the terrain of the landscape,
+     * anywhere along its movement since the last collision check.
+     *
+     * @param terrain the terrain
+     * @return true it has touched the terrain
+     */
+    public boolean checkGroundCollision(final TerrainIndex terrain) {
+        if (Sweep.isHit(groundTimeOfImpact(terrain))) {
+            hit = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds when the bullet, moving since the last collision check, starts to
+     * touch the terrain of the landscape.
+     *
+     * @param terrain the terrain
+     * @return the time of the first contact, or {@link Sweep#NO_HIT}
+     */
+    public double groundTimeOfImpact(final TerrainIndex terrain) {
+        return terrain.timeOfImpact(getHitBoxX() - getSweepDx(), getHitBoxY() - getSweepDy(), getHitBoxWidth(),
+                getHitBoxHeight(), getSweepDx(), getSweepDy());
+    }
+
     /**
      * Returns randomised image for explosion animation.
      *
@@ -197,8 +229,7 @@ public class Bullet extends GameElementImpl {
     }
 
     private void move() {
-        updatePosition(new PairImpl<>(getPosition().getFirstElement() + xSpeed,
-                getPosition().getSecondElement() + ySpeed));
+        moveBy(xSpeed, ySpeed);
     }
 
     private BufferedImage getNextBombSprite() {
@@ -219,4 +250,28 @@ public class Bullet extends GameElementImpl {
         return currentSprite;
     }
 
+    /*
+     * Reads the sprites once for every bullet of the game. A number of 0 reads
+     * the single sprite named only by the prefix and the suffix. The sprites
+     * are scaled to the size of the bullets of the type they are drawn for.
+     */
+    private static List<BufferedImage> loadSprites(final String prefix, final String suffix, final int number,
+            final BulletType type) {
+        final List<BufferedImage> loaded = new ArrayList<>();
+        final int width = Constants.BULLETS_SIZE_MAP.get(type).getFirstElement();
+        final int height = Constants.BULLETS_SIZE_MAP.get(type).getSecondElement();
+        try {
+            if (number == 0) {
+                loaded.add(SpriteLoader.read(prefix + suffix, width, height));
+            }
+            for (int i = 1; i <= number; i++) {
+                loaded.add(SpriteLoader.read(prefix + i + suffix, width, height));
+            }
+        } catch (IOException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+        }
+        return Collections.unmodifiableList(loaded);
+    }
+
 }
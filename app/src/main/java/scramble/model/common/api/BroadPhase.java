@@ -0,0 +1,79 @@
+package scramble.model.common.api;
+
+/**
+ * Broad phase of the collision detection. The elements that can be hit are
+ * added once per tick, each with its {@link CollisionCategory}; then every
+ * moving element asks only for the ones whose hit box overlaps its own,
+ * filtered by a mask of categories, instead of checking all of them.
+ *
+ * <p>
+ * The elements found by a query are kept until the next query, in the same
+ * order in which they were added, so the narrow phase finds the same element
+ * first that a plain loop over the lists of the world would find.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public interface BroadPhase<T extends HitBox> {
+
+    /** Removes every element, to add the ones of a new tick. */
+    void clear();
+
+    /**
+     * Adds an element.
+     *
+     * @param element  the element
+     * @param category the category of the element
+     */
+    void add(T element, CollisionCategory category);
+
+    /**
+     * Adds an element that is found by the queries that overlap a box other
+     * than its hit box, such as the area it swept during the tick.
+     *
+     * @param element  the element
+     * @param x        the x coordinate of the box
+     * @param y        the y coordinate of the box
+     * @param width    the width of the box
+     * @param height   the height of the box
+     * @param category the category of the element
+     */
+    void add(T element, int x, int y, int width, int height, CollisionCategory category);
+
+    /**
+     * Finds the elements of some categories whose hit box overlaps a box.
+     *
+     * @param box  the box
+     * @param mask the mask of the categories to look for
+     * @return the number of elements found
+     */
+    int query(HitBox box, int mask);
+
+    /**
+     * Finds the elements of some categories whose box overlaps a box.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @param mask   the mask of the categories to look for
+     * @return the number of elements found
+     */
+    int query(int x, int y, int width, int height, int mask);
+
+    /**
+     * Getter for an element found by the last query.
+     *
+     * @param index the index of the element, less than the number found
+     * @return the element
+     */
+    T getResult(int index);
+
+    /**
+     * Getter for the category of an element found by the last query.
+     *
+     * @param index the index of the element, less than the number found
+     * @return the category of the element
+     */
+    CollisionCategory getResultCategory(int index);
+}
@@ -0,0 +1,36 @@
+package scramble.model.common.api;
+
+/**
+ * Categories of the elements that can collide with each other. Each one has
+ * its own bit, so a set of categories is a mask made of the bits of each one.
+ */
+public enum CollisionCategory {
+
+    /** The spaceship of the player. */
+    SPACESHIP,
+    /** A bullet shot horizontally by the spaceship. */
+    BULLET,
+    /** A bomb dropped by the spaceship. */
+    BOMB,
+    /** A rocket. */
+    ROCKET,
+    /** The final boss. */
+    BOSS,
+    /** A fuel tank. */
+    FUEL_TANK;
+
+    /** Mask of the elements that the bullets and the bombs can hit. */
+    public static final int SHOOTABLE = ROCKET.mask() | BOSS.mask() | FUEL_TANK.mask();
+
+    /** Mask of the elements that destroy the spaceship when touched. */
+    public static final int HOSTILE = ROCKET.mask();
+
+    /**
+     * Getter for the bit of the category.
+     *
+     * @return a mask with only the bit of the category
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
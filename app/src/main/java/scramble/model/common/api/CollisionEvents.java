@@ -0,0 +1,56 @@
+package scramble.model.common.api;
+
+/**
+ * Buffer of the contacts found by the collision detection in a tick. The
+ * detection only writes events, without changing any element; a later stage
+ * reads them back in the same order and applies their effects, such as
+ * scores, explosions and the death of the spaceship.
+ *
+ * @param <T> the type of the elements
+ */
+public interface CollisionEvents<T> {
+
+    /** Removes every event, to write the ones of a new tick. */
+    void clear();
+
+    /**
+     * Writes an event.
+     *
+     * @param type   the type of the contact
+     * @param first  the element that moved into the contact
+     * @param second the element that was touched, or {@code null} if it is the
+     *               landscape
+     */
+    void add(CollisionType type, T first, T second);
+
+    /**
+     * Getter for the number of events written since the last clear.
+     *
+     * @return the number of events
+     */
+    int size();
+
+    /**
+     * Getter for the type of an event.
+     *
+     * @param index the index of the event, from {@code 0} to {@link #size()}
+     * @return the type
+     */
+    CollisionType getType(int index);
+
+    /**
+     * Getter for the first element of an event.
+     *
+     * @param index the index of the event, from {@code 0} to {@link #size()}
+     * @return the element that moved into the contact
+     */
+    T getFirst(int index);
+
+    /**
+     * Getter for the second element of an event.
+     *
+     * @param index the index of the event, from {@code 0} to {@link #size()}
+     * @return the element that was touched, or {@code null}
+     */
+    T getSecond(int index);
+}
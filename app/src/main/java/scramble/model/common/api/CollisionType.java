@@ -0,0 +1,24 @@
+package scramble.model.common.api;
+
+/**
+ * Types of the contacts found by the collision detection. Each one tells
+ * which element is the first of a {@link CollisionEvents} event and which one
+ * is the second.
+ */
+public enum CollisionType {
+
+    /** The spaceship touched the landscape; there is no second element. */
+    SPACESHIP_TERRAIN,
+    /** The spaceship touched a rocket, the second element. */
+    SPACESHIP_ROCKET,
+    /** A bullet or a bomb hit the landscape; there is no second element. */
+    BULLET_TERRAIN,
+    /** A bullet or a bomb hit a rocket, the second element. */
+    BULLET_ROCKET,
+    /** A bullet or a bomb hit the boss, the second element. */
+    BULLET_BOSS,
+    /** A bullet or a bomb hit a fuel tank, the second element. */
+    BULLET_FUEL_TANK,
+    /** A rocket crashed into the ceiling; there is no second element. */
+    ROCKET_CEILING
+}
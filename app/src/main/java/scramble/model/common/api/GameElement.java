@@ -7,6 +7,13 @@ import scramble.model.common.impl.PairImpl;
 /**
  * Key interface that acts as base for every interactable object in the game.
  * That includes the player, enemies and fuel.
+ *
+ * <p>
+ * The position is kept in primitive fields, read by {@link #getX()} and
+ * {@link #getY()} and changed by {@link #setPosition(int, int)}. The methods
+ * that use a {@link PairImpl} allocate a new pair at every call and are only
+ * kept for compatibility.
+ * </p>
  */
 public interface GameElement {
 
@@ -20,10 +27,32 @@ public interface GameElement {
     /**
      * Gets the current game element position.
      *
-     * @return current position
+     * @return a copy of the current position
      */
     PairImpl<Integer, Integer> getPosition();
 
+    /**
+     * Moves the game element.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     */
+    void setPosition(int x, int y);
+
+    /**
+     * Getter for the x coordinate of the game element.
+     *
+     * @return the x coordinate
+     */
+    int getX();
+
+    /**
+     * Getter for the y coordinate of the game element.
+     *
+     * @return the y coordinate
+     */
+    int getY();
+
     /**
      * Getter for a game element single sprite.
      *
@@ -0,0 +1,37 @@
+package scramble.model.common.api;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of every random number of a game. Two services created with the same
+ * seed produce the same numbers in every {@link RandomStream}, so a run can be
+ * reproduced from its seed.
+ */
+public interface GameRandom {
+
+    /**
+     * Getter for the seed of the service.
+     *
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Getter for a stream of the service. The same generator is returned at
+     * every call, so it must be used by a single thread.
+     *
+     * @param stream the stream
+     * @return the generator of the stream
+     */
+    RandomGenerator getStream(RandomStream stream);
+
+    /**
+     * Creates a new generator, independent from the others, derived from a
+     * stream. It is meant for elements that need random numbers of their own,
+     * like the sprites of a single element.
+     *
+     * @param stream the stream to derive the generator from
+     * @return the new generator
+     */
+    RandomGenerator split(RandomStream stream);
+}
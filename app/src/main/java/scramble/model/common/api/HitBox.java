@@ -4,6 +4,13 @@ import java.awt.Rectangle;
 
 /**
  * Interface for the class HitBox.
+ *
+ * <p>
+ * The box is kept in primitive fields: the collision checks read it through
+ * {@link #getHitBoxX()}, {@link #getHitBoxY()}, {@link #getHitBoxWidth()} and
+ * {@link #getHitBoxHeight()} and never allocate, while {@link #getHitBox()}
+ * only remains for the callers that need a {@link Rectangle}.
+ * </p>
  */
 public interface HitBox {
 
@@ -31,4 +38,44 @@ public interface HitBox {
      * @return the hitbox
      */
     Rectangle getHitBox();
+
+    /**
+     * Getter for the x coordinate of the hitbox.
+     *
+     * @return the x coordinate
+     */
+    int getHitBoxX();
+
+    /**
+     * Getter for the y coordinate of the hitbox.
+     *
+     * @return the y coordinate
+     */
+    int getHitBoxY();
+
+    /**
+     * Getter for the width of the hitbox.
+     *
+     * @return the width
+     */
+    int getHitBoxWidth();
+
+    /**
+     * Getter for the height of the hitbox.
+     *
+     * @return the height
+     */
+    int getHitBoxHeight();
+
+    /**
+     * Checks if the hitbox overlaps a box, with the same rules of
+     * {@link Rectangle#intersects(Rectangle)}.
+     *
+     * @param x      the x coordinate of the box
+     * @param y      the y coordinate of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return {@code true} if the two boxes overlap
+     */
+    boolean intersects(int x, int y, int width, int height);
 }
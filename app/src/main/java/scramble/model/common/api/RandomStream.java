@@ -0,0 +1,15 @@
+package scramble.model.common.api;
+
+/**
+ * The independent streams of random numbers of a {@link GameRandom}. Each
+ * stream is used only by one part of the game, so that drawing more or less
+ * random numbers in one part does not change the others.
+ */
+public enum RandomStream {
+    /** Generation of the map. */
+    MAP,
+    /** Behaviour of the enemies. */
+    AI,
+    /** Effects that are only drawn, like sprites and stars. */
+    COSMETIC
+}
@@ -9,6 +9,12 @@ import java.util.List;
  * elements are automatically
  * removed after a specified period of time.
  *
+ * <p>
+ * The time of the list is the game time: it only moves forward through
+ * {@link #update(long)}, so that the list is changed only by the thread that
+ * runs the game.
+ * </p>
+ *
  * @param <T> the type of elements stored in this timed list
  */
 public interface TimedLinkedList<T> {
@@ -49,4 +55,12 @@ public interface TimedLinkedList<T> {
      */
     List<T> getList();
 
+    /**
+     * Moves the time of the list forward, removing the elements whose time is
+     * over.
+     *
+     * @param elapsedTime the time passed in milliseconds
+     */
+    void update(long elapsedTime);
+
 }
@@ -0,0 +1,79 @@
+package scramble.model.common.impl;
+
+import java.util.Arrays;
+
+import scramble.model.common.api.CollisionEvents;
+import scramble.model.common.api.CollisionType;
+
+/**
+ * Implementation of {@link CollisionEvents} with parallel arrays, reused from
+ * one tick to the next, so once they are big enough nothing is allocated.
+ *
+ * @param <T> the type of the elements
+ */
+public class CollisionEventBuffer<T> implements CollisionEvents<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final CollisionType[] TYPES = CollisionType.values();
+
+    private int[] types = new int[INITIAL_CAPACITY];
+    private Object[] firsts = new Object[INITIAL_CAPACITY];
+    private Object[] seconds = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        Arrays.fill(firsts, 0, size, null);
+        Arrays.fill(seconds, 0, size, null);
+        this.size = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void add(final CollisionType type, final T first, final T second) {
+        if (size == types.length) {
+            final int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            firsts = Arrays.copyOf(firsts, capacity);
+            seconds = Arrays.copyOf(seconds, capacity);
+        }
+        types[size] = type.ordinal();
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CollisionType getType(final int index) {
+        return TYPES[types[check(index)]];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst(final int index) {
+        return (T) firsts[check(index)];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getSecond(final int index) {
+        return (T) seconds[check(index)];
+    }
+
+    private int check(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,239 @@
+package scramble.model.common.impl;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The opaque pixels of a sprite, drawn at a given size, packed in a bit set
+ * per row. A mask is computed once, when the sprite is loaded, and shared by
+ * every element that shows that sprite.
+ *
+ * <p>
+ * Bit {@code x % 64} of the word {@code x / 64} of a row is set if the pixel
+ * in column {@code x} is opaque, so two masks are tested by and-ing the words
+ * of the rows they share, 64 pixels at a time. The test is meant to be run
+ * only after the two hit boxes have been found to overlap.
+ * </p>
+ */
+public final class CollisionMask {
+
+    private static final int WORD_BITS = Long.SIZE;
+    private static final int ALPHA_SHIFT = 24;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+    private static final int CHANNEL = 0xFF;
+    private static final int BLACK_THRESHOLD = 0x20;
+
+    private final int width;
+    private final int height;
+    private final int words;
+    private final long[] bits;
+
+    private CollisionMask(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.words = (width + WORD_BITS - 1) / WORD_BITS;
+        this.bits = new long[this.words * height];
+    }
+
+    /**
+     * Computes the mask of a sprite, drawn stretched to a given size like the
+     * view does. A pixel is opaque if its alpha is not zero. The sprites
+     * without an alpha channel, like the ones of the landscape, are drawn on
+     * the black sky, so their pixels are opaque unless they are black.
+     *
+     * @param image  the sprite
+     * @param width  the width at which the sprite is drawn
+     * @param height the height at which the sprite is drawn
+     * @return the mask
+     */
+    public static CollisionMask of(final BufferedImage image, final int width, final int height) {
+        final CollisionMask mask = new CollisionMask(width, height);
+        final boolean alpha = image.getColorModel().hasAlpha();
+        for (int y = 0; y < height; y++) {
+            final int sourceY = y * image.getHeight() / height;
+            for (int x = 0; x < width; x++) {
+                final int sourceX = x * image.getWidth() / width;
+                if (isOpaque(image.getRGB(sourceX, sourceY), alpha)) {
+                    mask.set(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Computes the mask of a box where every pixel is opaque.
+     *
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return the mask
+     */
+    public static CollisionMask solid(final int width, final int height) {
+        final CollisionMask mask = new CollisionMask(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                mask.set(x, y);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Computes the mask of every frame of an animation, drawn at a given size,
+     * and merges them with {@link #union(List)}. If no frame could be loaded
+     * the whole box is opaque, as it was before the masks.
+     *
+     * @param frames the frames
+     * @param width  the width at which the frames are drawn
+     * @param height the height at which the frames are drawn
+     * @return the merged mask
+     */
+    public static CollisionMask ofFrames(final List<BufferedImage> frames, final int width, final int height) {
+        if (frames.isEmpty()) {
+            return solid(width, height);
+        }
+        return union(frames.stream().map(frame -> of(frame, width, height)).toList());
+    }
+
+    /**
+     * Merges the masks of the frames of an animation, so that a collision is
+     * the same whatever frame is on the screen.
+     *
+     * @param frames the masks of the frames, all of the same size
+     * @return a mask where a pixel is opaque if it is opaque in some frame
+     */
+    public static CollisionMask union(final List<CollisionMask> frames) {
+        final CollisionMask first = frames.get(0);
+        final CollisionMask mask = new CollisionMask(first.width, first.height);
+        for (final CollisionMask frame : frames) {
+            if (frame.width != mask.width || frame.height != mask.height) {
+                throw new IllegalArgumentException("The frames have different sizes");
+            }
+            for (int i = 0; i < mask.bits.length; i++) {
+                mask.bits[i] |= frame.bits[i];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of the same sprite turned upside down, that is rotated
+     * by 180 degrees.
+     *
+     * @return the rotated mask
+     */
+    public CollisionMask rotate() {
+        final CollisionMask mask = new CollisionMask(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isOpaque(x, y)) {
+                    mask.set(width - 1 - x, height - 1 - y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Tells if two masks placed on the screen have an opaque pixel in common.
+     *
+     * @param first   the first mask
+     * @param firstX  the x coordinate of the first mask
+     * @param firstY  the y coordinate of the first mask
+     * @param second  the second mask
+     * @param secondX the x coordinate of the second mask
+     * @param secondY the y coordinate of the second mask
+     * @return {@code true} if the masks overlap
+     */
+    public static boolean overlaps(final CollisionMask first, final int firstX, final int firstY,
+            final CollisionMask second, final int secondX, final int secondY) {
+        final int fromX = Math.max(firstX, secondX);
+        final int toX = Math.min(firstX + first.width, secondX + second.width);
+        final int fromY = Math.max(firstY, secondY);
+        final int toY = Math.min(firstY + first.height, secondY + second.height);
+        for (int y = fromY; y < toY; y++) {
+            for (int x = fromX; x < toX; x += WORD_BITS) {
+                if ((first.getRow(y - firstY, x - firstX) & second.getRow(y - secondY, x - secondX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter for the width of the mask.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Getter for the height of the mask.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Tells if a pixel of the mask is opaque.
+     *
+     * @param x the column of the pixel
+     * @param y the row of the pixel
+     * @return {@code true} if the pixel is opaque, {@code false} if it is
+     *         transparent or out of the mask
+     */
+    public boolean isOpaque(final int x, final int y) {
+        return x >= 0 && x < width && (getRow(y, x) & 1L) != 0;
+    }
+
+    /**
+     * Returns 64 pixels of a row, starting from a column, as the bits of a
+     * {@code long}: the first pixel is the lowest bit. The pixels out of the
+     * mask are transparent, so the column can be negative.
+     *
+     * @param y    the row
+     * @param from the column of the first pixel
+     * @return the pixels
+     */
+    public long getRow(final int y, final int from) {
+        if (y < 0 || y >= height) {
+            return 0;
+        }
+        final int word = Math.floorDiv(from, WORD_BITS);
+        final int shift = Math.floorMod(from, WORD_BITS);
+        final long low = getWord(y, word) >>> shift;
+        return shift == 0 ? low : low | getWord(y, word + 1) << (WORD_BITS - shift);
+    }
+
+    /**
+     * Counts the opaque pixels of the mask.
+     *
+     * @return the number of opaque pixels
+     */
+    public int countOpaque() {
+        return Arrays.stream(bits).mapToInt(Long::bitCount).sum();
+    }
+
+    private static boolean isOpaque(final int rgb, final boolean alpha) {
+        if (alpha) {
+            return rgb >>> ALPHA_SHIFT != 0;
+        }
+        return (rgb >> RED_SHIFT & CHANNEL) > BLACK_THRESHOLD || (rgb >> GREEN_SHIFT & CHANNEL) > BLACK_THRESHOLD
+                || (rgb & CHANNEL) > BLACK_THRESHOLD;
+    }
+
+    private long getWord(final int y, final int word) {
+        return word < 0 || word >= words ? 0 : bits[y * words + word];
+    }
+
+    private void set(final int x, final int y) {
+        bits[y * words + x / WORD_BITS] |= 1L << (x % WORD_BITS);
+    }
+}
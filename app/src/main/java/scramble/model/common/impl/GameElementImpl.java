@@ -1,6 +1,7 @@
 package scramble.model.common.impl;
 
 import scramble.model.common.api.GameElement;
+import scramble.model.common.util.Sweep;
 
 import java.awt.image.BufferedImage;
 import java.awt.Graphics;
@@ -10,12 +11,22 @@ import java.awt.Color;
  * Implementation of the GameElement interface. Sets the ground for all game
  * objects development.
  *
+ * <p>
+ * An element also remembers where it was at the end of the last collision
+ * check. The movements made with {@link #moveBy(int, int)} since then are
+ * swept by the checks, while {@link #setPosition(int, int)} places the element
+ * without a movement to sweep.
+ * </p>
+ *
  * @see GameElement
  */
 public abstract class GameElementImpl extends HitBoxImpl implements GameElement {
 
     private final int width, height;
-    private final PairImpl<Integer, Integer> position;
+    private int x;
+    private int y;
+    private int sweepX;
+    private int sweepY;
 
     /**
      * Class constructor.
@@ -27,7 +38,10 @@ public abstract class GameElementImpl extends HitBoxImpl implements GameElement
      */
     public GameElementImpl(final int x, final int y, final int width, final int height) {
         super(x, y, width, height);
-        this.position = new PairImpl<>(x, y);
+        this.x = x;
+        this.y = y;
+        this.sweepX = x;
+        this.sweepY = y;
         this.width = width;
         this.height = height;
     }
@@ -35,14 +49,88 @@ public abstract class GameElementImpl extends HitBoxImpl implements GameElement
     /** {@inheritDoc} */
     @Override
     public void updatePosition(final PairImpl<Integer, Integer> newPosition) {
-        this.position.setPair(newPosition);
-        updateHitBox(newPosition.getFirstElement(), newPosition.getSecondElement());
+        setPosition(newPosition.getFirstElement(), newPosition.getSecondElement());
     }
 
     /** {@inheritDoc} */
     @Override
     public PairImpl<Integer, Integer> getPosition() {
-        return new PairImpl<>(position.getFirstElement(), position.getSecondElement());
+        return new PairImpl<>(x, y);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPosition(final int x, final int y) {
+        this.x = x;
+        this.y = y;
+        this.sweepX = x;
+        this.sweepY = y;
+        updateHitBox(x, y);
+    }
+
+    /**
+     * Moves the element by an offset. The movement is added to the one that
+     * the next collision check sweeps.
+     *
+     * @param dx the movement along the x-axis
+     * @param dy the movement along the y-axis
+     */
+    public void moveBy(final int dx, final int dy) {
+        this.x += dx;
+        this.y += dy;
+        updateHitBox(x, y);
+    }
+
+    /**
+     * Getter for the movement along the x-axis since the last collision check.
+     *
+     * @return the movement
+     */
+    public int getSweepDx() {
+        return x - sweepX;
+    }
+
+    /**
+     * Getter for the movement along the y-axis since the last collision check.
+     *
+     * @return the movement
+     */
+    public int getSweepDy() {
+        return y - sweepY;
+    }
+
+    /** Ends the movement swept by the collision checks, at the current position. */
+    public void endSweep() {
+        this.sweepX = x;
+        this.sweepY = y;
+    }
+
+    /**
+     * Finds when the hit box of the element starts to overlap the one of
+     * another element, while both move since the last collision check.
+     *
+     * @param other the other element
+     * @return the time of the first overlap, or {@link Sweep#NO_HIT}
+     * @see Sweep#timeOfImpact
+     */
+    public double timeOfImpact(final GameElementImpl other) {
+        final int dx = getSweepDx() - other.getSweepDx();
+        final int dy = getSweepDy() - other.getSweepDy();
+        return Sweep.timeOfImpact(getHitBoxX() - getSweepDx(), getHitBoxY() - getSweepDy(), getHitBoxWidth(),
+                getHitBoxHeight(), dx, dy, other.getHitBoxX() - other.getSweepDx(),
+                other.getHitBoxY() - other.getSweepDy(), other.getHitBoxWidth(), other.getHitBoxHeight());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getX() {
+        return x;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getY() {
+        return y;
     }
 
     /**
@@ -0,0 +1,56 @@
+package scramble.model.common.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.RandomStream;
+
+/**
+ * Implementation of {@link GameRandom} based on {@link SplittableRandom}. A
+ * root generator is created from the seed and each {@link RandomStream} is
+ * split from it, always in the same order.
+ */
+public class GameRandomImpl implements GameRandom {
+
+    private final long seed;
+    private final Map<RandomStream, SplittableRandom> streams = new EnumMap<>(RandomStream.class);
+
+    /** Class constructor, with a seed taken from the clock. */
+    public GameRandomImpl() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param seed the seed of every stream
+     */
+    public GameRandomImpl(final long seed) {
+        this.seed = seed;
+        final SplittableRandom root = new SplittableRandom(seed);
+        for (final RandomStream stream : RandomStream.values()) {
+            streams.put(stream, root.split());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RandomGenerator getStream(final RandomStream stream) {
+        return streams.get(stream);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RandomGenerator split(final RandomStream stream) {
+        return streams.get(stream).split();
+    }
+}
@@ -1,6 +1,7 @@
 package scramble.model.common.impl;
 
 import scramble.model.common.api.HitBox;
+import scramble.model.map.api.TerrainIndex;
 import java.awt.Rectangle;
 
 /**
@@ -12,7 +13,10 @@ import java.awt.Rectangle;
  */
 public class HitBoxImpl implements HitBox {
 
-    private final Rectangle hitbox;
+    private int x;
+    private int y;
+    private final int width;
+    private final int height;
 
     /**
      * Constructor for the class HitboxImpl.
@@ -23,7 +27,10 @@ public class HitBoxImpl implements HitBox {
      * @param height is the height of the hitbox
      */
     public HitBoxImpl(final int x, final int y, final int width, final int height) {
-        this.hitbox = new Rectangle(x, y, width, height);
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
     }
 
     /**
@@ -31,7 +38,26 @@ public class HitBoxImpl implements HitBox {
      */
     @Override
     public boolean hasCollided(final HitBox obj) {
-        return hitbox.intersects(obj.getHitBox());
+        return intersects(obj.getHitBoxX(), obj.getHitBoxY(), obj.getHitBoxWidth(), obj.getHitBoxHeight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean intersects(final int otherX, final int otherY, final int otherWidth, final int otherHeight) {
+        if (otherWidth <= 0 || otherHeight <= 0 || width <= 0 || height <= 0) {
+            return false;
+        }
+        // Same overflow aware comparisons of Rectangle.intersects
+        final int right = otherX + otherWidth;
+        final int bottom = otherY + otherHeight;
+        final int thisRight = x + width;
+        final int thisBottom = y + height;
+        return (right < otherX || right > x)
+                && (bottom < otherY || bottom > y)
+                && (thisRight < x || thisRight > otherX)
+                && (thisBottom < y || thisBottom > otherY);
     }
 
     /**
@@ -39,7 +65,8 @@ public class HitBoxImpl implements HitBox {
      */
     @Override
     public void updateHitBox(final int x, final int y) {
-        hitbox.setLocation(x, y);
+        this.x = x;
+        this.y = y;
     }
 
     /**
@@ -47,6 +74,70 @@ public class HitBoxImpl implements HitBox {
      */
     @Override
     public Rectangle getHitBox() {
-        return new Rectangle(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+        return new Rectangle(x, y, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHitBoxX() {
+        return x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHitBoxY() {
+        return y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHitBoxWidth() {
+        return width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHitBoxHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if the hitbox touches the floor or the ceiling of the landscape.
+     *
+     * @param terrain the terrain of the landscape
+     * @return {@code true} if the hitbox touches the terrain
+     */
+    protected boolean hitsTerrain(final TerrainIndex terrain) {
+        return terrain.hitsTerrain(x, y, width, height);
+    }
+
+    /**
+     * Checks if the opaque pixels of a mask, placed on the hitbox, touch the
+     * terrain of the landscape.
+     *
+     * @param terrain the terrain of the landscape
+     * @param mask    the mask, as large as the hitbox
+     * @return {@code true} if the mask touches the terrain
+     */
+    protected boolean hitsTerrain(final TerrainIndex terrain, final CollisionMask mask) {
+        return terrain.hitsTerrain(x, y, mask);
+    }
+
+    /**
+     * Checks if the hitbox touches the ceiling of the landscape.
+     *
+     * @param terrain the terrain of the landscape
+     * @return {@code true} if the hitbox touches the ceiling
+     */
+    protected boolean hitsCeiling(final TerrainIndex terrain) {
+        return terrain.hitsCeiling(x, y, width, height);
     }
 }
@@ -2,11 +2,8 @@ package scramble.model.common.impl;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 import scramble.model.common.api.TimedLinkedList;
@@ -16,28 +13,20 @@ import scramble.model.common.api.TimedLinkedList;
  * automatically
  * removed after a specified time interval. It internally uses a
  * {@link LinkedList} to store
- * the elements and a {@link ScheduledExecutorService} to schedule their
- * removal.
+ * the elements together with the time they have left, which is consumed by
+ * {@link #update(long)}.
  *
  * @param <T> the type of elements held in this list
  */
 public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
-    private final List<T> list = new LinkedList<>();
-
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final List<TimedElement<T>> list = new LinkedList<>();
 
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean addElement(final T element, final long time) {
-        final var ret = list.add(element);
-
-        // Schedule removal after 5 seconds
-        scheduler.schedule(() -> {
-            list.remove(element);
-        }, time, TimeUnit.MILLISECONDS);
-        return ret;
+        return list.add(new TimedElement<>(element, time));
     }
 
     /**
@@ -57,7 +46,7 @@ public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
      */
     @Override
     public Stream<T> stream() {
-        return list.stream();
+        return list.stream().map(TimedElement::getElement);
     }
 
     /**
@@ -65,6 +54,38 @@ public class TimedLinkedListImpl<T> implements TimedLinkedList<T> {
      */
     @Override
     public List<T> getList() {
-        return new ArrayList<>(list);
+        return stream().toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long elapsedTime) {
+        final Iterator<TimedElement<T>> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().consume(elapsedTime)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class TimedElement<T> {
+        private final T element;
+        private long timeLeft;
+
+        private TimedElement(final T element, final long time) {
+            this.element = element;
+            this.timeLeft = time;
+        }
+
+        private T getElement() {
+            return element;
+        }
+
+        private boolean consume(final long elapsedTime) {
+            timeLeft -= elapsedTime;
+            return timeLeft <= 0;
+        }
     }
 }
@@ -0,0 +1,206 @@
+package scramble.model.common.impl;
+
+import java.util.Arrays;
+
+import scramble.model.common.api.BroadPhase;
+import scramble.model.common.api.CollisionCategory;
+import scramble.model.common.api.HitBox;
+
+/**
+ * Implementation of {@link BroadPhase} with a uniform grid of square cells
+ * laid over an area, usually the screen. An element is put in every cell its
+ * hit box touches, and a query only looks at the elements of the cells under
+ * the box. Elements out of the area are put in the cells of its border, so no
+ * overlap is ever missed.
+ *
+ * <p>
+ * The grid is rebuilt with a counting sort on the first query after some
+ * elements have been added, and every array is reused from one tick to the
+ * next, so once the arrays are big enough nothing is allocated.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public class UniformGrid<T extends HitBox> implements BroadPhase<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BOX_FIELDS = 4;
+    private static final CollisionCategory[] CATEGORIES = CollisionCategory.values();
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int[] categories = new int[INITIAL_CAPACITY];
+    private int[] boxes = new int[INITIAL_CAPACITY * BOX_FIELDS];
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private int[] cellEntries = new int[INITIAL_CAPACITY];
+    private int[] results = new int[INITIAL_CAPACITY];
+    private int size;
+    private int resultCount;
+    private int stamp;
+    private boolean built;
+
+    /**
+     * Class constructor.
+     *
+     * @param width    the width of the area covered by the grid
+     * @param height   the height of the area covered by the grid
+     * @param cellSize the side of a cell
+     */
+    public UniformGrid(final int width, final int height, final int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        this.cellStart = new int[columns * rows + 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        this.size = 0;
+        this.resultCount = 0;
+        this.built = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void add(final T element, final CollisionCategory category) {
+        add(element, element.getHitBoxX(), element.getHitBoxY(), element.getHitBoxWidth(),
+                element.getHitBoxHeight(), category);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void add(final T element, final int x, final int y, final int width, final int height,
+            final CollisionCategory category) {
+        if (size == elements.length) {
+            final int capacity = size * 2;
+            elements = Arrays.copyOf(elements, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            boxes = Arrays.copyOf(boxes, capacity * BOX_FIELDS);
+            stamps = Arrays.copyOf(stamps, capacity);
+            results = Arrays.copyOf(results, capacity);
+        }
+        elements[size] = element;
+        categories[size] = category.ordinal();
+        boxes[size * BOX_FIELDS] = x;
+        boxes[size * BOX_FIELDS + 1] = y;
+        boxes[size * BOX_FIELDS + 2] = width;
+        boxes[size * BOX_FIELDS + 3] = height;
+        size++;
+        built = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int query(final HitBox box, final int mask) {
+        return query(box.getHitBoxX(), box.getHitBoxY(), box.getHitBoxWidth(), box.getHitBoxHeight(), mask);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int query(final int x, final int y, final int width, final int height, final int mask) {
+        if (!built) {
+            build();
+        }
+        nextStamp();
+        resultCount = 0;
+        final int firstColumn = column(x);
+        final int lastColumn = column(x + width - 1);
+        final int firstRow = row(y);
+        final int lastRow = row(y + height - 1);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                final int cell = r * columns + c;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int entry = cellEntries[i];
+                    if (stamps[entry] != stamp) {
+                        stamps[entry] = stamp;
+                        if ((mask & 1 << categories[entry]) != 0
+                                && overlaps(entry, x, y, width, height)) {
+                            results[resultCount++] = entry;
+                        }
+                    }
+                }
+            }
+        }
+        Arrays.sort(results, 0, resultCount);
+        return resultCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getResult(final int index) {
+        return (T) elements[results[index]];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CollisionCategory getResultCategory(final int index) {
+        return CATEGORIES[categories[results[index]]];
+    }
+
+    /*
+     * Counts the entries of every cell, turns the counts into the start of
+     * each cell and then places every element in its cells.
+     */
+    private void build() {
+        Arrays.fill(cellStart, 0);
+        int entries = 0;
+        for (int e = 0; e < size; e++) {
+            final int base = e * BOX_FIELDS;
+            for (int r = row(boxes[base + 1]); r <= row(boxes[base + 1] + boxes[base + 3] - 1); r++) {
+                for (int c = column(boxes[base]); c <= column(boxes[base] + boxes[base + 2] - 1); c++) {
+                    cellStart[r * columns + c + 1]++;
+                    entries++;
+                }
+            }
+        }
+        for (int cell = 1; cell < cellStart.length; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+        if (cellEntries.length < entries) {
+            cellEntries = new int[Math.max(entries, cellEntries.length * 2)];
+        }
+        for (int e = size - 1; e >= 0; e--) {
+            final int base = e * BOX_FIELDS;
+            for (int r = row(boxes[base + 1]); r <= row(boxes[base + 1] + boxes[base + 3] - 1); r++) {
+                for (int c = column(boxes[base]); c <= column(boxes[base] + boxes[base + 2] - 1); c++) {
+                    cellEntries[--cellStart[r * columns + c + 1]] = e;
+                }
+            }
+        }
+        // Every start has been moved back by its count, to the end of the previous cell
+        System.arraycopy(cellStart, 1, cellStart, 0, cellStart.length - 1);
+        cellStart[cellStart.length - 1] = entries;
+        built = true;
+    }
+
+    private boolean overlaps(final int entry, final int x, final int y, final int width, final int height) {
+        final int base = entry * BOX_FIELDS;
+        return width > 0 && height > 0 && boxes[base + 2] > 0 && boxes[base + 3] > 0
+                && x < boxes[base] + boxes[base + 2] && x + width > boxes[base]
+                && y < boxes[base + 1] + boxes[base + 3] && y + height > boxes[base + 1];
+    }
+
+    private void nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 0;
+        }
+        stamp++;
+    }
+
+    private int column(final int x) {
+        return Math.min(columns - 1, Math.max(0, Math.floorDiv(x, cellSize)));
+    }
+
+    private int row(final int y) {
+        return Math.min(rows - 1, Math.max(0, Math.floorDiv(y, cellSize)));
+    }
+}
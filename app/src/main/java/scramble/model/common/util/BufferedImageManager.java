@@ -42,7 +42,7 @@ public final class BufferedImageManager {
      */
     public static BufferedImage rotateBufferedImageWithDegree(final BufferedImage toModify, final int degrees) {
         final BufferedImage modifiedImage = new BufferedImage(toModify.getWidth(), toModify.getHeight(),
-                toModify.getType());
+                getType(toModify));
         final Graphics2D g2d = modifiedImage.createGraphics();
         final AffineTransform transform = new AffineTransform();
 
@@ -131,10 +131,18 @@ public final class BufferedImageManager {
      */
     public static BufferedImage cloneBufferedImage(final BufferedImage sourceBufferedImage) {
         final BufferedImage clone = new BufferedImage(sourceBufferedImage.getWidth(), sourceBufferedImage.getHeight(),
-                sourceBufferedImage.getType());
+                getType(sourceBufferedImage));
         final Graphics2D g2d = clone.createGraphics();
         g2d.drawImage(sourceBufferedImage, 0, 0, null);
         g2d.dispose();
         return clone;
     }
+
+    /*
+     * The type of the copies of an image. The images compatible with the
+     * screen can have a custom type, which can not be used for a new image.
+     */
+    private static int getType(final BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : image.getType();
+    }
 }
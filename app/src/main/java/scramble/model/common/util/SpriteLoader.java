@@ -0,0 +1,110 @@
+package scramble.model.common.util;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The utility class {@code SpriteLoader} reads the sprites from the resources
+ * and turns them into images compatible with the screen, the ones Java2D can
+ * keep in video memory and draw without converting them at every frame.
+ *
+ * <p>
+ * Every sprite is scaled once, when it is read, to the size it is drawn
+ * with, so drawing it is a plain copy. The scaling takes the nearest pixel of
+ * the source with the same rule as the
+ * {@link scramble.model.common.impl.CollisionMask}, so the masks computed
+ * from a scaled sprite are the ones computed from the source. With no screen,
+ * as in the tests, the images are plain {@link BufferedImage#TYPE_INT_ARGB}
+ * ones.
+ * </p>
+ */
+public final class SpriteLoader {
+
+    private static final Optional<GraphicsConfiguration> CONFIGURATION = getConfiguration();
+
+    private SpriteLoader() {
+    }
+
+    /**
+     * Reads a sprite from the resources, at the size it has in the resource.
+     *
+     * @param path the path of the resource
+     * @return the sprite, compatible with the screen
+     * @throws IOException if the resource can not be read
+     */
+    public static BufferedImage read(final String path) throws IOException {
+        final BufferedImage image = readResource(path);
+        return toCompatibleImage(image, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Reads a sprite from the resources and scales it to the size it is drawn
+     * with.
+     *
+     * @param path   the path of the resource
+     * @param width  the width the sprite is drawn with
+     * @param height the height the sprite is drawn with
+     * @return the sprite, compatible with the screen
+     * @throws IOException if the resource can not be read
+     */
+    public static BufferedImage read(final String path, final int width, final int height) throws IOException {
+        return toCompatibleImage(readResource(path), width, height);
+    }
+
+    /**
+     * Copies an image into a translucent one compatible with the screen,
+     * scaled to a size with the nearest pixel of the source.
+     *
+     * @param image  the image to copy
+     * @param width  the width of the copy
+     * @param height the height of the copy
+     * @return the copy
+     */
+    public static BufferedImage toCompatibleImage(final BufferedImage image, final int width, final int height) {
+        final BufferedImage compatible = CONFIGURATION
+                .map(c -> c.createCompatibleImage(width, height, Transparency.TRANSLUCENT))
+                .orElseGet(() -> new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+        final int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            final int sourceY = y * image.getHeight() / height;
+            for (int x = 0; x < width; x++) {
+                row[x] = image.getRGB(x * image.getWidth() / width, sourceY);
+            }
+            compatible.setRGB(0, y, width, 1, row, 0, width);
+        }
+        return compatible;
+    }
+
+    /**
+     * Tells if the sprites are made for a screen, rather than as plain images.
+     *
+     * @return {@code true} if there is a screen to make the sprites for
+     */
+    public static boolean isAccelerated() {
+        return CONFIGURATION.isPresent();
+    }
+
+    private static BufferedImage readResource(final String path) throws IOException {
+        try (InputStream inputStream = SpriteLoader.class.getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException("Missing sprite " + path);
+            }
+            return ImageIO.read(inputStream);
+        }
+    }
+
+    private static Optional<GraphicsConfiguration> getConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice())
+                .map(d -> d.getDefaultConfiguration());
+    }
+}
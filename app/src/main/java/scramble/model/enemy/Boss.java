@@ -2,17 +2,17 @@ package scramble.model.enemy;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
-import javax.imageio.ImageIO;
 import java.util.random.RandomGenerator;
 
 import scramble.model.bullets.Bullet;
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.scores.Scores;
+import scramble.model.common.util.SpriteLoader;
 import scramble.utility.Constants;
 
 /**
@@ -22,10 +22,18 @@ import scramble.utility.Constants;
 public class Boss extends GameElementImpl {
 
     private static final Logger LOG = Logger.getLogger(Rocket.class.getName());
+    private static final List<BufferedImage> SPRITES = new ArrayList<>();
+    private static final List<BufferedImage> EXPLOSION_SPRITES = new ArrayList<>();
+
+    static {
+        loadSprites();
+    }
 
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> explosionSprites;
 
+    private final RandomGenerator random;
+
     private boolean hit;
     private boolean exploded;
 
@@ -38,11 +46,23 @@ public class Boss extends GameElementImpl {
      * @param height height
      */
     public Boss(final int x, final int y, final int width, final int height) {
-        super(x, y, width, height);
-        this.sprites = new ArrayList<>();
-        this.explosionSprites = new ArrayList<>();
+        this(x, y, width, height, new SplittableRandom());
+    }
 
-        loadSprites();
+    /**
+     * Class Constructor.
+     * 
+     * @param x      x coord
+     * @param y      y coord
+     * @param width  width
+     * @param height height
+     * @param random the generator used to pick the explosion sprites
+     */
+    public Boss(final int x, final int y, final int width, final int height, final RandomGenerator random) {
+        super(x, y, width, height);
+        this.random = random;
+        this.sprites = Collections.unmodifiableList(SPRITES);
+        this.explosionSprites = Collections.unmodifiableList(EXPLOSION_SPRITES);
     }
 
     /**
@@ -89,7 +109,6 @@ public class Boss extends GameElementImpl {
      */
     public void setExploded(final boolean exploded) {
         this.exploded = exploded;
-        Scores.incrementCurrentScore(Constants.BOSS_POINTS);
     }
 
     /**
@@ -108,23 +127,20 @@ public class Boss extends GameElementImpl {
      * @return a random sprite
      */
     public BufferedImage getExplosionSprite() {
-        final RandomGenerator randG = RandomGenerator.of("Random");
-        return explosionSprites.get(randG.nextInt(Constants.SPRITE_BOSS_EXPLOSION));
+        return explosionSprites.get(random.nextInt(Constants.SPRITE_BOSS_EXPLOSION));
     }
 
-    private void loadSprites() {
-        try (InputStream inputStream = Boss.class
-                .getResourceAsStream("/boss/mystery_shader.png")) {
-            sprites.add(ImageIO.read(inputStream));
+    private static void loadSprites() {
+        try {
+            SPRITES.add(SpriteLoader.read("/boss/mystery_shader.png", Constants.BOSS_SIZE, Constants.BOSS_SIZE));
         } catch (IOException e) {
             LOG.severe("Error occurred while loading boss sprites!");
             LOG.severe(e.toString());
         }
         for (int i = 1; i <= Constants.SPRITE_BOSS_EXPLOSION; i++) {
             try {
-                explosionSprites
-                        .add(ImageIO
-                                .read(Boss.class.getResource("/boss/ufo_explosion_frame" + i + ".png")));
+                EXPLOSION_SPRITES.add(SpriteLoader.read("/boss/ufo_explosion_frame" + i + ".png",
+                        Constants.BOSS_SIZE, Constants.BOSS_SIZE));
             } catch (IOException e) {
                 LOG.severe("Ops! couldn't load enemy_rocket_explosion_sprites");
                 LOG.severe(e.toString());
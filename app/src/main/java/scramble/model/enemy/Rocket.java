@@ -2,22 +2,23 @@ package scramble.model.enemy;
 
 import java.awt.image.BufferedImage;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import scramble.model.bullets.Bullet;
+import scramble.model.common.impl.CollisionMask;
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
+import scramble.model.common.util.SpriteLoader;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapElement;
 import scramble.utility.Constants;
 
 import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import java.util.logging.Logger;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Collections;
+import java.util.SplittableRandom;
 import java.util.random.RandomGenerator;
 
 /**
@@ -26,12 +27,21 @@ import java.util.random.RandomGenerator;
 public class Rocket extends GameElementImpl {
 
     private static final Logger LOG = Logger.getLogger(Rocket.class.getName());
+    private static final List<BufferedImage> SPRITES = new ArrayList<>();
+    private static final List<BufferedImage> EXPLOSION_SPRITES = new ArrayList<>();
+
+    private static final CollisionMask MASK;
+
+    static {
+        loadSprites();
+        MASK = CollisionMask.ofFrames(SPRITES, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+    }
 
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> explosionSprites;
-    private final Timer startTimer;
-    private final TimerTask task;
+    private final CollisionMask mask;
     private final int randomDelay;
+    private int launchTicks;
     private int currentSprite;
     private int currentExpSprite;
     private float speedY;
@@ -50,44 +60,56 @@ public class Rocket extends GameElementImpl {
      * @param height Rocket height
      */
     public Rocket(final int x, final int y, final int width, final int height) {
+        this(x, y, width, height, new SplittableRandom());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param x      X coordinate
+     * @param y      Y coordinate
+     * @param width  Rocket width
+     * @param height Rocket height
+     * @param random the generator of the launch delay of the rocket
+     */
+    public Rocket(final int x, final int y, final int width, final int height, final RandomGenerator random) {
         super(x, y, width, height);
-        this.sprites = new ArrayList<>();
-        this.explosionSprites = new ArrayList<>();
-        loadSprites();
+        this.sprites = Collections.unmodifiableList(SPRITES);
+        this.explosionSprites = Collections.unmodifiableList(EXPLOSION_SPRITES);
+        this.mask = width == MASK.getWidth() && height == MASK.getHeight() ? MASK
+                : CollisionMask.ofFrames(SPRITES, width, height);
         this.currentSprite = 0;
         this.hit = false;
         this.crashed = false;
         this.speedY = Constants.ROCKET_SPEED;
         this.state = RocketState.PREMOVE;
-        startTimer = new Timer();
-        final RandomGenerator randomStartDelay = RandomGenerator.getDefault();
-        task = new TimerTask() {
-
-            @Override
-            public void run() {
-                state = RocketState.MOVING;
-            }
-        };
-        randomDelay = 1000 + randomStartDelay.nextInt(Constants.MAXDELAY);
+        this.launchTicks = -1;
+        randomDelay = 1000 + random.nextInt(Constants.MAXDELAY);
 
     }
 
-    /** Handles rocket movement. */
+    /**
+     * Handles rocket movement. It has to be called once every
+     * {@link Constants#ENTITY_UPDATE_MS}, since the launch delay of the rocket is
+     * counted in calls of this method.
+     */
     public void move() {
+        if (this.state.equals(RocketState.PREMOVE) && this.launchTicks == 0) {
+            this.state = RocketState.MOVING;
+        } else if (this.launchTicks > 0) {
+            this.launchTicks--;
+        }
         if (isHit()) {
             speedY = 0;
         }
         if (this.state.equals(RocketState.PREMOVE)) {
-            updateRocketPosition(getPosition().getFirstElement() - Constants.LANDSCAPEX_SPEED,
-                    (int) getPosition().getSecondElement());
+            moveBy(-Constants.LANDSCAPEX_SPEED, 0);
         } else if (this.state.equals(RocketState.MOVING)) {
-            updateRocketPosition(getPosition().getFirstElement() - Constants.LANDSCAPEX_SPEED,
-                    (int) (getPosition().getSecondElement() - speedY));
+            moveBy(-Constants.LANDSCAPEX_SPEED, (int) (getY() - speedY) - getY());
         } else if (this.state.equals(RocketState.EXPLODED)) {
-            updateRocketPosition(getPosition().getFirstElement() - Constants.LANDSCAPEX_SPEED,
-                    (int) getPosition().getSecondElement());
+            moveBy(-Constants.LANDSCAPEX_SPEED, 0);
         }
-        if (getPosition().getSecondElement() <= 0) {
+        if (getY() <= 0) {
             setExploded();
             this.counterForExplosion = Constants.ROCKET_EXPLOSION_DURATION;
         }
@@ -112,16 +134,41 @@ public class Rocket extends GameElementImpl {
         return explosionSprites.get(currentExpSprite);
     }
 
+    /**
+     * Getter for the {@link CollisionMask} of the rocket, that merges the ones
+     * of all its frames.
+     * 
+     * @return the mask
+     */
+    @SuppressFBWarnings
+    public CollisionMask getMask() {
+        return this.mask;
+    }
+
     /**
      * Method that check if the {@code RocketImpl} has collided with the ceiling.
      * 
      * @param ceiling the {@link List} of {@link MapElement} of the ceiling
      * @return if the {@code RocketImpl} has collided or not
+     * @deprecated the ceiling is looked up element by element: use
+     *             {@link #checkCollisionCeiling(TerrainIndex)}, which asks the
+     *             terrain of the landscape
      */
+    @Deprecated
     public boolean checkCollisionCeiling(final List<MapElement> ceiling) {
         return ceiling.stream().anyMatch(this::hasCollided);
     }
 
+    /**
+     * Method that check if the {@code RocketImpl} has collided with the ceiling.
+     * 
+     * @param terrain the terrain of the landscape
+     * @return if the {@code RocketImpl} has collided or not
+     */
+    public boolean checkCollisionCeiling(final TerrainIndex terrain) {
+        return hitsCeiling(terrain);
+    }
+
     /**
      * Checks for collision with a single bullet.
      * 
@@ -155,7 +202,7 @@ public class Rocket extends GameElementImpl {
      */
     public void turnOnMove() {
         this.state = RocketState.PREMOVE;
-        startTimer.schedule(task, randomDelay);
+        this.launchTicks = randomDelay / Constants.ENTITY_UPDATE_MS;
     }
 
     /**
@@ -219,11 +266,11 @@ public class Rocket extends GameElementImpl {
         this.crashed = crashed;
     }
 
-    private void loadSprites() {
+    private static void loadSprites() {
         for (int i = 1; i <= Constants.SPRITE_ROCKET; i++) {
-            try (InputStream inputStream = Rocket.class
-                    .getResourceAsStream("/rocket/rocket_frame" + i + "_shader.png")) {
-                sprites.add(ImageIO.read(inputStream));
+            try {
+                SPRITES.add(SpriteLoader.read("/rocket/rocket_frame" + i + "_shader.png", Constants.ROCKET_WIDTH,
+                        Constants.ROCKET_HEIGHT));
             } catch (IOException e) {
                 LOG.severe("Error occurred while loading rocket sprites!");
                 LOG.severe(e.toString());
@@ -231,9 +278,8 @@ public class Rocket extends GameElementImpl {
         }
         for (int i = 1; i <= Constants.SPRITE_ROCKET_EXPLOSION; i++) {
             try {
-                explosionSprites
-                        .add(ImageIO
-                                .read(Rocket.class.getResource("/rocket/rocket_explosion" + i + "_sprite.png")));
+                EXPLOSION_SPRITES.add(SpriteLoader.read("/rocket/rocket_explosion" + i + "_sprite.png",
+                        Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT));
             } catch (IOException e) {
                 LOG.severe("Ops! couldn't load enemy_rocket_explosion_sprites");
                 LOG.severe(e.toString());
@@ -241,8 +287,4 @@ public class Rocket extends GameElementImpl {
         }
     }
 
-    private void updateRocketPosition(final int x, final int y) {
-        updatePosition(new PairImpl<>(x, y));
-    }
-
 }
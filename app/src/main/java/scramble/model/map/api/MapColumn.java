@@ -28,6 +28,15 @@ public interface MapColumn {
      */
     List<BufferedImage> getBIs();
 
+    /**
+     * Getter for a single BufferedImage of the column, without building the
+     * whole list.
+     *
+     * @param row the row of the image, from the top of the column
+     * @return the BufferedImage drawn in the row
+     */
+    BufferedImage getBI(int row);
+
     /**
      * Getter for the x coordinate.
      * @return the x coordinate of the column
@@ -75,4 +84,10 @@ public interface MapColumn {
      * @return the {@link List} of the {@link MapElement} of the ceiling
      */
     List<MapElement> getCeilingElements();
+
+    /**
+     * Getter for the {@link List} of the {@link MapElement} of the floor.
+     * @return the {@link List} of the {@link MapElement} of the floor
+     */
+    List<MapElement> getFloorElements();
 }
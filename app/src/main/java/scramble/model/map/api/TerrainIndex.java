@@ -0,0 +1,61 @@
+package scramble.model.map.api;
+
+import scramble.model.common.impl.CollisionMask;
+
+/**
+ * {@code TerrainIndex} answers whether a box on the screen touches the
+ * landscape, without going through every
+ * {@link scramble.model.map.impl.MapElement} of the loaded columns: only the
+ * columns under the box are looked at.
+ */
+public interface TerrainIndex {
+
+    /**
+     * Tells if a box touches the floor or the ceiling of the landscape.
+     *
+     * @param x      the x coordinate of the box on the screen
+     * @param y      the y coordinate of the box on the screen
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return {@code true} if the box touches the landscape
+     */
+    boolean hitsTerrain(int x, int y, int width, int height);
+
+    /**
+     * Tells if a box touches the ceiling of the landscape.
+     *
+     * @param x      the x coordinate of the box on the screen
+     * @param y      the y coordinate of the box on the screen
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @return {@code true} if the box touches the ceiling
+     */
+    boolean hitsCeiling(int x, int y, int width, int height);
+
+    /**
+     * Tells if the opaque pixels of a mask touch the ones of the floor or of
+     * the ceiling of the landscape.
+     *
+     * @param x    the x coordinate of the mask on the screen
+     * @param y    the y coordinate of the mask on the screen
+     * @param mask the mask
+     * @return {@code true} if the mask touches the landscape
+     */
+    boolean hitsTerrain(int x, int y, CollisionMask mask);
+
+    /**
+     * Finds when a moving box starts to touch the floor or the ceiling of the
+     * landscape, that is taken where it is now: it moves slower than the
+     * width of a column, so nothing goes through it while it scrolls.
+     *
+     * @param x      the x coordinate of the box on the screen, before the movement
+     * @param y      the y coordinate of the box on the screen, before the movement
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @param dx     the movement along the x-axis
+     * @param dy     the movement along the y-axis
+     * @return the time of the first contact, or
+     *         {@link scramble.model.common.util.Sweep#NO_HIT}
+     */
+    double timeOfImpact(int x, int y, int width, int height, int dx, int dy);
+}
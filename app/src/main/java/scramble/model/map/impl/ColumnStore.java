@@ -0,0 +1,266 @@
+package scramble.model.map.impl;
+
+import java.awt.image.BufferedImage;
+
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+import scramble.utility.Constants;
+
+/**
+ * The columns of a stage of the map, kept in arrays of primitives: for the
+ * ceiling and the floor of every column, the number of its tile in the
+ * {@link TileTable} of the map, its y coordinate and its
+ * {@link LandBehaviour}. Every other sprite of a column, above the ceiling,
+ * between the two parts and below the floor, is one of the few shared fill
+ * tiles of the table.
+ *
+ * <p>
+ * The ceilings and the floors are added separately, one column after the
+ * other; the columns of the stage are the ones that have both.
+ * </p>
+ */
+public class ColumnStore {
+
+    /** The number of tiles that are drawn, one above the other, in a column. */
+    public static final int ROWS = Constants.SPRITE_PER_STAGE_HEIGHT;
+
+    private static final LandBehaviour[] BEHAVIOURS = LandBehaviour.values();
+    private static final int HEIGHT = LandUtils.multiplyPixelPerSprite(ROWS);
+
+    private final TileTable tiles;
+    private final TerrainType terrainType;
+    private final int side;
+    private final short[] ceilingTiles;
+    private final short[] ceilingY;
+    private final byte[] ceilingBehaviours;
+    private final short[] floorTiles;
+    private final short[] floorY;
+    private final byte[] floorBehaviours;
+    private int ceilings;
+    private int floors;
+
+    /**
+     * Constructor of the class {@code ColumnStore}.
+     *
+     * @param tiles       the tiles of the map
+     * @param terrainType the {@link TerrainType} of the columns
+     * @param side        the width and the height of a tile
+     * @param capacity    the maximum number of columns
+     */
+    public ColumnStore(final TileTable tiles, final TerrainType terrainType, final int side, final int capacity) {
+        this.tiles = tiles;
+        this.terrainType = terrainType;
+        this.side = side;
+        this.ceilingTiles = new short[capacity];
+        this.ceilingY = new short[capacity];
+        this.ceilingBehaviours = new byte[capacity];
+        this.floorTiles = new short[capacity];
+        this.floorY = new short[capacity];
+        this.floorBehaviours = new byte[capacity];
+    }
+
+    /**
+     * Adds the ceiling of the next column.
+     *
+     * @param tile      the number of the tile of the ceiling
+     * @param y         the y coordinate of the ceiling
+     * @param behaviour the {@link LandBehaviour} of the ceiling
+     */
+    public void addCeiling(final int tile, final int y, final LandBehaviour behaviour) {
+        ceilingTiles[ceilings] = (short) tile;
+        ceilingY[ceilings] = (short) y;
+        ceilingBehaviours[ceilings] = (byte) behaviour.ordinal();
+        ceilings++;
+    }
+
+    /**
+     * Adds the floor of the next column.
+     *
+     * @param tile      the number of the tile of the floor
+     * @param y         the y coordinate of the floor
+     * @param behaviour the {@link LandBehaviour} of the floor
+     */
+    public void addFloor(final int tile, final int y, final LandBehaviour behaviour) {
+        floorTiles[floors] = (short) tile;
+        floorY[floors] = (short) y;
+        floorBehaviours[floors] = (byte) behaviour.ordinal();
+        floors++;
+    }
+
+    /**
+     * Tells if every column has both a ceiling and a floor.
+     *
+     * @return {@code true} if as many ceilings as floors have been added
+     */
+    public boolean isComplete() {
+        return ceilings == floors;
+    }
+
+    /**
+     * Getter for the number of columns with both a ceiling and a floor.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return Math.min(ceilings, floors);
+    }
+
+    /**
+     * Getter for the tiles of the map.
+     *
+     * @return the tile table
+     */
+    public TileTable getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Getter for the {@link TerrainType} of the columns.
+     *
+     * @return the terrain type
+     */
+    public TerrainType getTerrainType() {
+        return terrainType;
+    }
+
+    /**
+     * Getter for the width and the height of a tile.
+     *
+     * @return the side of a tile
+     */
+    public int getSide() {
+        return side;
+    }
+
+    /**
+     * Getter for the tile of the ceiling of a column.
+     *
+     * @param column the index of the column
+     * @return the number of the tile
+     */
+    public int getCeilingTile(final int column) {
+        return ceilingTiles[column];
+    }
+
+    /**
+     * Getter for the y coordinate of the ceiling of a column.
+     *
+     * @param column the index of the column
+     * @return the y coordinate, negative if the ceiling is above the screen
+     */
+    public int getCeilingY(final int column) {
+        return ceilingY[column];
+    }
+
+    /**
+     * Getter for the {@link LandBehaviour} of the ceiling of a column.
+     *
+     * @param column the index of the column
+     * @return the behaviour
+     */
+    public LandBehaviour getCeilingBehaviour(final int column) {
+        return BEHAVIOURS[ceilingBehaviours[column]];
+    }
+
+    /**
+     * Getter for the tile of the floor of a column.
+     *
+     * @param column the index of the column
+     * @return the number of the tile
+     */
+    public int getFloorTile(final int column) {
+        return floorTiles[column];
+    }
+
+    /**
+     * Getter for the y coordinate of the floor of a column.
+     *
+     * @param column the index of the column
+     * @return the y coordinate
+     */
+    public int getFloorY(final int column) {
+        return floorY[column];
+    }
+
+    /**
+     * Getter for the {@link LandBehaviour} of the floor of a column.
+     *
+     * @param column the index of the column
+     * @return the behaviour
+     */
+    public LandBehaviour getFloorBehaviour(final int column) {
+        return BEHAVIOURS[floorBehaviours[column]];
+    }
+
+    /**
+     * Returns the tile drawn in a row of a column, from the top of the screen:
+     * the fill of the ceiling down to the ceiling, if the ceiling is on the
+     * screen, then nothing down to the floor and the fill of the floor below
+     * it.
+     *
+     * @param column the index of the column
+     * @param row    the row, from {@code 0} to {@link #ROWS}
+     * @return the number of the tile
+     */
+    public int getTile(final int column, final int row) {
+        final int y = LandUtils.multiplyPixelPerSprite(row);
+        final int ceiling = ceilingY[column];
+        final int floor = floorY[column];
+        if (y == ceiling) {
+            return ceilingTiles[column];
+        }
+        if (y == floor) {
+            return floorTiles[column];
+        }
+        // The last part of the column met going down decides the fill
+        final int lastCeiling = isRow(ceiling) && ceiling < y ? ceiling : Integer.MIN_VALUE;
+        final int lastFloor = isRow(floor) && floor < y && floor != ceiling ? floor : Integer.MIN_VALUE;
+        if (lastFloor > lastCeiling) {
+            return tiles.getFill(terrainType, StagePart.FLOOR, column % 2 == 0);
+        }
+        if (lastCeiling != Integer.MIN_VALUE || ceiling < 0) {
+            return TileTable.EMPTY;
+        }
+        return tiles.getFill(terrainType, StagePart.CEILING, column % 2 == 0);
+    }
+
+    /**
+     * Returns the sprite drawn in a row of a column.
+     *
+     * @param column the index of the column
+     * @param row    the row, from {@code 0} to {@link #ROWS}
+     * @return the sprite
+     * @see #getTile(int, int)
+     */
+    public BufferedImage getImage(final int column, final int row) {
+        return tiles.getImage(getTile(column, row));
+    }
+
+    /**
+     * Getter for the {@link CollisionMask} of the ceiling of a column.
+     *
+     * @param column the index of the column
+     * @return the mask, or {@code null} if the whole tile is solid
+     */
+    public CollisionMask getCeilingMask(final int column) {
+        return tiles.getMask(ceilingTiles[column]);
+    }
+
+    /**
+     * Getter for the {@link CollisionMask} of the floor of a column.
+     *
+     * @param column the index of the column
+     * @return the mask, or {@code null} if the whole tile is solid
+     */
+    public CollisionMask getFloorMask(final int column) {
+        return tiles.getMask(floorTiles[column]);
+    }
+
+    private static boolean isRow(final int y) {
+        return y >= 0 && y < HEIGHT && y % LandUtils.PIXEL_PER_LAND_SPRITE_SIDE == 0;
+    }
+
+}
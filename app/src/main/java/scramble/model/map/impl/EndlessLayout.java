@@ -0,0 +1,131 @@
+package scramble.model.map.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.elaborator.RawDataGenerator;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+
+/**
+ * The layout of a map with no end, whose stages are made up by a
+ * {@link RawDataGenerator} as they are asked for, all
+ * {@link RawDataGenerator#STAGE_LENGTH} columns long.
+ *
+ * <p>
+ * The stages are laid out in order, each one where the previous one ends,
+ * and only the last {@link #KEPT_STAGES} are kept: the layout of a stage
+ * left behind can not be asked for again. The map is as long as the x
+ * coordinates of its columns allow, which takes weeks of play to reach.
+ * </p>
+ */
+public class EndlessLayout extends MapLayout {
+
+    /** The number of stages whose layout is kept. */
+    public static final int KEPT_STAGES = 4;
+
+    private static final int STAGES = Integer.MAX_VALUE / 2
+            / LandUtils.multiplyPixelPerSprite(RawDataGenerator.STAGE_LENGTH);
+
+    private final RawDataGenerator rawData;
+    private final StageGenerator generator;
+    private final List<StageLayout> layouts = new ArrayList<>();
+    private int first;
+
+    /**
+     * Constructor of the class {@code EndlessLayout}.
+     *
+     * @param random the generator the stages are made up from
+     */
+    public EndlessLayout(final RandomGenerator random) {
+        super(List.of());
+        this.rawData = new RawDataGenerator(random, MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT);
+        this.generator = new StageGenerator(new PairImpl<>(MapStageFactoryImpl.STARTER_CEILING_HEIGHT,
+                MapStageFactoryImpl.STARTER_FLOOR_HEIGHT));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEndless() {
+        return true;
+    }
+
+    /**
+     * Getter for the layout of a stage, made up with the ones before it if it
+     * has not been yet.
+     *
+     * @param stage the index of the stage, not before the kept ones
+     * @return the layout of the stage
+     */
+    @Override
+    public synchronized StageLayout getStageLayout(final int stage) {
+        while (this.first + this.layouts.size() <= stage) {
+            this.layouts.add(this.generator.layoutStage(this.rawData.next(), RawDataGenerator.STAGE_LENGTH));
+            if (this.layouts.size() > KEPT_STAGES) {
+                this.layouts.remove(0);
+                this.first++;
+            }
+        }
+        if (stage < this.first) {
+            throw new IllegalStateException("The layout of stage " + stage + " is not kept any more");
+        }
+        return this.layouts.get(stage - this.first);
+    }
+
+    /**
+     * Getter for the number of stages made up so far.
+     *
+     * @return the number of stages
+     */
+    public synchronized int getGenerated() {
+        return this.first + this.layouts.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return STAGES * RawDataGenerator.STAGE_LENGTH;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStageCount() {
+        return STAGES;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStageStart(final int stage) {
+        return stage * RawDataGenerator.STAGE_LENGTH;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStageSize(final int stage) {
+        return RawDataGenerator.STAGE_LENGTH;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStage(final int column) {
+        return Math.min(column / RawDataGenerator.STAGE_LENGTH, STAGES - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LandBehaviour getFloorBehaviour(final int column) {
+        return getStageLayout(getStage(column)).getBehaviour(StagePart.FLOOR,
+                column % RawDataGenerator.STAGE_LENGTH);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFloorY(final int column) {
+        return getStageLayout(getStage(column)).getY(StagePart.FLOOR, column % RawDataGenerator.STAGE_LENGTH);
+    }
+}
@@ -0,0 +1,264 @@
+package scramble.model.map.impl;
+
+import java.util.List;
+
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.common.util.Sweep;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+
+/**
+ * The whole map compiled into the vertical extents of the floor and of the
+ * ceiling of every column, kept in arrays of primitives indexed by the
+ * position of the column in the map.
+ *
+ * <p>
+ * The elements of the floor of a column, and the ones of the ceiling, always
+ * touch each other, brick columns included, so each part of a column is a
+ * single range of y coordinates. A box touches a column if its vertical range
+ * overlaps one of the two, so a query only looks at the two or three columns
+ * the box spans, and never allocates.
+ * </p>
+ *
+ * <p>
+ * For pixel accurate queries, the field also keeps the {@link CollisionMask}
+ * of the sprite on the surface of every part of a column, with the y
+ * coordinate where it is drawn. The rest of the part is solid. The masks are
+ * only looked at in the columns where the boxes overlap.
+ * </p>
+ *
+ * <p>
+ * After the last column of the map, its first columns follow again, so the
+ * columns to look at can go past the end of the map.
+ * </p>
+ */
+public class HeightField {
+
+    private static final int COLUMN_WIDTH = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+    private static final long SOLID_ROW = (1L << COLUMN_WIDTH) - 1;
+
+    private final int[] ceilingTop;
+    private final int[] ceilingBottom;
+    private final int[] floorTop;
+    private final int[] floorBottom;
+    private final CollisionMask[] ceilingMasks;
+    private final int[] ceilingMaskY;
+    private final CollisionMask[] floorMasks;
+    private final int[] floorMaskY;
+
+    /**
+     * Constructor of the class {@code HeightField}.
+     *
+     * @param columns the columns of the map, in order, each one
+     *                {@value #COLUMN_WIDTH} pixels to the right of the previous
+     *                one
+     */
+    public HeightField(final List<MapColumn> columns) {
+        this(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            setColumn(i, columns.get(i));
+        }
+    }
+
+    /**
+     * Constructor of the class {@code HeightField}, for a map whose columns
+     * are set later. Until it is set, a column has neither a floor nor a
+     * ceiling.
+     *
+     * @param size the number of columns of the map
+     */
+    public HeightField(final int size) {
+        this.ceilingTop = new int[size];
+        this.ceilingBottom = new int[size];
+        this.floorTop = new int[size];
+        this.floorBottom = new int[size];
+        this.ceilingMasks = new CollisionMask[size];
+        this.ceilingMaskY = new int[size];
+        this.floorMasks = new CollisionMask[size];
+        this.floorMaskY = new int[size];
+    }
+
+    /**
+     * Sets the floor and the ceiling of a column.
+     *
+     * @param index  the position of the column in the map
+     * @param column the column
+     */
+    public final void setColumn(final int index, final MapColumn column) {
+        fill(column.getCeilingElements(), index, ceilingTop, ceilingBottom, ceilingMasks, ceilingMaskY);
+        fill(column.getFloorElements(), index, floorTop, floorBottom, floorMasks, floorMaskY);
+    }
+
+    /**
+     * Getter for the number of columns of the map.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.floorTop.length;
+    }
+
+    /**
+     * Tells if a box touches the floor or the ceiling of some columns.
+     *
+     * @param x           the x coordinate of the box on the map
+     * @param y           the y coordinate of the box
+     * @param width       the width of the box
+     * @param height      the height of the box
+     * @param firstColumn the index of the first column to look at
+     * @param lastColumn  the index after the last column to look at
+     * @return {@code true} if the box touches the terrain
+     */
+    public boolean hitsTerrain(final int x, final int y, final int width, final int height,
+            final int firstColumn, final int lastColumn) {
+        return hits(x, y, width, height, firstColumn, lastColumn, true);
+    }
+
+    /**
+     * Tells if a box touches the ceiling of some columns.
+     *
+     * @param x           the x coordinate of the box on the map
+     * @param y           the y coordinate of the box
+     * @param width       the width of the box
+     * @param height      the height of the box
+     * @param firstColumn the index of the first column to look at
+     * @param lastColumn  the index after the last column to look at
+     * @return {@code true} if the box touches the ceiling
+     */
+    public boolean hitsCeiling(final int x, final int y, final int width, final int height,
+            final int firstColumn, final int lastColumn) {
+        return hits(x, y, width, height, firstColumn, lastColumn, false);
+    }
+
+    /**
+     * Tells if the opaque pixels of a mask touch the ones of the floor or of
+     * the ceiling of some columns. The masks of the columns are only looked at
+     * where the box of the mask touches the terrain.
+     *
+     * @param x           the x coordinate of the mask on the map
+     * @param y           the y coordinate of the mask
+     * @param mask        the mask
+     * @param firstColumn the index of the first column to look at
+     * @param lastColumn  the index after the last column to look at
+     * @return {@code true} if the mask touches the terrain
+     */
+    public boolean hitsTerrain(final int x, final int y, final CollisionMask mask, final int firstColumn,
+            final int lastColumn) {
+        if (mask.getWidth() <= 0 || mask.getHeight() <= 0) {
+            return false;
+        }
+        final int from = Math.max(firstColumn, Math.floorDiv(x, COLUMN_WIDTH));
+        final int to = Math.min(lastColumn, Math.floorDiv(x + mask.getWidth() - 1, COLUMN_WIDTH) + 1);
+        for (int i = from; i < to; i++) {
+            final int c = wrap(i);
+            if (hitsPart(x, y, mask, i, ceilingTop[c], ceilingBottom[c], ceilingMasks[c], ceilingMaskY[c])
+                    || hitsPart(x, y, mask, i, floorTop[c], floorBottom[c], floorMasks[c], floorMaskY[c])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds when a moving box starts to touch the floor or the ceiling of some
+     * columns. Only the columns crossed by the box during the movement are
+     * looked at.
+     *
+     * @param x           the x coordinate of the box on the map, before the
+     *                    movement
+     * @param y           the y coordinate of the box, before the movement
+     * @param width       the width of the box
+     * @param height      the height of the box
+     * @param dx          the movement along the x-axis
+     * @param dy          the movement along the y-axis
+     * @param firstColumn the index of the first column to look at
+     * @param lastColumn  the index after the last column to look at
+     * @return the time of the first contact, or {@link Sweep#NO_HIT}
+     * @see Sweep#timeOfImpact
+     */
+    public double timeOfImpact(final int x, final int y, final int width, final int height, final int dx,
+            final int dy, final int firstColumn, final int lastColumn) {
+        if (width <= 0 || height <= 0) {
+            return Sweep.NO_HIT;
+        }
+        final int from = Math.max(firstColumn, Math.floorDiv(Math.min(x, x + dx), COLUMN_WIDTH));
+        final int to = Math.min(lastColumn, Math.floorDiv(Math.max(x, x + dx) + width - 1, COLUMN_WIDTH) + 1);
+        double first = Sweep.NO_HIT;
+        for (int i = from; i < to; i++) {
+            final int columnX = i * COLUMN_WIDTH;
+            final int c = wrap(i);
+            if (ceilingTop[c] < ceilingBottom[c]) {
+                first = Math.min(first, Sweep.timeOfImpact(x, y, width, height, dx, dy, columnX, ceilingTop[c],
+                        COLUMN_WIDTH, ceilingBottom[c] - ceilingTop[c]));
+            }
+            if (floorTop[c] < floorBottom[c]) {
+                first = Math.min(first, Sweep.timeOfImpact(x, y, width, height, dx, dy, columnX, floorTop[c],
+                        COLUMN_WIDTH, floorBottom[c] - floorTop[c]));
+            }
+        }
+        return first;
+    }
+
+    private static boolean hitsPart(final int x, final int y, final CollisionMask mask, final int column,
+            final int top, final int bottom, final CollisionMask surface, final int surfaceY) {
+        if (!overlaps(y, mask.getHeight(), top, bottom)) {
+            return false;
+        }
+        final int columnX = column * COLUMN_WIDTH;
+        final int to = Math.min(bottom, y + mask.getHeight());
+        for (int row = Math.max(top, y); row < to; row++) {
+            final long terrain = surface != null && row >= surfaceY && row < surfaceY + surface.getHeight()
+                    ? surface.getRow(row - surfaceY, 0)
+                    : SOLID_ROW;
+            if ((terrain & mask.getRow(row - y, columnX - x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hits(final int x, final int y, final int width, final int height, final int firstColumn,
+            final int lastColumn, final boolean floor) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        final int from = Math.max(firstColumn, Math.floorDiv(x, COLUMN_WIDTH));
+        final int to = Math.min(lastColumn, Math.floorDiv(x + width - 1, COLUMN_WIDTH) + 1);
+        for (int i = from; i < to; i++) {
+            final int c = wrap(i);
+            if (overlaps(y, height, ceilingTop[c], ceilingBottom[c])
+                    || floor && overlaps(y, height, floorTop[c], floorBottom[c])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int wrap(final int column) {
+        return column < size() ? column : column % size();
+    }
+
+    private static boolean overlaps(final int y, final int height, final int top, final int bottom) {
+        return top < bottom && y < bottom && y + height > top;
+    }
+
+    private static void fill(final List<MapElement> elements, final int column, final int[] tops,
+            final int[] bottoms, final CollisionMask[] masks, final int[] masksY) {
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        for (final MapElement element : elements) {
+            if (element.getHeight() > 0) {
+                top = Math.min(top, element.getY());
+                bottom = Math.max(bottom, element.getY() + element.getHeight());
+                if (element.getMask() != null) {
+                    masks[column] = element.getMask();
+                    masksY[column] = element.getY();
+                }
+            }
+        }
+        if (top < bottom) {
+            tops[column] = top;
+            bottoms[column] = bottom;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package scramble.model.map.impl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.StagePart;
+
+/**
+ * The cache of the sprites picked for the stages of a map, kept in the cache
+ * directory of the user, so that a game played again with the same seed reads
+ * them from a single file instead of drawing them again from the random
+ * generator.
+ *
+ * <p>
+ * The sprites only depend on the {@link MapLayout} they are picked for, on the
+ * way the {@link StageGenerator} picks them and on the seed of the generator,
+ * so the file is kept under the three of them: a checksum of the layout, the
+ * {@link StageGenerator#VERSION} and the seed. The file starts with a magic
+ * number and the three keys, then has the number of stages and, for every
+ * stage, its length followed by the {@link LandPart} of every position of the
+ * ceiling and then of the floor.
+ * </p>
+ *
+ * <p>
+ * When the file is missing, out of date or damaged, the sprites are picked as
+ * usual and the file is written again by a background thread, which also
+ * deletes the oldest files once there are more than {@value #MAX_FILES}.
+ * </p>
+ */
+public final class MapCache {
+
+    /** The system property with the directory of the cache, used instead of the one of the user. */
+    public static final String PROPERTY = "scramble.cache";
+    /** The number of files kept in the cache, one for every map and seed. */
+    public static final int MAX_FILES = 16;
+
+    private static final Logger LOG = Logger.getLogger(MapCache.class.getName());
+    private static final String APPLICATION = "scramble";
+    private static final String PREFIX = "tiles-";
+    private static final String SUFFIX = ".bin";
+    private static final int MAGIC = 0x53434D54;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES * 2;
+    private static final LandPart[] PARTS = LandPart.values();
+    private static final List<StagePart> STAGE_PARTS = List.of(StagePart.CEILING, StagePart.FLOOR);
+    private static final long KEEP_ALIVE_MS = 1000;
+    private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_MS,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), task -> {
+                final Thread thread = new Thread(task, "map-cache");
+                // The file is written even if the game is closed at once
+                thread.setDaemon(false);
+                return thread;
+            });
+
+    static {
+        WRITER.allowCoreThreadTimeOut(true);
+    }
+
+    private MapCache() {
+    }
+
+    /**
+     * Reads the sprites picked for the stages of a map with a seed.
+     *
+     * @param layout the layout of the map
+     * @param seed   the seed of the generator the sprites are picked from
+     * @return the sprites of every stage, in order, or nothing if the cache is
+     *         missing, out of date or damaged
+     */
+    public static Optional<List<Map<StagePart, LandPart[]>>> read(final MapLayout layout, final long seed) {
+        final long sourceHash = getSourceHash(layout);
+        final Path file = getFile(sourceHash, seed);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC
+                    || buffer.getInt() != StageGenerator.VERSION || buffer.getLong() != sourceHash
+                    || buffer.getLong() != seed || buffer.getInt() != layout.getStageCount()) {
+                return Optional.empty();
+            }
+            final List<Map<StagePart, LandPart[]>> sprites = new ArrayList<>();
+            for (int stage = 0; stage < layout.getStageCount(); stage++) {
+                final int length = buffer.getInt();
+                if (length != layout.getStageLayout(stage).length()) {
+                    return Optional.empty();
+                }
+                final Map<StagePart, LandPart[]> parts = new EnumMap<>(StagePart.class);
+                for (final StagePart stagePart : STAGE_PARTS) {
+                    final LandPart[] row = new LandPart[length];
+                    for (int x = 0; x < length; x++) {
+                        row[x] = PARTS[buffer.get()];
+                    }
+                    parts.put(stagePart, row);
+                }
+                sprites.add(parts);
+            }
+            return buffer.hasRemaining() ? Optional.empty() : Optional.of(sprites);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            LOG.warning("The cached map " + file + " cannot be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the sprites picked for the stages of a map with a seed in the
+     * cache, in the background, and deletes the oldest files of the cache.
+     *
+     * @param layout  the layout of the map
+     * @param seed    the seed of the generator the sprites were picked from
+     * @param sprites the sprites of every stage, in order; they must not be
+     *                changed afterwards
+     */
+    public static void store(final MapLayout layout, final long seed, final List<Map<StagePart, LandPart[]>> sprites) {
+        final List<Map<StagePart, LandPart[]>> copy = List.copyOf(sprites);
+        WRITER.execute(() -> {
+            final long sourceHash = getSourceHash(layout);
+            final Path file = getFile(sourceHash, seed);
+            try {
+                write(file, sourceHash, seed, copy);
+                deleteOldest(file.getParent());
+            } catch (IOException e) {
+                LOG.warning("The map cannot be cached in " + file + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits until the cache has been written, if it is being written.
+     */
+    public static void awaitWrites() {
+        try {
+            WRITER.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+        }
+    }
+
+    /**
+     * Returns the file of the cache for a map and a seed.
+     *
+     * @param layout the layout of the map
+     * @param seed   the seed of the generator the sprites are picked from
+     * @return the path of the file
+     */
+    public static Path getFile(final MapLayout layout, final long seed) {
+        return getFile(getSourceHash(layout), seed);
+    }
+
+    /**
+     * Returns the directory of the cache: the one in the system property
+     * {@value #PROPERTY}, if it is set, or else the cache directory of the user.
+     *
+     * @return the path of the directory
+     */
+    public static Path getDirectory() {
+        final String directory = System.getProperty(PROPERTY);
+        if (directory != null && !directory.isBlank()) {
+            return Path.of(directory);
+        }
+        final String home = System.getProperty("user.home");
+        final String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        final String localAppData = System.getenv("LOCALAPPDATA");
+        if (os.contains("win") && localAppData != null) {
+            return Path.of(localAppData, APPLICATION, "cache");
+        }
+        if (os.contains("mac")) {
+            return Path.of(home, "Library", "Caches", APPLICATION);
+        }
+        final String cacheHome = System.getenv("XDG_CACHE_HOME");
+        return (cacheHome != null && !cacheHome.isBlank() ? Path.of(cacheHome) : Path.of(home, ".cache"))
+                .resolve(APPLICATION);
+    }
+
+    /**
+     * Computes the checksum of the layout of a map: the terrain and the
+     * behaviour of every position of its stages, which are all the sprites
+     * are picked from.
+     *
+     * @param layout the layout of the map
+     * @return the checksum
+     */
+    public static long getSourceHash(final MapLayout layout) {
+        final CRC32 crc = new CRC32();
+        for (int stage = 0; stage < layout.getStageCount(); stage++) {
+            final StageLayout stageLayout = layout.getStageLayout(stage);
+            final byte[] behaviours = new byte[stageLayout.length() * STAGE_PARTS.size()];
+            for (int x = 0; x < stageLayout.length(); x++) {
+                for (int part = 0; part < STAGE_PARTS.size(); part++) {
+                    behaviours[x * STAGE_PARTS.size() + part] = (byte) stageLayout
+                            .getBehaviour(STAGE_PARTS.get(part), x).ordinal();
+                }
+            }
+            crc.update(stageLayout.getTerrainType().ordinal());
+            crc.update(behaviours);
+        }
+        return crc.getValue();
+    }
+
+    private static Path getFile(final long sourceHash, final long seed) {
+        return getDirectory().resolve(PREFIX + Long.toHexString(sourceHash) + "-" + Long.toHexString(seed) + SUFFIX);
+    }
+
+    /* Replaces the file in one step, so it is never seen half written. */
+    private static void write(final Path file, final long sourceHash, final long seed,
+            final List<Map<StagePart, LandPart[]>> sprites) throws IOException {
+        int size = HEADER_BYTES;
+        for (final Map<StagePart, LandPart[]> stage : sprites) {
+            size += Integer.BYTES + stage.get(StagePart.CEILING).length * STAGE_PARTS.size();
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(StageGenerator.VERSION).putLong(sourceHash).putLong(seed).putInt(sprites.size());
+        for (final Map<StagePart, LandPart[]> stage : sprites) {
+            buffer.putInt(stage.get(StagePart.CEILING).length);
+            for (final StagePart stagePart : STAGE_PARTS) {
+                for (final LandPart part : stage.get(stagePart)) {
+                    buffer.put((byte) part.ordinal());
+                }
+            }
+        }
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void deleteOldest(final Path directory) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        if (files.size() <= MAX_FILES) {
+            return;
+        }
+        final Map<Path, Long> modified = new HashMap<>();
+        for (final Path file : files) {
+            modified.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort((a, b) -> Long.compare(modified.get(a), modified.get(b)));
+        for (final Path file : files.subList(0, files.size() - MAX_FILES)) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -6,32 +6,29 @@ import java.util.List;
 
 import scramble.model.common.api.Pair;
 import scramble.model.common.impl.PairImpl;
-import scramble.model.common.util.BufferedImageManager;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.util.LandUtils;
 import scramble.model.map.util.enums.LandBehaviour;
-import scramble.model.map.util.enums.LandPart;
-import scramble.model.map.util.enums.StagePart;
 import scramble.model.map.util.enums.TerrainType;
 import scramble.utility.Constants;
 
 /**
- * Implementation of the interface {@link MapColumn}.
+ * Implementation of the interface {@link MapColumn}. A column is only a view
+ * on one of the columns of a {@link ColumnStore}: its sprites are looked up
+ * in the {@link TileTable} of the map when they are asked for, and its
+ * {@link MapElement} are built on request, at the position of the column on
+ * the screen.
  */
 public class MapColumnImpl implements MapColumn {
 
-    private final TerrainType terrainType;
-    private final List<BufferedImage> bufferedImages;
-    private final List<MapElement> floorElements;
-    private final List<MapElement> ceilingElements;
+    /* The hit box of the floor goes a little below its sprite. */
+    private static final int FLOOR_EXTRA_HEIGHT = 10;
 
-    private final LandBehaviour floorBehaviour;
-    private final Pair<Integer, Integer> floorPosition;
-
-    private final int biHeight;
-    private final int biWidth;
+    private final ColumnStore store;
+    private final int index;
 
     private int x;
+    private int hitBoxX;
 
     /**
      * Constructor for the class {@code MapColumnImpl}.
@@ -43,33 +40,47 @@ public class MapColumnImpl implements MapColumn {
      */
     public MapColumnImpl(final MapElement ceiling, final MapElement floor, final int x,
             final TerrainType terrainType) {
+        this(single(ceiling, floor, terrainType), 0, x);
+    }
+
+    /**
+     * Constructor for the class {@code MapColumnImpl}, for a column of a
+     * {@link ColumnStore}.
+     *
+     * @param store the store of the column
+     * @param index the index of the column in the store
+     * @param x     the coordinate in the x-axis of the column
+     */
+    public MapColumnImpl(final ColumnStore store, final int index, final int x) {
+        this.store = store;
+        this.index = index;
         this.x = x;
-        this.floorBehaviour = floor.getBehaviour();
-        this.floorPosition = floor.getPosition();
-        this.biHeight = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
-        this.biWidth = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
-        this.terrainType = terrainType;
-        this.bufferedImages = new ArrayList<>();
-        this.ceilingElements = new ArrayList<>();
-        this.floorElements = new ArrayList<>();
-
-        this.fillBufferedImages(ceiling.getY(), floor.getY(), ceiling.getSprite(), floor.getSprite());
-        this.fillElements(ceiling, floor);
+        this.hitBoxX = x;
     }
 
     /** @inheritDoc */
     @Override
     public List<MapElement> getElements() {
         final List<MapElement> elements = new ArrayList<>();
-        elements.addAll(this.floorElements);
-        elements.addAll(this.ceilingElements);
-        return new ArrayList<>(elements);
+        elements.addAll(this.getFloorElements());
+        elements.addAll(this.getCeilingElements());
+        return elements;
     }
 
     /** @inheritDoc */
     @Override
     public List<BufferedImage> getBIs() {
-        return new ArrayList<>(this.bufferedImages);
+        final List<BufferedImage> images = new ArrayList<>(ColumnStore.ROWS);
+        for (int row = 0; row < ColumnStore.ROWS; row++) {
+            images.add(this.store.getImage(this.index, row));
+        }
+        return images;
+    }
+
+    /** @inheritDoc */
+    @Override
+    public BufferedImage getBI(final int row) {
+        return this.store.getImage(this.index, row);
     }
 
     /** @inheritDoc */
@@ -88,113 +99,81 @@ public class MapColumnImpl implements MapColumn {
     /** @inheritDoc */
     @Override
     public void updateHitBox(final int x) {
-        this.floorPosition.setFirstElement(x);
-        final List<MapElement> elements = new ArrayList<>();
-        elements.addAll(this.floorElements);
-        elements.addAll(this.ceilingElements);
-        for (final MapElement me : elements) {
-            me.updateHitBox(x, me.getY());
-        }
+        this.hitBoxX = x;
     }
 
     /** @inheritDoc */
     @Override
     public int gettWidth() {
-        return this.biWidth;
+        return LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
     }
 
     /** @inheritDoc */
     @Override
     public int getBIsHeight() {
-        return this.biHeight;
+        return LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
     }
 
     /** @inheritDoc */
     @Override
     public LandBehaviour getFloorBehaviour() {
-        return this.floorBehaviour;
+        return this.store.getFloorBehaviour(this.index);
     }
 
     /** @inheritDoc */
     @Override
     public Pair<Integer, Integer> getFloorPosition() {
-        return new PairImpl<>(this.floorPosition.getFirstElement(),
-                this.floorPosition.getSecondElement());
+        return new PairImpl<>(this.hitBoxX, this.store.getFloorY(this.index));
     }
 
     /** {@inheritDoc} */
     @Override
     public List<MapElement> getCeilingElements() {
-        return new ArrayList<>(this.ceilingElements);
-    }
-
-    private BufferedImage selectBI(final StagePart stagePart) {
-        if (this.terrainType == TerrainType.GREENLAND) {
-            return LandUtils.getSprite(LandPart.GREEN_SQUARE);
-        }
-        if (LandUtils.dividePixelPerSprite(x) % 2 == 0) {
-            if (stagePart == StagePart.CEILING) {
-                return BufferedImageManager.changeColorClockwise(LandUtils.getSprite(LandPart.DARK_BRICK_WALL), 0);
-            }
-            return BufferedImageManager.changeColorCounterClockwise(LandUtils.getSprite(LandPart.WHITE_SQUARE), 2);
+        final List<MapElement> elements = new ArrayList<>();
+        final int side = this.store.getSide();
+        final int y = this.store.getCeilingY(this.index);
+        final int tile = this.store.getCeilingTile(this.index);
+        if (y >= 0) {
+            elements.add(new MapElement(this.hitBoxX, y, side, side, this.store.getTiles().getImage(tile),
+                    this.store.getTiles().getMask(tile), this.store.getTerrainType(),
+                    this.store.getCeilingBehaviour(this.index)));
         }
-
-        if (stagePart == StagePart.CEILING) {
-            return BufferedImageManager.changeColorCounterClockwise(LandUtils.getSprite(LandPart.WHITE_SQUARE), 2);
+        if (this.store.getTerrainType() == TerrainType.BRICK_COLUMN && y > 0) {
+            elements.add(new MapElement(this.hitBoxX, 0, side, y, this.store.getTiles().getImage(TileTable.EMPTY),
+                    this.store.getTerrainType(), LandBehaviour.EMPTY));
         }
-        return BufferedImageManager.changeColorClockwise(LandUtils.getSprite(LandPart.DARK_BRICK_WALL), 0);
+        return elements;
     }
 
-    private void fillBufferedImages(final int yCeiling, final int yFloor, final BufferedImage ceiling,
-            final BufferedImage floor) {
-
-        final BufferedImage biCeiling = this.selectBI(StagePart.CEILING);
-        final BufferedImage biFloor = this.selectBI(StagePart.FLOOR);
-        final BufferedImage transparent = BufferedImageManager.transparentBufferedImage(biCeiling.getWidth(),
-                biCeiling.getHeight());
-        BufferedImage currentBI;
-
-        if (yCeiling < 0) {
-            currentBI = transparent;
-        } else {
-            currentBI = biCeiling;
-        }
-
-        for (int y = 0; y < LandUtils.multiplyPixelPerSprite(
-                Constants.SPRITE_PER_STAGE_HEIGHT); y = LandUtils.addPixelPerSprite(y)) {
-            if (y == yCeiling) {
-                this.bufferedImages.add(BufferedImageManager.cloneBufferedImage(ceiling));
-                currentBI = transparent;
-            } else if (y == yFloor) {
-                this.bufferedImages.add(BufferedImageManager.cloneBufferedImage(floor));
-                currentBI = biFloor;
-            } else {
-                this.bufferedImages.add(currentBI);
-            }
+    /** {@inheritDoc} */
+    @Override
+    public List<MapElement> getFloorElements() {
+        final List<MapElement> elements = new ArrayList<>();
+        final int side = this.store.getSide();
+        final int y = this.store.getFloorY(this.index);
+        final int tile = this.store.getFloorTile(this.index);
+        elements.add(new MapElement(this.hitBoxX, y, side, side + FLOOR_EXTRA_HEIGHT,
+                this.store.getTiles().getImage(tile), this.store.getTiles().getMask(tile),
+                this.store.getTerrainType(), this.store.getFloorBehaviour(this.index)));
+        if (this.store.getTerrainType() == TerrainType.BRICK_COLUMN
+                && y < LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)) {
+            elements.add(new MapElement(this.hitBoxX, LandUtils.addPixelPerSprite(y), side,
+                    LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)
+                            - LandUtils.subPixelPerSprite(y),
+                    this.store.getTiles().getImage(TileTable.EMPTY), this.store.getTerrainType(),
+                    LandBehaviour.EMPTY));
         }
+        return elements;
     }
 
-    private void fillElements(final MapElement ceiling, final MapElement floor) {
-        if (ceiling.getY() >= 0) {
-            this.ceilingElements.add(ceiling);
-        }
-        this.floorElements.add(new MapElement(floor.getX(), floor.getY(), floor.getWidth(), floor.getHeight() + 10,
-                floor.getSprite(), floor.getTerrainType(), floor.getBehaviour()));
-        if (this.terrainType == TerrainType.BRICK_COLUMN) {
-            if (ceiling.getY() > 0) {
-                this.ceilingElements.add(new MapElement(x, 0, ceiling.getWidth(), ceiling.getY(),
-                        BufferedImageManager.transparentBufferedImage(ceiling.getWidth(), ceiling.getY()),
-                        this.terrainType, LandBehaviour.EMPTY));
-            }
-            if (floor.getY() < LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)) {
-                this.floorElements.add(new MapElement(x, LandUtils.addPixelPerSprite(floor.getY()), floor.getWidth(),
-                        LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT)
-                                - LandUtils.subPixelPerSprite(floor.getY()),
-                        BufferedImageManager.transparentBufferedImage(floor.getWidth(), floor.getY()),
-                        this.terrainType, LandBehaviour.EMPTY));
-
-            }
-        }
+    /* A store of its own for a column made of two elements. */
+    private static ColumnStore single(final MapElement ceiling, final MapElement floor,
+            final TerrainType terrainType) {
+        final TileTable tiles = new TileTable();
+        final ColumnStore store = new ColumnStore(tiles, terrainType, floor.getWidth(), 1);
+        store.addCeiling(tiles.add(ceiling.getSprite(), ceiling.getMask()), ceiling.getY(),
+                ceiling.getBehaviour());
+        store.addFloor(tiles.add(floor.getSprite(), floor.getMask()), floor.getY(), floor.getBehaviour());
+        return store;
     }
-
 }
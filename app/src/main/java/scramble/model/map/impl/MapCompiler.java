@@ -0,0 +1,53 @@
+package scramble.model.map.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import scramble.model.map.util.LandsDataLoader;
+
+/**
+ * Compiles the raw data of the stages into a {@link MapFile}, so that the
+ * game can read the {@link MapLayout} of the map without parsing the csv
+ * files. It is run by the {@code compileMap} task of the build, with the path
+ * of the file to write as its only argument.
+ */
+public final class MapCompiler {
+
+    private static final Logger LOG = Logger.getLogger(MapCompiler.class.getName());
+
+    private MapCompiler() {
+    }
+
+    /**
+     * Compiles the map from the current raw data.
+     *
+     * @param file the path of the compiled map
+     * @throws IOException if the file cannot be written
+     */
+    public static void compile(final Path file) throws IOException {
+        final MapLayout layout = MapLayout.readRawData();
+        final List<StageLayout> stages = new ArrayList<>();
+        for (int stage = 0; stage < layout.getStageCount(); stage++) {
+            stages.add(layout.getStageLayout(stage));
+        }
+        MapFile.write(file, stages, LandsDataLoader.getSourceHash());
+    }
+
+    /**
+     * Compiles the map.
+     *
+     * @param args the path of the compiled map
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: MapCompiler <output file>");
+        }
+        final Path file = Path.of(args[0]);
+        compile(file);
+        LOG.info("Map compiled to " + file.toAbsolutePath());
+    }
+}
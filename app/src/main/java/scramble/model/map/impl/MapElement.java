@@ -2,9 +2,11 @@ package scramble.model.map.impl;
 
 import java.awt.image.BufferedImage;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 import scramble.model.common.api.GameElement;
 import scramble.model.common.api.HitBox;
-import scramble.model.common.api.Pair;
+import scramble.model.common.impl.CollisionMask;
 import scramble.model.common.impl.HitBoxImpl;
 import scramble.model.common.impl.PairImpl;
 import scramble.model.common.util.BufferedImageManager;
@@ -36,9 +38,11 @@ public class MapElement extends HitBoxImpl implements GameElement {
     private final int width;
     private final int height;
     private final BufferedImage sprite;
+    private final CollisionMask mask;
     private final TerrainType terrainType;
     private final LandBehaviour behaviour;
-    private Pair<Integer, Integer> position;
+    private int x;
+    private int y;
 
     /**
      * Constructor of the class {@code MapElement}.
@@ -53,11 +57,35 @@ public class MapElement extends HitBoxImpl implements GameElement {
      */
     public MapElement(final int x, final int y, final int width, final int height, final BufferedImage sprite,
             final TerrainType terrainType, final LandBehaviour behaviour) {
+        this(x, y, width, height, sprite, null, terrainType, behaviour);
+    }
+
+    /**
+     * Constructor of the class {@code MapElement} for an element whose sprite
+     * is not fully opaque. The sprite is not copied: the sprites of the
+     * landscape are shared by every element and never changed.
+     *
+     * @param x           coordinate in the x-axis
+     * @param y           coordinate in the y-axis
+     * @param width       in the space
+     * @param height      in the space
+     * @param sprite      of the element
+     * @param mask        the opaque pixels of the sprite, placed at the top of
+     *                    the element; the rows of the element below the mask are
+     *                    solid
+     * @param terrainType of the element
+     * @param behaviour   of the element
+     */
+    @SuppressFBWarnings
+    public MapElement(final int x, final int y, final int width, final int height, final BufferedImage sprite,
+            final CollisionMask mask, final TerrainType terrainType, final LandBehaviour behaviour) {
         super(x, y, width, height);
+        this.mask = mask;
         this.width = width;
         this.height = height;
-        this.position = new PairImpl<>(x, y);
-        this.sprite = BufferedImageManager.cloneBufferedImage(sprite);
+        this.x = x;
+        this.y = y;
+        this.sprite = sprite;
         this.behaviour = behaviour;
         if (terrainType == TerrainType.BRICK_COLUMN) {
             this.terrainType = TerrainType.BRICK_COLUMN;
@@ -70,13 +98,33 @@ public class MapElement extends HitBoxImpl implements GameElement {
     /** {@inheritDoc} */
     @Override
     public void updatePosition(final PairImpl<Integer, Integer> newPosition) {
-        this.position = new PairImpl<>(newPosition.getFirstElement(), newPosition.getSecondElement());
+        setPosition(newPosition.getFirstElement(), newPosition.getSecondElement());
     }
 
     /** @inheritDoc */
     @Override
     public PairImpl<Integer, Integer> getPosition() {
-        return new PairImpl<>(this.position.getFirstElement(), this.position.getSecondElement());
+        return new PairImpl<>(this.x, this.y);
+    }
+
+    /**
+     * {@inheritDoc} The hit box is not moved, since it follows the column on
+     * the screen instead.
+     */
+    @Override
+    public void setPosition(final int x, final int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Getter for the {@link CollisionMask} of the sprite of the element.
+     *
+     * @return the mask, or {@code null} if the whole element is solid
+     */
+    @SuppressFBWarnings
+    public CollisionMask getMask() {
+        return this.mask;
     }
 
     /**
@@ -93,8 +141,9 @@ public class MapElement extends HitBoxImpl implements GameElement {
      *
      * @return the position of the {@code MapElement} in the x-axis
      */
+    @Override
     public int getX() {
-        return this.position.getFirstElement();
+        return this.x;
     }
 
     /**
@@ -102,8 +151,9 @@ public class MapElement extends HitBoxImpl implements GameElement {
      *
      * @return the position of the {@code MapElement} in the y-axis
      */
+    @Override
     public int getY() {
-        return this.position.getSecondElement();
+        return this.y;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,132 @@
+package scramble.model.map.impl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+
+/**
+ * The compiled map: the {@link StageLayout} of every stage, saved in a binary
+ * file that is mapped in memory and read without parsing anything.
+ *
+ * <p>
+ * The file starts with a header made of a magic number, the
+ * {@link #VERSION} of the format, the checksum of the raw data it was made
+ * from and the number of stages. Each stage then has its {@link TerrainType}
+ * and its length, followed by one record of {@value #RECORD_BYTES} bytes for
+ * every position: the {@link LandBehaviour} of the ceiling and of the floor,
+ * then their y coordinates. A file with another magic number, another
+ * version or another checksum is not read.
+ * </p>
+ */
+public final class MapFile {
+
+    /** The system property with the path of the compiled map. */
+    public static final String PROPERTY = "scramble.map";
+    /** The version of the format, to change whenever the format or the layout of the stages changes. */
+    public static final int VERSION = 1;
+
+    private static final Logger LOG = Logger.getLogger(MapFile.class.getName());
+    private static final int MAGIC = 0x53434D50;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+    private static final int STAGE_HEADER_BYTES = 1 + Integer.BYTES;
+    private static final int RECORD_BYTES = 2 + Short.BYTES * 2;
+    private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+    private static final LandBehaviour[] BEHAVIOURS = LandBehaviour.values();
+
+    private MapFile() {
+    }
+
+    /**
+     * Writes the compiled map. The file is replaced in one step, so it is
+     * never seen half written.
+     *
+     * @param file       the path of the file
+     * @param stages     the layouts of the stages, in order
+     * @param sourceHash the checksum of the raw data the layouts are made from
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(final Path file, final List<StageLayout> stages, final long sourceHash)
+            throws IOException {
+        int size = HEADER_BYTES;
+        for (final StageLayout stage : stages) {
+            size += STAGE_HEADER_BYTES + stage.length() * RECORD_BYTES;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(sourceHash).putInt(stages.size());
+        for (final StageLayout stage : stages) {
+            buffer.put((byte) stage.getTerrainType().ordinal()).putInt(stage.length());
+            for (int x = 0; x < stage.length(); x++) {
+                buffer.put((byte) stage.getBehaviour(StagePart.CEILING, x).ordinal())
+                        .put((byte) stage.getBehaviour(StagePart.FLOOR, x).ordinal())
+                        .putShort((short) stage.getY(StagePart.CEILING, x))
+                        .putShort((short) stage.getY(StagePart.FLOOR, x));
+            }
+        }
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads the compiled map, if it is there and it was made from the given
+     * raw data by this version of the format.
+     *
+     * @param file       the path of the file
+     * @param sourceHash the checksum of the current raw data
+     * @return the layouts of the stages, in order, or nothing if the file is
+     *         missing, out of date or damaged
+     */
+    public static Optional<List<StageLayout>> read(final Path file, final long sourceHash) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getLong() != sourceHash) {
+                return Optional.empty();
+            }
+            final int count = buffer.getInt();
+            final List<StageLayout> stages = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                final TerrainType terrainType = TERRAIN_TYPES[buffer.get()];
+                final int length = buffer.getInt();
+                if (length < 0 || (long) length * RECORD_BYTES > buffer.remaining()) {
+                    return Optional.empty();
+                }
+                final StageLayout stage = new StageLayout(terrainType, length);
+                for (int x = 0; x < length; x++) {
+                    final LandBehaviour ceiling = BEHAVIOURS[buffer.get()];
+                    final LandBehaviour floor = BEHAVIOURS[buffer.get()];
+                    stage.set(StagePart.CEILING, x, ceiling, buffer.getShort());
+                    stage.set(StagePart.FLOOR, x, floor, buffer.getShort());
+                }
+                stages.add(stage);
+            }
+            return buffer.hasRemaining() ? Optional.empty() : Optional.of(stages);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            LOG.warning("The compiled map " + file + " cannot be read: " + e);
+            return Optional.empty();
+        }
+    }
+}
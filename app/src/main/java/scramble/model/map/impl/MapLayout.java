@@ -0,0 +1,181 @@
+package scramble.model.map.impl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.raw.RawData;
+
+/**
+ * The layout of a map: the {@link StageLayout} of every stage, with how many
+ * columns each stage has and where the floor of every column is. It is known
+ * long before the stages themselves are generated, and the sprites of the
+ * stages are picked from it.
+ *
+ * <p>
+ * The layout is read from the compiled map named by the system property
+ * {@value MapFile#PROPERTY}, when there is one made from the current raw data,
+ * or else worked out from the raw data of the stages.
+ * </p>
+ *
+ * @see StageGenerator#layoutStage(RawData, int)
+ * @see MapFile
+ */
+public class MapLayout {
+
+    private static final Logger LOG = Logger.getLogger(MapLayout.class.getName());
+
+    private final List<StageLayout> layouts;
+    private final List<ColumnStore> stages = new ArrayList<>();
+    private final int[] stageStarts;
+
+    /**
+     * Constructor of the class {@code MapLayout}.
+     *
+     * @param layouts the layouts of the stages of the map, in order
+     */
+    public MapLayout(final List<StageLayout> layouts) {
+        this.layouts = new ArrayList<>(layouts);
+        this.stageStarts = new int[layouts.size() + 1];
+        for (int i = 0; i < layouts.size(); i++) {
+            final ColumnStore stage = layouts.get(i).toColumns();
+            this.stages.add(stage);
+            this.stageStarts[i + 1] = this.stageStarts[i] + stage.size();
+        }
+    }
+
+    /**
+     * Loads the layout of the map, from the compiled map if it is there and
+     * up to date, or else from the raw data.
+     *
+     * @return the layout of the map
+     */
+    public static MapLayout load() {
+        final String file = System.getProperty(MapFile.PROPERTY);
+        if (file != null) {
+            final Optional<List<StageLayout>> compiled = MapFile.read(Path.of(file), LandsDataLoader.getSourceHash());
+            if (compiled.isPresent()) {
+                return new MapLayout(compiled.get());
+            }
+            LOG.warning("The compiled map " + file + " is missing or out of date, the raw data are read instead");
+        }
+        return readRawData();
+    }
+
+    /**
+     * Works out the layout of the map from the raw data of its stages.
+     *
+     * @return the layout of the map
+     */
+    public static MapLayout readRawData() {
+        final StageGenerator generator = new StageGenerator(new PairImpl<>(
+                MapStageFactoryImpl.STARTER_CEILING_HEIGHT, MapStageFactoryImpl.STARTER_FLOOR_HEIGHT));
+        final List<RawData> rawData = LandsDataLoader.getStagesData();
+        final List<StageLayout> layouts = new ArrayList<>();
+        for (int i = 0; i < rawData.size(); i++) {
+            layouts.add(generator.layoutStage(rawData.get(i), LandsDataLoader.getStageLength(i)));
+        }
+        return new MapLayout(layouts);
+    }
+
+    /**
+     * Getter for the layout of a stage.
+     *
+     * @param stage the index of the stage
+     * @return the layout of the stage
+     */
+    public StageLayout getStageLayout(final int stage) {
+        return this.layouts.get(stage);
+    }
+
+    /**
+     * Tells if the map has no end, and its stages are made up as the game
+     * goes on.
+     *
+     * @return {@code true} if the map has no end
+     * @see EndlessLayout
+     */
+    public boolean isEndless() {
+        return false;
+    }
+
+    /**
+     * Getter for the number of columns of the map.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.stageStarts[this.stages.size()];
+    }
+
+    /**
+     * Getter for the number of stages of the map.
+     *
+     * @return the number of stages
+     */
+    public int getStageCount() {
+        return this.stages.size();
+    }
+
+    /**
+     * Getter for the index of the first column of a stage.
+     *
+     * @param stage the index of the stage
+     * @return the index of the column, from the start of the map
+     */
+    public int getStageStart(final int stage) {
+        return this.stageStarts[stage];
+    }
+
+    /**
+     * Getter for the number of columns of a stage.
+     *
+     * @param stage the index of the stage
+     * @return the number of columns
+     */
+    public int getStageSize(final int stage) {
+        return this.stages.get(stage).size();
+    }
+
+    /**
+     * Returns the stage a column belongs to.
+     *
+     * @param column the index of the column, from the start of the map
+     * @return the index of the stage
+     */
+    public int getStage(final int column) {
+        int stage = 0;
+        while (stage < this.stages.size() - 1 && column >= this.stageStarts[stage + 1]) {
+            stage++;
+        }
+        return stage;
+    }
+
+    /**
+     * Getter for the {@link LandBehaviour} of the floor of a column.
+     *
+     * @param column the index of the column, from the start of the map
+     * @return the behaviour
+     */
+    public LandBehaviour getFloorBehaviour(final int column) {
+        final int stage = getStage(column);
+        return this.stages.get(stage).getFloorBehaviour(column - this.stageStarts[stage]);
+    }
+
+    /**
+     * Getter for the y coordinate of the floor of a column.
+     *
+     * @param column the index of the column, from the start of the map
+     * @return the y coordinate
+     */
+    public int getFloorY(final int column) {
+        final int stage = getStage(column);
+        return this.stages.get(stage).getFloorY(column - this.stageStarts[stage]);
+    }
+}
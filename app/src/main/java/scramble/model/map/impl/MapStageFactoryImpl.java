@@ -1,16 +1,37 @@
 package scramble.model.map.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
 
 import scramble.model.common.impl.PairImpl;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.api.MapStageFactory;
-import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.LandUtils;
 import scramble.model.map.util.elaborator.StageGenerator;
-import scramble.utility.Constants;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.StagePart;
 
 /**
- * Implementation of the interface MapStageFactory.
+ * Implementation of the interface MapStageFactory. The sprites of the stages
+ * are picked from the {@link MapLayout} of the map.
+ *
+ * <p>
+ * The stages can be made in any order, and at the same time by different
+ * threads. The first time a stage is made, the sprites of every stage are
+ * drawn from the random generator, one stage after the other, so the map
+ * only depends on the generator; each stage is then built with its own
+ * {@link TileTable}, while the sprites themselves are shared.
+ * </p>
+ *
+ * <p>
+ * When the seed of the generator is known, the sprites are read from the
+ * {@link MapCache} instead, if a game with the same map and seed has already
+ * picked them, or else they are written there for the next time.
+ * </p>
  * 
  * @see MapStageFactory
  */
@@ -24,14 +45,48 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     public static final int STARTER_FLOOR_HEIGHT = 35;
 
-    private final StageGenerator mapStageGenerator;
+    private final RandomGenerator random;
+    private final OptionalLong seed;
+    private MapLayout layout;
+    private List<Map<StagePart, LandPart[]>> sprites;
+
+    /**
+     * Constructor of the class MapStageFactory, for a map whose layout is
+     * worked out from the raw data when the first stage is made.
+     *
+     * @param random the generator used to pick the sprites of the stages
+     */
+    public MapStageFactoryImpl(final RandomGenerator random) {
+        this(random, null);
+    }
 
     /**
      * Constructor of the class MapStageFactory.
+     *
+     * @param random the generator used to pick the sprites of the stages
+     * @param layout the layout of the map
      */
-    public MapStageFactoryImpl() {
-        this.mapStageGenerator = new StageGenerator(new PairImpl<>(
-            STARTER_CEILING_HEIGHT, STARTER_FLOOR_HEIGHT));
+    public MapStageFactoryImpl(final RandomGenerator random, final MapLayout layout) {
+        this(random, layout, OptionalLong.empty());
+    }
+
+    /**
+     * Constructor of the class MapStageFactory, for a generator whose seed is
+     * known, so that its sprites can be cached.
+     *
+     * @param random the generator used to pick the sprites of the stages; it
+     *               must not have been used yet
+     * @param layout the layout of the map
+     * @param seed   the seed the generator was made from
+     */
+    public MapStageFactoryImpl(final RandomGenerator random, final MapLayout layout, final long seed) {
+        this(random, layout, OptionalLong.of(seed));
+    }
+
+    private MapStageFactoryImpl(final RandomGenerator random, final MapLayout layout, final OptionalLong seed) {
+        this.random = random;
+        this.layout = layout;
+        this.seed = seed;
     }
 
     /**
@@ -39,8 +94,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> prestage() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getPrestageData(),
-                Constants.SPRITE_PER_PRESTAGE_WIDTH);
+        return stage(0);
     }
 
     /**
@@ -48,8 +102,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage1() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage1Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(1);
     }
 
     /**
@@ -57,8 +110,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage2() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage2Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(2);
     }
 
     /**
@@ -66,8 +118,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage3() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage3Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(3);
     }
 
     /**
@@ -75,8 +126,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage4() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage4Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(4);
     }
 
     /**
@@ -84,8 +134,7 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage5() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage5Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(5);
     }
 
     /**
@@ -93,7 +142,81 @@ public class MapStageFactoryImpl implements MapStageFactory<MapColumn> {
      */
     @Override
     public List<MapColumn> stage6() {
-        return mapStageGenerator.convertDataToMapStage(LandsDataLoader.getStage6Data(),
-                Constants.SPRITE_PER_STAGE_WIDTH);
+        return stage(6);
+    }
+
+    /**
+     * Makes some consecutive columns of the map, which can go on from the end
+     * of a stage into the next ones, each one with the x coordinate it has on
+     * the map. They are the same columns the stages are made of, so a part of
+     * the map can be made again, by any thread, whenever it is needed.
+     *
+     * @param from the index of the first column, from the start of the map
+     * @param to   the index after the last column
+     * @return the columns, in order
+     */
+    public List<MapColumn> columns(final int from, final int to) {
+        final MapLayout mapLayout = getLayout();
+        final List<MapColumn> columns = new ArrayList<>(to - from);
+        int column = from;
+        while (column < to) {
+            final int stage = mapLayout.getStage(column);
+            final int start = mapLayout.getStageStart(stage);
+            final int end = Math.min(to, start + mapLayout.getStageSize(stage));
+            for (final MapColumn mapColumn : StageGenerator.buildColumns(getStageLayout(stage), getSprites(stage),
+                    column - start, end - start, new TileTable())) {
+                mapColumn.updateX(LandUtils.multiplyPixelPerSprite(column++));
+                columns.add(mapColumn);
+            }
+            column = end;
+        }
+        return columns;
+    }
+
+    private List<MapColumn> stage(final int stage) {
+        return StageGenerator.buildStage(getStageLayout(stage), getSprites(stage), new TileTable());
+    }
+
+    private synchronized MapLayout getLayout() {
+        prepare();
+        return this.layout;
+    }
+
+    private synchronized StageLayout getStageLayout(final int stage) {
+        prepare();
+        return this.layout.getStageLayout(stage);
+    }
+
+    private synchronized Map<StagePart, LandPart[]> getSprites(final int stage) {
+        prepare();
+        return this.sprites.get(stage);
+    }
+
+    /*
+     * Picks the sprites of every stage, in order, so that they do not depend
+     * on the order in which the stages are made, unless they are cached.
+     */
+    private void prepare() {
+        if (this.layout == null) {
+            this.layout = MapLayout.readRawData();
+        }
+        if (this.sprites == null) {
+            final Optional<List<Map<StagePart, LandPart[]>>> cached = this.seed.isPresent()
+                    ? MapCache.read(this.layout, this.seed.getAsLong())
+                    : Optional.empty();
+            if (cached.isPresent()) {
+                this.sprites = cached.get();
+                return;
+            }
+            final StageGenerator generator = new StageGenerator(new PairImpl<>(
+                    STARTER_CEILING_HEIGHT, STARTER_FLOOR_HEIGHT), this.random, null);
+            this.sprites = new ArrayList<>();
+            for (int stage = 0; stage < this.layout.getStageCount(); stage++) {
+                this.sprites.add(generator.pickSprites(this.layout.getStageLayout(stage)));
+            }
+            if (this.seed.isPresent()) {
+                MapCache.store(this.layout, this.seed.getAsLong(), this.sprites);
+            }
+        }
     }
 }
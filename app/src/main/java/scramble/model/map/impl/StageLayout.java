@@ -0,0 +1,127 @@
+package scramble.model.map.impl;
+
+import java.util.Arrays;
+
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+
+/**
+ * The layout of a stage of the map, before its sprites are picked: for every
+ * position along the stage, the {@link LandBehaviour} and the y coordinate of
+ * the ceiling and of the floor. The positions where a part is
+ * {@link LandBehaviour#EMPTY} are kept too, because a sprite is picked for
+ * them all the same.
+ */
+public class StageLayout {
+
+    private static final LandBehaviour[] BEHAVIOURS = LandBehaviour.values();
+
+    private final TerrainType terrainType;
+    private final byte[] ceilingBehaviours;
+    private final short[] ceilingY;
+    private final byte[] floorBehaviours;
+    private final short[] floorY;
+
+    /**
+     * Constructor of the class {@code StageLayout}. Every position starts
+     * {@link LandBehaviour#EMPTY}.
+     *
+     * @param terrainType the {@link TerrainType} of the stage
+     * @param length      the number of positions of the stage
+     */
+    public StageLayout(final TerrainType terrainType, final int length) {
+        this.terrainType = terrainType;
+        this.ceilingBehaviours = new byte[length];
+        this.ceilingY = new short[length];
+        this.floorBehaviours = new byte[length];
+        this.floorY = new short[length];
+        Arrays.fill(this.ceilingBehaviours, (byte) LandBehaviour.EMPTY.ordinal());
+        Arrays.fill(this.floorBehaviours, (byte) LandBehaviour.EMPTY.ordinal());
+    }
+
+    /**
+     * Sets a part of the stage at a position.
+     *
+     * @param stagePart the part of the stage
+     * @param x         the position
+     * @param behaviour the {@link LandBehaviour} of the part
+     * @param y         the y coordinate of the part
+     */
+    public void set(final StagePart stagePart, final int x, final LandBehaviour behaviour, final int y) {
+        if (stagePart == StagePart.CEILING) {
+            this.ceilingBehaviours[x] = (byte) behaviour.ordinal();
+            this.ceilingY[x] = (short) y;
+        } else {
+            this.floorBehaviours[x] = (byte) behaviour.ordinal();
+            this.floorY[x] = (short) y;
+        }
+    }
+
+    /**
+     * Getter for the {@link TerrainType} of the stage.
+     *
+     * @return the terrain type
+     */
+    public TerrainType getTerrainType() {
+        return this.terrainType;
+    }
+
+    /**
+     * Getter for the number of positions of the stage.
+     *
+     * @return the length of the stage
+     */
+    public int length() {
+        return this.floorY.length;
+    }
+
+    /**
+     * Getter for the {@link LandBehaviour} of a part of the stage at a
+     * position.
+     *
+     * @param stagePart the part of the stage
+     * @param x         the position
+     * @return the behaviour
+     */
+    public LandBehaviour getBehaviour(final StagePart stagePart, final int x) {
+        return BEHAVIOURS[stagePart == StagePart.CEILING ? this.ceilingBehaviours[x] : this.floorBehaviours[x]];
+    }
+
+    /**
+     * Getter for the y coordinate of a part of the stage at a position.
+     *
+     * @param stagePart the part of the stage
+     * @param x         the position
+     * @return the y coordinate
+     */
+    public int getY(final StagePart stagePart, final int x) {
+        return stagePart == StagePart.CEILING ? this.ceilingY[x] : this.floorY[x];
+    }
+
+    /**
+     * Returns the columns of the stage, every part with the transparent tile:
+     * the ceilings and the floors that are not {@link LandBehaviour#EMPTY},
+     * in order.
+     *
+     * @return the columns, or an empty store if the stage does not give every
+     *         column both a ceiling and a floor
+     */
+    public ColumnStore toColumns() {
+        final ColumnStore store = new ColumnStore(null, this.terrainType, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                length());
+        for (int x = 0; x < length(); x++) {
+            if (getBehaviour(StagePart.CEILING, x) != LandBehaviour.EMPTY) {
+                store.addCeiling(TileTable.EMPTY, this.ceilingY[x], getBehaviour(StagePart.CEILING, x));
+            }
+        }
+        for (int x = 0; x < length(); x++) {
+            if (getBehaviour(StagePart.FLOOR, x) != LandBehaviour.EMPTY) {
+                store.addFloor(TileTable.EMPTY, this.floorY[x], getBehaviour(StagePart.FLOOR, x));
+            }
+        }
+        return store.isComplete() ? store
+                : new ColumnStore(null, this.terrainType, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, 0);
+    }
+}
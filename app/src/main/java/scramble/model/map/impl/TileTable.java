@@ -0,0 +1,132 @@
+package scramble.model.map.impl;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.common.util.BufferedImageManager;
+import scramble.model.map.util.TileVariants;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+import scramble.model.map.util.enums.TileColour;
+
+/**
+ * Table of the tiles of a map, or of one of its stages, shared by all its
+ * columns. A tile is a sprite of the landscape together with its
+ * {@link CollisionMask}, and the columns only keep its number, so a sprite
+ * used by many columns is kept once and is only looked up when it is drawn.
+ *
+ * <p>
+ * The tile {@value #EMPTY} is the transparent one, shared by every table, and
+ * the tiles that fill the columns above the ceiling and below the floor are
+ * added once per table.
+ * </p>
+ *
+ * <p>
+ * The tiles are added by a single thread, while the stages are generated,
+ * and can be read by other threads at the same time: a tile can be read by
+ * any thread that has seen its number.
+ * </p>
+ */
+public class TileTable {
+
+    /** The number of the transparent tile. */
+    public static final int EMPTY = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final BufferedImage TRANSPARENT = BufferedImageManager.transparentBufferedImage(1, 1);
+
+    private final Map<BufferedImage, Integer> numbers = new IdentityHashMap<>();
+    private volatile BufferedImage[] images = new BufferedImage[INITIAL_CAPACITY];
+    private volatile CollisionMask[] masks = new CollisionMask[INITIAL_CAPACITY];
+    private int size;
+
+    private final int greenFill;
+    private final int darkFill;
+    private final int lightFill;
+
+    /** Constructor of the class {@code TileTable}. */
+    public TileTable() {
+        add(TRANSPARENT, null);
+        this.greenFill = add(TileVariants.getSprite(LandPart.GREEN_SQUARE, false, TileColour.NONE), null);
+        this.darkFill = add(TileVariants.getSprite(LandPart.DARK_BRICK_WALL, false, TileColour.CLOCKWISE), null);
+        this.lightFill = add(TileVariants.getSprite(LandPart.WHITE_SQUARE, false, TileColour.COUNTER_CLOCKWISE),
+                null);
+    }
+
+    /**
+     * Adds a tile, unless the same sprite has already been added with the same
+     * mask.
+     *
+     * @param image the sprite of the tile
+     * @param mask  the opaque pixels of the sprite, or {@code null} if the
+     *              whole tile is solid
+     * @return the number of the tile
+     */
+    public final int add(final BufferedImage image, final CollisionMask mask) {
+        final Integer known = numbers.get(image);
+        if (known != null && masks[known] == mask) {
+            return known;
+        }
+        if (size > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many tiles: " + size);
+        }
+        if (size == images.length) {
+            images = Arrays.copyOf(images, size * 2);
+            masks = Arrays.copyOf(masks, size * 2);
+        }
+        images[size] = image;
+        masks[size] = mask;
+        numbers.putIfAbsent(image, size);
+        return size++;
+    }
+
+    /**
+     * Getter for the sprite of a tile.
+     *
+     * @param tile the number of the tile
+     * @return the sprite
+     */
+    public BufferedImage getImage(final int tile) {
+        return images[tile];
+    }
+
+    /**
+     * Getter for the {@link CollisionMask} of a tile.
+     *
+     * @param tile the number of the tile
+     * @return the mask, or {@code null} if the whole tile is solid
+     */
+    public CollisionMask getMask(final int tile) {
+        return masks[tile];
+    }
+
+    /**
+     * Getter for the number of tiles in the table.
+     *
+     * @return the number of tiles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the tile that fills a column above its ceiling or below its
+     * floor. In the brick columns the two colours alternate from one column
+     * to the next.
+     *
+     * @param terrainType the {@link TerrainType} of the column
+     * @param stagePart   the part of the column to fill
+     * @param evenColumn  {@code true} if the column is an even one
+     * @return the number of the tile
+     */
+    public int getFill(final TerrainType terrainType, final StagePart stagePart, final boolean evenColumn) {
+        if (terrainType == TerrainType.GREENLAND) {
+            return greenFill;
+        }
+        return evenColumn == (stagePart == StagePart.CEILING) ? darkFill : lightFill;
+    }
+}
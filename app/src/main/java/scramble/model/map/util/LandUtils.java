@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.EnumMap;
 
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.common.util.SpriteLoader;
 import scramble.model.map.util.enums.LandPart;
 import scramble.utility.Constants;
 
@@ -37,8 +39,11 @@ public final class LandUtils {
 
     private static final int GREEN_SQUARE_STARTER_LOCATION = 5;
 
-    private static final Map<LandPart, BufferedImage> SPRITE_MAP = fillMap();
     private static final Logger LOG = Logger.getLogger(LandUtils.class.getName());
+    private static final Map<LandPart, BufferedImage> SOURCE_MAP = fillMap();
+    private static final Map<LandPart, BufferedImage> SPRITE_MAP = fillSprites();
+    private static final Map<LandPart, CollisionMask> MASK_MAP = fillMasks(false);
+    private static final Map<LandPart, CollisionMask> ROTATED_MASK_MAP = fillMasks(true);
 
     private LandUtils() {
     }
@@ -88,6 +93,8 @@ public final class LandUtils {
 
     /**
      * Method for the conversion of LandscapeSprite to the relative BufferedImage.
+     * The image is compatible with the screen and already
+     * {@value #PIXEL_PER_LAND_SPRITE_SIDE} pixels wide, as it is drawn.
      * 
      * @param landScapeSprite
      * @return relative BufferedImage
@@ -96,6 +103,20 @@ public final class LandUtils {
         return SPRITE_MAP.get(landScapeSprite);
     }
 
+    /**
+     * Getter for the {@link CollisionMask} of a landscape sprite, drawn
+     * {@value #PIXEL_PER_LAND_SPRITE_SIDE} pixels wide. The masks are computed
+     * once for every sprite, and shared by every element of the map.
+     * 
+     * @param landScapeSprite the landscape sprite
+     * @param rotated         {@code true} for the sprite turned upside down, as
+     *                        it is used in the ceiling
+     * @return the mask of the sprite
+     */
+    public static CollisionMask getMask(final LandPart landScapeSprite, final boolean rotated) {
+        return rotated ? ROTATED_MASK_MAP.get(landScapeSprite) : MASK_MAP.get(landScapeSprite);
+    }
+
     /**
      * Method that insert all of the enum LandscapeSprite data into a List.
      * 
@@ -131,4 +152,30 @@ public final class LandUtils {
         return ret;
     }
 
+    /*
+     * The sprites are copied from the image of the resources, which has no
+     * alpha channel, into translucent ones that keep every pixel opaque.
+     */
+    private static Map<LandPart, BufferedImage> fillSprites() {
+        final Map<LandPart, BufferedImage> ret = new EnumMap<>(LandPart.class);
+        for (final Map.Entry<LandPart, BufferedImage> entry : SOURCE_MAP.entrySet()) {
+            ret.put(entry.getKey(), SpriteLoader.toCompatibleImage(entry.getValue(), PIXEL_PER_LAND_SPRITE_SIDE,
+                    PIXEL_PER_LAND_SPRITE_SIDE));
+        }
+        return ret;
+    }
+
+    /*
+     * The masks are computed from the image of the resources, where the black
+     * pixels are the transparent ones.
+     */
+    private static Map<LandPart, CollisionMask> fillMasks(final boolean rotated) {
+        final Map<LandPart, CollisionMask> ret = new EnumMap<>(LandPart.class);
+        for (final Map.Entry<LandPart, BufferedImage> entry : SOURCE_MAP.entrySet()) {
+            final CollisionMask mask = CollisionMask.of(entry.getValue(), PIXEL_PER_LAND_SPRITE_SIDE,
+                    PIXEL_PER_LAND_SPRITE_SIDE);
+            ret.put(entry.getKey(), rotated ? mask.rotate() : mask);
+        }
+        return ret;
+    }
 }
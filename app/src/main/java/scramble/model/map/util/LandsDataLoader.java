@@ -1,15 +1,26 @@
 package scramble.model.map.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
 import scramble.model.map.util.api.CSVReader;
 import scramble.model.map.util.enums.TerrainType;
 import scramble.model.map.util.land.brickcolumn.impl.CSVReaderBrickColumn;
 import scramble.model.map.util.land.greenland.impl.CSVReaderGreenland;
 import scramble.model.map.util.raw.RawData;
 import scramble.model.map.util.raw.SegmentRawData;
+import scramble.utility.Constants;
 
 /**
  * Class that contains static methods for the management of the csv files
- * reading for data scraping.
+ * reading for data scraping. Every file is read once; its segments are never
+ * changed after being read, so they are shared by all the raw data made from
+ * it, even by different threads.
  */
 public final class LandsDataLoader {
     /**
@@ -31,6 +42,12 @@ public final class LandsDataLoader {
     private static final String STAGE_6_FLOOR_FILE_PATH = "stage/stage6_floor.csv";
     private static final CSVReaderGreenland CSV_READER_GREENLAND = new CSVReaderGreenland();
     private static final CSVReaderBrickColumn CSV_READER_BRICK_COLUMN = new CSVReaderBrickColumn();
+    private static final Map<String, List<SegmentRawData>> FILES = new ConcurrentHashMap<>();
+    private static final List<String> STAGE_FILES = List.of(PRESTAGE_CEILING, PRESTAGE_FLOOR,
+            STAGE_1_CEILING_FILE_PATH, STAGE_1_FLOOR_FILE_PATH, STAGE_2_CEILING_FILE_PATH, STAGE_2_FLOOR_FILE_PATH,
+            STAGE_3_CEILING_FILE_PATH, STAGE_3_FLOOR_FILE_PATH, STAGE_4_CEILING_FILE_PATH, STAGE_4_FLOOR_FILE_PATH,
+            STAGE_5_CEILING_FILE_PATH, STAGE_5_FLOOR_FILE_PATH, STAGE_6_CEILING_FILE_PATH, STAGE_6_FLOOR_FILE_PATH);
+    private static final Logger LOG = Logger.getLogger(LandsDataLoader.class.getName());
 
     private LandsDataLoader() {
     }
@@ -103,6 +120,53 @@ public final class LandsDataLoader {
                 TerrainType.BRICK_COLUMN);
     }
 
+    /**
+     * Method for the data scraping of the files of every stage, the prestage
+     * first.
+     * 
+     * @return raw data from the csv files for ceiling and floor, in the order
+     *         of the stages
+     */
+    public static List<RawData> getStagesData() {
+        return List.of(getPrestageData(), getStage1Data(), getStage2Data(), getStage3Data(), getStage4Data(),
+                getStage5Data(), getStage6Data());
+    }
+
+    /**
+     * Getter for the length of a stage, in columns.
+     * 
+     * @param stage the index of the stage, {@code 0} for the prestage
+     * @return the length of the stage
+     */
+    public static int getStageLength(final int stage) {
+        return stage == 0 ? Constants.SPRITE_PER_PRESTAGE_WIDTH : Constants.SPRITE_PER_STAGE_WIDTH;
+    }
+
+    /**
+     * Computes a checksum of the csv files of every stage and of the lengths
+     * of the stages. The files are read, but not parsed.
+     * 
+     * @return the checksum
+     */
+    public static long getSourceHash() {
+        final CRC32 crc = new CRC32();
+        final ClassLoader classLoader = LandsDataLoader.class.getClassLoader();
+        for (final String file : STAGE_FILES) {
+            try (InputStream inputStream = classLoader.getResourceAsStream(file)) {
+                if (inputStream != null) {
+                    crc.update(inputStream.readAllBytes());
+                }
+            } catch (IOException e) {
+                LOG.severe("Ops!");
+                LOG.severe(e.toString());
+            }
+        }
+        for (int stage = 0; stage < STAGE_FILES.size() / 2; stage++) {
+            crc.update(getStageLength(stage));
+        }
+        return crc.getValue();
+    }
+
     private static RawData rawDataMaker(final String ceiling, final String floor, final TerrainType terrainType) {
         final RawData rawData = new RawData(terrainType);
         final CSVReader<SegmentRawData> csvReader;
@@ -111,8 +175,8 @@ public final class LandsDataLoader {
         } else {
             csvReader = CSV_READER_BRICK_COLUMN;
         }
-        rawData.setCeiling(csvReader.readCSV(ceiling));
-        rawData.setFloor(csvReader.readCSV(floor));
+        rawData.setCeiling(FILES.computeIfAbsent(ceiling, csvReader::readCSV));
+        rawData.setFloor(FILES.computeIfAbsent(floor, csvReader::readCSV));
 
         return rawData;
     }
@@ -0,0 +1,92 @@
+package scramble.model.map.util;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import scramble.model.common.util.BufferedImageManager;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.TileColour;
+
+/**
+ * Cache of the variants of the landscape sprites, turned upside down for the
+ * ceiling or with their colours changed. Every variant is built the first
+ * time it is asked for and then shared by every column of every map, so
+ * building a map does not touch the pixels of a sprite again.
+ *
+ * <p>
+ * The cache keeps count of how many requests found the variant already built,
+ * and it can be used by more threads at once.
+ * </p>
+ */
+public final class TileVariants {
+
+    private static final int UPSIDE_DOWN = 180;
+    private static final int ROTATIONS = 2;
+    private static final int COLOURS = TileColour.values().length;
+
+    private static final AtomicReferenceArray<BufferedImage> VARIANTS = new AtomicReferenceArray<>(
+            LandPart.values().length * ROTATIONS * COLOURS);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private TileVariants() {
+    }
+
+    /**
+     * Returns a variant of a landscape sprite. The same instance is returned for
+     * the same variant, so it must not be changed.
+     *
+     * @param part    the landscape sprite
+     * @param rotated {@code true} for the sprite turned upside down, as it is
+     *                used in the ceiling
+     * @param colour  the colour change of the sprite
+     * @return the variant
+     */
+    public static BufferedImage getSprite(final LandPart part, final boolean rotated, final TileColour colour) {
+        final int key = (part.ordinal() * ROTATIONS + (rotated ? 1 : 0)) * COLOURS + colour.ordinal();
+        final BufferedImage cached = VARIANTS.get(key);
+        if (cached != null) {
+            HITS.increment();
+            return cached;
+        }
+        MISSES.increment();
+        BufferedImage variant = LandUtils.getSprite(part);
+        if (rotated) {
+            variant = BufferedImageManager.rotateBufferedImageWithDegree(variant, UPSIDE_DOWN);
+        }
+        variant = colour.apply(variant);
+        // If another thread got there first, its variant is the one that is shared
+        return VARIANTS.compareAndSet(key, null, variant) ? variant : VARIANTS.get(key);
+    }
+
+    /**
+     * Getter for the number of requests that found the variant already built.
+     *
+     * @return the number of hits
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Getter for the number of requests that had to build the variant.
+     *
+     * @return the number of misses
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Getter for the share of the requests that found the variant already
+     * built.
+     *
+     * @return the hit rate, from {@code 0} to {@code 1}
+     */
+    public static double getHitRate() {
+        final long hits = getHits();
+        final long requests = hits + getMisses();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,283 @@
+package scramble.model.map.util.elaborator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+import scramble.model.map.util.raw.RawData;
+import scramble.model.map.util.raw.SegmentRawData;
+
+/**
+ * Generator of the raw data of the stages of a map with no end. Instead of
+ * being read from the csv files, the segments of every stage are made up
+ * from a random generator, one stage after the other, and the stages get
+ * harder as the map goes on: the ceiling and the floor get closer, the
+ * slopes longer and the flat segments rarer, up to {@link #LAST_LEVEL}.
+ * Every {@link #BRICK_STAGES} stages one is made of brick columns.
+ *
+ * <p>
+ * The ceiling and the floor are kept in two bands of rows that never meet,
+ * so the spaceship can always fly between them. The heights are followed
+ * with the same rules the {@link StageGenerator} lays the segments out
+ * with, so each stage starts where the previous one ends and no segment
+ * leaves its band.
+ * </p>
+ */
+public class RawDataGenerator {
+
+    /** The number of columns of every stage. */
+    public static final int STAGE_LENGTH = 320;
+    /** Every how many stages one is made of brick columns. */
+    public static final int BRICK_STAGES = 4;
+    /** The stage after which the stages do not get any harder. */
+    public static final int LAST_LEVEL = 10;
+    /** The highest row of the ceiling, above the screen. */
+    public static final int CEILING_TOP = -1;
+    /** The lowest row of the floor. */
+    public static final int FLOOR_BOTTOM = 37;
+
+    private static final int EDGE = 6;
+    private static final int CEILING_BOTTOM = 3;
+    private static final int FLOOR_TOP = 25;
+    private static final int PERCENT = 100;
+    private static final int FLAT_CHANCE = 45;
+    private static final int SUMMIT_CHANCE = 15;
+    private static final int FLAT_LENGTH = 10;
+    private static final int SLOPE_LENGTH = 2;
+    private static final int BRICK_WIDTH = 2;
+    private static final int BRICK_STEP = 2;
+
+    private final RandomGenerator random;
+    private int stage;
+    private int ceiling;
+    private int floor;
+
+    /**
+     * Constructor of the class {@code RawDataGenerator}.
+     *
+     * @param random  the generator the segments are made up from
+     * @param ceiling the row of the ceiling where the first stage starts
+     * @param floor   the row of the floor where the first stage starts
+     */
+    public RawDataGenerator(final RandomGenerator random, final int ceiling, final int floor) {
+        this.random = random;
+        this.ceiling = ceiling;
+        this.floor = floor;
+    }
+
+    /**
+     * Makes up the raw data of the next stage, {@link #STAGE_LENGTH} columns
+     * long.
+     *
+     * @return the raw data of the stage
+     */
+    public RawData next() {
+        final int level = getLevel(this.stage);
+        final boolean brick = this.stage % BRICK_STAGES == BRICK_STAGES - 1;
+        final RawData rawData = new RawData(brick ? TerrainType.BRICK_COLUMN : TerrainType.GREENLAND);
+        final Track ceilingTrack = new Track(StagePart.CEILING, rawData.getTerrainType(), CEILING_TOP,
+                getLowestCeiling(level));
+        final Track floorTrack = new Track(StagePart.FLOOR, rawData.getTerrainType(), getHighestFloor(level),
+                FLOOR_BOTTOM);
+        if (brick) {
+            this.ceiling = fillBricks(ceilingTrack, this.ceiling, level);
+            this.floor = fillBricks(floorTrack, this.floor, level);
+        } else {
+            this.ceiling = fillSlopes(ceilingTrack, this.ceiling, level);
+            this.floor = fillSlopes(floorTrack, this.floor, level);
+        }
+        rawData.setCeiling(ceilingTrack.segments);
+        rawData.setFloor(floorTrack.segments);
+        this.stage++;
+        return rawData;
+    }
+
+    /**
+     * Getter for the number of stages made up so far.
+     *
+     * @return the number of stages
+     */
+    public int getStage() {
+        return this.stage;
+    }
+
+    /**
+     * Returns how hard a stage is.
+     *
+     * @param stage the index of the stage
+     * @return the level of the stage, from 0 to {@link #LAST_LEVEL}
+     */
+    public static int getLevel(final int stage) {
+        return Math.min(stage, LAST_LEVEL);
+    }
+
+    /**
+     * Returns the lowest row the ceiling can reach in a stage of a level.
+     *
+     * @param level the level of the stage
+     * @return the row
+     */
+    public static int getLowestCeiling(final int level) {
+        return CEILING_BOTTOM + level * 3 / 5;
+    }
+
+    /**
+     * Returns the highest row the floor can reach in a stage of a level.
+     *
+     * @param level the level of the stage
+     * @return the row
+     */
+    public static int getHighestFloor(final int level) {
+        return FLOOR_TOP - level;
+    }
+
+    private int fillSlopes(final Track track, final int start, final int level) {
+        track.start(EDGE, LandBehaviour.FLAT, start);
+        while (track.columns < STAGE_LENGTH - EDGE) {
+            final int remaining = STAGE_LENGTH - EDGE - track.columns;
+            final LandBehaviour behaviour = pickBehaviour(track.behaviour, level);
+            final int length = behaviour == LandBehaviour.SUMMIT ? 1
+                    : Math.min(remaining, pickLength(behaviour, level));
+            if (!track.add(behaviour, length) && !track.add(LandBehaviour.FLAT, length)) {
+                track.add(LandBehaviour.FLAT, 1);
+            }
+        }
+        return track.finish();
+    }
+
+    private int fillBricks(final Track track, final int start, final int level) {
+        int height = Math.max(track.top, Math.min(track.bottom, start));
+        track.start(BRICK_WIDTH - 1, LandBehaviour.BRICK, height);
+        final int step = BRICK_STEP + level / 3;
+        while (track.columns < STAGE_LENGTH - EDGE) {
+            final int remaining = STAGE_LENGTH - EDGE - track.columns;
+            height = Math.max(track.top, Math.min(track.bottom, height + this.random.nextInt(-step, step + 1)));
+            track.add(LandBehaviour.BRICK, Math.min(remaining, BRICK_WIDTH * (1 + this.random.nextInt(2))),
+                    height);
+        }
+        return track.finish();
+    }
+
+    private LandBehaviour pickBehaviour(final LandBehaviour previous, final int level) {
+        final int selected = this.random.nextInt(PERCENT);
+        if (previous == LandBehaviour.UP && selected < SUMMIT_CHANCE + level) {
+            return LandBehaviour.SUMMIT;
+        }
+        if (selected < FLAT_CHANCE - 2 * level) {
+            return LandBehaviour.FLAT;
+        }
+        return this.random.nextBoolean() ? LandBehaviour.UP : LandBehaviour.DW;
+    }
+
+    private int pickLength(final LandBehaviour behaviour, final int level) {
+        if (behaviour == LandBehaviour.FLAT) {
+            return 1 + this.random.nextInt(FLAT_LENGTH - level / 2);
+        }
+        return 1 + this.random.nextInt(SLOPE_LENGTH + level / 2);
+    }
+
+    /*
+     * The segments of a part of a stage, with the row the part is on after
+     * them, followed with the same rules as StageGenerator.
+     */
+    private static final class Track {
+
+        private final StagePart stagePart;
+        private final TerrainType terrainType;
+        private final int top;
+        private final int bottom;
+        private final List<SegmentRawData> segments = new ArrayList<>();
+        private int columns;
+        private int y;
+        private LandBehaviour behaviour;
+
+        Track(final StagePart stagePart, final TerrainType terrainType, final int top, final int bottom) {
+            this.stagePart = stagePart;
+            this.terrainType = terrainType;
+            this.top = top;
+            this.bottom = bottom;
+        }
+
+        /* The first segment of a stage takes one column more than its length. */
+        void start(final int length, final LandBehaviour first, final int start) {
+            this.segments.add(segment(length, first, start));
+            this.columns = length + 1;
+            this.y = start;
+            this.behaviour = first;
+        }
+
+        /*
+         * Adds a segment if it stays in the band, and if a flat segment after
+         * it would stay in the band too.
+         */
+        boolean add(final LandBehaviour next, final int length) {
+            int row = step(transition(this.y, this.behaviour, next), next);
+            for (int i = 1; i < length && fits(row); i++) {
+                row = step(row, next);
+            }
+            if (!fits(row) || !fits(step(transition(row, next, LandBehaviour.FLAT), LandBehaviour.FLAT))) {
+                return false;
+            }
+            this.segments.add(segment(length, next, row));
+            this.columns += length;
+            this.y = row;
+            this.behaviour = next;
+            return true;
+        }
+
+        void add(final LandBehaviour next, final int length, final int height) {
+            this.segments.add(segment(length, next, height));
+            this.columns += length;
+            this.y = height;
+            this.behaviour = next;
+        }
+
+        /* Closes the stage with a segment longer than it, and returns the row the next stage starts on. */
+        int finish() {
+            if (this.terrainType == TerrainType.BRICK_COLUMN) {
+                add(LandBehaviour.BRICK, STAGE_LENGTH, this.y);
+            } else {
+                add(LandBehaviour.FLAT, STAGE_LENGTH, step(transition(this.y, this.behaviour,
+                        LandBehaviour.FLAT), LandBehaviour.FLAT));
+            }
+            return this.y;
+        }
+
+        private boolean fits(final int row) {
+            return row >= this.top && row <= this.bottom;
+        }
+
+        private SegmentRawData segment(final int length, final LandBehaviour next, final int height) {
+            final SegmentRawData segment = new SegmentRawData(length, next, this.terrainType);
+            if (this.terrainType == TerrainType.BRICK_COLUMN) {
+                segment.setHeight(height);
+            }
+            return segment;
+        }
+
+        private int step(final int row, final LandBehaviour next) {
+            if (next == LandBehaviour.UP || next == LandBehaviour.SUMMIT && this.stagePart == StagePart.FLOOR) {
+                return row - 1;
+            }
+            return next == LandBehaviour.DW ? row + 1 : row;
+        }
+
+        private int transition(final int row, final LandBehaviour previous, final LandBehaviour next) {
+            final LandBehaviour trigger = this.stagePart == StagePart.CEILING ? LandBehaviour.UP : LandBehaviour.DW;
+            final int increment = this.stagePart == StagePart.CEILING ? -1 : 1;
+            int result = row;
+            if (next == trigger) {
+                result -= increment;
+            } else if (next == LandBehaviour.SUMMIT && this.stagePart == StagePart.CEILING) {
+                result += 1;
+            }
+            if (previous == trigger || previous == LandBehaviour.SUMMIT) {
+                result += increment;
+            }
+            return result;
+        }
+    }
+}
@@ -1,31 +1,38 @@
 package scramble.model.map.util.elaborator;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import scramble.model.common.api.Pair;
 import scramble.model.common.impl.PairImpl;
-import scramble.model.common.util.BufferedImageManager;
 import scramble.model.map.api.MapColumn;
 import scramble.model.map.impl.MapColumnImpl;
-import scramble.model.map.impl.MapElement;
+import scramble.model.map.impl.TileTable;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.impl.StageLayout;
 import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.TileVariants;
 import scramble.model.map.util.enums.LandBehaviour;
 import scramble.model.map.util.enums.LandPart;
 import scramble.model.map.util.enums.StagePart;
 import scramble.model.map.util.enums.TerrainType;
+import scramble.model.map.util.enums.TileColour;
 import scramble.model.map.util.raw.RawData;
 import scramble.model.map.util.raw.SegmentRawData;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.Arrays;
-import java.awt.image.BufferedImage;
 
 /**
  * Class for the generation of a MapStage.
  */
 public class StageGenerator {
 
+    /** The version of the way the sprites are picked, to change whenever the picks of a seed change. */
+    public static final int VERSION = 1;
+
     private static final LandPart[] FLAT = { LandPart.TOP_FLAT_FLOOR,
             LandPart.GORGE_FLOOR };
     private static final LandPart[] DOWN = { LandPart.CROWN_CLIMB, LandPart.STANDARD_CLIMB,
@@ -36,7 +43,8 @@ public class StageGenerator {
 
     private static final LandPart BRICKWALL = LandPart.LIGHT_BRICK_WALL;
 
-    private final Random rand;
+    private final RandomGenerator rand;
+    private final TileTable tiles;
     private final Pair<Integer, Integer> currentYCeilingAndFloor;
 
     private final int[] thresholdsFlat = { 95, 100 };
@@ -49,12 +57,48 @@ public class StageGenerator {
      *                              the ceiling as the first element of the pair and
      *                              the height of the floor as a second element of
      *                              the pair
+     * @param rand                  the generator used to pick the sprites
      * @see Pair
      */
+    public StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor, final RandomGenerator rand) {
+        this(heightCeilingAndFloor, rand, new TileTable());
+    }
+
+    /**
+     * Constructor for MapStageGenerator, for a generator that only lays out
+     * stages.
+     * 
+     * @param heightCeilingAndFloor {@link Pair} element that contains the height of
+     *                              the ceiling as the first element of the pair and
+     *                              the height of the floor as a second element of
+     *                              the pair
+     * @see #layoutStage(RawData, int)
+     */
     public StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor) {
+        this(heightCeilingAndFloor, null, null);
+    }
+
+    /**
+     * Constructor for MapStageGenerator, for the stages of a map whose tiles
+     * are shared.
+     * 
+     * @param heightCeilingAndFloor {@link Pair} element that contains the height of
+     *                              the ceiling as the first element of the pair and
+     *                              the height of the floor as a second element of
+     *                              the pair
+     * @param rand                  the generator used to pick the sprites
+     * @param tiles                 the tiles of the map, or {@code null} if the
+     *                              generator only picks the sprites and the
+     *                              stages are built by
+     *                              {@link #buildStage(StageLayout, Map, TileTable)}
+     * @see Pair
+     */
+    public StageGenerator(final Pair<Integer, Integer> heightCeilingAndFloor, final RandomGenerator rand,
+            final TileTable tiles) {
         this.currentYCeilingAndFloor = new PairImpl<>(heightCeilingAndFloor.getFirstElement(),
                 heightCeilingAndFloor.getSecondElement());
-        this.rand = new Random();
+        this.rand = rand;
+        this.tiles = tiles;
     }
 
     /**
@@ -70,34 +114,121 @@ public class StageGenerator {
      * @see RawData
      */
     public List<MapColumn> convertDataToMapStage(final RawData rawData, final int stageLength) {
+        return this.convertLayoutToMapStage(this.layoutStage(rawData, stageLength));
+    }
 
-        final Pair<List<MapElement>, Integer> elaboratedDataCeiling;
-        final Pair<List<MapElement>, Integer> elaboratedDataFloor;
+    /**
+     * Method that picks the sprites of a map stage whose layout is known.
+     * 
+     * @param layout the layout of the map stage
+     * 
+     * @return the elaborated data as a {@link List}
+     * 
+     * @see #layoutStage(RawData, int)
+     */
+    public List<MapColumn> convertLayoutToMapStage(final StageLayout layout) {
+        return buildStage(layout, this.pickSprites(layout), this.tiles);
+    }
 
-        elaboratedDataCeiling = this.elaborateRawData(StagePart.CEILING, rawData.getCeiling(), stageLength,
-                rawData.getTerrainType());
-        currentYCeilingAndFloor.setFirstElement(elaboratedDataCeiling.getSecondElement());
+    /**
+     * Method that picks the sprite of every position of a map stage whose
+     * layout is known, drawing from the generator in the same order as
+     * {@link #convertLayoutToMapStage(StageLayout)} does: the ceiling first,
+     * then the floor. Only the generator is used, so the sprites of every
+     * stage can be picked, in order, before any stage is built.
+     * 
+     * @param layout the layout of the map stage
+     * 
+     * @return the sprites of every position of the ceiling and of the floor
+     * 
+     * @see #buildStage(StageLayout, Map, TileTable)
+     */
+    public Map<StagePart, LandPart[]> pickSprites(final StageLayout layout) {
+        final Map<StagePart, LandPart[]> sprites = new EnumMap<>(StagePart.class);
+        for (final StagePart stagePart : List.of(StagePart.CEILING, StagePart.FLOOR)) {
+            final LandPart[] parts = new LandPart[layout.length()];
+            for (int x = 0; x < layout.length(); x++) {
+                parts[x] = this.getSprite(layout.getBehaviour(stagePart, x));
+            }
+            sprites.put(stagePart, parts);
+        }
+        return sprites;
+    }
 
-        elaboratedDataFloor = this.elaborateRawData(StagePart.FLOOR, rawData.getFloor(), stageLength,
-                rawData.getTerrainType());
-        currentYCeilingAndFloor.setSecondElement(elaboratedDataFloor.getSecondElement());
+    /**
+     * Method that builds a map stage whose sprites have been picked. Neither
+     * the generator nor the state of a {@code StageGenerator} are used, so
+     * different stages can be built at the same time, by different threads,
+     * as long as each one has its own {@link TileTable}.
+     * 
+     * @param layout  the layout of the map stage
+     * @param sprites the sprites of the stage
+     * @param tiles   the table the tiles of the stage are added to
+     * 
+     * @return the elaborated data as a {@link List}
+     * 
+     * @see #pickSprites(StageLayout)
+     */
+    public static List<MapColumn> buildStage(final StageLayout layout, final Map<StagePart, LandPart[]> sprites,
+            final TileTable tiles) {
+        return buildColumns(layout, sprites, 0, layout.length(), tiles);
+    }
+
+    /**
+     * Method that builds some consecutive columns of a map stage whose sprites
+     * have been picked, the same as {@link #buildStage(StageLayout, Map, TileTable)}
+     * builds them. The x coordinate of every column counts from the first one
+     * that is built.
+     * 
+     * @param layout  the layout of the map stage
+     * @param sprites the sprites of the stage
+     * @param from    the index of the first column to build
+     * @param to      the index after the last column to build
+     * @param tiles   the table the tiles of the columns are added to
+     * 
+     * @return the elaborated data as a {@link List}
+     */
+    public static List<MapColumn> buildColumns(final StageLayout layout, final Map<StagePart, LandPart[]> sprites,
+            final int from, final int to, final TileTable tiles) {
+        final ColumnStore store = new ColumnStore(tiles, layout.getTerrainType(),
+                LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, to - from);
 
-        if (elaboratedDataCeiling.getFirstElement().size() != elaboratedDataFloor.getFirstElement().size()) {
+        addTiles(StagePart.CEILING, layout, sprites.get(StagePart.CEILING), from, to, store);
+        addTiles(StagePart.FLOOR, layout, sprites.get(StagePart.FLOOR), from, to, store);
+
+        if (!store.isComplete()) {
             return new ArrayList<>();
         }
         final List<MapColumn> elaboratedStage = new ArrayList<>();
-        final List<MapElement> elaborateCeiling = elaboratedDataCeiling.getFirstElement();
-        final List<MapElement> elaborateFloor = elaboratedDataFloor.getFirstElement();
-
-        for (int i = 0; i < elaboratedDataCeiling.getFirstElement().size(); i++) {
-            elaboratedStage.add(new MapColumnImpl(elaborateCeiling.get(i), elaborateFloor.get(i),
-                    LandUtils.multiplyPixelPerSprite(i), rawData.getTerrainType()));
-
+        for (int i = 0; i < store.size(); i++) {
+            elaboratedStage.add(new MapColumnImpl(store, i, LandUtils.multiplyPixelPerSprite(i)));
         }
 
         return elaboratedStage;
     }
 
+    /**
+     * Method that works out the layout of a map stage from its raw data,
+     * without picking its sprites, so neither the generator used to pick them
+     * nor the tiles are used. The stages must be laid out in the same order
+     * in which they are in the map, because each one starts where the
+     * previous one ends.
+     *
+     * @param rawData     the raw data relative to the map stage
+     * @param stageLength the length of the stage
+     * @return the layout of the stage
+     *
+     * @see #convertLayoutToMapStage(StageLayout)
+     */
+    public StageLayout layoutStage(final RawData rawData, final int stageLength) {
+        final StageLayout layout = new StageLayout(rawData.getTerrainType(), stageLength);
+        currentYCeilingAndFloor.setFirstElement(this.elaborateRawData(StagePart.CEILING, rawData.getCeiling(),
+                stageLength, layout));
+        currentYCeilingAndFloor.setSecondElement(this.elaborateRawData(StagePart.FLOOR, rawData.getFloor(),
+                stageLength, layout));
+        return layout;
+    }
+
     private LandPart getSprite(final LandBehaviour behavior) {
 
         if (behavior == LandBehaviour.BRICK) {
@@ -193,9 +324,9 @@ public class StageGenerator {
 
     }
 
-    private Pair<List<MapElement>, Integer> elaborateRawData(final StagePart stagePart,
-            final List<SegmentRawData> rawData, final int stageLength, final TerrainType terrainType) {
-        final List<MapElement> elaboratedData = new ArrayList<>();
+    private int elaborateRawData(final StagePart stagePart, final List<SegmentRawData> rawData,
+            final int stageLength, final StageLayout layout) {
+        final TerrainType terrainType = layout.getTerrainType();
         int index = 0;
 
         int length = rawData.get(index).getLength();
@@ -211,21 +342,7 @@ public class StageGenerator {
 
         for (int x = 0; x < stageLength; x++) {
 
-            BufferedImage bi = LandUtils.getSprite(this.getSprite(behaviour));
-            if (stagePart == StagePart.CEILING) {
-                bi = BufferedImageManager.rotateBufferedImageWithDegree(bi, 180);
-            }
-            if (behaviour == LandBehaviour.BRICK) {
-                bi = BufferedImageManager.changeColorClockwise(bi, 0);
-            }
-
-            // to-do: sistemare empty space
-            if (behaviour != LandBehaviour.EMPTY) {
-                elaboratedData.add(new MapElement(
-                        LandUtils.multiplyPixelPerSprite(x), LandUtils.multiplyPixelPerSprite(currentY),
-                        LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
-                        bi, terrainType, behaviour));
-            }
+            layout.set(stagePart, x, behaviour, LandUtils.multiplyPixelPerSprite(currentY));
 
             if (x == length) {
                 index++;
@@ -240,7 +357,28 @@ public class StageGenerator {
 
         }
 
-        return new PairImpl<>(elaboratedData, currentY);
+        return currentY;
+    }
+
+    private static void addTiles(final StagePart stagePart, final StageLayout layout, final LandPart[] parts,
+            final int from, final int to, final ColumnStore store) {
+        final TileTable tiles = store.getTiles();
+        for (int x = from; x < to; x++) {
+            final LandBehaviour behaviour = layout.getBehaviour(stagePart, x);
+            final LandPart part = parts[x];
+
+            // to-do: sistemare empty space
+            if (behaviour != LandBehaviour.EMPTY) {
+                final int tile = tiles.add(TileVariants.getSprite(part, stagePart == StagePart.CEILING,
+                        behaviour == LandBehaviour.BRICK ? TileColour.CLOCKWISE : TileColour.NONE),
+                        LandUtils.getMask(part, stagePart == StagePart.CEILING));
+                if (stagePart == StagePart.CEILING) {
+                    store.addCeiling(tile, layout.getY(stagePart, x), behaviour);
+                } else {
+                    store.addFloor(tile, layout.getY(stagePart, x), behaviour);
+                }
+            }
+        }
     }
 
 }
@@ -0,0 +1,42 @@
+package scramble.model.map.util.enums;
+
+import java.awt.image.BufferedImage;
+
+import scramble.model.common.util.BufferedImageManager;
+
+/**
+ * Enum for the colour changes applied to the landscape sprites.
+ */
+public enum TileColour {
+    /**
+     * The colours of the sprite sheet.
+     */
+    NONE,
+    /**
+     * Colours turned clockwise, as in the brick walls.
+     */
+    CLOCKWISE,
+    /**
+     * Colours turned counter clockwise, as in the light bricks of the brick
+     * columns.
+     */
+    COUNTER_CLOCKWISE;
+
+    private static final int COUNTER_CLOCKWISE_ADDED = 2;
+
+    /**
+     * Applies the colour change to a sprite.
+     *
+     * @param sprite the sprite
+     * @return a new sprite with the colours changed, or the same one for
+     *         {@link #NONE}
+     */
+    public BufferedImage apply(final BufferedImage sprite) {
+        return switch (this) {
+            case CLOCKWISE -> BufferedImageManager.changeColorClockwise(sprite, 0);
+            case COUNTER_CLOCKWISE -> BufferedImageManager.changeColorCounterClockwise(sprite,
+                    COUNTER_CLOCKWISE_ADDED);
+            default -> sprite;
+        };
+    }
+}
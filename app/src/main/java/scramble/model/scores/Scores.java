@@ -4,6 +4,8 @@ import java.util.logging.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.google.gson.Gson;
 
 import scramble.utility.Constants;
@@ -24,8 +26,8 @@ public class Scores {
 
     private static final Logger LOG = Logger.getLogger(Scores.class.getName());
     private static final String SCORES_FILE_PATH = System.getProperty("user.home") + "/scores.json";
-    private static List<Integer> scoresList = new ArrayList<>(Constants.MAX_N_SCORES);
-    private static int currentScore;
+    private static List<Integer> scoresList = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger CURRENT_SCORE = new AtomicInteger();
 
     /**
      * Class constructor.
@@ -60,7 +62,7 @@ public class Scores {
      * @return an int
      */
     public static int getCurrentScore() {
-        return currentScore;
+        return CURRENT_SCORE.get();
     }
 
     /**
@@ -69,12 +71,12 @@ public class Scores {
      * @param enemyPoints the amount of point to add
      */
     public static void incrementCurrentScore(final int enemyPoints) {
-        currentScore += enemyPoints;
+        CURRENT_SCORE.addAndGet(enemyPoints);
     }
 
     /** Resets current score. */
     public static void resetCurrentScore() {
-        currentScore = 0;
+        CURRENT_SCORE.set(0);
     }
 
     /**
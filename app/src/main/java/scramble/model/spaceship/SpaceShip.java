@@ -1,19 +1,23 @@
 package scramble.model.spaceship;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.model.common.impl.CollisionMask;
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
 import scramble.model.enemy.Rocket;
+import scramble.model.common.util.SpriteLoader;
+import scramble.model.map.api.TerrainIndex;
 import scramble.model.map.impl.MapElement;
 import scramble.utility.Constants;
 
 import java.io.IOException;
 import java.util.logging.Logger;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class handles the spaceship model in the game. It is an implementation
@@ -25,10 +29,17 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
 
     private static final Logger LOG = Logger.getLogger(SpaceShip.class.getName());
     private static final int ANGLE = 45;
+    private static final List<BufferedImage> SPRITES = loadSprites("/ship/ship", ".png",
+            Constants.SPRITE_SPACESHIP);
+    private static final List<BufferedImage> EXPLOSION_SPRITES = loadSprites(
+            "/ship/explosion/ship_explosion_frame", ".png", Constants.SPRITE_SPACESHIP_EXPLOSION);
+    private static final CollisionMask MASK = CollisionMask.ofFrames(SPRITES, Constants.SPACESHIP_WIDTH,
+            Constants.SPACESHIP_HEIGHT);
 
     private final List<BufferedImage> sprites;
     private final List<BufferedImage> explosionSprites;
-    private final Random random;
+    private final CollisionMask mask;
+    private final RandomGenerator random;
 
     private boolean hit;
     private boolean left, up, right, down;
@@ -43,27 +54,26 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
      * @param height the height of the spaceship
      */
     public SpaceShip(final int startX, final int startY, final int width, final int height) {
+        this(startX, startY, width, height, new SplittableRandom());
+    }
+
+    /**
+     * Class construnctor.
+     *
+     * @param startX starting position on the X axis
+     * @param startY starting position on the Y axis
+     * @param width  the width of the spaceship
+     * @param height the height of the spaceship
+     * @param random the generator used to pick the sprites
+     */
+    public SpaceShip(final int startX, final int startY, final int width, final int height,
+            final RandomGenerator random) {
         super(startX, startY, width, height);
-        this.sprites = new ArrayList<>();
-        for (int i = 1; i <= Constants.SPRITE_SPACESHIP; i++) {
-            try {
-                sprites.add(ImageIO.read(getClass().getResource("/ship/ship" + i + ".png")));
-            } catch (IOException e) {
-                LOG.severe("Ops!");
-                LOG.severe(e.toString());
-            }
-        }
-        this.explosionSprites = new ArrayList<>();
-        for (int i = 1; i <= Constants.SPRITE_SPACESHIP_EXPLOSION; i++) {
-            try {
-                explosionSprites
-                        .add(ImageIO.read(getClass().getResource("/ship/explosion/ship_explosion_frame" + i + ".png")));
-            } catch (IOException e) {
-                LOG.severe("Ops!");
-                LOG.severe(e.toString());
-            }
-        }
-        random = new Random();
+        this.sprites = SPRITES;
+        this.explosionSprites = EXPLOSION_SPRITES;
+        this.mask = width == MASK.getWidth() && height == MASK.getHeight() ? MASK
+                : CollisionMask.ofFrames(SPRITES, width, height);
+        this.random = random;
         this.hit = false;
 
     }
@@ -98,8 +108,7 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
             ySpeed *= Math.cos(ANGLE);
         }
 
-        updatePosition(new PairImpl<>(getPosition().getFirstElement() + xSpeed,
-                getPosition().getSecondElement() + ySpeed));
+        moveBy(xSpeed, ySpeed);
     }
 
     /** {@inheritDoc} */
@@ -114,7 +123,11 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
      *
      * @param map the map
      * @return true it has touched the map
+     * @deprecated only the hit boxes are checked, at the current position:
+     *             use {@link #checkGroundCollision(TerrainIndex)}, which
+     *             compares the opaque pixels along the movement
      */
+    @Deprecated
     public boolean checkGroundCollision(final List<MapElement> map) {
         for (final MapElement me : map) {
             // Comment below to disable hitbox
@@ -126,6 +139,53 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
         return false;
     }
 
+    /**
+     * Check if the spaceship is colliding with the terrain of the landscape.
+     * Only the opaque pixels of the spaceship and of the terrain are taken
+     * into account, at every pixel of the movement of the spaceship since the
+     * last collision check.
+     *
+     * @param terrain the terrain
+     * @return true it has touched the terrain
+     */
+    public boolean checkGroundCollision(final TerrainIndex terrain) {
+        if (touchesGround(terrain)) {
+            hit = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tells if the spaceship has touched the terrain of the landscape, like
+     * {@link #checkGroundCollision(TerrainIndex)} but without marking the
+     * spaceship as hit.
+     *
+     * @param terrain the terrain
+     * @return true it has touched the terrain
+     */
+    public boolean touchesGround(final TerrainIndex terrain) {
+        final int steps = steps(getSweepDx(), getSweepDy());
+        for (int step = 1; step <= steps; step++) {
+            if (terrain.hitsTerrain(getX() - getSweepDx() + getSweepDx() * step / steps,
+                    getY() - getSweepDy() + getSweepDy() * step / steps, this.mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter for the {@link CollisionMask} of the spaceship, that merges the
+     * ones of all its frames.
+     *
+     * @return the mask
+     */
+    @SuppressFBWarnings
+    public CollisionMask getMask() {
+        return this.mask;
+    }
+
     /**
      * Returns randomised image for explosion animation.
      *
@@ -232,17 +292,87 @@ public final class SpaceShip extends GameElementImpl implements Cloneable {
      *
      * @return {@code true} if the {@code SpaceShip} has collided, {@code fales}
      *         otherwise
+     * @deprecated only the hit boxes are checked, at the current position:
+     *             use {@link #checkEnemyCollision(Rocket)}, which compares the
+     *             opaque pixels along the movement
      */
+    @Deprecated
     public boolean checkEnemyCollision(final List<Rocket> rockets) {
         for (final Rocket rocket : rockets) {
             if (rocket.hasCollided(this)) {
-                this.hit = true;
                 setHit(true);
                 return true;
             }
+        }
+        return false;
+    }
+
+    /**
+     * Check if its happened a collision between a single {@link Rocket} and the
+     * {@code SpaceShip}. Once the hit boxes overlap, the opaque pixels of the
+     * two sprites are compared, at every pixel of the movement of the
+     * spaceship towards the rocket since the last collision check.
+     *
+     * @param rocket the {@link Rocket} that can cause a collision
+     *
+     * @return {@code true} if the {@code SpaceShip} has collided, {@code false}
+     *         otherwise
+     */
+    public boolean checkEnemyCollision(final Rocket rocket) {
+        if (touchesEnemy(rocket)) {
+            setHit(true);
+            return true;
+        }
+        return false;
+    }
 
+    /**
+     * Tells if the {@code SpaceShip} has touched a single {@link Rocket}, like
+     * {@link #checkEnemyCollision(Rocket)} but without marking the spaceship
+     * as hit.
+     *
+     * @param rocket the {@link Rocket} that can cause a collision
+     *
+     * @return {@code true} if the {@code SpaceShip} has collided, {@code false}
+     *         otherwise
+     */
+    public boolean touchesEnemy(final Rocket rocket) {
+        final int dx = getSweepDx() - rocket.getSweepDx();
+        final int dy = getSweepDy() - rocket.getSweepDy();
+        final int steps = steps(dx, dy);
+        for (int step = 1; step <= steps; step++) {
+            final int x = getX() - dx + dx * step / steps;
+            final int y = getY() - dy + dy * step / steps;
+            if (rocket.intersects(x, y, getWidth(), getHeight())
+                    && CollisionMask.overlaps(this.mask, x, y, rocket.getMask(), rocket.getX(), rocket.getY())) {
+                return true;
+            }
         }
         return false;
     }
 
+    /* The number of one pixel steps of a movement, at least one to check where the spaceship is. */
+    private static int steps(final int dx, final int dy) {
+        return Math.max(1, Math.max(Math.abs(dx), Math.abs(dy)));
+    }
+
+    /*
+     * The sprites are read once and shared by every spaceship, so that a new
+     * game does not have to read them again from the resources, already
+     * scaled to the size of the spaceship.
+     */
+    private static List<BufferedImage> loadSprites(final String prefix, final String suffix, final int number) {
+        final List<BufferedImage> loaded = new ArrayList<>();
+        for (int i = 1; i <= number; i++) {
+            try {
+                loaded.add(SpriteLoader.read(prefix + i + suffix, Constants.SPACESHIP_WIDTH,
+                        Constants.SPACESHIP_HEIGHT));
+            } catch (IOException e) {
+                LOG.severe("Ops!");
+                LOG.severe(e.toString());
+            }
+        }
+        return Collections.unmodifiableList(loaded);
+    }
+
 }
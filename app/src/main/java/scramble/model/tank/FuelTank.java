@@ -3,16 +3,16 @@ package scramble.model.tank;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.logging.Logger;
 import java.util.random.RandomGenerator;
 
-import javax.imageio.ImageIO;
-
 import scramble.model.bullets.Bullet;
 import scramble.model.common.impl.GameElementImpl;
-import scramble.model.common.impl.PairImpl;
+import scramble.model.common.util.SpriteLoader;
 import scramble.utility.Constants;
 
 /**
@@ -24,10 +24,34 @@ public class FuelTank extends GameElementImpl {
     private static final Logger LOG = Logger.getLogger(FuelTank.class.getName());
     private static final int EXP_SPRITES = 4;
     private static final int EXPLOSION_DURATION = 15;
+    private static final List<BufferedImage> SPRITE = new ArrayList<>();
+    private static final List<BufferedImage> EXPLOSION_SPRITES = new ArrayList<>();
+
+    static {
+        try {
+            SPRITE.add(SpriteLoader.read("/fueltank/fuel_dump.png", Constants.FUEL_TANK_WIDTH,
+                    Constants.FUEL_TANK_HEIGHT));
+        } catch (IOException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+        }
+
+        for (int i = 1; i <= EXP_SPRITES; i++) {
+            try {
+                EXPLOSION_SPRITES.add(SpriteLoader.read("/fueltank/explosion_frame" + i + "_shader.png",
+                        Constants.FUEL_TANK_WIDTH, Constants.FUEL_TANK_HEIGHT));
+            } catch (IOException e) {
+                LOG.severe("Ops! couldn't load enemy_rocket_explosion_sprites");
+                LOG.severe(e.toString());
+            }
+        }
+    }
 
     private final List<BufferedImage> sprite;
     private final List<BufferedImage> explosionSprites;
 
+    private final RandomGenerator random;
+
     private boolean destroyed;
     private boolean exploded;
     private int counterForExplosion;
@@ -41,33 +65,30 @@ public class FuelTank extends GameElementImpl {
      * @param height the height of the {@code FuelTank}
      */
     public FuelTank(final int x, final int y, final int width, final int height) {
-        super(x, y, width, height);
-        this.explosionSprites = new ArrayList<>();
-        this.sprite = new ArrayList<>();
-        try {
-            this.sprite.add(ImageIO.read(FuelTank.class.getResource("/fueltank/fuel_dump.png")));
-        } catch (IOException e) {
-            LOG.severe("Ops!");
-            LOG.severe(e.toString());
-        }
+        this(x, y, width, height, new SplittableRandom());
+    }
 
-        for (int i = 1; i <= EXP_SPRITES; i++) {
-            try {
-                explosionSprites
-                        .add(ImageIO.read(FuelTank.class.getResource("/fueltank/explosion_frame" + i + "_shader.png")));
-            } catch (IOException e) {
-                LOG.severe("Ops! couldn't load enemy_rocket_explosion_sprites");
-                LOG.severe(e.toString());
-            }
-        }
+    /**
+     * Constructor for the class {@code FuelTank}.
+     *
+     * @param x      the x position of the {@code FuelTank}
+     * @param y      the y position of the {@code FuelTank}
+     * @param width  the width of the {@code FuelTank}
+     * @param height the height of the {@code FuelTank}
+     * @param random the generator used to pick the explosion sprites
+     */
+    public FuelTank(final int x, final int y, final int width, final int height, final RandomGenerator random) {
+        super(x, y, width, height);
+        this.random = random;
+        this.explosionSprites = Collections.unmodifiableList(EXPLOSION_SPRITES);
+        this.sprite = Collections.unmodifiableList(SPRITE);
         this.destroyed = false;
         this.exploded = false;
     }
 
     /** Method for the movement of the {@code FuelTank}. */
     public void move() {
-        updatePosition(new PairImpl<>(getPosition().getFirstElement() - Constants.LANDSCAPEX_SPEED,
-                getPosition().getSecondElement()));
+        moveBy(-Constants.LANDSCAPEX_SPEED, 0);
     }
 
     /** {@inheritDoc} */
@@ -82,8 +103,7 @@ public class FuelTank extends GameElementImpl {
      * @return BufferedImage
      */
     public BufferedImage getExplosionSprite() {
-        final RandomGenerator randG = RandomGenerator.of("Random");
-        return explosionSprites.get(randG.nextInt(EXP_SPRITES));
+        return explosionSprites.get(random.nextInt(EXP_SPRITES));
     }
 
     /**
@@ -95,14 +115,28 @@ public class FuelTank extends GameElementImpl {
      */
     public boolean checkCollisionBullet(final Set<Bullet> bullets) {
         for (final Bullet b : bullets) {
-            if (hasCollided(b)) {
-                destroyed = true;
+            if (checkCollisionBullet(b)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Check if a collision between a single {@link Bullet} and a
+     * {@code FuelTank} is happened.
+     *
+     * @param bullet the bullet to check
+     * @return true if a collision is happened, false otherwise
+     */
+    public boolean checkCollisionBullet(final Bullet bullet) {
+        if (hasCollided(bullet)) {
+            destroyed = true;
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Getter for hit.
      *
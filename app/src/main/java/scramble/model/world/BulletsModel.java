@@ -0,0 +1,163 @@
+package scramble.model.world;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.TimedLinkedListImpl;
+import scramble.model.spaceship.SpaceShip;
+import scramble.utility.Constants;
+
+/**
+ * Model of the bullets shot by the spaceship, both the flying ones and the
+ * exploding bombs.
+ */
+public class BulletsModel {
+
+    private static final int MAX_BOMB = 2;
+    private static final int EXPLOSION_DURATION = 1000;
+
+    private final GameRandom random;
+    private final Set<Bullet> bullets;
+    private final Set<Bullet> bulletsView;
+    private final TimedLinkedListImpl<Bullet> explodingBullets;
+
+    /**
+     * Class constructor.
+     *
+     * @param random the random service of the world
+     */
+    public BulletsModel(final GameRandom random) {
+        this.random = random;
+        this.bullets = new LinkedHashSet<>();
+        this.bulletsView = Collections.unmodifiableSet(bullets);
+        this.explodingBullets = new TimedLinkedListImpl<>();
+    }
+
+    /**
+     * Getter for the bullets.
+     *
+     * @return a copy of the bullet set
+     */
+    public Set<Bullet> getBullets() {
+        return new LinkedHashSet<>(bullets);
+    }
+
+    /**
+     * Getter for a read-only view of the flying bullets, for the checks that
+     * run every tick and can not afford a copy. The view follows the changes
+     * of the model, so it must not be kept while the model updates.
+     *
+     * @return the view of the set
+     */
+    @SuppressFBWarnings
+    public Set<Bullet> getBulletsView() {
+        return bulletsView;
+    }
+
+    /**
+     * Getter for the exploding bullets.
+     *
+     * @return a copy of the exploding bullet list
+     */
+    public List<Bullet> getExplodingBullets() {
+        return explodingBullets.getList();
+    }
+
+    /**
+     * Returns the sprites of the bullets, followed by the ones of the
+     * explosions.
+     *
+     * @return the list of the sprites
+     */
+    public List<Sprite> getSprites() {
+        final List<Sprite> sprites = new ArrayList<>();
+        for (final Bullet bullet : bullets) {
+            addSprite(sprites, bullet, bullet.getSprite());
+        }
+        for (final Bullet bullet : explodingBullets.getList()) {
+            addSprite(sprites, bullet, bullet.getExpSprite());
+        }
+        return sprites;
+    }
+
+    /**
+     * Removes the specified bullets from the set of bullets.
+     *
+     * @param bulletsToRemove the bullets to be removed
+     */
+    public void removeBullets(final List<Bullet> bulletsToRemove) {
+        bulletsToRemove.forEach(bullets::remove);
+    }
+
+    /**
+     * Adds the given list of bullets to the list of exploding bullets.
+     *
+     * @param bulletsToRemove the list of bullets that have collided and are
+     *                        exploding
+     */
+    public void addExplodingBullets(final List<Bullet> bulletsToRemove) {
+        explodingBullets.addAll(bulletsToRemove, EXPLOSION_DURATION);
+    }
+
+    /** Removes every bullet. */
+    public void clear() {
+        bullets.clear();
+    }
+
+    /**
+     * Moves every bullet, removes the ones that have gone off the screen and
+     * moves the explosions together with the landscape. The explosions that
+     * have lasted long enough are removed.
+     */
+    public void update() {
+        explodingBullets.update(Constants.ENTITY_UPDATE_MS);
+        for (final Bullet b : bullets) {
+            b.moveByType();
+        }
+        final List<Bullet> bulletsToRemove = bullets.stream()
+                .peek(Bullet::moveByType)
+                .filter(b -> b.getX() > Constants.WINDOW_WIDTH)
+                .toList();
+        removeBullets(bulletsToRemove);
+        final List<Bullet> bulletsCopy = new ArrayList<>(explodingBullets.getList());
+        bulletsCopy.forEach(b -> b.moveExplosion(-Constants.LANDSCAPEX_SPEED));
+    }
+
+    /**
+     * Shoots a bullet from the spaceship's current position. The bullet starts
+     * at the right edge of the spaceship, centered vertically. No more than
+     * {@value #MAX_BOMB} bombs can fly at the same time.
+     *
+     * @param type      the type of the bullet
+     * @param spaceship the spaceship that shoots
+     */
+    public void shootBullet(final BulletType type, final SpaceShip spaceship) {
+        if (type == BulletType.TYPE_BOMB) {
+            final long activeBombCount = bullets.stream()
+                    .filter(b -> b.getType() == BulletType.TYPE_BOMB)
+                    .count();
+            if (activeBombCount >= MAX_BOMB) {
+                return;
+            }
+        }
+
+        final int bulletX = spaceship.getX() + spaceship.getWidth();
+        final int bulletY = spaceship.getY() + spaceship.getHeight() / 2;
+        bullets.add(new Bullet(bulletX, bulletY, type, random.split(RandomStream.COSMETIC)));
+    }
+
+    private void addSprite(final List<Sprite> sprites, final Bullet bullet, final BufferedImage image) {
+        if (image != null) {
+            sprites.add(new Sprite(image, bullet.getX(), bullet.getY(), bullet.getWidth(), bullet.getHeight()));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package scramble.model.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.map.ColumnCache;
+import scramble.controller.map.MapController;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomStream;
+import scramble.model.map.util.LandUtils;
+import scramble.model.tank.FuelTank;
+import scramble.utility.Constants;
+
+/**
+ * Model of the {@link FuelTank} placed on the map.
+ *
+ * <p>
+ * The tanks are placed one chunk of the map at a time, when the screen gets
+ * close to it, so only the tanks just ahead of the screen wait. On a map
+ * with no end, the ones that leave the screen are dropped.
+ * </p>
+ */
+public class FuelTanksModel {
+
+    private static final int SPAWN = 13;
+    private static final int AVOID = 5;
+
+    private final MapController mapController;
+    private final GameRandom random;
+    private final List<FuelTank> fuelTanks;
+    private final List<FuelTank> tanksOnScreen;
+    private final List<FuelTank> tanksView;
+
+    private int mapX;
+    private int nextChunk;
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map on which the tanks spawn
+     * @param random        the random service of the world
+     */
+    public FuelTanksModel(final MapController mapController, final GameRandom random) {
+        this.mapController = mapController;
+        this.random = random;
+        this.fuelTanks = new ArrayList<>();
+        this.tanksOnScreen = new ArrayList<>();
+        this.tanksView = Collections.unmodifiableList(tanksOnScreen);
+        this.fillTanks();
+    }
+
+    /**
+     * Method for resetting the {@link FuelTank} position.
+     */
+    public void resetTanks() {
+        this.tanksOnScreen.clear();
+        this.fuelTanks.clear();
+        this.nextChunk = getEdgeChunk();
+        this.fillTanks();
+    }
+
+    /**
+     * Getter for the {@link List} of {@link FuelTank}.
+     *
+     * @return a copy of the on screen tanks list
+     */
+    public List<FuelTank> getFuelTanks() {
+        return new ArrayList<>(tanksOnScreen);
+    }
+
+    /**
+     * Getter for a read-only view of the tanks on the screen, for the checks
+     * that run every tick and can not afford a copy. The view follows the
+     * changes of the model, so it must not be kept while the model updates.
+     *
+     * @return the view of the list
+     */
+    @SuppressFBWarnings
+    public List<FuelTank> getFuelTanksView() {
+        return tanksView;
+    }
+
+    /**
+     * Returns the sprites of the tanks on the screen.
+     *
+     * @return the list of the sprites
+     */
+    public List<Sprite> getSprites() {
+        final List<Sprite> sprites = new ArrayList<>();
+        for (final FuelTank tank : tanksOnScreen) {
+            if (tank.getSprite() != null) {
+                sprites.add(new Sprite(tank.isDestroyed() ? tank.getExplosionSprite() : tank.getSprite(),
+                        tank.getX(), tank.getY(),
+                        tank.getWidth(), tank.getHeight()));
+            }
+        }
+        return sprites;
+    }
+
+    /**
+     * Setter for mapX.
+     *
+     * @param x x-axis coordinate
+     */
+    public void setMapX(final int x) {
+        this.mapX = x;
+    }
+
+    /** Moves the tanks and makes explode the destroyed ones. */
+    public void update() {
+        for (final FuelTank tank : tanksOnScreen) {
+            tank.move();
+            if (tank.isDestroyed()) {
+                tank.setExploded(true);
+            }
+        }
+    }
+
+    /** Brings on the screen the tanks that the landscape has reached. */
+    public void loadTanks() {
+        this.fillTanks();
+        final Iterator<FuelTank> iterator = fuelTanks.iterator();
+        while (iterator.hasNext()) {
+            final FuelTank ft = iterator.next();
+            if (ft.getX() <= mapX + Constants.WINDOW_WIDTH) {
+                ft.setPosition(Constants.WINDOW_WIDTH, ft.getY() - Constants.FUEL_TANK_HEIGHT);
+                tanksOnScreen.add(ft);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the exploded tanks. On a map with no end, the tanks that have
+     * left the screen are removed too.
+     */
+    public void checkForExplosion() {
+        final Iterator<FuelTank> iterator = tanksOnScreen.iterator();
+        while (iterator.hasNext()) {
+            final FuelTank ft = iterator.next();
+            if (ft.isExploded() && ft.incrementCounterForExplosion() == FuelTank.getExplosionDuration()) {
+                iterator.remove();
+            } else if (mapController.isEndless() && ft.getX() + ft.getWidth() < 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /*
+     * Places the tanks of the chunks up to the one after the right edge of the
+     * screen that have not been looked at yet, on the spawn positions ahead of
+     * the screen.
+     */
+    private void fillTanks() {
+        final int endOfSpawn = mapController.isEndless() ? Integer.MAX_VALUE : Constants.END_OF_SPAWNING;
+        final int lastChunk = Math.min(getEdgeChunk() + 1, mapController.getChunkCount() - 1);
+        for (; this.nextChunk <= lastChunk; this.nextChunk++) {
+            int counter = 0;
+            for (final Pair<Integer, Integer> pos : mapController.getSpawnPositions(this.nextChunk)) {
+                if (counter % SPAWN == 0 && counter % AVOID != 0
+                        && pos.getFirstElement() > this.mapX + Constants.WINDOW_WIDTH
+                        && pos.getFirstElement() < endOfSpawn) {
+                    this.fuelTanks
+                            .add(new FuelTank(pos.getFirstElement(), pos.getSecondElement(),
+                                    Constants.FUEL_TANK_WIDTH, Constants.FUEL_TANK_HEIGHT,
+                                    random.split(RandomStream.COSMETIC)));
+                }
+                counter++;
+            }
+        }
+    }
+
+    private int getEdgeChunk() {
+        return LandUtils.dividePixelPerSprite(this.mapX + Constants.WINDOW_WIDTH) / ColumnCache.CHUNK_SIZE;
+    }
+}
@@ -0,0 +1,309 @@
+package scramble.model.world;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import scramble.controller.map.MapController;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.util.LandUtils;
+
+/**
+ * The landscape of a map, drawn in advance in images of
+ * {@link #COLUMNS_PER_CHUNK} columns each, the chunks, so that the loaded
+ * columns are drawn with a few images instead of one sprite for every tile.
+ *
+ * <p>
+ * Only the chunks around the loaded columns are kept: the one after them is
+ * drawn ahead of the scroll, while the ones left behind, or far from the
+ * columns loaded after a reset, are dropped. When the loaded columns go past
+ * the end of the map, the chunks of its start are placed after its last one.
+ * A chunk is never changed once it has been drawn, so its image can be read
+ * by any thread.
+ * </p>
+ *
+ * <p>
+ * The chunks are drawn by a thread of their own, and only once the sprites are
+ * asked for: moving the chunks onto the loaded columns is just bookkeeping, so
+ * a game with no view never draws them. The thread that runs the game only
+ * waits for the chunks on the screen that were not drawn ahead, as after a
+ * reset.
+ * </p>
+ *
+ * <p>
+ * The chunks are kept in a ring as large as the columns the
+ * {@link MapController} keeps, so a map with no end takes the same memory
+ * however far the landscape goes; when the map is started again, every
+ * chunk is dropped.
+ * </p>
+ */
+public class LandscapeChunks {
+
+    /** The number of columns drawn in a chunk. */
+    public static final int COLUMNS_PER_CHUNK = 16;
+
+    private static final ProfiledSection RENDER_SECTION = Profiler.section("landscape.chunks");
+    private static final ExecutorService DRAWER = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "landscape-chunks");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MapController mapController;
+    private final List<CompletableFuture<BufferedImage>> chunks;
+    private final int[] chunkIds;
+    // Only read and written by the drawing thread
+    private final Map<BufferedImage, int[]> tilePixels = new IdentityHashMap<>();
+    private final AtomicInteger built = new AtomicInteger();
+    private final int chunkCount;
+    private final int mapWidth;
+    private int generation;
+    private int firstChunk;
+    private int lastChunk;
+    private int lastWrappedChunk;
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map to draw
+     */
+    public LandscapeChunks(final MapController mapController) {
+        this.mapController = mapController;
+        this.chunkCount = (mapController.getMapSize() + COLUMNS_PER_CHUNK - 1) / COLUMNS_PER_CHUNK;
+        final int slots = Math.min(this.chunkCount,
+                (mapController.getCapacity() + COLUMNS_PER_CHUNK - 1) / COLUMNS_PER_CHUNK + 1);
+        this.chunks = new ArrayList<>(Collections.nCopies(slots, null));
+        this.chunkIds = new int[slots];
+        this.generation = mapController.getGeneration();
+        this.mapWidth = LandUtils.multiplyPixelPerSprite(mapController.getMapSize());
+        this.lastChunk = -1;
+        this.lastWrappedChunk = -1;
+    }
+
+    /**
+     * Moves the chunks to keep onto the loaded columns, dropping every chunk
+     * that is neither under them nor the one after them. No chunk is drawn.
+     *
+     * @param firstColumn the index of the first loaded column
+     * @param columns     the number of loaded columns, which go on with the
+     *                    first columns of the map after its end
+     */
+    public void moveTo(final int firstColumn, final int columns) {
+        final int mapSize = this.mapController.getMapSize();
+        if (this.generation != this.mapController.getGeneration()) {
+            for (int slot = 0; slot < this.chunks.size(); slot++) {
+                drop(slot);
+            }
+            this.generation = this.mapController.getGeneration();
+        }
+        final int end = Math.min(firstColumn + columns, mapSize);
+        this.firstChunk = firstColumn / COLUMNS_PER_CHUNK;
+        this.lastChunk = end <= firstColumn ? this.firstChunk - 1 : (end - 1) / COLUMNS_PER_CHUNK;
+        this.lastWrappedChunk = firstColumn + columns > mapSize
+                ? Math.min(firstColumn + columns - mapSize - 1, mapSize - 1) / COLUMNS_PER_CHUNK
+                : -1;
+        for (int slot = 0; slot < this.chunks.size(); slot++) {
+            if (Objects.nonNull(this.chunks.get(slot)) && !isKept(this.chunkIds[slot])) {
+                drop(slot);
+            }
+        }
+    }
+
+    /**
+     * Asks for the chunk after the loaded columns to be drawn in the
+     * background, if it has not been asked for yet. At the end of the map the
+     * chunk after them is the first one.
+     */
+    public void prefetch() {
+        if (this.chunkCount > 0) {
+            request(next());
+        }
+    }
+
+    /**
+     * Returns the chunks under the loaded columns, placed on the screen, and
+     * asks for the one after them. It waits for the chunks under the columns
+     * that have not been drawn yet.
+     *
+     * @param landscapeX the number of pixels the landscape has scrolled
+     * @return the list of the sprites
+     */
+    public List<Sprite> getSprites(final int landscapeX) {
+        prefetch();
+        final List<Sprite> sprites = new ArrayList<>();
+        for (int chunk = this.firstChunk; chunk <= this.lastChunk; chunk++) {
+            sprites.add(getSprite(chunk, getX(chunk) - landscapeX));
+        }
+        for (int chunk = 0; chunk <= this.lastWrappedChunk; chunk++) {
+            sprites.add(getSprite(chunk, getX(chunk) + this.mapWidth - landscapeX));
+        }
+        return sprites;
+    }
+
+    /**
+     * Tells if a chunk is drawn and kept.
+     *
+     * @param chunk the index of the chunk
+     * @return {@code true} if the image of the chunk is kept
+     */
+    public boolean isDrawn(final int chunk) {
+        return isRequested(chunk) && this.chunks.get(chunk % this.chunks.size()).isDone();
+    }
+
+    /**
+     * Waits for every chunk that has been asked for and is kept to be drawn.
+     */
+    public void awaitDrawn() {
+        for (final CompletableFuture<BufferedImage> chunk : this.chunks) {
+            if (Objects.nonNull(chunk)) {
+                chunk.join();
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of chunks that are kept, drawn or asked for.
+     *
+     * @return the number of chunks
+     */
+    public int size() {
+        int size = 0;
+        for (final CompletableFuture<BufferedImage> chunk : this.chunks) {
+            if (Objects.nonNull(chunk)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Getter for the number of chunks drawn since the creation, counting again
+     * the ones drawn after being dropped.
+     *
+     * @return the number of chunks drawn
+     */
+    public int getBuilt() {
+        return this.built.get();
+    }
+
+    /**
+     * Getter for the number of chunks of the map.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    private int next() {
+        return ((this.lastWrappedChunk >= 0 ? this.lastWrappedChunk : this.lastChunk) + 1) % this.chunkCount;
+    }
+
+    private boolean isKept(final int chunk) {
+        return chunk >= this.firstChunk && chunk <= this.lastChunk || chunk <= this.lastWrappedChunk
+                || chunk == next();
+    }
+
+    private Sprite getSprite(final int chunk, final int x) {
+        final BufferedImage image = request(chunk).join();
+        return new Sprite(image, x, 0, image.getWidth(), image.getHeight());
+    }
+
+    private boolean isRequested(final int chunk) {
+        final int slot = chunk % this.chunks.size();
+        return Objects.nonNull(this.chunks.get(slot)) && this.chunkIds[slot] == chunk;
+    }
+
+    /*
+     * Asks for a chunk to be drawn, unless it has already been. The columns
+     * are read by this thread, the one that moves the map; the drawing thread
+     * only reads their tiles, which never change.
+     */
+    private CompletableFuture<BufferedImage> request(final int chunk) {
+        final int slot = chunk % this.chunks.size();
+        if (!isRequested(chunk)) {
+            final int first = chunk * COLUMNS_PER_CHUNK;
+            final int last = Math.min(first + COLUMNS_PER_CHUNK, this.mapController.getMapSize()) - 1;
+            final List<MapColumn> columns = new ArrayList<>(last - first + 1);
+            for (int i = first; i <= last; i++) {
+                columns.add(this.mapController.getColumn(i));
+            }
+            drop(slot);
+            this.chunks.set(slot, CompletableFuture.supplyAsync(() -> render(columns), DRAWER));
+            this.chunkIds[slot] = chunk;
+        }
+        return this.chunks.get(slot);
+    }
+
+    private void drop(final int slot) {
+        final CompletableFuture<BufferedImage> chunk = this.chunks.get(slot);
+        if (Objects.nonNull(chunk)) {
+            chunk.cancel(false);
+            this.chunks.set(slot, null);
+        }
+    }
+
+    private int getX(final int chunk) {
+        return this.mapController.getColumn(chunk * COLUMNS_PER_CHUNK).getX();
+    }
+
+    private BufferedImage render(final List<MapColumn> columns) {
+        final long start = RENDER_SECTION.begin();
+        final MapColumn lastColumn = columns.get(columns.size() - 1);
+        final int chunkX = columns.get(0).getX();
+        final BufferedImage image = new BufferedImage(lastColumn.getX() + lastColumn.gettWidth() - chunkX,
+                LandUtils.multiplyPixelPerSprite(ColumnStore.ROWS), BufferedImage.TYPE_INT_ARGB);
+        final WritableRaster raster = image.getRaster();
+        for (final MapColumn column : columns) {
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                final int[] pixels = getPixels(column.getBI(row), column.gettWidth(), column.getBIsHeight());
+                if (pixels.length > 0) {
+                    raster.setDataElements(column.getX() - chunkX, row * column.getBIsHeight(),
+                            column.gettWidth(), column.getBIsHeight(), pixels);
+                }
+            }
+        }
+        this.built.incrementAndGet();
+        RENDER_SECTION.end(start);
+        return image;
+    }
+
+    /*
+     * The pixels of a sprite as it is drawn on a transparent image with the
+     * given size, or none if it is drawn fully transparent. They are computed
+     * once for every sprite.
+     */
+    private int[] getPixels(final BufferedImage sprite, final int width, final int height) {
+        int[] pixels = this.tilePixels.get(sprite);
+        if (Objects.isNull(pixels)) {
+            final BufferedImage tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g = tile.createGraphics();
+            try {
+                g.drawImage(sprite, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            pixels = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+            if (Arrays.stream(pixels).allMatch(pixel -> pixel == 0)) {
+                pixels = new int[0];
+            }
+            this.tilePixels.put(sprite, pixels);
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,182 @@
+package scramble.model.world;
+
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import scramble.controller.map.ColumnWindow;
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.TerrainIndex;
+import scramble.model.map.impl.HeightField;
+import scramble.model.map.impl.MapElement;
+import scramble.model.map.util.LandUtils;
+import scramble.utility.Constants;
+
+/**
+ * Model of the scrolling landscape. It keeps the {@link ColumnWindow} of the
+ * loaded columns on the left edge of the screen, moving it one column at a
+ * time, and moves the hit boxes of the columns at every update. After the end
+ * of the map the landscape goes on with its start, without a jump.
+ *
+ * <p>
+ * Collisions with the landscape are answered by the {@link HeightField} of the
+ * map, looking only at the loaded columns under the box, exactly as if the
+ * hit boxes of the loaded {@link MapElement} were checked one by one.
+ * </p>
+ */
+public class LandscapeModel implements TerrainIndex {
+
+    private final MapController mapController;
+    private final HeightField heightField;
+    private final LandscapeChunks chunks;
+    private final ColumnWindow window;
+    private final int mapWidth;
+
+    private int landscapeX;
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map to scroll
+     */
+    @SuppressFBWarnings
+    public LandscapeModel(final MapController mapController) {
+        this.mapController = mapController;
+        this.heightField = mapController.getHeightField();
+        this.chunks = new LandscapeChunks(mapController);
+        this.window = mapController.getWindow();
+        this.mapWidth = LandUtils.multiplyPixelPerSprite(mapController.getMapSize());
+        this.landscapeX = 0;
+        this.moveColumns();
+    }
+
+    /**
+     * Getter for the MapController of the landscape.
+     *
+     * @return the MapController
+     */
+    @SuppressFBWarnings
+    public MapController getMapController() {
+        return this.mapController;
+    }
+
+    /**
+     * Getter for the columns loaded around the screen.
+     *
+     * @return a read-only view of the loaded columns, that follows the
+     *         landscape as it scrolls
+     * @see ColumnWindow#asList()
+     */
+    public List<MapColumn> getLoadedColumns() {
+        return this.window.asList();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hitsTerrain(final int x, final int y, final int width, final int height) {
+        return this.heightField.hitsTerrain(x + this.landscapeX, y, width, height, this.window.getFirst(),
+                this.window.getFirst() + this.window.size());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hitsTerrain(final int x, final int y, final CollisionMask mask) {
+        return this.heightField.hitsTerrain(x + this.landscapeX, y, mask, this.window.getFirst(),
+                this.window.getFirst() + this.window.size());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double timeOfImpact(final int x, final int y, final int width, final int height, final int dx,
+            final int dy) {
+        return this.heightField.timeOfImpact(x + this.landscapeX, y, width, height, dx, dy, this.window.getFirst(),
+                this.window.getFirst() + this.window.size());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hitsCeiling(final int x, final int y, final int width, final int height) {
+        return this.heightField.hitsCeiling(x + this.landscapeX, y, width, height, this.window.getFirst(),
+                this.window.getFirst() + this.window.size());
+    }
+
+    /**
+     * Returns the sprites of the loaded columns, placed on the screen. The
+     * columns are drawn by the {@link LandscapeChunks} that hold them, only
+     * when a view asks for the sprites.
+     *
+     * @return the list of the sprites
+     */
+    public List<Sprite> getSprites() {
+        return this.chunks.getSprites(this.landscapeX);
+    }
+
+    /**
+     * Getter for the chunks in which the landscape is drawn.
+     *
+     * @return the chunks of the landscape
+     */
+    @SuppressFBWarnings
+    public LandscapeChunks getChunks() {
+        return this.chunks;
+    }
+
+    /**
+     * Getter for the x offset of the landscape.
+     *
+     * @return the number of pixels the landscape has scrolled
+     */
+    public int getLandscapeX() {
+        return this.landscapeX;
+    }
+
+    /**
+     * Getter for MapX.
+     *
+     * @return the x coordinate of the left edge of the screen on the map
+     */
+    public int getCurrentMapX() {
+        return this.landscapeX;
+    }
+
+    /**
+     * Resets starting position of the map.
+     *
+     * @param starterPosition self explanatory
+     */
+    public void reset(final int starterPosition) {
+        this.landscapeX = Math.floorMod(starterPosition, this.mapWidth);
+        this.mapController.resetToX(this.landscapeX);
+        this.moveColumns();
+    }
+
+    /** Scrolls the landscape by {@link Constants#LANDSCAPEX_SPEED}. */
+    public void update() {
+        this.landscapeX += Constants.LANDSCAPEX_SPEED;
+        if (this.landscapeX >= this.mapWidth) {
+            this.landscapeX -= this.mapWidth;
+        }
+        boolean moved = false;
+        while (this.window.getFirst() != LandUtils.dividePixelPerSprite(this.landscapeX)) {
+            this.mapController.advance();
+            moved = true;
+        }
+        if (moved) {
+            this.chunks.moveTo(this.window.getFirst(), this.window.size());
+        }
+        this.updateHitBoxes();
+    }
+
+    private void moveColumns() {
+        this.chunks.moveTo(this.window.getFirst(), this.window.size());
+        this.updateHitBoxes();
+    }
+
+    private void updateHitBoxes() {
+        for (int i = 0; i < this.window.size(); i++) {
+            this.window.get(i).updateHitBox(this.window.getX(i) - this.landscapeX);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package scramble.model.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.map.ColumnCache;
+import scramble.controller.map.MapController;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomStream;
+import scramble.model.enemy.Boss;
+import scramble.model.enemy.Rocket;
+import scramble.model.map.util.LandUtils;
+import scramble.utility.Constants;
+
+/**
+ * Model of the {@link Rocket} enemies and of the final {@link Boss}. The
+ * rockets wait on the map until the landscape brings them on the screen.
+ *
+ * <p>
+ * The rockets are placed one chunk of the map at a time, when the screen
+ * gets close to it, on one spawn position of the chunk every
+ * {@value #ROCKET_OFFSET}, so only the rockets just ahead of the screen wait.
+ * </p>
+ *
+ * <p>
+ * On a map with no end there is no boss, and the rockets that leave the
+ * screen are dropped.
+ * </p>
+ */
+public class RocketsModel {
+
+    private static final int ROCKET_OFFSET = 5;
+
+    private final MapController mapController;
+    private final GameRandom random;
+    private final List<Rocket> rockets;
+    private final List<Rocket> rocketsOnScreen;
+    private final List<Rocket> rocketsView;
+    private final List<Boss> bosses;
+
+    private int mapX;
+    private int nextChunk;
+
+    /**
+     * Class constructor.
+     *
+     * @param mapController the controller of the map on which the rockets spawn
+     * @param random        the random service of the world
+     */
+    public RocketsModel(final MapController mapController, final GameRandom random) {
+        this.mapController = mapController;
+        this.random = random;
+        this.rockets = new ArrayList<>();
+        this.rocketsOnScreen = new ArrayList<>();
+        this.rocketsView = Collections.unmodifiableList(rocketsOnScreen);
+        this.bosses = new ArrayList<>();
+        this.fillRockets();
+    }
+
+    /** Resets all rockets and refill the list anew. */
+    public void resetRockets() {
+        this.rocketsOnScreen.clear();
+        this.rockets.clear();
+        this.nextChunk = getEdgeChunk();
+        this.fillRockets();
+        this.loadRockets();
+        this.bosses.clear();
+    }
+
+    /**
+     * Getter for the list of rockets on the screen.
+     *
+     * @return a copy of the list
+     */
+    public List<Rocket> getRockets() {
+        return new ArrayList<>(rocketsOnScreen);
+    }
+
+    /**
+     * Getter for a read-only view of the rockets on the screen, for the checks
+     * that run every tick and can not afford a copy. The view follows the
+     * changes of the model, so it must not be kept while the model updates.
+     *
+     * @return the view of the list
+     */
+    @SuppressFBWarnings
+    public List<Rocket> getRocketsView() {
+        return rocketsView;
+    }
+
+    /**
+     * Returns the sprites of the rockets on the screen, followed by the one of
+     * the boss.
+     *
+     * @return the list of the sprites
+     */
+    public List<Sprite> getSprites() {
+        final List<Sprite> sprites = new ArrayList<>();
+        for (final Rocket rocket : rocketsOnScreen) {
+            if (rocket.getSprite() != null) {
+                sprites.add(new Sprite(rocket.isHit() ? rocket.getExplosionSprite() : rocket.getSprite(),
+                        rocket.getX(), rocket.getY(),
+                        rocket.getWidth(), rocket.getHeight()));
+            }
+        }
+        if (!bosses.isEmpty()) {
+            final Boss boss = bosses.get(0);
+            sprites.add(new Sprite(boss.isHit() ? boss.getExplosionSprite() : boss.getSprite(),
+                    boss.getX(), boss.getY(),
+                    boss.getWidth(), boss.getHeight()));
+        }
+        return sprites;
+    }
+
+    /**
+     * Setter for MapX.
+     *
+     * @param x the new MapX
+     */
+    public void setMapX(final int x) {
+        this.mapX = x;
+    }
+
+    /**
+     * Getter for boss.
+     *
+     * @return a single boss
+     */
+    public Boss getBoss() {
+        return this.bosses.isEmpty() ? null : this.bosses.get(0);
+    }
+
+    /**
+     * Check if the boss is out of the screen.
+     *
+     * @return {@code true} if is out of screen, {@code false} if is not spawned yet
+     *         or is still on the screen
+     */
+    public boolean isBossOutOfScreen() {
+        return !this.bosses.isEmpty() && this.bosses.get(0).getX() < 0;
+    }
+
+    /** Moves the rockets and the boss, and makes explode the ones that were hit. */
+    public void update() {
+        for (final Rocket rocket : rocketsOnScreen) {
+            rocket.move();
+            if (rocket.isHit()) {
+                rocket.setExploded();
+            }
+        }
+        if (!bosses.isEmpty()) {
+            final Boss boss = bosses.get(0);
+            boss.moveBy(-1, 0);
+            if (boss.isHit() && !boss.isExploded()) {
+                boss.setExploded(true);
+            }
+        }
+    }
+
+    /** Brings on the screen the rockets that the landscape has reached. */
+    public void loadRockets() {
+        this.fillRockets();
+        final Iterator<Rocket> iterator = rockets.iterator();
+        while (iterator.hasNext()) {
+            final Rocket r = iterator.next();
+            if (r.getX() <= mapX + Constants.WINDOW_WIDTH) {
+                r.setPosition(Constants.WINDOW_WIDTH, r.getY() - Constants.ROCKET_HEIGHT);
+                r.turnOnMove();
+                rocketsOnScreen.add(r);
+                iterator.remove();
+            }
+        }
+        if (!mapController.isEndless() && mapX >= Constants.BOSS_SPAWN_POINT && this.bosses.isEmpty()) {
+            this.bosses.add(new Boss(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT / 2, Constants.BOSS_SIZE,
+                    Constants.BOSS_SIZE, random.split(RandomStream.COSMETIC)));
+        }
+    }
+
+    /**
+     * Removes the exploded rockets. On a map with no end, the rockets that have
+     * left the screen are removed too.
+     */
+    public void checkForExplosion() {
+        final Iterator<Rocket> iterator = rocketsOnScreen.iterator();
+        while (iterator.hasNext()) {
+            final Rocket r = iterator.next();
+            if (r.isExploded() && r.incrementCounterForExplosion() == Rocket.getExplosionDuration()) {
+                iterator.remove();
+            } else if (mapController.isEndless() && r.getX() + r.getWidth() < 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /*
+     * Places the rockets of the chunks up to the one after the right edge of
+     * the screen that have not been looked at yet, on the spawn positions
+     * ahead of the screen.
+     */
+    private void fillRockets() {
+        final int endOfSpawn = mapController.isEndless() ? Integer.MAX_VALUE : Constants.END_OF_ROCKET_SPAWN;
+        final int lastChunk = Math.min(getEdgeChunk() + 1, mapController.getChunkCount() - 1);
+        for (; this.nextChunk <= lastChunk; this.nextChunk++) {
+            int counter = 0;
+            for (final Pair<Integer, Integer> pos : mapController.getSpawnPositions(this.nextChunk)) {
+                if (counter % ROCKET_OFFSET == 0 && pos.getFirstElement() >= this.mapX + Constants.WINDOW_WIDTH
+                        && pos.getFirstElement() < endOfSpawn) {
+                    this.rockets
+                            .add(new Rocket(pos.getFirstElement(), pos.getSecondElement(), Constants.ROCKET_WIDTH,
+                                    Constants.ROCKET_HEIGHT, random.getStream(RandomStream.AI)));
+                }
+                counter++;
+            }
+        }
+    }
+
+    private int getEdgeChunk() {
+        return LandUtils.dividePixelPerSprite(this.mapX + Constants.WINDOW_WIDTH) / ColumnCache.CHUNK_SIZE;
+    }
+}
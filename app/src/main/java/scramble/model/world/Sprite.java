@@ -0,0 +1,83 @@
+package scramble.model.world;
+
+import java.awt.image.BufferedImage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * An image to draw, together with the place and the size it is drawn with.
+ * Sprites are immutable, so they can be read by any thread.
+ */
+public final class Sprite {
+
+    private final BufferedImage image;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    /**
+     * Class constructor.
+     *
+     * @param image  the image to draw
+     * @param x      the x coordinate on the screen
+     * @param y      the y coordinate on the screen
+     * @param width  the width on the screen
+     * @param height the height on the screen
+     */
+    @SuppressFBWarnings
+    public Sprite(final BufferedImage image, final int x, final int y, final int width, final int height) {
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Getter for the image. The images of the game are loaded once and never
+     * changed, so the image is shared and not copied.
+     *
+     * @return the image
+     */
+    @SuppressFBWarnings
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Getter for the x coordinate.
+     *
+     * @return the x coordinate on the screen
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Getter for the y coordinate.
+     *
+     * @return the y coordinate on the screen
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Getter for the width.
+     *
+     * @return the width on the screen
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Getter for the height.
+     *
+     * @return the height on the screen
+     */
+    public int getHeight() {
+        return height;
+    }
+}
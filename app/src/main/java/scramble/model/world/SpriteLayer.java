@@ -0,0 +1,19 @@
+package scramble.model.world;
+
+/**
+ * The groups of sprites of a {@link WorldSnapshot}, each one drawn by its own
+ * panel.
+ */
+public enum SpriteLayer {
+
+    /** The columns of the map. */
+    LANDSCAPE,
+    /** The spaceship of the player. */
+    SPACESHIP,
+    /** The bullets and the bombs, flying or exploding. */
+    BULLETS,
+    /** The rockets and the boss. */
+    ENEMIES,
+    /** The fuel tanks. */
+    FUEL_TANKS
+}
@@ -0,0 +1,309 @@
+package scramble.model.world;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.map.MapController;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.GameElement;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.scores.Scores;
+import scramble.model.spaceship.Directions;
+import scramble.model.spaceship.FuelBar;
+import scramble.model.spaceship.SpaceShip;
+import scramble.utility.Constants;
+
+/**
+ * The whole state of a game: the landscape, the spaceship with its fuel and
+ * bullets, the enemies and the tanks. The world does not know anything about
+ * how it is drawn, so it can be updated without any window.
+ */
+public class World {
+
+    private static final ProfiledSection ROCKETS_SPAWN_SECTION = Profiler.section("spawn.rockets");
+    private static final ProfiledSection TANKS_SPAWN_SECTION = Profiler.section("spawn.tanks");
+    private static final ProfiledSection SNAPSHOT_SECTION = Profiler.section("snapshot");
+
+    private final LandscapeModel landscape;
+    private final SpaceShip spaceship;
+    private final FuelBar fuelBar;
+    private final BulletsModel bullets;
+    private final RocketsModel rockets;
+    private final FuelTanksModel fuelTanks;
+
+    /** Class constructor. It builds the map from a random seed. */
+    public World() {
+        this(new GameRandomImpl());
+    }
+
+    /**
+     * Class constructor. It builds the map and places every element on it.
+     *
+     * @param random the source of every random number of the world
+     */
+    public World(final GameRandom random) {
+        this(random, false);
+    }
+
+    /**
+     * Class constructor. It builds the map, or the start of a map with no
+     * end, and places every element on it.
+     *
+     * @param random  the source of every random number of the world
+     * @param endless {@code true} for a map with no end, made up as the
+     *                landscape scrolls
+     * @see MapController#endless(GameRandom)
+     */
+    public World(final GameRandom random, final boolean endless) {
+        final MapController mapController = endless ? MapController.endless(random) : new MapController(random);
+        this.landscape = new LandscapeModel(mapController);
+        this.spaceship = new SpaceShip(Constants.SPACESHIP_STARTER_POSITION,
+                Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_WIDTH,
+                Constants.SPACESHIP_HEIGHT, random.split(RandomStream.COSMETIC));
+        this.fuelBar = new FuelBar();
+        this.bullets = new BulletsModel(random);
+        this.rockets = new RocketsModel(mapController, random);
+        this.fuelTanks = new FuelTanksModel(mapController, random);
+    }
+
+    /**
+     * Getter for the landscape.
+     *
+     * @return the landscape
+     */
+    @SuppressFBWarnings
+    public LandscapeModel getLandscape() {
+        return this.landscape;
+    }
+
+    /**
+     * Getter for the spaceship.
+     *
+     * @return the spaceship
+     */
+    @SuppressFBWarnings
+    public SpaceShip getSpaceship() {
+        return this.spaceship;
+    }
+
+    /**
+     * Getter for the fuel bar.
+     *
+     * @return the fuel bar
+     */
+    @SuppressFBWarnings
+    public FuelBar getFuelBar() {
+        return this.fuelBar;
+    }
+
+    /**
+     * Getter for the bullets.
+     *
+     * @return the bullets
+     */
+    @SuppressFBWarnings
+    public BulletsModel getBullets() {
+        return this.bullets;
+    }
+
+    /**
+     * Getter for the rockets.
+     *
+     * @return the rockets
+     */
+    @SuppressFBWarnings
+    public RocketsModel getRockets() {
+        return this.rockets;
+    }
+
+    /**
+     * Getter for the fuel tanks.
+     *
+     * @return the fuel tanks
+     */
+    @SuppressFBWarnings
+    public FuelTanksModel getFuelTanks() {
+        return this.fuelTanks;
+    }
+
+    /**
+     * Brings the whole world to the indicated x position of the map, with the
+     * spaceship in its starting position and a full tank of fuel.
+     *
+     * @param x position of the map
+     */
+    public void reset(final int x) {
+        this.landscape.reset(x);
+        this.spaceship.setPosition(Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_STARTER_POSITION);
+        this.spaceship.setAbove(false);
+        this.spaceship.setDown(false);
+        this.spaceship.setLeft(false);
+        this.spaceship.setRight(false);
+        this.fuelBar.fillFuel();
+        this.bullets.clear();
+        this.rockets.setMapX(this.landscape.getCurrentMapX());
+        this.rockets.resetRockets();
+        this.fuelTanks.setMapX(this.landscape.getCurrentMapX());
+        this.fuelTanks.resetTanks();
+    }
+
+    /**
+     * Starts or stops the movement of the spaceship in a direction.
+     *
+     * @param direction the direction
+     * @param active    {@code true} to start the movement, {@code false} to stop
+     *                  it
+     */
+    public void moveSpaceship(final Directions direction, final boolean active) {
+        switch (direction) {
+            case UP -> spaceship.setAbove(active);
+            case DOWN -> spaceship.setDown(active);
+            case LEFT -> spaceship.setLeft(active);
+            case RIGHT -> spaceship.setRight(active);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Shoots a bullet from the spaceship.
+     *
+     * @param type the type of the bullet
+     */
+    public void shoot(final BulletType type) {
+        this.bullets.shootBullet(type, this.spaceship);
+    }
+
+    /**
+     * Moves the spaceship, keeping it in the left half of the world.
+     */
+    public void updateSpaceship() {
+        final int shipX = spaceship.getX();
+        final int shipY = spaceship.getY();
+        final int xSpeed = spaceship.getxSpeed();
+        final int ySpeed = spaceship.getySpeed();
+
+        final int minX = 0;
+        final int maxX = Constants.WINDOW_WIDTH / 2;
+        final int minY = 0;
+        final int maxY = Constants.WINDOW_HEIGHT;
+
+        if (shipX + xSpeed >= minX && shipX + xSpeed <= maxX) {
+            spaceship.move();
+        } else if (shipX + xSpeed < minX) {
+            spaceship.resetSpeedX();
+            spaceship.moveBy(minX - spaceship.getX(), shipY - spaceship.getY());
+        } else if (shipX + xSpeed > maxX) {
+            spaceship.resetSpeedX();
+            spaceship.moveBy(maxX - spaceship.getX(), shipY - spaceship.getY());
+        }
+
+        if (shipY + ySpeed >= minY && shipY + ySpeed <= maxY) {
+            spaceship.move();
+        } else if (shipY + ySpeed < minY) {
+            spaceship.resetSpeedY();
+            spaceship.moveBy(shipX - spaceship.getX(), minY - spaceship.getY());
+        } else if (shipY + ySpeed > maxY) {
+            spaceship.resetSpeedY();
+            spaceship.moveBy(shipX - spaceship.getX(), maxY - spaceship.getY());
+        }
+    }
+
+    /**
+     * Scrolls the landscape and moves every element that lives on it.
+     */
+    public void updateElements() {
+        this.landscape.update();
+        this.bullets.update();
+        this.rockets.update();
+        this.fuelTanks.update();
+        this.rockets.setMapX(this.landscape.getCurrentMapX());
+        this.fuelTanks.setMapX(this.landscape.getCurrentMapX());
+    }
+
+    /** Brings on the screen the enemies and the tanks reached by the landscape. */
+    public void spawnElements() {
+        long start = ROCKETS_SPAWN_SECTION.begin();
+        this.rockets.loadRockets();
+        ROCKETS_SPAWN_SECTION.end(start);
+        start = TANKS_SPAWN_SECTION.begin();
+        this.fuelTanks.loadTanks();
+        TANKS_SPAWN_SECTION.end(start);
+    }
+
+    /** Removes the exploded enemies and tanks. */
+    public void removeExploded() {
+        this.rockets.checkForExplosion();
+        this.fuelTanks.checkForExplosion();
+    }
+
+    /**
+     * Takes a snapshot of everything that has to be drawn. It must be called by
+     * the thread that updates the world.
+     *
+     * @param tick  the current tick
+     * @param lives the lives left
+     * @param stage the current stage
+     * @return the snapshot
+     */
+    public WorldSnapshot snapshot(final long tick, final int lives, final int stage) {
+        final long start = SNAPSHOT_SECTION.begin();
+        final Map<SpriteLayer, List<Sprite>> sprites = new EnumMap<>(SpriteLayer.class);
+        sprites.put(SpriteLayer.LANDSCAPE, this.landscape.getSprites());
+        if (this.spaceship.getSprite() != null) {
+            sprites.put(SpriteLayer.SPACESHIP, List.of(new Sprite(
+                    this.spaceship.isHit() ? this.spaceship.getExpSprite() : this.spaceship.getSprite(),
+                    this.spaceship.getX(), this.spaceship.getY(),
+                    this.spaceship.getWidth(), this.spaceship.getHeight())));
+        }
+        sprites.put(SpriteLayer.BULLETS, this.bullets.getSprites());
+        sprites.put(SpriteLayer.ENEMIES, this.rockets.getSprites());
+        sprites.put(SpriteLayer.FUEL_TANKS, this.fuelTanks.getSprites());
+        final WorldSnapshot snapshot = new WorldSnapshot(tick, this.landscape.getCurrentMapX(), sprites,
+                this.fuelBar.getFuelLevel(), lives, stage, Scores.getCurrentScore());
+        SNAPSHOT_SECTION.end(start);
+        return snapshot;
+    }
+
+    /**
+     * Computes a digest of the state of the game: the position of the map and
+     * of every element, the fuel and whether the spaceship has been hit. Two
+     * worlds that played the same game have the same digest. It must be called
+     * by the thread that updates the world.
+     *
+     * @return the digest
+     */
+    public long checksum() {
+        long hash = this.landscape.getCurrentMapX();
+        hash = mix(hash, this.fuelBar.getFuelLevel());
+        hash = mix(hash, this.spaceship.isHit() ? 1 : 0);
+        hash = mix(hash, List.of(this.spaceship));
+        hash = mix(hash, this.bullets.getBullets());
+        hash = mix(hash, this.bullets.getExplodingBullets());
+        hash = mix(hash, this.rockets.getRockets());
+        if (Objects.nonNull(this.rockets.getBoss())) {
+            hash = mix(hash, List.of(this.rockets.getBoss()));
+        }
+        return mix(hash, this.fuelTanks.getFuelTanks());
+    }
+
+    private static long mix(final long hash, final Collection<? extends GameElement> elements) {
+        long result = mix(hash, elements.size());
+        for (final GameElement element : elements) {
+            result = mix(mix(result, element.getX()), element.getY());
+        }
+        return result;
+    }
+
+    private static long mix(final long hash, final long value) {
+        return hash * 31 + value;
+    }
+}
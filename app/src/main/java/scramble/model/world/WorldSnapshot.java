@@ -0,0 +1,114 @@
+package scramble.model.world;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable picture of the {@link World} at the end of a tick: everything the
+ * view needs to draw a frame. The simulation publishes a new snapshot at
+ * every frame, while the view draws the last one published without ever
+ * touching the world.
+ */
+public final class WorldSnapshot {
+
+    /** The snapshot published before the first frame: nothing to draw. */
+    public static final WorldSnapshot EMPTY = new WorldSnapshot(0, 0, Map.of(), 0, 0, 0, 0);
+
+    private final long tick;
+    private final int cameraX;
+    private final Map<SpriteLayer, List<Sprite>> sprites;
+    private final int fuelLevel;
+    private final int lives;
+    private final int stage;
+    private final int score;
+
+    /**
+     * Class constructor. The sprites are copied.
+     *
+     * @param tick      the tick the snapshot was taken at
+     * @param cameraX   the x position of the map on the left edge of the screen
+     * @param sprites   the sprites to draw, by layer
+     * @param fuelLevel the fuel left
+     * @param lives     the lives left
+     * @param stage     the current stage
+     * @param score     the current score
+     */
+    public WorldSnapshot(final long tick, final int cameraX, final Map<SpriteLayer, List<Sprite>> sprites,
+            final int fuelLevel, final int lives, final int stage, final int score) {
+        this.tick = tick;
+        this.cameraX = cameraX;
+        this.sprites = new EnumMap<>(SpriteLayer.class);
+        for (final SpriteLayer layer : SpriteLayer.values()) {
+            this.sprites.put(layer, List.copyOf(sprites.getOrDefault(layer, List.of())));
+        }
+        this.fuelLevel = fuelLevel;
+        this.lives = lives;
+        this.stage = stage;
+        this.score = score;
+    }
+
+    /**
+     * Getter for the tick.
+     *
+     * @return the tick the snapshot was taken at
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Getter for the camera position.
+     *
+     * @return the x position of the map on the left edge of the screen
+     */
+    public int getCameraX() {
+        return cameraX;
+    }
+
+    /**
+     * Getter for the sprites of a layer.
+     *
+     * @param layer the layer
+     * @return the unmodifiable list of the sprites of the layer
+     */
+    public List<Sprite> getSprites(final SpriteLayer layer) {
+        return sprites.get(layer);
+    }
+
+    /**
+     * Getter for the fuel level.
+     *
+     * @return the fuel left
+     */
+    public int getFuelLevel() {
+        return fuelLevel;
+    }
+
+    /**
+     * Getter for the lives.
+     *
+     * @return the lives left
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Getter for the stage.
+     *
+     * @return the current stage
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /**
+     * Getter for the score.
+     *
+     * @return the current score
+     */
+    public int getScore() {
+        return score;
+    }
+}
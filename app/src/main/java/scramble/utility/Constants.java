@@ -33,6 +33,54 @@ public final class Constants {
          * controller/mediator/RepaintManager.
          */
         public static final int CICLE_BEFORE_BACKGROUND_REPAINT = 30;
+        /**
+         * Length in ms of a single tick of the game loop. Used in
+         * controller/loop/impl/FixedStepGameLoop.
+         */
+        public static final int GAME_TICK_MS = 16;
+        /**
+         * Period in ms of the repaints of the Swing render backend, every other
+         * tick. Swing clears and composites every layer of the window on the
+         * event dispatch thread at each repaint, so it keeps the rate of the
+         * original repaint timer; the canvas draws in one pass at every tick.
+         * Used in view/compact/GameView.
+         */
+        public static final int SWING_REPAINT_MS = 2 * GAME_TICK_MS;
+        /**
+         * Max number of ticks run in a single frame to catch up with a late frame.
+         * Used in controller/loop/impl/FixedStepGameLoop.
+         */
+        public static final int MAX_CATCH_UP_TICKS = 5;
+        /**
+         * Number of one second reports of the profiler between two dumps to
+         * file. Used in controller/profiling/Profiler.
+         */
+        public static final int PROFILER_DUMP_REPORTS = 10;
+        /**
+         * Side in pixels of a cell of the grid used to find the elements that
+         * may collide. Used in controller/mediator/LogicController.
+         */
+        public static final int COLLISION_CELL_SIZE = 64;
+        /**
+         * Amount in ms between each update of the game elements and of the
+         * landscape. Used in controller/session/GameSession.
+         */
+        public static final int ENTITY_UPDATE_MS = 32;
+        /**
+         * Amount in ms between each check for new game elements entering the
+         * screen. Used in controller/session/GameSession.
+         */
+        public static final int SPAWN_CHECK_MS = 64;
+        /** Amount in ms between each check of the fuel level. */
+        public static final int FUEL_CHECK_MS = 100;
+        /** Amount in ms between each decrease of the fuel level. */
+        public static final int FUEL_CONSUMPTION_MS = 800;
+        /** Amount in ms the game stays paused after the spaceship is hit. */
+        public static final int RESPAWN_DELAY_MS = 3500;
+        /** Width of the game window, that is also the width of the game world. */
+        public static final int WINDOW_WIDTH = 800;
+        /** Height of the game window, that is also the height of the game world. */
+        public static final int WINDOW_HEIGHT = LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT);
 
         // Model
         /**
@@ -133,6 +181,12 @@ public final class Constants {
         public static final int ROCKET_WIDTH = 38;
         /** Points gained from destroying a rocket. */
         public static final int ROCKET_POINTS = 50;
+        /** Height of the Fuel Tank. */
+        public static final int FUEL_TANK_HEIGHT = 32;
+        /** Width of the Fuel Tank. */
+        public static final int FUEL_TANK_WIDTH = 32;
+        /** Side of the Boss. */
+        public static final int BOSS_SIZE = 48;
         /** Max Delay of the rocket. */
         public static final int MAXDELAY = 3000;
 
@@ -0,0 +1,159 @@
+package scramble.view.compact;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import scramble.model.world.Sprite;
+
+/**
+ * Copies of large images that never change, such as the chunks of the
+ * landscape, kept in {@link VolatileImage}s, which the graphics card can draw
+ * without reading the pixels of the image again at every frame.
+ *
+ * <p>
+ * A copy is made the first time its image is drawn and made again when its
+ * contents are lost; the copies of the images that were not drawn in the last
+ * frame are released. When no copy can be made, the image itself is drawn.
+ * The copies must only be used by the thread that draws.
+ * </p>
+ */
+public class AcceleratedImages {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final CopyFactory factory;
+    private final Map<BufferedImage, VolatileImage> copies = new IdentityHashMap<>();
+    private final Set<BufferedImage> drawn = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Class constructor for copies made by the graphics card of the
+     * configuration drawn on.
+     */
+    public AcceleratedImages() {
+        this((configuration, width, height) -> configuration.createCompatibleVolatileImage(width, height,
+                Transparency.TRANSLUCENT));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param factory the maker of the copies
+     */
+    public AcceleratedImages(final CopyFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Draws a sprite using the copy of its image.
+     *
+     * @param g      the graphics to draw on
+     * @param sprite the sprite
+     */
+    public void draw(final Graphics g, final Sprite sprite) {
+        final BufferedImage image = sprite.getImage();
+        this.drawn.add(image);
+        final GraphicsConfiguration configuration = g instanceof Graphics2D g2 ? g2.getDeviceConfiguration() : null;
+        if (Objects.isNull(configuration)) {
+            g.drawImage(image, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+            return;
+        }
+        int attempts = 0;
+        do {
+            final VolatileImage copy = getCopy(image, configuration);
+            if (Objects.isNull(copy)) {
+                g.drawImage(image, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+                return;
+            }
+            g.drawImage(copy, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+            if (!copy.contentsLost()) {
+                return;
+            }
+            attempts++;
+        } while (attempts < MAX_ATTEMPTS);
+        g.drawImage(image, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+    }
+
+    /**
+     * Ends a frame, releasing the copies of the images that were not drawn in
+     * it.
+     */
+    public void endFrame() {
+        final Iterator<Map.Entry<BufferedImage, VolatileImage>> entries = this.copies.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<BufferedImage, VolatileImage> entry = entries.next();
+            if (!this.drawn.contains(entry.getKey())) {
+                entry.getValue().flush();
+                entries.remove();
+            }
+        }
+        this.drawn.clear();
+    }
+
+    /**
+     * Getter for the number of copies that are kept.
+     *
+     * @return the number of copies
+     */
+    public int size() {
+        return this.copies.size();
+    }
+
+    private VolatileImage getCopy(final BufferedImage image, final GraphicsConfiguration configuration) {
+        VolatileImage copy = this.copies.get(image);
+        final int state = Objects.isNull(copy) ? VolatileImage.IMAGE_INCOMPATIBLE : copy.validate(configuration);
+        if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+            if (Objects.nonNull(copy)) {
+                copy.flush();
+            }
+            copy = this.factory.create(configuration, image.getWidth(), image.getHeight());
+            if (Objects.isNull(copy)) {
+                this.copies.remove(image);
+                return null;
+            }
+            this.copies.put(image, copy);
+            copy.validate(configuration);
+            fill(copy, image);
+        } else if (state == VolatileImage.IMAGE_RESTORED) {
+            fill(copy, image);
+        }
+        return copy;
+    }
+
+    private static void fill(final VolatileImage copy, final BufferedImage image) {
+        final Graphics2D g = copy.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * The maker of the copies of the images.
+     */
+    @FunctionalInterface
+    public interface CopyFactory {
+
+        /**
+         * Makes an empty translucent copy for an image.
+         *
+         * @param configuration the configuration drawn on
+         * @param width         the width of the image
+         * @param height        the height of the image
+         * @return the copy, or {@code null} if it can not be made
+         */
+        VolatileImage create(GraphicsConfiguration configuration, int width, int height);
+    }
+}
@@ -4,11 +4,11 @@ import java.awt.Graphics;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import javax.swing.JPanel;
-import javax.swing.Timer;
 
+import scramble.controller.loop.api.TickPhase;
 import scramble.model.common.api.Pair;
 import scramble.model.common.impl.PairImpl;
 import scramble.utility.Constants;
@@ -23,34 +23,19 @@ public class BackgroundPanel extends GamePanel {
 
     private static final long serialVersionUID = 1L;
 
-    private final Random rand;
-    private final Timer backgroundTimer;
+    private final transient RandomGenerator rand;
 
-    private transient List<Pair<Integer, Integer>> starPositionXY;
+    private transient volatile List<Pair<Integer, Integer>> starPositionXY;
 
-    /** Costructor of the BackgroundPanel class. */
-    public BackgroundPanel() {
-        this.newStartPositionXY();
-        this.rand = new Random();
-        this.backgroundTimer = new Timer(1000, e -> this.randomizeStarsPositionXY());
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void startTimer() {
-        this.backgroundTimer.start();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void stopTimer() {
-        this.backgroundTimer.stop();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void restartTimer() {
-        this.backgroundTimer.restart();
+    /**
+     * Costructor of the BackgroundPanel class.
+     *
+     * @param rand the generator of the position of the stars
+     */
+    public BackgroundPanel(final RandomGenerator rand) {
+        this.rand = rand;
+        this.randomizeStarsPositionXY();
+        this.schedule(TickPhase.MOVEMENT, 1000, this::randomizeStarsPositionXY);
     }
 
     /**
@@ -58,31 +43,26 @@ public class BackgroundPanel extends GamePanel {
      */
     @Override
     protected void drawPanel(final Graphics g) {
-        if (starPositionXY.isEmpty()) {
-            randomizeStarsPositionXY();
-        }
-
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, GameView.WINDOW_WIDTH, GameView.WINDOW_WIDTH);
 
         g.setColor(Color.WHITE);
-        for (int i = 0; i < Constants.NUMBER_OF_STAR_IN_BACKGROUND; i++) {
-            final int x = starPositionXY.get(i).getFirstElement();
-            final int y = starPositionXY.get(i).getSecondElement();
-            g.fillRect(x, y, 2, 2);
+        for (final Pair<Integer, Integer> star : starPositionXY) {
+            g.fillRect(star.getFirstElement(), star.getSecondElement(), 2, 2);
         }
     }
 
+    /*
+     * The stars are moved by the game loop while the panel is painted, so a new
+     * list replaces the old one instead of changing it.
+     */
     private void randomizeStarsPositionXY() {
-        starPositionXY.clear();
+        final List<Pair<Integer, Integer>> stars = new ArrayList<>(Constants.NUMBER_OF_STAR_IN_BACKGROUND);
         for (int i = 0; i < Constants.NUMBER_OF_STAR_IN_BACKGROUND; i++) {
             final int x = rand.nextInt(GameView.WINDOW_WIDTH);
             final int y = rand.nextInt(GameView.WINDOW_WIDTH);
-            this.starPositionXY.add(new PairImpl<>(x, y));
+            stars.add(new PairImpl<>(x, y));
         }
-    }
-
-    private void newStartPositionXY() {
-        this.starPositionXY = new ArrayList<>();
+        this.starPositionXY = List.copyOf(stars);
     }
 }
@@ -1,22 +1,12 @@
 package scramble.view.compact;
 
 import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.util.List;
-import java.util.Set;
-import java.util.ArrayList;
-import java.util.HashSet;
-import javax.swing.Timer;
+import java.util.function.Supplier;
 
 import javax.swing.JPanel;
 
-import scramble.controller.command.impl.BulletCommand;
-import scramble.model.bullets.Bullet;
-import scramble.model.bullets.BulletType;
-import scramble.model.common.impl.PairImpl;
-import scramble.model.common.impl.TimedLinkedListImpl;
-import scramble.model.spaceship.SpaceShip;
-import scramble.utility.Constants;
+import scramble.model.world.SpriteLayer;
+import scramble.model.world.WorldSnapshot;
 
 /**
  * Class for the representation of the Spaceship Panel.
@@ -24,178 +14,24 @@ import scramble.utility.Constants;
  * @see GamePanel
  * @see JPanel
  */
-public class BulletsPanel extends GamePanel implements Cloneable {
+public class BulletsPanel extends GamePanel {
 
     private static final long serialVersionUID = 1L;
-    private static final int MAX_BOMB = 2;
-    private transient Set<Bullet> bullets;
-    private transient TimedLinkedListImpl<Bullet> explodingBullets;
-    private final Timer bulletTimer;
-
-    /** Constructor for the SpaceshipPanel class. */
-    public BulletsPanel() {
-        bulletsInit();
-        this.bulletTimer = new Timer(32, e -> this.updateBullets());
-    }
-
-    /**
-     * Getter for the bullets.
-     *
-     * @return the bullet list
-     */
-    public Set<Bullet> getBullets() {
-        return new HashSet<>(bullets);
-    }
+    private final transient Supplier<WorldSnapshot> snapshots;
 
     /**
-     * Removes the specified bullets from the list of bullets and repaints the
-     * panel.
+     * Constructor for the BulletsPanel class.
      *
-     * @param bulletsToRemove the list of bullets to be removed from the internal
-     *                        list
+     * @param snapshots the source of the last snapshot of the world
      */
-    public void removeBullets(final List<Bullet> bulletsToRemove) {
-        bullets.removeAll(bulletsToRemove);
-        // repaint();
-    }
-
-    /**
-     * Adds the given list of bullets to the list of exploding bullets.
-     * These bullets will be animated or processed as exploding bullets
-     * with a specified duration for the explosion effect.
-     *
-     * @param bulletsToRemove the list of bullets that have collided and are
-     *                        exploding
-     */
-    public void addExplodingBullets(final List<Bullet> bulletsToRemove) {
-        explodingBullets.addAll(bulletsToRemove, 1000);
-        // repaint();
-    }
-
-    /**
-     * For each bullet, call bullet.move().
-     */
-    public void moveBullets() {
-        final List<Bullet> bulletsToRemove = bullets.stream()
-                .peek(Bullet::moveByType)
-                .filter(b -> b.getPosition().getFirstElement() > getWidth())
-                .toList();
-        // removes bullets that have gone off the screen
-        removeBullets(bulletsToRemove);
-        final List<Bullet> bulletsCopy = new ArrayList<>(explodingBullets.getList());
-        bulletsCopy.stream().forEach(b -> b.moveExplosion(-Constants.LANDSCAPEX_SPEED));
-
-        // repaint();
-    }
-
-    /**
-     * Shoots a bullet from the spaceship's current position.
-     *
-     * This method calculates the initial position of the bullet based on
-     * the spaceship's current position and size. It then creates a new
-     * {@link Bullet} instance and adds it to the list of bullets in the game.
-     * The bullet's start position is at the right edge of the spaceship, centered
-     * vertically.
-     *
-     * @param type      the type of the bullet
-     * @param spaceship spaceship
-     */
-    public void shootBullet(final BulletType type, final SpaceShip spaceship) {
-        if (type == BulletType.TYPE_BOMB) {
-            // Check if there are already MAX_BOMBS bombs
-            final long activeBombCount = bullets.stream()
-                    .filter(b -> b.getType() == BulletType.TYPE_BOMB)
-                    .count();
-
-            if (activeBombCount >= MAX_BOMB) {
-                return; // Don't add new bomb if limit is reached
-            }
-        }
-
-        final PairImpl<Integer, Integer> location = spaceship.getPosition();
-        final int bulletX = location.getFirstElement() + spaceship.getWidth();
-        final int bulletY = location.getSecondElement() + spaceship.getHeight() / 2;
-
-        /*
-         * create new Bullet class and append to List<Bullet>
-         * start position is (shipX+shipWidth, shipY+shipHeight/2)
-         */
-        final Bullet bullet = new Bullet(bulletX, bulletY, type);
-        bullets.add(bullet);
-        // repaint();
-    }
-
-    /**
-     * Method that executes the command sent to the spaceship.
-     *
-     * @param command the command
-     */
-    public void sendCommandBullet(final BulletCommand command) {
-        command.execute();
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public void startTimer() {
-        bulletTimer.start();
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public void stopTimer() {
-        bulletTimer.stop();
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public void restartTimer() {
-        bulletTimer.restart();
-    }
-
-    /** @inheritdoc */
-    @Override
-    public BulletsPanel clone() throws CloneNotSupportedException {
-        return (BulletsPanel) super.clone();
+    public BulletsPanel(final Supplier<WorldSnapshot> snapshots) {
+        this.snapshots = snapshots;
     }
 
     /** {@inheritDoc} */
     @Override
     protected void drawPanel(final Graphics g) {
-        drawBullets(g);
-    }
-
-    private void bulletsInit() {
-        this.bullets = new HashSet<>();
-        this.explodingBullets = new TimedLinkedListImpl<>();
-    }
-
-    private void drawBullet(final Graphics g, final Bullet bullet) {
-        final BufferedImage bulletSprite = bullet.getSprite();
-        if (bulletSprite != null) {
-            g.drawImage(bulletSprite, bullet.getPosition().getFirstElement(),
-                    bullet.getPosition().getSecondElement(), bullet.getWidth(), bullet.getHeight(), null);
-        }
-
-    }
-
-    private void drawExplodingBullet(final Graphics g, final Bullet bullet) {
-        final BufferedImage bulletSprite = bullet.getExpSprite();
-        if (bulletSprite != null) {
-            g.drawImage(bulletSprite, bullet.getPosition().getFirstElement(),
-                    bullet.getPosition().getSecondElement(), bullet.getWidth(), bullet.getHeight(), null);
-        }
-    }
-
-    private void drawBullets(final Graphics g) {
-        // for each bullet in bullet list, call drawBullet()
-        bullets.stream().forEach(b -> drawBullet(g, b));
-        final List<Bullet> bulletsCopy = new ArrayList<>(explodingBullets.getList());
-        bulletsCopy.stream().forEach(b -> drawExplodingBullet(g, b));
-    }
-
-    private void updateBullets() {
-        for (final Bullet b : bullets) {
-            b.moveByType();
-        }
+        // the flying bullets come first, then the explosions
+        drawSprites(g, snapshots.get().getSprites(SpriteLayer.BULLETS));
     }
 }
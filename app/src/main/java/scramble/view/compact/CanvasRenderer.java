@@ -0,0 +1,133 @@
+package scramble.view.compact;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Active renderer of the game. Instead of letting Swing repaint and composite
+ * every {@link GamePanel} on its own, the panels held by the layered pane are
+ * drawn one after the other, from the lowest layer to the highest, on the
+ * back buffer of a {@link BufferStrategy}, which is then shown with a page
+ * flip.
+ *
+ * <p>
+ * The layered pane is still the one that tells which panels are on the
+ * screen, so the {@link GameView} changes the layers in the same way for both
+ * backends; it is just never shown by Swing.
+ * </p>
+ */
+public class CanvasRenderer extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BUFFERS = 2;
+
+    private final JLayeredPane layers;
+    private final AtomicBoolean renderPending = new AtomicBoolean();
+
+    /**
+     * Class constructor.
+     *
+     * @param layers the pane that holds the panels to draw
+     */
+    @SuppressFBWarnings
+    public CanvasRenderer(final JLayeredPane layers) {
+        this.layers = layers;
+        this.setPreferredSize(new Dimension(GameView.WINDOW_WIDTH, GameView.WINDOW_HEIGHT));
+        this.setBackground(Color.BLACK);
+        this.setIgnoreRepaint(true);
+        this.setFocusable(false);
+    }
+
+    /**
+     * Asks the event dispatch thread to draw a frame. It can be called from any
+     * thread; requests made while a frame is still waiting to be drawn are
+     * merged into that frame.
+     */
+    public void requestRender() {
+        if (renderPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                renderPending.set(false);
+                render();
+            });
+        }
+    }
+
+    /**
+     * Draws a frame of the game and shows it. It must be called by the event
+     * dispatch thread. Nothing is drawn until the
+     * canvas is displayable; the buffer strategy is created on the first
+     * frame.
+     */
+    public void render() {
+        if (!isDisplayable()) {
+            return;
+        }
+        BufferStrategy strategy = getBufferStrategy();
+        if (Objects.isNull(strategy)) {
+            createBufferStrategy(BUFFERS);
+            strategy = getBufferStrategy();
+        }
+        do {
+            do {
+                final Graphics g = strategy.getDrawGraphics();
+                try {
+                    drawLayers(layers, g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /** Paints are driven by {@link #render()}, not by the window system. */
+    @Override
+    public void paint(final Graphics g) {
+        render();
+    }
+
+    /** Paints are driven by {@link #render()}, so the canvas is never cleared. */
+    @Override
+    public void update(final Graphics g) {
+        render();
+    }
+
+    /**
+     * Draws in one pass every {@link GamePanel} of the pane, from the lowest
+     * layer to the highest. Each panel receives its own copy of the graphics,
+     * as it would when painted by Swing.
+     *
+     * @param layers the pane that holds the panels
+     * @param g      the graphics to draw on
+     */
+    public static void drawLayers(final JLayeredPane layers, final Graphics g) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, GameView.WINDOW_WIDTH, GameView.WINDOW_HEIGHT);
+        final Component[] panels = layers.getComponents();
+        // The pane keeps the highest layer first
+        for (int i = panels.length - 1; i >= 0; i--) {
+            if (panels[i] instanceof GamePanel panel && panel.isVisible()) {
+                final Graphics panelGraphics = g.create(panel.getX(), panel.getY(), panel.getWidth(),
+                        panel.getHeight());
+                try {
+                    panel.draw(panelGraphics);
+                } finally {
+                    panelGraphics.dispose();
+                }
+            }
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class GameOverPanel extends GamePanel {
     private static final int TEXT_SCALE = GameView.WINDOW_HEIGHT / 6;
 
     private final Font retroFont;
-    private boolean overlayOn;
+    private volatile boolean overlayOn;
 
     /** Class constructor. */
     public GameOverPanel() {
@@ -65,25 +65,4 @@ public class GameOverPanel extends GamePanel {
             g.drawString(MESSAGES.get(2), x2, y2);
         }
     }
-
-    /** {@inheritDoc} */
-    @Override
-    public void startTimer() {
-        // Not needed therefore not implemented
-        throw new UnsupportedOperationException("Unimplemented method 'startTimer'");
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public void stopTimer() {
-        // Not needed therefore not implemented
-        throw new UnsupportedOperationException("Unimplemented method 'stopTimer'");
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public void restartTimer() {
-        // Not needed therefore not implemented
-        throw new UnsupportedOperationException("Unimplemented method 'restartTimer'");
-    }
 }
@@ -1,50 +1,107 @@
 package scramble.view.compact;
 
 import javax.swing.JPanel;
+
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
+
 import java.awt.Graphics;
+import java.util.ArrayList;
+import java.util.List;
+
+import scramble.model.world.Sprite;
 
 /**
  * Abstract class for the rappresentation of a JPanel in the game.
  * This class extends javax.swing.JPanel.
- * 
+ *
  * @see JPanel
  */
 public abstract class GamePanel extends JPanel {
 
     private static final long serialVersionUID = 1L;
 
+    private final transient List<LoopTask> tasks = new ArrayList<>();
+    private final transient ProfiledSection drawSection = Profiler.section("draw." + getClass().getSimpleName());
+
     /**
      * Method for the update of the panel.
-     * 
+     *
      * @param g
-     * 
+     *
      *          Pattern Adapter
      */
     protected abstract void drawPanel(Graphics g);
 
     /**
      * {@inheritDoc}
-     * 
+     *
      * Pattern Decorator
      */
     @Override
     public void paintComponent(final Graphics g) {
         super.paintComponent(g);
+        draw(g);
+    }
+
+    /**
+     * Draws the panel, recording in the {@link Profiler} how long it took.
+     *
+     * @param g the graphics to draw on
+     */
+    public final void draw(final Graphics g) {
+        final long start = drawSection.begin();
         drawPanel(g);
+        drawSection.end(start);
+    }
+
+    /**
+     * Draws the given sprites, in order.
+     *
+     * @param g       the graphics to draw on
+     * @param sprites the sprites
+     */
+    protected static void drawSprites(final Graphics g, final List<Sprite> sprites) {
+        for (final Sprite sprite : sprites) {
+            g.drawImage(sprite.getImage(), sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+        }
     }
 
     /**
      * Starts timer of the singular.
      */
-    public abstract void startTimer();
+    public void startTimer() {
+        tasks.forEach(LoopTask::start);
+    }
 
     /**
      * Stops timer of the singular panel.
      */
-    public abstract void stopTimer();
+    public void stopTimer() {
+        tasks.forEach(LoopTask::stop);
+    }
 
     /**
      * Restarts timer of the simgular panel.
      */
-    public abstract void restartTimer();
+    public void restartTimer() {
+        tasks.forEach(LoopTask::restart);
+    }
+
+    /**
+     * Schedules a task of the panel on the game loop. The task is started,
+     * stopped and restarted together with the timer of the panel.
+     *
+     * @param phase    the phase of the tick in which the task runs
+     * @param periodMs the period of the task in milliseconds
+     * @param action   the action to run
+     * @return the scheduled task
+     */
+    protected final LoopTask schedule(final TickPhase phase, final int periodMs, final Runnable action) {
+        final LoopTask task = GameView.getGameLoop().schedule(phase, periodMs, action);
+        tasks.add(task);
+        return task;
+    }
 }
@@ -1,37 +1,57 @@
-
 package scramble.view.compact;
 
 import javax.swing.JFrame;
 import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.awt.Dimension;
 
-import scramble.model.common.impl.PairImpl;
-import scramble.model.map.util.LandUtils;
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
 import scramble.model.scores.Scores;
 import scramble.utility.Constants;
-import scramble.controller.map.MapController;
-import scramble.controller.mediator.LogicController;
-
-import javax.swing.Timer;
+import scramble.controller.loop.api.GameLoop;
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+import scramble.controller.loop.impl.FixedStepGameLoop;
+import scramble.controller.session.GameSession;
+import scramble.controller.session.SessionListener;
 
 /**
  * Class that extends javax.swing.JFrame. This class is the main view of the
  * game.
  *
+ * <p>
+ * The panels of the game are kept in a layered pane, which is either shown
+ * and repainted by Swing or drawn by a {@link CanvasRenderer}, depending on
+ * the {@link RenderBackend} chosen when the view is created.
+ * </p>
+ *
+ * <p>
+ * The game runs on the thread of the game loop, while the panels are painted
+ * by the event dispatch thread: the panels only draw the last
+ * {@link scramble.model.world.WorldSnapshot} published by the session, and
+ * every change of the session asked by the view is submitted as a command.
+ * </p>
+ *
  * @see JFrame
  */
-public class GameView extends JFrame {
+public class GameView extends JFrame implements SessionListener {
 
     /** Width of the window. */
-    public static final int WINDOW_WIDTH = 800;
+    public static final int WINDOW_WIDTH = Constants.WINDOW_WIDTH;
     /** Height of the window. */
-    public static final int WINDOW_HEIGHT = LandUtils.multiplyPixelPerSprite(Constants.SPRITE_PER_STAGE_HEIGHT);
+    public static final int WINDOW_HEIGHT = Constants.WINDOW_HEIGHT;
 
     private static final long serialVersionUID = 1L;
+    private static final GameLoop GAME_LOOP = new FixedStepGameLoop();
 
+    private final transient GameSession session;
+    private final RenderBackend renderBackend;
+    private final CanvasRenderer canvasRenderer;
     private final JLayeredPane mainPanel;
     private final BackgroundPanel backgroundPanel;
     private final LandscapePanel landscapePanel;
@@ -41,17 +61,49 @@ public class GameView extends JFrame {
     private final StartMenu startMenu;
     private final HUDPanel hudPanel;
     private final FuelTankPanel fuelTankPanel;
-    private final LogicController logicController;
     private final GameOverPanel gameOverPanel;
-    private final Timer repaintTimer;
+    private final transient LoopTask repaintTask;
 
-    /** Constructor of the class GameView. */
+    /** Constructor of the class GameView, playing a game from a random seed. */
     public GameView() {
+        this(new GameRandomImpl());
+    }
+
+    /**
+     * Constructor of the class GameView, painted by Swing.
+     *
+     * @param random the source of every random number of the game
+     */
+    public GameView(final GameRandom random) {
+        this(random, RenderBackend.SWING);
+    }
+
+    /**
+     * Constructor of the class GameView.
+     *
+     * @param random        the source of every random number of the game
+     * @param renderBackend the way in which the game is drawn
+     */
+    public GameView(final GameRandom random, final RenderBackend renderBackend) {
+        this(random, renderBackend, false);
+    }
+
+    /**
+     * Constructor of the class GameView.
+     *
+     * @param random        the source of every random number of the game
+     * @param renderBackend the way in which the game is drawn
+     * @param endless       {@code true} to play on a map with no end
+     */
+    public GameView(final GameRandom random, final RenderBackend renderBackend, final boolean endless) {
+
+        this.session = new GameSession(GAME_LOOP, random, endless);
+        this.session.setListener(this);
 
         this.mainPanel = new JLayeredPane();
         this.mainPanel.setPreferredSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
 
-        this.backgroundPanel = new BackgroundPanel();
+        this.backgroundPanel = new BackgroundPanel(random.split(RandomStream.COSMETIC));
         this.backgroundPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
 
@@ -59,51 +111,53 @@ public class GameView extends JFrame {
         this.startMenu.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.mainPanel.add(startMenu, JLayeredPane.PALETTE_LAYER);
 
-        this.landscapePanel = new LandscapePanel();
+        this.landscapePanel = new LandscapePanel(session.getWorld().getLandscape(), session::getSnapshot);
         this.landscapePanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.landscapePanel.setOpaque(false);
 
         // SpaceShip panel setup
-        this.spaceShipPanel = new SpaceShipPanel();
+        this.spaceShipPanel = new SpaceShipPanel(session::getSnapshot);
         this.spaceShipPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.spaceShipPanel.setOpaque(false);
 
         // Bullets panel setup
-        this.bulletsPanel = new BulletsPanel();
+        this.bulletsPanel = new BulletsPanel(session::getSnapshot);
         this.bulletsPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.bulletsPanel.setOpaque(false);
 
         // FuelBar panel setup
-        this.hudPanel = new HUDPanel();
+        this.hudPanel = new HUDPanel(session::getSnapshot);
         this.hudPanel.setSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
         this.hudPanel.setOpaque(false);
 
         // Rocket panel setup
-        this.rocketPanel = new RocketPanel();
+        this.rocketPanel = new RocketPanel(session::getSnapshot);
         this.rocketPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.rocketPanel.setOpaque(false);
 
         // FuelTank panel setup
-        this.fuelTankPanel = new FuelTankPanel(hudPanel.getFuelBar());
+        this.fuelTankPanel = new FuelTankPanel(session::getSnapshot);
         this.fuelTankPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.fuelTankPanel.setOpaque(false);
 
-        this.logicController = new LogicController(this);
-
         this.gameOverPanel = new GameOverPanel();
         gameOverPanel.setBounds(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         this.gameOverPanel.setOpaque(false);
 
-        this.repaintTimer = new Timer(32, e -> {
-
-            this.fuelTankPanel.setMapX(this.landscapePanel.getCurrentMapX());
-            mainPanel.repaint();
-            this.rocketPanel.setMapX(this.landscapePanel.getCurrentMapX());
-            this.bulletsPanel.moveBullets();
-            if (rocketPanel.isBossOutOfScreen()) {
-                showGameOverScreen();
-            }
-        });
+        this.renderBackend = renderBackend;
+        if (renderBackend == RenderBackend.CANVAS) {
+            this.canvasRenderer = new CanvasRenderer(mainPanel);
+            this.repaintTask = GAME_LOOP.schedule(TickPhase.RENDER, Constants.GAME_TICK_MS, () -> {
+                session.publishSnapshot();
+                canvasRenderer.requestRender();
+            });
+        } else {
+            this.canvasRenderer = null;
+            this.repaintTask = GAME_LOOP.schedule(TickPhase.RENDER, Constants.SWING_REPAINT_MS, () -> {
+                session.publishSnapshot();
+                mainPanel.repaint();
+            });
+        }
 
         this.backgroundPanel.startTimer();
 
@@ -118,8 +172,17 @@ public class GameView extends JFrame {
         this.setResizable(false);
         this.setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
         this.setLocationRelativeTo(null);
-        this.add(mainPanel);
-        this.setVisible(true);
+        if (renderBackend == RenderBackend.CANVAS) {
+            // Swing must not paint over the frames drawn by the canvas
+            this.setIgnoreRepaint(true);
+            this.add(canvasRenderer);
+            this.setVisible(true);
+            this.repaintTask.start();
+        } else {
+            this.add(mainPanel);
+            this.setVisible(true);
+        }
+        GAME_LOOP.start();
     }
 
     /**
@@ -130,6 +193,9 @@ public class GameView extends JFrame {
     public GameView(final GameView view) {
 
         super();
+        this.session = view.getSession();
+        this.renderBackend = view.getRenderBackend();
+        this.canvasRenderer = view.getCanvasRenderer();
         this.mainPanel = view.getMainPanel();
         this.backgroundPanel = view.getBackgroundPanel();
         this.startMenu = view.getStartMenu();
@@ -139,12 +205,39 @@ public class GameView extends JFrame {
         this.hudPanel = view.getHudPanel();
         this.rocketPanel = view.getRocketPanel();
         this.fuelTankPanel = view.getFuelTankPanel();
-        this.logicController = view.getLogicController();
-        this.repaintTimer = view.getRepaintTimer();
+        this.repaintTask = view.getRepaintTask();
         this.gameOverPanel = view.getGameOverPanel();
 
     }
 
+    /**
+     * Getter of the game loop that drives every panel of the game.
+     *
+     * @return the game loop
+     */
+    public static GameLoop getGameLoop() {
+        return GAME_LOOP;
+    }
+
+    /**
+     * Getter of the session played in this GameView.
+     *
+     * @return the game session
+     */
+    @SuppressFBWarnings
+    public GameSession getSession() {
+        return this.session;
+    }
+
+    /**
+     * Getter of the backend that draws this GameView.
+     *
+     * @return the render backend
+     */
+    public RenderBackend getRenderBackend() {
+        return this.renderBackend;
+    }
+
     /**
      * Getter of the mainPanel.
      *
@@ -250,7 +343,8 @@ public class GameView extends JFrame {
     }
 
     /**
-     * Setup of the mainPanel for the start of the game itself.
+     * Setup of the mainPanel for the start of the game itself. It must be
+     * called by the event dispatch thread.
      */
     public void startGame() {
 
@@ -276,136 +370,77 @@ public class GameView extends JFrame {
 
         this.mainPanel.add(hudPanel, JLayeredPane.POPUP_LAYER);
         // this.hudPanel.startTimer();
-        this.hudPanel.resetStage();
-
-        this.startMenu.stopTimer();
-        this.startAllPanelTimers();
+        this.session.submit(() -> {
+            this.session.getLogicController().resetStage();
+            this.startMenu.stopTimer();
+            this.session.start();
+        });
 
         // Change the magic number and uncomment below
         // in order to start further on the map then the beginning
-        // this.landscapePanel.reset(26800);
-        // this.rocketPanel.setMapX(landscapePanel.getCurrentMapX());
-        // this.fuelTankPanel.setMapX(landscapePanel.getCurrentMapX());
-        // this.rocketPanel.resetRockets();
-        // this.fuelTankPanel.resetTanks();
-
-    }
-
-    /** Resets to start menu. */
-    public final void setStart() {
-
-        this.stopAllPanelTimers();
-        Scores.addScore(Scores.getCurrentScore());
-        Scores.resetCurrentScore();
-
-        this.mainPanel.removeAll();
-
-        this.landscapePanel.reset(0);
-        this.rocketPanel.setMapX(0);
-        this.fuelTankPanel.setMapX(0);
-        this.rocketPanel.resetRockets();
-        this.fuelTankPanel.resetTanks();
-        LogicController.resetLives();
-
-        this.spaceShipPanel.getSpaceship()
-                .updatePosition(
-                        new PairImpl<>(Constants.SPACESHIP_STARTER_POSITION, Constants.SPACESHIP_STARTER_POSITION));
-
-        this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
-        this.mainPanel.add(startMenu, JLayeredPane.PALETTE_LAYER);
-
-        hudPanel.getFuelBar().fillFuel();
-
-        this.startMenu.startTimer();
+        // this.session.getWorld().reset(26800);
 
     }
 
     /**
-     * Resets to the nearest checkpoint.
-     *
-     * @param restartPos X pos of selected checkpoint
+     * Resets to start menu. The session is reset by the game loop and the
+     * panels are changed by the event dispatch thread, so it can be called
+     * from either.
      */
-    public void restartFromCheckPoint(final int restartPos) {
-
-        landscapePanel.reset(restartPos);
-        spaceShipPanel.getSpaceship()
-                .updatePosition(
-                        new PairImpl<>(Constants.SPACESHIP_STARTER_POSITION,
-                                Constants.SPACESHIP_STARTER_POSITION));
-        hudPanel.getFuelBar().fillFuel();
-        this.rocketPanel.setMapX(0);
-        this.rocketPanel.resetRockets();
-        this.fuelTankPanel.setMapX(this.landscapePanel.getCurrentMapX());
-        this.fuelTankPanel.resetTanks();
+    public final void setStart() {
 
-    }
+        this.session.submit(() -> {
+            Scores.addScore(Scores.getCurrentScore());
+            Scores.resetCurrentScore();
+            this.session.reset();
+            this.startMenu.startTimer();
+        });
 
-    /**
-     * Calculates nearest checkpoint.
-     *
-     * @return the checkpoint
-     */
-    public int returnToCheckPoint() {
-        final int size = MapController.getStageStartingX().size();
-        for (int i = size - 1; i > 1; i--) {
-            if (MapController.getStageStartingX().get(i) < this.landscapePanel
-                    .getCurrentMapX()) {
-                return MapController.getStageStartingX().get(i);
-            }
-        }
-        return MapController.getStageStartingX().get(1);
-    }
+        SwingUtilities.invokeLater(() -> {
+            this.mainPanel.removeAll();
+            this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
+            this.mainPanel.add(startMenu, JLayeredPane.PALETTE_LAYER);
+        });
 
-    /** Stops all the timers of the singular panels inside game view. */
-    public final void stopAllPanelTimers() {
-        this.landscapePanel.stopTimer();
-        this.bulletsPanel.stopTimer();
-        this.spaceShipPanel.stopTimer();
-        this.hudPanel.stopTimer();
-        this.rocketPanel.stopTimer();
-        this.fuelTankPanel.stopTimer();
     }
 
-    /** Starts all the timers of the singular panels inside game view. */
-    public void startAllPanelTimers() {
-        this.landscapePanel.startTimer();
-        this.bulletsPanel.startTimer();
-        this.spaceShipPanel.startTimer();
-        this.hudPanel.startTimer();
-        this.rocketPanel.startTimer();
-        this.fuelTankPanel.startTimer();
+    /** {@inheritDoc} */
+    @Override
+    public void onGameOver() {
+        setStart();
     }
 
-    /** Restarts all the timers of the singular panels inside game view. */
-    public void restartAllPanelTimers() {
-        this.landscapePanel.restartTimer();
-        this.bulletsPanel.restartTimer();
-        this.spaceShipPanel.restartTimer();
-        this.hudPanel.restartTimer();
-        this.rocketPanel.restartTimer();
-        this.fuelTankPanel.restartTimer();
+    /** {@inheritDoc} */
+    @Override
+    public void onMapCompleted() {
+        showGameOverScreen();
     }
 
-    /** Starts repaint timer. */
+    /** Starts repaint timer, on the next tick of the game loop. */
     public void startRepaintTimer() {
-        this.repaintTimer.start();
+        this.session.submit(this.repaintTask::start);
     }
 
+    /*
+     * Called by the game loop when the map is completed.
+     */
     private void showGameOverScreen() {
-        stopAllPanelTimers(); // Stop all ongoing game processes
-        this.mainPanel.removeAll(); // Clear current game view
-
-        // Add the background panel to retain the starry background
-        this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
         backgroundPanel.startTimer(); // Continue moving the starry background
-
-        // Add the GameOverPanel on top
-        this.mainPanel.add(gameOverPanel, JLayeredPane.PALETTE_LAYER);
         gameOverPanel.enableOverlay();
 
-        this.mainPanel.repaint(); // Ensure the panel is rendered
+        SwingUtilities.invokeLater(() -> {
+            this.mainPanel.removeAll(); // Clear current game view
+
+            // Add the background panel to retain the starry background
+            this.mainPanel.add(backgroundPanel, JLayeredPane.DEFAULT_LAYER);
+
+            // Add the GameOverPanel on top
+            this.mainPanel.add(gameOverPanel, JLayeredPane.PALETTE_LAYER);
+
+            this.mainPanel.repaint(); // Ensure the panel is rendered
+        });
 
-        final Timer endGameTimer = new Timer(5000, e -> {
+        final LoopTask endGameTimer = GAME_LOOP.schedule(TickPhase.SCORING, 5000, () -> {
             gameOverPanel.disableOverlay();
             setStart();
         });
@@ -414,20 +449,20 @@ public class GameView extends JFrame {
     }
 
     /**
-     * Getter for the repaint timer.
+     * Getter for the repaint task.
      *
-     * @return the timer
+     * @return the task
      */
-    private Timer getRepaintTimer() {
-        return this.repaintTimer;
+    private LoopTask getRepaintTask() {
+        return this.repaintTask;
     }
 
     /**
-     * Getter for the logic controller implementation.
+     * Getter for the canvas renderer.
      *
-     * @return the logic controller
+     * @return the canvas, or {@code null} if the game is painted by Swing
      */
-    private LogicController getLogicController() {
-        return this.logicController;
+    private CanvasRenderer getCanvasRenderer() {
+        return this.canvasRenderer;
     }
 }
@@ -7,21 +7,25 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.logging.Logger;
 
-import javax.imageio.ImageIO;
-import javax.swing.Timer;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
-import scramble.controller.mediator.LogicController;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import scramble.controller.profiling.LatencySummary;
+import scramble.controller.profiling.ProfiledSection;
+import scramble.controller.profiling.Profiler;
 import scramble.model.common.util.BufferedImageManager;
-import scramble.model.scores.Scores;
+import scramble.model.common.util.SpriteLoader;
 import scramble.model.spaceship.FuelBar;
+import scramble.model.world.WorldSnapshot;
 import scramble.utility.Constants;
 import scramble.view.font.ScrambleFontUtil;
 
 /**
- * This class is dedicated to painting the fuelBar.
+ * This class is dedicated to painting the fuelBar. On request it also draws
+ * the last report of the {@link Profiler} over the game.
  */
 public final class HUDPanel extends GamePanel {
 
@@ -31,33 +35,32 @@ public final class HUDPanel extends GamePanel {
     private static final int LIVES_DIM = 5;
     private static final List<Float> STAGE_BAR_PAR = new ArrayList<>(
             Arrays.asList(0.16f, 0.33f, 0.5f, 0.66f, 0.83f));
-    private static final List<Integer> STAGES = new ArrayList<>(
-            Arrays.asList(1, 2, 3, 4, 5));
-    private static final int INDEX_FIVE = 5;
     private static final Logger LOG = Logger.getLogger(FuelBar.class.getName());
-    private final transient FuelBar fuelBar;
-    private static final int SEC = 800;
+    private static final ProfiledSection STAGE_HUD_SECTION = Profiler.section("draw.HUDPanel.stage");
+    private static final Font PROFILER_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color PROFILER_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final int PROFILER_LINE = 13;
+    private static final int PROFILER_Y = 48;
+    private final transient Supplier<WorldSnapshot> snapshots;
+    private volatile boolean profilerVisible;
 
     private transient BufferedImage fuelBarFull;
     private transient BufferedImage fuelBarEmpty;
     private transient BufferedImage stageHud;
 
-    private final Timer fuelTimer;
     private final Font retroFont;
 
-    private int stage;
-
-    /** Class constructor. */
-    public HUDPanel() {
+    /**
+     * Class constructor.
+     *
+     * @param snapshots the source of the last snapshot of the world, which
+     *                  holds fuel, lives, stage and score
+     */
+    @SuppressFBWarnings
+    public HUDPanel(final Supplier<WorldSnapshot> snapshots) {
         loadImages();
-        fuelBar = new FuelBar();
+        this.snapshots = snapshots;
         retroFont = ScrambleFontUtil.loadFont(FONT_SIZE);
-
-        this.fuelTimer = new Timer(SEC, e -> {
-            changeStage();
-            this.fuelBar.decreaseFuel(Constants.FUEL_DECREASE_AMOUNT);
-        });
-
     }
 
     /**
@@ -65,71 +68,45 @@ public final class HUDPanel extends GamePanel {
      */
     @Override
     public void drawPanel(final Graphics g) {
-        paintFuelBar(g);
-        paintStageHud(g);
-        paintScore(g);
-        paintLives(g);
+        final WorldSnapshot snapshot = snapshots.get();
+        paintFuelBar(g, snapshot.getFuelLevel());
+        paintStageHud(g, snapshot.getStage());
+        paintScore(g, snapshot.getScore());
+        paintLives(g, snapshot.getLives());
+        if (profilerVisible) {
+            paintProfiler(g);
+        }
     }
 
-    /**
-     * Getter for the fuel bar.
-     *
-     * @return the fuel bar
-     */
-    public FuelBar getFuelBar() {
-        return fuelBar;
+    /** Shows the profiler report if it is hidden, hides it otherwise. */
+    public void toggleProfiler() {
+        this.profilerVisible = !this.profilerVisible;
     }
 
     /**
+     * Tells if the profiler report is shown.
      *
+     * @return {@code true} if the report is drawn over the game
      */
-    public void changeStage() {
-        final int pos = LandscapePanel.getMapController().getCurrentMapX();
-
-        if (pos > LogicController.getCheckPoints().get(1).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(2).getFirstElement()) {
-            stage = STAGES.get(0);
-        } else if (pos > LogicController.getCheckPoints().get(2).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(3).getFirstElement()) {
-            stage = STAGES.get(1);
-        } else if (pos > LogicController.getCheckPoints().get(3).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(4).getFirstElement()) {
-            stage = STAGES.get(2);
-        } else if (pos > LogicController.getCheckPoints().get(4).getFirstElement()
-                && pos < LogicController.getCheckPoints().get(INDEX_FIVE).getFirstElement()) {
-            stage = STAGES.get(3);
-        } else if (pos > LogicController.getCheckPoints().get(INDEX_FIVE).getFirstElement()) {
-            stage = STAGES.get(4);
-        }
-
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void startTimer() {
-        fuelTimer.start();
+    public boolean isProfilerVisible() {
+        return this.profilerVisible;
     }
 
-    /** @inheritDoc */
-    @Override
-    public void stopTimer() {
-        fuelTimer.stop();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void restartTimer() {
-        fuelTimer.restart();
-    }
-
-    /**
-     * Reset the number of stages to the starting stage.
-     */
-    public void resetStage() {
-        this.stage = 0;
+    private void paintProfiler(final Graphics g) {
+        final List<LatencySummary> report = Profiler.getLastReport();
+        g.setColor(PROFILER_BACKGROUND);
+        g.fillRect(0, PROFILER_Y, getWidth(), (report.size() + 1) * PROFILER_LINE);
+        g.setColor(Color.GREEN);
+        g.setFont(PROFILER_FONT);
+        int y = PROFILER_Y + PROFILER_LINE;
+        for (final LatencySummary summary : report) {
+            g.drawString(summary.toString(), 10, y);
+            y += PROFILER_LINE;
+        }
     }
 
-    private void paintStageHud(final Graphics g) {
+    private void paintStageHud(final Graphics g, final int stage) {
+        final long start = STAGE_HUD_SECTION.begin();
         final int widthHud = (int) (stageHud.getWidth() * Constants.STAGE_HUD_SCALE_FACTOR);
         final int heightHud = (int) (stageHud.getHeight() * Constants.STAGE_HUD_SCALE_FACTOR);
 
@@ -150,37 +127,36 @@ public final class HUDPanel extends GamePanel {
                     x + widthHud, y + heightHud,
                     0, 0, stageHud.getWidth(), stageHud.getHeight(), null);
         }
-
+        STAGE_HUD_SECTION.end(start);
     }
 
-    private void paintScore(final Graphics g) {
+    private void paintScore(final Graphics g, final int currentScore) {
         g.setColor(Color.WHITE);
         g.setFont(retroFont.deriveFont(FONT_SIZE));
 
-        final int currentScore = Scores.getCurrentScore();
-
         final String scoreText = "Score: " + currentScore;
         g.drawString(scoreText, 10, GAP_Y);
     }
 
-    private void paintLives(final Graphics g) {
+    private void paintLives(final Graphics g, final int lives) {
         g.setColor(Color.WHITE);
         g.setFont(retroFont.deriveFont(FONT_SIZE));
 
-        final int currentLives = LogicController.getLives() + 1;
+        final int currentLives = lives + 1;
 
         final String scoreText = "UP: " + currentLives;
         g.drawString(scoreText, getWidth() - (getWidth() / LIVES_DIM), GAP_Y);
     }
 
     /**
-     * Loads from resources the fuel bars images.
+     * Loads from resources the fuel bars images. They are drawn in parts, so
+     * they keep their size and are scaled while drawing.
      */
     private void loadImages() {
         try {
-            fuelBarFull = ImageIO.read(HUDPanel.class.getResource("/hud/fuel_bar.png"));
-            fuelBarEmpty = ImageIO.read(HUDPanel.class.getResource("/hud/fuel_bar_empty.png"));
-            stageHud = ImageIO.read(HUDPanel.class.getResource("/hud/stage_board.png"));
+            fuelBarFull = SpriteLoader.read("/hud/fuel_bar.png");
+            fuelBarEmpty = SpriteLoader.read("/hud/fuel_bar_empty.png");
+            stageHud = SpriteLoader.read("/hud/stage_board.png");
         } catch (IOException e) {
             LOG.severe("Ops!");
             LOG.severe(e.toString());
@@ -190,15 +166,16 @@ public final class HUDPanel extends GamePanel {
     /**
      * Draws both fuel bars images on top of each other.
      *
-     * @param g graphic component
+     * @param g         graphic component
+     * @param fuelLevel the fuel left
      */
-    private void paintFuelBar(final Graphics g) {
+    private void paintFuelBar(final Graphics g, final int fuelLevel) {
 
         final int width = fuelBarFull.getWidth() * Constants.FUELBAR_SCALE_FACTOR;
         final int height = fuelBarFull.getHeight() * Constants.FUELBAR_SCALE_FACTOR;
 
         // Calculates the amount of empty to draw over the full bar
-        final int fullWidth = (int) (fuelBar.getFuelLevel() / 100.0 * width);
+        final int fullWidth = (int) (fuelLevel / 100.0 * width);
 
         // Coordinates of starting draw point
         final int x = (getWidth() - width) / 2;
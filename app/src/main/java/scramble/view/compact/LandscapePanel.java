@@ -1,20 +1,16 @@
 package scramble.view.compact;
 
 import java.awt.Graphics;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.swing.JPanel;
-import javax.swing.Timer;
 
-import scramble.controller.input.InputControl;
 import scramble.controller.map.MapController;
-import scramble.model.map.api.MapColumn;
-import scramble.model.map.impl.MapElement;
-import scramble.model.map.util.LandUtils;
-import scramble.utility.Constants;
-
-import java.awt.image.BufferedImage;
+import scramble.model.world.LandscapeModel;
+import scramble.model.world.Sprite;
+import scramble.model.world.SpriteLayer;
+import scramble.model.world.WorldSnapshot;
 
 /**
  * Class for the rappresentation of the Landscape Panel.
@@ -23,71 +19,46 @@ import java.awt.image.BufferedImage;
  * @see JPanel
  */
 public class LandscapePanel extends GamePanel {
-    /** Numebr of columns on screen. */
-    public static final int COLUMNS_ON_SCREEN = LandUtils.dividePixelPerSprite(GameView.WINDOW_WIDTH);
-    /** Number of columns that aren't seen on screen but are still loaded. */
-    public static final int EXTRA_COLUMNS_LOADED = 20;
-    /** Number of total columns loaded. */
-    public static final int TOTAL_COLUMNS_LOADED = COLUMNS_ON_SCREEN + EXTRA_COLUMNS_LOADED;
 
-    private static final int PIXEL_THRESHOLD_FOR_UPDATE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE
-            * EXTRA_COLUMNS_LOADED;
     private static final long serialVersionUID = 1L;
-    private static final MapController MAP_CONTROLLER = new MapController();
-
-    private final Timer landscapeTimer;
-
-    private transient List<MapColumn> columns;
 
-    private int landscapeX;
-    private int counter;
-    private int starterX;
-
-    /** Costructor of the class LandscapePanel. */
-    public LandscapePanel() {
-        this.counter = 0;
-        this.fillColumns();
-        this.landscapeX = 0;
-        this.starterX = 0;
-        this.landscapeTimer = new Timer(32, e -> updateLandscape());
-    }
+    private final transient LandscapeModel landscape;
+    private final transient Supplier<WorldSnapshot> snapshots;
+    private final transient AcceleratedImages chunks = new AcceleratedImages();
 
     /**
-     * Returns the landscape.
-     *
-     * @return a 2D list
+     * Costructor of the class LandscapePanel, with a landscape of its own. The
+     * panel draws the landscape as it is when it is painted.
      */
-    public List<MapElement> getColumns() {
-        final List<MapElement> mapElementsColumns = new ArrayList<>();
-        for (final MapColumn mc : this.columns) {
-            mapElementsColumns.addAll(mc.getElements());
-        }
+    public LandscapePanel() {
+        this(new LandscapeModel(new MapController()));
+    }
 
-        return mapElementsColumns;
+    private LandscapePanel(final LandscapeModel landscape) {
+        this(landscape, () -> new WorldSnapshot(0, landscape.getCurrentMapX(),
+                Map.of(SpriteLayer.LANDSCAPE, landscape.getSprites()), 0, 0, 0, 0));
     }
 
     /**
-     * Resets starting position of the map.
+     * Costructor of the class LandscapePanel.
      *
-     * @param starterPosition self explanatory
+     * @param landscape the landscape of the game
+     * @param snapshots the source of the last snapshot of the world, which is
+     *                  the only thing that is drawn
      */
-    public void reset(final int starterPosition) {
-
-        MAP_CONTROLLER.resetToX(starterPosition);
-        this.landscapeX = starterPosition;
-        this.starterX = starterPosition;
-
-        this.counter = 0;
-        this.fillColumns();
+    public LandscapePanel(final LandscapeModel landscape, final Supplier<WorldSnapshot> snapshots) {
+        this.landscape = landscape;
+        this.snapshots = snapshots;
     }
 
     /**
-     * Getter for the MapController of the LandscapePanel.
+     * Resets starting position of the map. Like every change of the landscape,
+     * it must be done by the thread that runs the game.
      *
-     * @return the MapController
+     * @param starterPosition self explanatory
      */
-    public static MapController getMapController() {
-        return MAP_CONTROLLER;
+    public void reset(final int starterPosition) {
+        this.landscape.reset(starterPosition);
     }
 
     /**
@@ -96,84 +67,33 @@ public class LandscapePanel extends GamePanel {
      * @return MapX with added the column counter
      */
     public int getCurrentMapX() {
-        return MAP_CONTROLLER.getCurrentMapX() + this.counter;
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void startTimer() {
-        this.landscapeTimer.start();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void stopTimer() {
-        this.landscapeTimer.stop();
-    }
-
-    /** @inheritDoc */
-    @Override
-    public void restartTimer() {
-        this.landscapeTimer.restart();
+        return this.landscape.getCurrentMapX();
     }
 
     /**
-     * Getter for all the {@link MapElement} of the ceiling drawed.
-     * 
-     * @return the {@link List} of {@link MapElement} of the ceiling
+     * {@inheritDoc}
+     *
+     * The landscape is drawn in chunks, through their
+     * {@link AcceleratedImages} copies.
      */
-    public List<MapElement> getCeilingElements() {
-        final List<MapElement> ceilingElements = new ArrayList<>();
-        for (final MapColumn c : this.columns) {
-            ceilingElements.addAll(c.getCeilingElements());
-        }
-        return ceilingElements;
-    }
-
-    /** {@inheritDoc} */
     @Override
     protected void drawPanel(final Graphics g) {
-        for (final MapColumn column : this.columns) {
-            int tempY = 0;
-            column.updateHitBox(column.getX() - this.landscapeX);
-            for (final BufferedImage bi : column.getBIs()) {
-                g.drawImage(bi, column.getX() - this.landscapeX, tempY, column.gettWidth(),
-                        column.getBIsHeight(), null);
-                tempY += column.getBIsHeight();
-            }
+        for (final Sprite sprite : snapshots.get().getSprites(SpriteLayer.LANDSCAPE)) {
+            chunks.draw(g, sprite);
         }
+        chunks.endFrame();
         // drawHitBox(g);
     }
 
     /* 
     private void drawHitBox(final Graphics g) {
         g.setColor(Color.red);
-        for (final MapColumn c : columns) {
-            for (final MapElement me : c.getElements()) {
+        for (final MapColumn column : landscape.getLoadedColumns()) {
+            for (final MapElement me : column.getElements()) {
                 final Rectangle temp = me.getHitBox();
                 g.drawRect(temp.x, temp.y, temp.width, temp.height);
             }
         }
     }
     */
-
-    private void fillColumns() {
-        this.columns = MAP_CONTROLLER.getColumnsToDisplay();
-    }
-
-    private void updateLandscape() {
-
-        if (!InputControl.isExplPause()) {
-            this.landscapeX += Constants.LANDSCAPEX_SPEED;
-            this.counter += Constants.LANDSCAPEX_SPEED;
-            if (this.landscapeX / LandUtils.PIXEL_PER_LAND_SPRITE_SIDE
-                    + TOTAL_COLUMNS_LOADED == MAP_CONTROLLER.getMapSize()) {
-                this.landscapeX = 0;
-            } else if (-(this.landscapeX - this.starterX) % PIXEL_THRESHOLD_FOR_UPDATE == 0) {
-                this.fillColumns();
-                this.counter = 0;
-            }
-        }
-    }
-
 }
@@ -0,0 +1,35 @@
+package scramble.view.compact;
+
+import java.util.Locale;
+
+/**
+ * The ways in which the {@link GameView} can draw the game. The backend is
+ * chosen once, when the window is created.
+ */
+public enum RenderBackend {
+
+    /**
+     * The panels are stacked in a {@link javax.swing.JLayeredPane} and painted
+     * by Swing, which clears and composites every layer on each repaint.
+     */
+    SWING,
+
+    /**
+     * The panels are drawn on a single {@link CanvasRenderer}, in one pass, and
+     * shown by flipping the pages of a {@link java.awt.image.BufferStrategy}.
+     * The game loop only asks for a frame at every tick: the frame is drawn by
+     * the event dispatch thread, from the last snapshot of the world.
+     */
+    CANVAS;
+
+    /**
+     * Finds the backend with the given name, ignoring the case.
+     *
+     * @param name the name of the backend
+     * @return the backend
+     * @throws IllegalArgumentException if no backend has that name
+     */
+    public static RenderBackend fromName(final String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
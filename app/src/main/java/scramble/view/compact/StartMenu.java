@@ -1,18 +1,19 @@
 package scramble.view.compact;
 
+import scramble.model.common.util.SpriteLoader;
 import scramble.model.scores.Scores;
 import scramble.view.font.ScrambleFontUtil;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
-import javax.imageio.ImageIO;
-import javax.swing.Timer;
 import java.awt.Graphics;
+import java.awt.image.BufferedImage;
 import java.awt.BorderLayout;
 import java.awt.Font;
 import java.awt.Color;
-import java.awt.event.ActionListener;
-import java.awt.event.ActionEvent;
+
+import scramble.controller.loop.api.TickPhase;
 
 /**
  * The start menu with the game starts. Loopes through the Scoreboard as
@@ -26,9 +27,10 @@ public final class StartMenu extends GamePanel {
     private final transient Scores scores;
 
     private final Font retroFont;
-    private final Timer scoreSequenceTimer;
+    private transient BufferedImage rocket;
 
-    private int sequenceStep;
+    // Moved on by the game loop and read while painting
+    private final AtomicInteger sequenceStep = new AtomicInteger();
 
     private static final class FixedConstants {
 
@@ -46,6 +48,7 @@ public final class StartMenu extends GamePanel {
         private static final float FONT_SIZE2 = 24f;
         private static final int TIMERS = 3000;
         private static final int OFFSET = 25;
+        private static final int ROCKET_SIZE = 32;
 
     }
 
@@ -57,17 +60,16 @@ public final class StartMenu extends GamePanel {
         setOpaque(false);
         scores = new Scores();
         retroFont = ScrambleFontUtil.loadFont(FixedConstants.FONT_SIZE2);
+        try {
+            rocket = SpriteLoader.read("/elements/rocket.png", FixedConstants.ROCKET_SIZE,
+                    FixedConstants.ROCKET_SIZE);
+        } catch (IOException e) {
+            LOG.severe("Ops!");
+            LOG.severe(e.toString());
+        }
 
-        sequenceStep = 0;
-        this.scoreSequenceTimer = new Timer(FixedConstants.TIMERS, new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                sequenceStep++;
-                if (sequenceStep > 2) {
-                    sequenceStep = 0;
-                }
-            }
-        });
+        this.schedule(TickPhase.RENDER, FixedConstants.TIMERS,
+                () -> sequenceStep.updateAndGet(step -> step >= 2 ? 0 : step + 1));
 
     }
 
@@ -75,32 +77,15 @@ public final class StartMenu extends GamePanel {
     @Override
     public void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        drawPanel(g);
-    }
-
-    @Override
-    public void startTimer() {
-        scoreSequenceTimer.start();
-
-    }
-
-    @Override
-    public void stopTimer() {
-        scoreSequenceTimer.stop();
-
-    }
-
-    @Override
-    public void restartTimer() {
-        scoreSequenceTimer.restart();
-
+        draw(g);
     }
 
     @Override
     protected void drawPanel(final Graphics g) {
         g.setFont(retroFont.deriveFont(FixedConstants.FONT_SIZE1));
 
-        if (sequenceStep == 0) {
+        final int step = sequenceStep.get();
+        if (step == 0) {
             g.setColor(Color.YELLOW);
             g.drawString("PLAY", getWidth() / 2 - FixedConstants.PLAY_WIDTH, getHeight() / 4);
 
@@ -115,7 +100,7 @@ public final class StartMenu extends GamePanel {
             g.setColor(Color.WHITE);
             g.drawString("KONAMI", getWidth() / 2 - FixedConstants.KONAMI_WIDTH,
                     getHeight() - (getHeight() / FixedConstants.KONAMI_HEIGHT));
-        } else if (sequenceStep == 1) {
+        } else if (step == 1) {
             g.setColor(Color.RED);
             final int offset = FixedConstants.OFFSET;
             int index = 1;
@@ -126,16 +111,10 @@ public final class StartMenu extends GamePanel {
                         getHeight() / 2 + index * offset);
                 index++;
             }
-        } else if (sequenceStep == 2) {
+        } else if (step == 2) {
             g.setColor(Color.YELLOW);
             g.drawString("- SCORE TABLE -", getWidth() / 2 - FixedConstants.SCORE_HEIGHT, getHeight() / 4);
-            try {
-                g.drawImage(ImageIO.read(getClass().getResource("/elements/rocket.png")),
-                        getWidth() / 2 - FixedConstants.POINTS_WIDTH, getHeight() / 2, 32, 32, null);
-            } catch (IOException e) {
-                LOG.severe("Ops!");
-                LOG.severe(e.toString());
-            }
+            g.drawImage(rocket, getWidth() / 2 - FixedConstants.POINTS_WIDTH, getHeight() / 2, null);
             g.setColor(Color.WHITE);
             g.drawString("   50 PTS", getWidth() / 2 - FixedConstants.POINTS_WIDTH,
                     getHeight() / 2 + FixedConstants.GAP30);
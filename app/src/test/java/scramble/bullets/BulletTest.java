@@ -53,6 +53,7 @@ class BulletTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testBulletCollisionWithMap() {
         // Setup
         final List<MapElement> map = new ArrayList<>();
@@ -0,0 +1,140 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.mediator.LogicController;
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.api.CollisionEvents;
+import scramble.model.common.api.CollisionType;
+import scramble.model.common.impl.CollisionEventBuffer;
+import scramble.model.common.impl.GameElementImpl;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.enemy.Boss;
+import scramble.model.enemy.Rocket;
+import scramble.model.scores.Scores;
+import scramble.model.tank.FuelTank;
+import scramble.model.world.World;
+import scramble.utility.Constants;
+
+class CollisionEventsTest {
+
+    private static final long SEED = 1981L;
+    private static final int EVENTS = 100;
+    private static final int MAX_UPDATES = 200;
+    private static final int BURNED_FUEL = Constants.FUEL_REFILL * 2;
+
+    @Test
+    void testBufferKeepsTheEventsInOrder() {
+        final CollisionEvents<String> events = new CollisionEventBuffer<>();
+        final CollisionType[] types = CollisionType.values();
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(types[i % types.length], "first" + i, i % 2 == 0 ? null : "second" + i);
+        }
+        assertEquals(EVENTS, events.size());
+        for (int i = 0; i < EVENTS; i++) {
+            assertEquals(types[i % types.length], events.getType(i));
+            assertEquals("first" + i, events.getFirst(i));
+            assertEquals(i % 2 == 0 ? null : "second" + i, events.getSecond(i));
+        }
+
+        events.clear();
+        assertEquals(0, events.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> events.getFirst(0));
+    }
+
+    @Test
+    void testDetectionDoesNotChangeTheWorld() {
+        final World world = new World(new GameRandomImpl(SEED));
+        final LogicController logic = new LogicController(world);
+        final CollisionEvents<GameElementImpl> events = logic.getEvents();
+        world.shoot(BulletType.TYPE_BOMB);
+        final Bullet bomb = world.getBullets().getBullets().iterator().next();
+
+        int index = -1;
+        for (int update = 0; update < MAX_UPDATES && index < 0; update++) {
+            world.updateElements();
+            logic.detectCollisions();
+            for (int i = 0; i < events.size(); i++) {
+                if (events.getFirst(i) == bomb) {
+                    index = i;
+                }
+            }
+        }
+        assertTrue(index >= 0);
+        assertTrue(events.getType(index) == CollisionType.BULLET_TERRAIN
+                || events.getSecond(index) != null);
+        if (events.getType(index) == CollisionType.BULLET_TERRAIN) {
+            assertNull(events.getSecond(index));
+        }
+        assertFalse(bomb.isHit());
+        assertTrue(world.getBullets().getBullets().contains(bomb));
+        assertTrue(world.getBullets().getExplodingBullets().isEmpty());
+
+        logic.resolveCollisions();
+        assertEquals(0, events.size());
+        assertFalse(world.getBullets().getBullets().contains(bomb));
+        assertSame(bomb, world.getBullets().getExplodingBullets().get(0));
+    }
+
+    @Test
+    void testResolvedHitsScoreOncePerEnemy() {
+        final World world = new World(new GameRandomImpl(SEED));
+        final LogicController logic = new LogicController(world);
+        final CollisionEvents<GameElementImpl> events = logic.getEvents();
+        final Rocket rocket = new Rocket(0, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+        final Boss boss = new Boss(0, 0, Constants.BOSS_SIZE, Constants.BOSS_SIZE);
+        Scores.resetCurrentScore();
+        events.add(CollisionType.BULLET_ROCKET, new Bullet(0, 0, BulletType.TYPE_HORIZONTAL), rocket);
+        events.add(CollisionType.BULLET_ROCKET, new Bullet(0, 0, BulletType.TYPE_HORIZONTAL), rocket);
+        events.add(CollisionType.BULLET_BOSS, new Bullet(0, 0, BulletType.TYPE_HORIZONTAL), boss);
+        assertEquals(0, Scores.getCurrentScore());
+
+        logic.resolveCollisions();
+        assertTrue(rocket.isHit());
+        assertTrue(boss.isHit());
+        assertEquals(Constants.ROCKET_POINTS + Constants.BOSS_POINTS, Scores.getCurrentScore());
+
+        events.add(CollisionType.BULLET_BOSS, new Bullet(0, 0, BulletType.TYPE_HORIZONTAL), boss);
+        logic.resolveCollisions();
+        assertEquals(Constants.ROCKET_POINTS + Constants.BOSS_POINTS, Scores.getCurrentScore());
+        Scores.resetCurrentScore();
+    }
+
+    @Test
+    void testCrashedRocketDoesNotScore() {
+        final World world = new World(new GameRandomImpl(SEED));
+        final LogicController logic = new LogicController(world);
+        final CollisionEvents<GameElementImpl> events = logic.getEvents();
+        final Rocket rocket = new Rocket(0, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+        Scores.resetCurrentScore();
+        events.add(CollisionType.ROCKET_CEILING, rocket, null);
+        events.add(CollisionType.BULLET_ROCKET, new Bullet(0, 0, BulletType.TYPE_HORIZONTAL), rocket);
+        logic.resolveCollisions();
+        assertTrue(rocket.isCrashed());
+        assertEquals(0, Scores.getCurrentScore());
+    }
+
+    @Test
+    void testResolvedHitRefillsTheFuelOncePerTank() {
+        final World world = new World(new GameRandomImpl(SEED));
+        final LogicController logic = new LogicController(world);
+        final CollisionEvents<GameElementImpl> events = logic.getEvents();
+        final FuelTank tank = new FuelTank(0, 0, Constants.FUEL_TANK_WIDTH, Constants.FUEL_TANK_HEIGHT);
+        world.getFuelBar().decreaseFuel(BURNED_FUEL);
+        events.add(CollisionType.BULLET_FUEL_TANK, new Bullet(0, 0, BulletType.TYPE_BOMB), tank);
+        events.add(CollisionType.BULLET_FUEL_TANK, new Bullet(0, 0, BulletType.TYPE_BOMB), tank);
+        assertEquals(Constants.MAX_FUEL - BURNED_FUEL, world.getFuelBar().getFuelLevel());
+
+        logic.resolveCollisions();
+        assertTrue(tank.isDestroyed());
+        assertEquals(Constants.MAX_FUEL - BURNED_FUEL + Constants.FUEL_REFILL, world.getFuelBar().getFuelLevel());
+    }
+}
@@ -0,0 +1,114 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.enemy.Rocket;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.spaceship.SpaceShip;
+import scramble.utility.Constants;
+
+class CollisionMaskTest {
+
+    private static final int OPAQUE = 0xFF00FF00;
+    private static final int NEAR_BLACK = 0x030201;
+    private static final int CHECKS = 2000;
+    private static final int MAX_SIDE = 140;
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+
+    @Test
+    void testMaskFollowsTheAlphaOfTheSprite() {
+        final BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(1, 0, OPAQUE);
+        final CollisionMask mask = CollisionMask.of(image, 4, 4);
+
+        assertEquals(4, mask.countOpaque());
+        assertTrue(mask.isOpaque(2, 0));
+        assertTrue(mask.isOpaque(3, 1));
+        assertFalse(mask.isOpaque(1, 0));
+        assertFalse(mask.isOpaque(2, 2));
+        assertFalse(mask.isOpaque(-1, 0));
+        assertTrue(mask.rotate().isOpaque(0, 3));
+
+        final BufferedImage noAlpha = new BufferedImage(2, 1, BufferedImage.TYPE_3BYTE_BGR);
+        noAlpha.setRGB(0, 0, NEAR_BLACK);
+        noAlpha.setRGB(1, 0, OPAQUE);
+        assertFalse(CollisionMask.of(noAlpha, 2, 1).isOpaque(0, 0));
+        assertTrue(CollisionMask.of(noAlpha, 2, 1).isOpaque(1, 0));
+    }
+
+    @Test
+    void testOverlapsMatchesThePixels() {
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < CHECKS; i++) {
+            final CollisionMask first = randomMask(random);
+            final CollisionMask second = randomMask(random);
+            final int x = random.nextInt(-MAX_SIDE, MAX_SIDE);
+            final int y = random.nextInt(-MAX_SIDE, MAX_SIDE);
+            assertEquals(overlapsByPixel(first, second, x, y), CollisionMask.overlaps(first, 0, 0, second, x, y));
+        }
+    }
+
+    @Test
+    void testSlopesAreNotSolid() {
+        final CollisionMask slope = LandUtils.getMask(LandPart.CROWN_CLIMB, false);
+        assertEquals(SIDE, slope.getWidth());
+        assertTrue(slope.countOpaque() < SIDE * SIDE);
+        assertEquals(slope.countOpaque(), LandUtils.getMask(LandPart.CROWN_CLIMB, true).countOpaque());
+    }
+
+    @Test
+    void testMasksAreSharedByTheElements() {
+        final SpaceShip first = new SpaceShip(0, 0, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
+        final SpaceShip second = new SpaceShip(1, 1, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
+        assertTrue(first.getMask() == second.getMask());
+        assertTrue(new Rocket(0, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT).getMask()
+                == new Rocket(1, 1, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT).getMask());
+        assertTrue(first.getMask().countOpaque() < Constants.SPACESHIP_WIDTH * Constants.SPACESHIP_HEIGHT);
+    }
+
+    @Test
+    void testUnionKeepsEveryFrame() {
+        final BufferedImage left = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        left.setRGB(0, 0, OPAQUE);
+        final BufferedImage right = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        right.setRGB(1, 0, OPAQUE);
+        assertEquals(2, CollisionMask.ofFrames(List.of(left, right), 2, 1).countOpaque());
+        assertEquals(2, CollisionMask.ofFrames(List.of(), 2, 1).countOpaque());
+    }
+
+    private static CollisionMask randomMask(final SplittableRandom random) {
+        final BufferedImage image = new BufferedImage(random.nextInt(1, MAX_SIDE), random.nextInt(1, MAX_SIDE),
+                BufferedImage.TYPE_INT_ARGB);
+        final int density = random.nextInt(1, 100);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (random.nextInt(100) < density) {
+                    image.setRGB(x, y, OPAQUE);
+                }
+            }
+        }
+        return CollisionMask.of(image, image.getWidth(), image.getHeight());
+    }
+
+    private static boolean overlapsByPixel(final CollisionMask first, final CollisionMask second, final int x,
+            final int y) {
+        for (int row = 0; row < first.getHeight(); row++) {
+            for (int column = 0; column < first.getWidth(); column++) {
+                if (first.isOpaque(column, row) && second.isOpaque(column - x, row - y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
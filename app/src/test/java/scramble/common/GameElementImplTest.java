@@ -61,6 +61,27 @@ class GameElementImplTest {
         assertEquals(newPosition.getSecondElement(), gameElement.getPosition().getSecondElement());
     }
 
+    @Test
+    void testSetPositionMovesTheHitBox() {
+        final int size = 30;
+        final GameElementImpl gameElement = new GameElementImpl(0, 0, size, size) {
+            @Override
+            public BufferedImage getSprite() {
+                return null;
+            }
+        };
+
+        gameElement.setPosition(UPDATED_X_POSITION, UPDATED_Y_POSITION);
+
+        assertEquals(UPDATED_X_POSITION, gameElement.getX());
+        assertEquals(UPDATED_Y_POSITION, gameElement.getY());
+        assertEquals(UPDATED_X_POSITION, gameElement.getPosition().getFirstElement());
+        assertEquals(UPDATED_Y_POSITION, gameElement.getPosition().getSecondElement());
+        assertEquals(UPDATED_X_POSITION, gameElement.getHitBoxX());
+        assertEquals(UPDATED_Y_POSITION, gameElement.getHitBoxY());
+        assertEquals(size, gameElement.getHitBoxWidth());
+    }
+
     @Test
     void testGetSpriteImplementedInSubclasses() {
 
@@ -0,0 +1,38 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.GameRandom;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
+
+class GameRandomImplTest {
+
+    private static final long SEED = 1981L;
+
+    @Test
+    void testSameSeedGivesSameNumbers() {
+        final GameRandom first = new GameRandomImpl(SEED);
+        final GameRandom second = new GameRandomImpl(SEED);
+        for (final RandomStream stream : RandomStream.values()) {
+            assertEquals(first.getStream(stream).nextLong(), second.getStream(stream).nextLong());
+            assertEquals(first.split(stream).nextLong(), second.split(stream).nextLong());
+        }
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        final GameRandom first = new GameRandomImpl(SEED);
+        final GameRandom second = new GameRandomImpl(SEED);
+
+        // Drawing cosmetic numbers must not change the map stream
+        for (int i = 0; i < 10; i++) {
+            first.getStream(RandomStream.COSMETIC).nextInt();
+        }
+        assertEquals(first.getStream(RandomStream.MAP).nextLong(), second.getStream(RandomStream.MAP).nextLong());
+        assertNotEquals(first.getStream(RandomStream.AI).nextLong(), first.getStream(RandomStream.MAP).nextLong());
+    }
+}
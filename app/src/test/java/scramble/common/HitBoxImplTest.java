@@ -1,6 +1,7 @@
 package scramble.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import scramble.model.common.impl.HitBoxImpl;
 import scramble.utility.Constants;
 
 import java.awt.Rectangle;
+import java.util.SplittableRandom;
 
 class HitBoxImplTest {
 
@@ -60,4 +62,30 @@ class HitBoxImplTest {
         final Rectangle expected = new Rectangle(x, y, width, height);
         assertEquals(expected, result);
     }
+
+    @Test
+    void testIntersectsFollowsRectangle() {
+        final int side = 20;
+        final int range = 60;
+        final int checks = 10_000;
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < checks; i++) {
+            final Rectangle first = new Rectangle(random.nextInt(range), random.nextInt(range),
+                    random.nextInt(-1, side), random.nextInt(-1, side));
+            final Rectangle second = new Rectangle(random.nextInt(range), random.nextInt(range),
+                    random.nextInt(-1, side), random.nextInt(-1, side));
+            final HitBoxImpl firstBox = new HitBoxImpl(first.x, first.y, first.width, first.height);
+            final HitBoxImpl secondBox = new HitBoxImpl(second.x, second.y, second.width, second.height);
+            assertEquals(first.intersects(second), firstBox.hasCollided(secondBox));
+        }
+    }
+
+    @Test
+    void testTouchingHitBoxesDoNotCollide() {
+        final int side = 10;
+        final HitBoxImpl hitBox = new HitBoxImpl(0, 0, side, side);
+        assertFalse(hitBox.intersects(side, 0, side, side));
+        assertFalse(hitBox.intersects(0, side, side, side));
+        assertTrue(hitBox.intersects(side - 1, side - 1, side, side));
+    }
 }
@@ -0,0 +1,64 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.common.util.SpriteLoader;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandPart;
+import scramble.utility.Constants;
+
+class SpriteLoaderTest {
+
+    private static final String SHIP = "/ship/ship1.png";
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+
+    @Test
+    void testSpriteIsScaledToTheSizeItIsDrawnWith() throws IOException {
+        final BufferedImage sprite = SpriteLoader.read(SHIP, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
+        assertEquals(Constants.SPACESHIP_WIDTH, sprite.getWidth());
+        assertEquals(Constants.SPACESHIP_HEIGHT, sprite.getHeight());
+        assertTrue(sprite.getColorModel().hasAlpha());
+    }
+
+    @Test
+    void testMaskOfTheScaledSpriteIsTheOneOfTheSource() throws IOException {
+        final BufferedImage source = ImageIO.read(SpriteLoaderTest.class.getResource(SHIP));
+        final BufferedImage sprite = SpriteLoader.read(SHIP, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
+        final CollisionMask expected = CollisionMask.of(source, Constants.SPACESHIP_WIDTH,
+                Constants.SPACESHIP_HEIGHT);
+        final CollisionMask actual = CollisionMask.of(sprite, Constants.SPACESHIP_WIDTH,
+                Constants.SPACESHIP_HEIGHT);
+        assertTrue(expected.countOpaque() > 0);
+        assertEquals(expected.countOpaque(), actual.countOpaque());
+        for (int y = 0; y < Constants.SPACESHIP_HEIGHT; y++) {
+            for (int x = 0; x < Constants.SPACESHIP_WIDTH; x++) {
+                assertEquals(expected.isOpaque(x, y), actual.isOpaque(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testLandscapeSpritesAreOpaqueTiles() {
+        for (final LandPart part : LandPart.values()) {
+            final BufferedImage sprite = LandUtils.getSprite(part);
+            assertEquals(SIDE, sprite.getWidth());
+            assertEquals(SIDE, sprite.getHeight());
+            assertEquals(0xFF, sprite.getRGB(0, 0) >>> 24);
+        }
+    }
+
+    @Test
+    void testMissingSpriteIsAnError() {
+        assertThrows(IOException.class, () -> SpriteLoader.read("/ship/missing.png"));
+    }
+}
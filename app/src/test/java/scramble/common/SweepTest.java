@@ -0,0 +1,98 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Rectangle;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.bullets.Bullet;
+import scramble.model.bullets.BulletType;
+import scramble.model.common.util.Sweep;
+import scramble.model.enemy.Rocket;
+import scramble.utility.Constants;
+
+class SweepTest {
+
+    private static final int CHECKS = 5000;
+    private static final int RANGE = 80;
+    private static final int MAX_SIDE = 30;
+    private static final int SAMPLES = 512;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testSweepFindsWhatTheBoxPassesThrough() {
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < CHECKS; i++) {
+            final Rectangle box = new Rectangle(random.nextInt(RANGE), random.nextInt(RANGE),
+                    random.nextInt(1, MAX_SIDE), random.nextInt(1, MAX_SIDE));
+            final Rectangle target = new Rectangle(random.nextInt(RANGE), random.nextInt(RANGE),
+                    random.nextInt(1, MAX_SIDE), random.nextInt(1, MAX_SIDE));
+            final int dx = random.nextInt(-RANGE, RANGE);
+            final int dy = random.nextBoolean() ? 0 : random.nextInt(-RANGE, RANGE);
+            final double time = Sweep.timeOfImpact(box.x, box.y, box.width, box.height, dx, dy, target.x,
+                    target.y, target.width, target.height);
+
+            final Rectangle end = new Rectangle(box.x + dx, box.y + dy, box.width, box.height);
+            if (end.intersects(target) || box.intersects(target)) {
+                assertTrue(Sweep.isHit(time));
+            }
+            if (box.intersects(target)) {
+                assertEquals(0, time);
+            }
+            if (sampledHit(box, dx, dy, target)) {
+                assertTrue(Sweep.isHit(time));
+            }
+            if (Sweep.isHit(time)) {
+                final double after = Math.min(1, time + EPSILON);
+                assertTrue(box.x + dx * after < target.x + target.width
+                        && box.x + box.width + dx * after > target.x
+                        && box.y + dy * after < target.y + target.height
+                        && box.y + box.height + dy * after > target.y);
+            }
+        }
+    }
+
+    @Test
+    void testTouchingIsNotAHit() {
+        assertFalse(Sweep.isHit(Sweep.timeOfImpact(0, 0, 10, 10, 10, 0, 20, 0, 10, 10)));
+        assertEquals(0.5, Sweep.timeOfImpact(0, 0, 10, 10, 20, 0, 20, 0, 10, 10));
+        assertFalse(Sweep.isHit(Sweep.timeOfImpact(0, 0, 0, 10, 40, 0, 20, 0, 10, 10)));
+    }
+
+    @Test
+    void testFastBulletDoesNotTunnelThroughARocket() {
+        final int rocketX = 100;
+        final Rocket rocket = new Rocket(rocketX, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT);
+        final Bullet bullet = new Bullet(rocketX - Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT / 2,
+                BulletType.TYPE_HORIZONTAL);
+        final int jump = 3 * Constants.ROCKET_WIDTH;
+        bullet.moveBy(jump, 0);
+
+        assertFalse(rocket.hasCollided(bullet));
+        assertTrue(Sweep.isHit(bullet.timeOfImpact(rocket)));
+
+        bullet.endSweep();
+        assertFalse(Sweep.isHit(bullet.timeOfImpact(rocket)));
+
+        // The rocket moving along with the bullet is never reached
+        final Bullet follower = new Bullet(rocketX - Constants.ROCKET_WIDTH, 0, BulletType.TYPE_HORIZONTAL);
+        follower.moveBy(jump, 0);
+        rocket.moveBy(jump, 0);
+        assertFalse(Sweep.isHit(follower.timeOfImpact(rocket)));
+    }
+
+    private static boolean sampledHit(final Rectangle box, final int dx, final int dy, final Rectangle target) {
+        for (int i = 0; i <= SAMPLES; i++) {
+            final double t = (double) i / SAMPLES;
+            if (box.x + dx * t < target.x + target.width && box.x + box.width + dx * t > target.x
+                    && box.y + dy * t < target.y + target.height && box.y + box.height + dy * t > target.y) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.TimedLinkedList;
+import scramble.model.common.impl.TimedLinkedListImpl;
+
+class TimedLinkedListImplTest {
+
+    private static final long SHORT = 100;
+    private static final long LONG = 300;
+
+    @Test
+    void testElementsAreRemovedWhenTheirTimeIsOver() {
+        final TimedLinkedList<String> list = new TimedLinkedListImpl<>();
+        list.addElement("short", SHORT);
+        list.addAll(List.of("long"), LONG);
+        assertEquals(List.of("short", "long"), list.getList());
+
+        list.update(SHORT - 1);
+        assertEquals(List.of("short", "long"), list.getList());
+
+        list.update(1);
+        assertEquals(List.of("long"), list.getList());
+
+        list.update(LONG);
+        assertTrue(list.getList().isEmpty());
+    }
+}
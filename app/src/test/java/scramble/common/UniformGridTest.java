@@ -0,0 +1,71 @@
+package scramble.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.api.CollisionCategory;
+import scramble.model.common.impl.HitBoxImpl;
+import scramble.model.common.impl.UniformGrid;
+
+class UniformGridTest {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 640;
+    private static final int CELL = 64;
+    private static final int ELEMENTS = 150;
+    private static final int QUERIES = 500;
+    private static final int MAX_SIDE = 120;
+    private static final int TICKS = 3;
+
+    @Test
+    void testQueryFindsTheOverlappingElementsInOrder() {
+        final UniformGrid<HitBoxImpl> grid = new UniformGrid<>(WIDTH, HEIGHT, CELL);
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int tick = 0; tick < TICKS; tick++) {
+            grid.clear();
+            final List<HitBoxImpl> boxes = new ArrayList<>();
+            final List<CollisionCategory> categories = new ArrayList<>();
+            for (int i = 0; i < ELEMENTS; i++) {
+                final HitBoxImpl box = randomBox(random);
+                final CollisionCategory category = CollisionCategory.values()[random
+                        .nextInt(CollisionCategory.values().length)];
+                boxes.add(box);
+                categories.add(category);
+                grid.add(box, category);
+            }
+            for (int q = 0; q < QUERIES; q++) {
+                final HitBoxImpl query = randomBox(random);
+                final int mask = q % 2 == 0 ? CollisionCategory.SHOOTABLE : CollisionCategory.HOSTILE;
+                final List<HitBoxImpl> expected = new ArrayList<>();
+                for (int i = 0; i < ELEMENTS; i++) {
+                    if ((categories.get(i).mask() & mask) != 0 && boxes.get(i).hasCollided(query)) {
+                        expected.add(boxes.get(i));
+                    }
+                }
+                final int found = grid.query(query, mask);
+                assertEquals(expected.size(), found);
+                for (int i = 0; i < found; i++) {
+                    assertSame(expected.get(i), grid.getResult(i));
+                    assertEquals(categories.get(boxes.indexOf(expected.get(i))), grid.getResultCategory(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEmptyGrid() {
+        final UniformGrid<HitBoxImpl> grid = new UniformGrid<>(WIDTH, HEIGHT, CELL);
+        assertEquals(0, grid.query(new HitBoxImpl(0, 0, WIDTH, HEIGHT), CollisionCategory.SHOOTABLE));
+    }
+
+    private static HitBoxImpl randomBox(final SplittableRandom random) {
+        return new HitBoxImpl(random.nextInt(-MAX_SIDE, WIDTH + MAX_SIDE), random.nextInt(-MAX_SIDE, HEIGHT + MAX_SIDE),
+                random.nextInt(1, MAX_SIDE), random.nextInt(1, MAX_SIDE));
+    }
+}
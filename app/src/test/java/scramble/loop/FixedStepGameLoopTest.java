@@ -0,0 +1,131 @@
+package scramble.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import scramble.controller.loop.api.GameLoop;
+import scramble.controller.loop.api.LoopTask;
+import scramble.controller.loop.api.TickPhase;
+import scramble.controller.loop.impl.FixedStepGameLoop;
+import scramble.utility.Constants;
+
+class FixedStepGameLoopTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(Constants.GAME_TICK_MS);
+    private static final int RESTARTS = 60;
+
+    @Test
+    void testTasksRunInPhaseOrder() {
+        final GameLoop loop = new FixedStepGameLoop();
+        final List<TickPhase> executed = new ArrayList<>();
+        for (final TickPhase phase : new TickPhase[] { TickPhase.RENDER, TickPhase.COLLISION, TickPhase.INPUT,
+                TickPhase.MOVEMENT }) {
+            loop.schedule(phase, Constants.GAME_TICK_MS, () -> executed.add(phase)).start();
+        }
+
+        loop.step();
+
+        assertEquals(List.of(TickPhase.INPUT, TickPhase.MOVEMENT, TickPhase.COLLISION, TickPhase.RENDER), executed);
+    }
+
+    @Test
+    void testAdvanceCatchesUpAndRendersOnce() {
+        final GameLoop loop = new FixedStepGameLoop();
+        final int[] ticks = new int[1];
+        final int[] frames = new int[1];
+        loop.schedule(TickPhase.MOVEMENT, Constants.GAME_TICK_MS, () -> ticks[0]++).start();
+        loop.schedule(TickPhase.RENDER, Constants.GAME_TICK_MS, () -> frames[0]++).start();
+
+        loop.advance(TICK_NANOS);
+        assertEquals(3, loop.advance(TICK_NANOS * 4));
+        assertEquals(3, ticks[0]);
+        assertEquals(1, frames[0]);
+
+        loop.advance(TICK_NANOS * 100);
+        assertEquals(3 + Constants.MAX_CATCH_UP_TICKS, ticks[0]);
+    }
+
+    @Test
+    void testTaskPeriodAndRepeats() {
+        final GameLoop loop = new FixedStepGameLoop();
+        final int[] runs = new int[1];
+        final LoopTask task = loop.schedule(TickPhase.SCORING, Constants.GAME_TICK_MS * 2, () -> runs[0]++);
+        task.setRepeats(false);
+        task.start();
+
+        loop.step();
+        assertEquals(0, runs[0]);
+        loop.step();
+        assertEquals(1, runs[0]);
+        loop.step();
+        loop.step();
+        assertEquals(1, runs[0]);
+        assertFalse(task.isRunning());
+    }
+
+    @Test
+    void testStartedLoopRunsOnItsOwnThread() throws InterruptedException {
+        final GameLoop loop = new FixedStepGameLoop();
+        final AtomicReference<Thread> runner = new AtomicReference<>();
+        final CountDownLatch ran = new CountDownLatch(1);
+        loop.schedule(TickPhase.MOVEMENT, Constants.GAME_TICK_MS, () -> {
+            runner.set(Thread.currentThread());
+            ran.countDown();
+        }).start();
+
+        loop.start();
+        assertTrue(loop.isRunning());
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+        loop.stop();
+
+        assertFalse(loop.isRunning());
+        assertNotEquals(Thread.currentThread(), runner.get());
+    }
+
+    @Test
+    void testRestartedLoopTicksOnASingleThread() throws InterruptedException {
+        final GameLoop loop = new FixedStepGameLoop();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger ticks = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        loop.schedule(TickPhase.MOVEMENT, Constants.GAME_TICK_MS, () -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            ticks.incrementAndGet();
+            // A long tick, still running when the loop is stopped
+            LockSupport.parkNanos(TICK_NANOS / 2);
+            running.decrementAndGet();
+        }).start();
+
+        for (int i = 0; i < RESTARTS; i++) {
+            loop.start();
+            Thread.sleep(i % 3 * Constants.GAME_TICK_MS);
+            loop.stop();
+            // No tick is left running once the loop has stopped
+            overlapped.compareAndSet(false, running.get() > 0);
+            loop.start();
+            Thread.sleep(Constants.GAME_TICK_MS);
+            loop.stop();
+        }
+        final int stopped = ticks.get();
+        Thread.sleep(2 * Constants.GAME_TICK_MS);
+
+        assertFalse(overlapped.get());
+        assertTrue(stopped > 0);
+        assertEquals(stopped, ticks.get());
+    }
+}
@@ -0,0 +1,123 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.ColumnCache;
+import scramble.controller.map.MapController;
+import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapLayout;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+
+class ColumnCacheTest {
+
+    private static final long SEED = 1981L;
+    private static final int CHUNK = ColumnCache.CHUNK_SIZE;
+    private static final int CAPACITY = 3;
+    private static final int LAPS = 2;
+
+    @Test
+    void testLeastRecentlyUsedChunkIsDroppedAndBuiltAgain() {
+        final MapLayout layout = MapLayout.load();
+        final MapStageFactoryImpl factory = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP), layout);
+        final List<Integer> loaded = new ArrayList<>();
+        final ColumnCache cache = new ColumnCache(chunk -> factory.columns(chunk * CHUNK,
+                Math.min((chunk + 1) * CHUNK, layout.size())), (columns, chunk) -> loaded.add(chunk), Runnable::run,
+                layout.size(), CAPACITY, 1);
+
+        final MapColumn first = cache.get(0);
+        cache.get(CHUNK);
+        cache.get(2 * CHUNK);
+        assertSame(first, cache.get(0));
+        cache.get(3 * CHUNK);
+        assertEquals(CAPACITY, cache.size());
+        assertTrue(cache.contains(0));
+        assertFalse(cache.contains(1));
+
+        cache.get(4 * CHUNK);
+        cache.get(5 * CHUNK);
+        assertFalse(cache.contains(0));
+        final MapColumn again = cache.get(0);
+        assertNotSame(first, again);
+        assertEquals(first.getX(), again.getX());
+        assertEquals(first.getFloorBehaviour(), again.getFloorBehaviour());
+        assertEquals(first.getFloorPosition().getSecondElement(), again.getFloorPosition().getSecondElement());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 0), loaded);
+        assertEquals(loaded.size(), cache.getBuilt());
+    }
+
+    @Test
+    void testPrefetchFollowsTheScrollAndKeepsTheColumnsInUse() {
+        final MapLayout layout = MapLayout.load();
+        final MapStageFactoryImpl factory = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP), layout);
+        final ColumnCache cache = new ColumnCache(chunk -> factory.columns(chunk * CHUNK,
+                Math.min((chunk + 1) * CHUNK, layout.size())), (columns, chunk) -> { }, Runnable::run,
+                layout.size(), CAPACITY, 1);
+        final int last = cache.getChunkCount() - 1;
+
+        // The columns in use go on with the first chunk after the end of the map
+        cache.use(last * CHUNK, 2 * CHUNK);
+        final MapColumn end = cache.get(last * CHUNK);
+        cache.prefetch(last * CHUNK);
+        assertTrue(cache.contains(0));
+        for (int chunk = 1; chunk < last; chunk++) {
+            cache.get(chunk * CHUNK);
+            assertTrue(cache.size() <= CAPACITY);
+        }
+        assertSame(end, cache.get(last * CHUNK));
+        assertTrue(cache.contains(0));
+    }
+
+    @Test
+    void testControllerKeepsABoundedNumberOfChunks() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        final int mapSize = mapController.getMapSize();
+        for (int step = 0; step < LAPS * mapSize; step++) {
+            mapController.advance();
+            assertTrue(mapController.getCachedChunks() <= MapController.CACHED_CHUNKS);
+            for (int i = 0; i < mapController.getWindow().size(); i += MapController.EXTRA_COLUMNS_LOADED) {
+                assertSame(mapController.getColumn((step + 1 + i) % mapSize), mapController.getWindow().get(i));
+            }
+        }
+        assertTrue(mapController.getBuiltChunks() > mapController.getChunkCount());
+        assertEquals(mapSize, mapController.getHeightField().size());
+    }
+
+    @Test
+    void testSpawnPositionsOfTheChunksAreTheOnesOfTheMap() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        final int built = mapController.getBuiltChunks();
+        final MapLayout layout = MapLayout.load();
+        final List<Pair<Integer, Integer>> positions = new ArrayList<>();
+        for (int chunk = 0; chunk < mapController.getChunkCount(); chunk++) {
+            positions.addAll(mapController.getSpawnPositions(chunk));
+        }
+        int i = 0;
+        for (int x = 0; x < layout.size(); x++) {
+            final LandBehaviour behaviour = layout.getFloorBehaviour(x);
+            if (behaviour == LandBehaviour.BRICK || behaviour == LandBehaviour.FLAT && layout.getStage(x) > 0) {
+                assertEquals(LandUtils.multiplyPixelPerSprite(x), positions.get(i).getFirstElement());
+                assertEquals(layout.getFloorY(x), positions.get(i).getSecondElement());
+                i++;
+            }
+        }
+        assertEquals(positions.size(), i);
+        // The spawn positions are read from the layout, without building any chunk
+        assertEquals(built, mapController.getBuiltChunks());
+    }
+}
@@ -0,0 +1,91 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.impl.TileTable;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.map.util.enums.TerrainType;
+import scramble.model.world.LandscapeModel;
+
+class ColumnStoreTest {
+
+    private static final int COLUMNS = 500;
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+    private static final int UPDATES = 2000;
+
+    @Test
+    void testTilesFollowTheColumnFromTheTop() {
+        final TileTable tiles = new TileTable();
+        final int ceilingTile = tiles.add(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), null);
+        final int floorTile = tiles.add(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), null);
+        final SplittableRandom random = new SplittableRandom(1);
+        for (final TerrainType terrainType : TerrainType.values()) {
+            final ColumnStore store = new ColumnStore(tiles, terrainType, SIDE, COLUMNS);
+            for (int i = 0; i < COLUMNS; i++) {
+                store.addCeiling(ceilingTile, randomY(random), LandBehaviour.FLAT);
+                store.addFloor(floorTile, randomY(random), LandBehaviour.FLAT);
+            }
+            assertEquals(COLUMNS, store.size());
+            for (int i = 0; i < COLUMNS; i++) {
+                int current = store.getCeilingY(i) < 0 ? TileTable.EMPTY
+                        : tiles.getFill(terrainType, StagePart.CEILING, i % 2 == 0);
+                for (int row = 0; row < ColumnStore.ROWS; row++) {
+                    final int y = row * SIDE;
+                    final int expected;
+                    if (y == store.getCeilingY(i)) {
+                        expected = ceilingTile;
+                        current = TileTable.EMPTY;
+                    } else if (y == store.getFloorY(i)) {
+                        expected = floorTile;
+                        current = tiles.getFill(terrainType, StagePart.FLOOR, i % 2 == 0);
+                    } else {
+                        expected = current;
+                    }
+                    assertEquals(expected, store.getTile(i, row));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testColumnsShareTheirSprites() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(1)));
+        for (int update = 0; update < UPDATES; update++) {
+            landscape.update();
+        }
+        final List<MapColumn> columns = landscape.getLoadedColumns();
+        final MapColumn first = columns.get(0);
+        final MapColumn last = columns.get(columns.size() - 1);
+        assertSame(first.getBI(ColumnStore.ROWS - 1), last.getBI(ColumnStore.ROWS - 1));
+        for (final MapColumn column : columns) {
+            final List<BufferedImage> images = column.getBIs();
+            assertEquals(ColumnStore.ROWS, images.size());
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                assertSame(images.get(row), column.getBI(row));
+            }
+            assertTrue(column.getFloorPosition().getSecondElement() >= 0);
+        }
+    }
+
+    /* Mostly on the rows of the tiles, sometimes between them or above the screen. */
+    private static int randomY(final SplittableRandom random) {
+        if (random.nextInt(10) == 0) {
+            return random.nextInt(-SIDE, ColumnStore.ROWS * SIDE);
+        }
+        return random.nextInt(-1, ColumnStore.ROWS + 1) * SIDE;
+    }
+}
@@ -0,0 +1,96 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.ColumnWindow;
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.util.LandUtils;
+import scramble.model.world.LandscapeModel;
+import scramble.utility.Constants;
+
+class ColumnWindowTest {
+
+    private static final long SEED = 1981L;
+    private static final int SIDE = LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+    private static final int EXTRA_STEPS = 100;
+    private static final int STEP_Y = 8;
+
+    @Test
+    void testWindowMovesOneColumnAtATimeAndWraps() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        mapController.loadAllStages();
+        final ColumnWindow window = mapController.getWindow();
+        final List<MapColumn> view = window.asList();
+        final int mapSize = mapController.getMapSize();
+
+        for (int step = 0; step < mapSize + EXTRA_STEPS; step++) {
+            assertEquals(step % mapSize, window.getFirst());
+            assertEquals(MapController.TOTAL_COLUMNS_LOADED, window.size());
+            assertEquals(window.size(), view.size());
+            for (int i = 0; i < window.size(); i++) {
+                assertSame(mapController.getColumn((step + i) % mapSize), window.get(i));
+                assertSame(window.get(i), view.get(i));
+                assertEquals((step % mapSize + i) * SIDE, window.getX(i));
+            }
+            mapController.advance();
+        }
+        assertSame(view, window.asList());
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, window.get(0)));
+    }
+
+    @Test
+    void testResetMovesTheWindow() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        final ColumnWindow window = mapController.getWindow();
+        final int mapSize = mapController.getMapSize();
+
+        for (final int column : List.of(300, mapSize - 10, 0, -1)) {
+            mapController.resetToX(column * SIDE);
+            final int first = Math.floorMod(column, mapSize);
+            assertEquals(first, window.getFirst());
+            assertEquals(first * SIDE, mapController.getCurrentMapX());
+            for (int i = 0; i < window.size(); i++) {
+                assertSame(mapController.getColumn((first + i) % mapSize), window.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testTerrainIsTheSameAcrossTheEndOfTheMap() {
+        final LandscapeModel wrapped = new LandscapeModel(new MapController(new GameRandomImpl(SEED)));
+        final LandscapeModel start = new LandscapeModel(new MapController(new GameRandomImpl(SEED)));
+        final int mapWidth = wrapped.getMapController().getMapSize() * SIDE;
+        final int offset = Constants.WINDOW_WIDTH / 2;
+
+        wrapped.reset(mapWidth - offset);
+        for (int update = 0; update < offset / Constants.LANDSCAPEX_SPEED / 2; update++) {
+            wrapped.update();
+        }
+        start.reset(0);
+        final int shift = mapWidth - wrapped.getLandscapeX();
+        assertTrue(shift > 0 && shift < offset);
+
+        // The start of the map is drawn after its end, on the right of the screen
+        for (int x = 0; x + shift < Constants.WINDOW_WIDTH; x += SIDE / 2) {
+            for (int y = 0; y < Constants.WINDOW_HEIGHT; y += STEP_Y) {
+                assertEquals(start.hitsTerrain(x, y, 1, STEP_Y), wrapped.hitsTerrain(x + shift, y, 1, STEP_Y));
+                assertEquals(start.hitsCeiling(x, y, 1, STEP_Y), wrapped.hitsCeiling(x + shift, y, 1, STEP_Y));
+            }
+        }
+
+        for (int update = 0; update < offset / Constants.LANDSCAPEX_SPEED; update++) {
+            wrapped.update();
+        }
+        assertTrue(wrapped.getCurrentMapX() < offset);
+        assertEquals(wrapped.getCurrentMapX() / SIDE, wrapped.getMapController().getWindow().getFirst());
+    }
+}
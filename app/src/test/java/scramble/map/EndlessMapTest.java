@@ -0,0 +1,137 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.ColumnCache;
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.EndlessLayout;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.impl.StageLayout;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.elaborator.RawDataGenerator;
+import scramble.model.map.util.elaborator.StageGenerator;
+import scramble.model.map.util.enums.StagePart;
+import scramble.model.world.LandscapeChunks;
+import scramble.model.world.World;
+import scramble.utility.Constants;
+
+class EndlessMapTest {
+
+    private static final long SEED = 1981L;
+    private static final int STAGES = 24;
+    private static final int UPDATES_PER_STAGE = LandUtils.multiplyPixelPerSprite(RawDataGenerator.STAGE_LENGTH)
+            / Constants.LANDSCAPEX_SPEED;
+
+    @Test
+    void testStagesStayInTheirBands() {
+        final RawDataGenerator rawData = new RawDataGenerator(new SplittableRandom(SEED),
+                MapStageFactoryImpl.STARTER_CEILING_HEIGHT, MapStageFactoryImpl.STARTER_FLOOR_HEIGHT);
+        final StageGenerator generator = new StageGenerator(new PairImpl<>(
+                MapStageFactoryImpl.STARTER_CEILING_HEIGHT, MapStageFactoryImpl.STARTER_FLOOR_HEIGHT));
+        for (int stage = 0; stage < STAGES; stage++) {
+            final int level = RawDataGenerator.getLevel(stage);
+            final StageLayout layout = generator.layoutStage(rawData.next(), RawDataGenerator.STAGE_LENGTH);
+            for (int x = 0; x < layout.length(); x++) {
+                final int ceiling = LandUtils.dividePixelPerSprite(layout.getY(StagePart.CEILING, x));
+                final int floor = LandUtils.dividePixelPerSprite(layout.getY(StagePart.FLOOR, x));
+                assertTrue(ceiling >= RawDataGenerator.CEILING_TOP, "ceiling of stage " + stage + " at " + x);
+                assertTrue(ceiling <= RawDataGenerator.getLowestCeiling(level), "ceiling of stage " + stage);
+                assertTrue(floor >= RawDataGenerator.getHighestFloor(level), "floor of stage " + stage + " at " + x);
+                assertTrue(floor <= RawDataGenerator.FLOOR_BOTTOM, "floor of stage " + stage + " at " + x);
+            }
+        }
+        assertEquals(STAGES, rawData.getStage());
+    }
+
+    @Test
+    void testMemoryStaysFlat() {
+        final World world = new World(new GameRandomImpl(SEED), true);
+        final MapController mapController = world.getLandscape().getMapController();
+        final int capacity = mapController.getCapacity();
+        assertTrue(mapController.isEndless());
+        assertEquals(EndlessLayout.KEPT_STAGES * RawDataGenerator.STAGE_LENGTH, capacity);
+
+        for (int stage = 0; stage < STAGES; stage++) {
+            for (int update = 0; update < UPDATES_PER_STAGE; update++) {
+                world.updateElements();
+                world.spawnElements();
+                world.removeExploded();
+            }
+            assertEquals(capacity, mapController.getCapacity());
+            assertEquals(capacity, mapController.getHeightField().size());
+            assertTrue(mapController.getStageStartingX().size() <= EndlessLayout.KEPT_STAGES);
+            final int positions = countSpawnPositions(mapController);
+            assertTrue(positions <= capacity);
+            assertTrue(mapController.getRequestedStages() - mapController.getLoadedStages() <= 2);
+            assertTrue(world.getLandscape().getChunks().size()
+                    <= capacity / LandscapeChunks.COLUMNS_PER_CHUNK + 1);
+            assertTrue(world.getRockets().getRockets().size() + world.getFuelTanks().getFuelTanks().size()
+                    <= positions);
+        }
+        assertEquals(STAGES + 1, mapController.getStageAt(mapController.getCurrentMapX()) + 1);
+        assertTrue(mapController.getLoadedStages() > STAGES);
+    }
+
+    @Test
+    void testMapIsTheSameForTheSameSeed() {
+        final MapController first = MapController.endless(new GameRandomImpl(SEED));
+        final MapController second = MapController.endless(new GameRandomImpl(SEED));
+        final MapController other = MapController.endless(new GameRandomImpl(SEED + 1));
+        boolean different = false;
+        for (int column = 0; column < STAGES * RawDataGenerator.STAGE_LENGTH; column++) {
+            first.advance();
+            second.advance();
+            other.advance();
+            final MapColumn expected = first.getWindow().get(0);
+            final MapColumn actual = second.getWindow().get(0);
+            assertEquals(expected.getX(), actual.getX());
+            assertEquals(expected.getFloorBehaviour(), actual.getFloorBehaviour());
+            assertEquals(expected.getFloorPosition().getSecondElement(), actual.getFloorPosition().getSecondElement());
+            different |= !expected.getFloorPosition().getSecondElement()
+                    .equals(other.getWindow().get(0).getFloorPosition().getSecondElement());
+        }
+        assertTrue(different);
+    }
+
+    @Test
+    void testResetBehindTheKeptStagesStartsANewMap() {
+        final MapController mapController = MapController.endless(new GameRandomImpl(SEED));
+        final int checkPoint = LandUtils.multiplyPixelPerSprite(2 * RawDataGenerator.STAGE_LENGTH)
+                - Constants.WINDOW_WIDTH / 2;
+        for (int column = 0; column < EndlessLayout.KEPT_STAGES * RawDataGenerator.STAGE_LENGTH; column++) {
+            mapController.advance();
+        }
+        final MapColumn kept = mapController.getWindow().get(0);
+        assertEquals(checkPoint, mapController.getCheckPointX(checkPoint + 1));
+        mapController.resetToX(checkPoint + Constants.WINDOW_WIDTH / 2);
+        assertEquals(0, mapController.getGeneration());
+
+        mapController.resetToX(0);
+        assertEquals(1, mapController.getGeneration());
+        assertEquals(0, mapController.getCurrentMapX());
+        assertEquals(0, mapController.getWindow().get(0).getX());
+        assertNotEquals(kept, mapController.getWindow().get(0));
+        assertSame(mapController.getColumn(1), mapController.getWindow().get(1));
+    }
+
+    /* The spawn positions of the chunks from the one on the screen to the end of the loaded stages. */
+    private static int countSpawnPositions(final MapController mapController) {
+        int positions = 0;
+        for (int chunk = LandUtils.dividePixelPerSprite(mapController.getCurrentMapX()) / ColumnCache.CHUNK_SIZE;
+                chunk < mapController.getLoadedStages() * RawDataGenerator.STAGE_LENGTH / ColumnCache.CHUNK_SIZE;
+                chunk++) {
+            positions += mapController.getSpawnPositions(chunk).size();
+        }
+        return positions;
+    }
+}
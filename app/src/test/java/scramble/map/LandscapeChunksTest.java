@@ -0,0 +1,132 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.ColumnWindow;
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.util.LandUtils;
+import scramble.model.world.LandscapeChunks;
+import scramble.model.world.LandscapeModel;
+import scramble.model.world.Sprite;
+import scramble.utility.Constants;
+
+class LandscapeChunksTest {
+
+    private static final int FRAME_EVERY = 37;
+    private static final int MAX_CHUNKS = 7;
+    private static final int RESET_X = 300 * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+
+    @Test
+    void testChunksDrawTheLoadedColumns() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(1)));
+        // Scrolls past the end of the map, then restarts from a checkpoint
+        final int updates = landscape.getMapController().getMapSize() * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE
+                / Constants.LANDSCAPEX_SPEED + MapController.TOTAL_COLUMNS_LOADED;
+        for (int update = 0; update < updates; update++) {
+            if (update == updates / 2) {
+                landscape.reset(RESET_X);
+            }
+            landscape.update();
+            if (update % FRAME_EVERY == 0) {
+                assertArrayEquals(drawColumns(landscape), drawChunks(landscape.getSprites()));
+                assertTrue(landscape.getChunks().size() <= MAX_CHUNKS);
+            }
+        }
+    }
+
+    @Test
+    void testChunksWrapAtTheEndOfTheMap() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(1)));
+        final int mapWidth = landscape.getMapController().getMapSize() * LandUtils.PIXEL_PER_LAND_SPRITE_SIDE;
+        landscape.reset(mapWidth - Constants.WINDOW_WIDTH);
+        for (int update = 0; update < 2 * Constants.WINDOW_WIDTH / Constants.LANDSCAPEX_SPEED; update++) {
+            landscape.update();
+            if (update % (FRAME_EVERY / 2) == 0) {
+                assertArrayEquals(drawColumns(landscape), drawChunks(landscape.getSprites()));
+                assertTrue(landscape.getChunks().size() <= MAX_CHUNKS);
+            }
+        }
+        assertEquals(Constants.WINDOW_WIDTH, landscape.getLandscapeX());
+    }
+
+    @Test
+    void testChunksAreDrawnAheadAndDroppedBehind() {
+        final MapController mapController = new MapController(new GameRandomImpl(2));
+        final LandscapeChunks chunks = new LandscapeChunks(mapController);
+        final int perChunk = LandscapeChunks.COLUMNS_PER_CHUNK;
+
+        chunks.moveTo(0, MapController.TOTAL_COLUMNS_LOADED);
+        final int loaded = chunks.getSprites(0).size();
+        chunks.awaitDrawn();
+        assertEquals(loaded + 1, chunks.size());
+        assertTrue(chunks.isDrawn(loaded));
+
+        chunks.moveTo(2 * perChunk, MapController.TOTAL_COLUMNS_LOADED);
+        assertTrue(!chunks.isDrawn(0) && !chunks.isDrawn(1) && chunks.isDrawn(2));
+
+        final int built = chunks.getBuilt();
+        chunks.prefetch();
+        chunks.prefetch();
+        chunks.awaitDrawn();
+        assertEquals(built + 1, chunks.getBuilt());
+
+        final int last = chunks.getChunkCount() - 1;
+        chunks.moveTo(last * perChunk, 1);
+        chunks.prefetch();
+        chunks.awaitDrawn();
+        assertTrue(chunks.isDrawn(0));
+        assertEquals(1, chunks.size());
+    }
+
+    @Test
+    void testScrollingWithNoViewDrawsNoChunk() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(1)));
+        for (int update = 0; update < Constants.WINDOW_WIDTH; update++) {
+            landscape.update();
+        }
+        landscape.reset(RESET_X);
+        landscape.update();
+        assertEquals(0, landscape.getChunks().size());
+        assertEquals(0, landscape.getChunks().getBuilt());
+    }
+
+    private static int[] drawColumns(final LandscapeModel landscape) {
+        final BufferedImage frame = newFrame();
+        final Graphics2D g = frame.createGraphics();
+        final ColumnWindow window = landscape.getMapController().getWindow();
+        for (int i = 0; i < window.size(); i++) {
+            final MapColumn column = window.get(i);
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                g.drawImage(column.getBI(row), window.getX(i) - landscape.getLandscapeX(),
+                        row * column.getBIsHeight(), column.gettWidth(), column.getBIsHeight(), null);
+            }
+        }
+        g.dispose();
+        return frame.getRGB(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, null, 0, Constants.WINDOW_WIDTH);
+    }
+
+    private static int[] drawChunks(final List<Sprite> sprites) {
+        final BufferedImage frame = newFrame();
+        final Graphics2D g = frame.createGraphics();
+        for (final Sprite sprite : sprites) {
+            g.drawImage(sprite.getImage(), sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), null);
+        }
+        g.dispose();
+        return frame.getRGB(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, null, 0, Constants.WINDOW_WIDTH);
+    }
+
+    private static BufferedImage newFrame() {
+        return new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -0,0 +1,118 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.impl.MapCache;
+import scramble.model.map.impl.MapLayout;
+import scramble.model.map.impl.MapStageFactoryImpl;
+
+class MapCacheTest {
+
+    private static final long SEED = 1981L;
+    private static final MapLayout LAYOUT = MapLayout.load();
+
+    @TempDir
+    private Path directory;
+    private String previous;
+
+    @BeforeEach
+    void useTheTemporaryDirectory() {
+        this.previous = System.getProperty(MapCache.PROPERTY);
+        System.setProperty(MapCache.PROPERTY, this.directory.toString());
+    }
+
+    @AfterEach
+    void restoreTheDirectory() {
+        MapCache.awaitWrites();
+        if (this.previous == null) {
+            System.clearProperty(MapCache.PROPERTY);
+        } else {
+            System.setProperty(MapCache.PROPERTY, this.previous);
+        }
+    }
+
+    @Test
+    void testSpritesAreCachedAtTheFirstMap() {
+        assertTrue(MapCache.read(LAYOUT, SEED).isEmpty());
+        final List<MapColumn> picked = newFactory(SEED).columns(0, LAYOUT.size());
+        MapCache.awaitWrites();
+        assertTrue(Files.isRegularFile(MapCache.getFile(LAYOUT, SEED)));
+        assertTrue(MapCache.read(LAYOUT, SEED).isPresent());
+
+        final List<MapColumn> cached = newFactory(SEED).columns(0, LAYOUT.size());
+        assertSameTiles(picked, cached);
+        // A generator with another seed would pick other sprites: the cached ones are read instead
+        final MapStageFactoryImpl other = new MapStageFactoryImpl(new SplittableRandom(SEED + 1), LAYOUT, SEED);
+        assertSameTiles(picked, other.columns(0, LAYOUT.size()));
+    }
+
+    @Test
+    void testCachedSpritesAreTheOnesOfTheSeed() {
+        final List<MapColumn> cached = newFactory(SEED).columns(0, LAYOUT.size());
+        MapCache.awaitWrites();
+        final MapStageFactoryImpl uncached = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP), LAYOUT);
+        assertSameTiles(uncached.columns(0, LAYOUT.size()), newFactory(SEED).columns(0, LAYOUT.size()));
+        assertSameTiles(cached, newFactory(SEED).columns(0, LAYOUT.size()));
+    }
+
+    @Test
+    void testDamagedCachesArePickedAgain() throws IOException {
+        Files.write(MapCache.getFile(LAYOUT, SEED), new byte[] { 1, 2, 3 });
+        assertTrue(MapCache.read(LAYOUT, SEED).isEmpty());
+
+        newFactory(SEED).columns(0, 1);
+        MapCache.awaitWrites();
+        assertTrue(MapCache.read(LAYOUT, SEED).isPresent());
+    }
+
+    @Test
+    void testOnlyTheLastFilesAreKept() throws IOException {
+        assertEquals(this.directory, MapCache.getDirectory());
+        assertNotEquals(MapCache.getFile(LAYOUT, SEED), MapCache.getFile(LAYOUT, SEED + 1));
+        for (int seed = 0; seed < MapCache.MAX_FILES + 2; seed++) {
+            newFactory(seed).columns(0, 1);
+        }
+        MapCache.awaitWrites();
+        int files = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+            for (final Path file : stream) {
+                assertEquals(this.directory, file.getParent());
+                files++;
+            }
+        }
+        assertEquals(MapCache.MAX_FILES, files);
+    }
+
+    private static MapStageFactoryImpl newFactory(final long seed) {
+        return new MapStageFactoryImpl(new GameRandomImpl(seed).getStream(RandomStream.MAP), LAYOUT, seed);
+    }
+
+    private static void assertSameTiles(final List<MapColumn> expected, final List<MapColumn> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                assertSame(expected.get(i).getBI(row), actual.get(i).getBI(row));
+            }
+        }
+    }
+}
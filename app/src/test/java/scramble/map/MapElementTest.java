@@ -3,6 +3,7 @@ package scramble.map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -87,4 +88,19 @@ class MapElementTest {
         assertEquals(UPDATED_Y_POSITION, mapElement.getHitBox().y);
     }
 
+
+    @Test
+    void testSpriteIsSharedAndHandedOutAsACopy() {
+        final int opaque = 0xFF00FF00;
+        final BufferedImage sprite = new BufferedImage(LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, BufferedImage.TYPE_INT_ARGB);
+        final MapElement mapElement = new MapElement(0, 0, LandUtils.PIXEL_PER_LAND_SPRITE_SIDE,
+                LandUtils.PIXEL_PER_LAND_SPRITE_SIDE, sprite, TerrainType.GREENLAND, LandBehaviour.FLAT);
+
+        // The element keeps the sprite it is given, without copying it
+        sprite.setRGB(1, 1, opaque);
+        final BufferedImage copy = mapElement.getSprite();
+        assertNotSame(sprite, copy);
+        assertEquals(opaque, copy.getRGB(1, 1));
+    }
 }
@@ -0,0 +1,99 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.impl.MapCompiler;
+import scramble.model.map.impl.MapFile;
+import scramble.model.map.impl.MapLayout;
+import scramble.model.map.impl.StageLayout;
+import scramble.model.map.util.LandsDataLoader;
+import scramble.model.map.util.enums.StagePart;
+
+class MapFileTest {
+
+    private static final long SEED = 1981L;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testCompiledMapMatchesTheRawData() throws IOException {
+        final Path file = this.directory.resolve("stages.map");
+        MapCompiler.compile(file);
+        final Optional<List<StageLayout>> compiled = MapFile.read(file, LandsDataLoader.getSourceHash());
+        assertTrue(compiled.isPresent());
+
+        final MapLayout expected = MapLayout.readRawData();
+        assertEquals(expected.getStageCount(), compiled.get().size());
+        for (int stage = 0; stage < expected.getStageCount(); stage++) {
+            final StageLayout expectedStage = expected.getStageLayout(stage);
+            final StageLayout actualStage = compiled.get().get(stage);
+            assertEquals(expectedStage.getTerrainType(), actualStage.getTerrainType());
+            assertEquals(expectedStage.length(), actualStage.length());
+            for (int x = 0; x < expectedStage.length(); x++) {
+                for (final StagePart stagePart : StagePart.values()) {
+                    assertEquals(expectedStage.getBehaviour(stagePart, x), actualStage.getBehaviour(stagePart, x));
+                    assertEquals(expectedStage.getY(stagePart, x), actualStage.getY(stagePart, x));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMapFromTheCompiledFileIsTheSame() throws IOException {
+        final Path file = this.directory.resolve("stages.map");
+        MapCompiler.compile(file);
+        final MapController fromRawData = new MapController(new GameRandomImpl(SEED));
+        final MapController fromFile = new MapController(new GameRandomImpl(SEED),
+                new MapLayout(MapFile.read(file, LandsDataLoader.getSourceHash()).orElseThrow()));
+        fromRawData.loadAllStages();
+        fromFile.loadAllStages();
+
+        assertEquals(fromRawData.getMapSize(), fromFile.getMapSize());
+        for (int chunk = 0; chunk < fromRawData.getChunkCount(); chunk++) {
+            assertEquals(fromRawData.getSpawnPositions(chunk).size(), fromFile.getSpawnPositions(chunk).size());
+        }
+        for (int i = 0; i < fromRawData.getMapSize(); i++) {
+            final MapColumn expected = fromRawData.getColumn(i);
+            final MapColumn actual = fromFile.getColumn(i);
+            assertEquals(expected.getFloorBehaviour(), actual.getFloorBehaviour());
+            assertEquals(expected.getFloorPosition().getSecondElement(), actual.getFloorPosition().getSecondElement());
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                assertEquals(expected.getBI(row).getWidth(), actual.getBI(row).getWidth());
+            }
+        }
+    }
+
+    @Test
+    void testStaleOrDamagedFilesAreNotRead() throws IOException {
+        final Path file = this.directory.resolve("stages.map");
+        assertTrue(MapFile.read(file, LandsDataLoader.getSourceHash()).isEmpty());
+
+        MapCompiler.compile(file);
+        assertTrue(MapFile.read(file, LandsDataLoader.getSourceHash() + 1).isEmpty());
+
+        final byte[] bytes = Files.readAllBytes(file);
+        final Path truncated = this.directory.resolve("truncated.map");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertTrue(MapFile.read(truncated, LandsDataLoader.getSourceHash()).isEmpty());
+
+        final Path longer = this.directory.resolve("longer.map");
+        Files.write(longer, Arrays.copyOf(bytes, bytes.length + 1));
+        assertTrue(MapFile.read(longer, LandsDataLoader.getSourceHash()).isEmpty());
+    }
+}
@@ -0,0 +1,145 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.controller.map.StageProducer;
+import scramble.model.common.api.Pair;
+import scramble.model.common.api.RandomStream;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.common.impl.PairImpl;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.api.MapStageFactory;
+import scramble.model.map.impl.ColumnStore;
+import scramble.model.map.impl.MapStageFactoryImpl;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.enums.LandBehaviour;
+import scramble.utility.Constants;
+
+class StageProducerTest {
+
+    private static final long SEED = 1981L;
+    private static final int STAGES = 7;
+
+    @Test
+    void testStagesAreLoadedAheadOfTheColumns() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        assertEquals(2, mapController.getLoadedStages());
+        assertTrue(mapController.getRequestedStages() <= 3);
+
+        int previous = mapController.getLoadedStages();
+        for (int i = 0; i < mapController.getMapSize() / MapController.EXTRA_COLUMNS_LOADED; i++) {
+            for (int column = 0; column < MapController.EXTRA_COLUMNS_LOADED; column++) {
+                mapController.advance();
+            }
+            final int loaded = mapController.getLoadedStages();
+            assertTrue(loaded >= previous && loaded <= previous + 1);
+            assertTrue(mapController.getRequestedStages() <= Math.min(loaded + 1, STAGES));
+            previous = loaded;
+        }
+        assertEquals(STAGES, mapController.getLoadedStages());
+    }
+
+    @Test
+    void testBackgroundStagesMatchTheEagerOnes() {
+        final MapController mapController = new MapController(new GameRandomImpl(SEED));
+        mapController.loadAllStages();
+        final MapStageFactory<MapColumn> factory = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP));
+        final List<MapColumn> expected = new ArrayList<>();
+        expected.addAll(factory.prestage());
+        expected.addAll(factory.stage1());
+        expected.addAll(factory.stage2());
+        expected.addAll(factory.stage3());
+        expected.addAll(factory.stage4());
+        expected.addAll(factory.stage5());
+        expected.addAll(factory.stage6());
+
+        assertEquals(expected.size(), mapController.getMapSize());
+        final List<Pair<Integer, Integer>> spawn = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            final MapColumn column = mapController.getColumn(i);
+            assertEquals(LandUtils.multiplyPixelPerSprite(i), column.getX());
+            assertEquals(expected.get(i).getFloorBehaviour(), column.getFloorBehaviour());
+            assertEquals(expected.get(i).getFloorPosition().getSecondElement(),
+                    column.getFloorPosition().getSecondElement());
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                final BufferedImage image = column.getBI(row);
+                // The transparent tile is made by every map
+                if (image.getWidth() > 1) {
+                    assertSame(expected.get(i).getBI(row), image);
+                }
+            }
+            // The flat spawn positions start from the first stage after the prestage
+            if (column.getFloorBehaviour() == LandBehaviour.BRICK || column.getFloorBehaviour() == LandBehaviour.FLAT
+                    && i >= Constants.SPRITE_PER_PRESTAGE_WIDTH) {
+                spawn.add(new PairImpl<>(column.getX(), column.getFloorPosition().getSecondElement()));
+            }
+        }
+
+        final List<Pair<Integer, Integer>> positions = new ArrayList<>();
+        for (int chunk = 0; chunk < mapController.getChunkCount(); chunk++) {
+            positions.addAll(mapController.getSpawnPositions(chunk));
+        }
+        assertEquals(spawn.size(), positions.size());
+        for (int i = 0; i < spawn.size(); i++) {
+            assertEquals(spawn.get(i).getFirstElement(), positions.get(i).getFirstElement());
+            assertEquals(spawn.get(i).getSecondElement(), positions.get(i).getSecondElement());
+        }
+    }
+
+    @Test
+    void testStagesMadeInAnyOrderMatchTheSequentialOnes() {
+        final MapStageFactory<MapColumn> sequential = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP));
+        final List<Supplier<List<MapColumn>>> inOrder = List.of(sequential::prestage, sequential::stage1,
+                sequential::stage2, sequential::stage3, sequential::stage4, sequential::stage5, sequential::stage6);
+        final MapStageFactory<MapColumn> reversed = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP));
+        final List<Supplier<List<MapColumn>>> backwards = List.of(reversed::prestage, reversed::stage1,
+                reversed::stage2, reversed::stage3, reversed::stage4, reversed::stage5, reversed::stage6);
+        final MapStageFactory<MapColumn> concurrent = new MapStageFactoryImpl(
+                new GameRandomImpl(SEED).getStream(RandomStream.MAP));
+        final StageProducer<MapColumn> producer = new StageProducer<>(List.of(concurrent::prestage,
+                concurrent::stage1, concurrent::stage2, concurrent::stage3, concurrent::stage4, concurrent::stage5,
+                concurrent::stage6), STAGES - 1);
+        producer.request(0);
+        assertEquals(STAGES, producer.getRequested());
+
+        final List<List<MapColumn>> expected = new ArrayList<>();
+        for (final Supplier<List<MapColumn>> stage : inOrder) {
+            expected.add(stage.get());
+        }
+        for (int stage = STAGES - 1; stage >= 0; stage--) {
+            assertSameStage(expected.get(stage), backwards.get(stage).get());
+        }
+        for (int stage = 0; stage < STAGES; stage++) {
+            assertSameStage(expected.get(stage), producer.get(stage));
+        }
+    }
+
+    private static void assertSameStage(final List<MapColumn> expected, final List<MapColumn> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getFloorBehaviour(), actual.get(i).getFloorBehaviour());
+            assertEquals(expected.get(i).getFloorPosition().getSecondElement(),
+                    actual.get(i).getFloorPosition().getSecondElement());
+            for (int row = 0; row < ColumnStore.ROWS; row++) {
+                final BufferedImage image = actual.get(i).getBI(row);
+                // The transparent tile is made by every table
+                if (image.getWidth() > 1) {
+                    assertSame(expected.get(i).getBI(row), image);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.CollisionMask;
+import scramble.model.common.impl.GameRandomImpl;
+import scramble.model.common.util.Sweep;
+import scramble.model.map.api.MapColumn;
+import scramble.model.map.impl.MapElement;
+import scramble.model.world.LandscapeModel;
+import scramble.utility.Constants;
+
+class TerrainIndexTest {
+
+    private static final long SEED = 1981L;
+    private static final int UPDATES = 6000;
+    private static final int CHECK_EVERY = 37;
+    private static final int BOXES = 200;
+    private static final int MASKS = 40;
+    private static final int MAX_SIDE = 60;
+    private static final int OPAQUE = 0xFFFFFFFF;
+
+    @Test
+    void testIndexMatchesTheHitBoxes() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(SEED)));
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int terrainHits = 0;
+        for (int update = 0; update < UPDATES; update++) {
+            landscape.update();
+            if (update % CHECK_EVERY == 0) {
+                terrainHits += checkBoxes(landscape, random);
+            }
+        }
+        landscape.reset(landscape.getMapController().getStageStartingX().get(3));
+        terrainHits += checkBoxes(landscape, random);
+        assertTrue(terrainHits > 0);
+    }
+
+    @Test
+    void testMasksMatchThePixelsOfTheTerrain() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(SEED)));
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int boxOnlyHits = 0;
+        for (int update = 0; update < UPDATES; update++) {
+            landscape.update();
+            if (update % CHECK_EVERY == 0) {
+                boxOnlyHits += checkMasks(landscape, random);
+            }
+        }
+        assertTrue(boxOnlyHits > 0);
+    }
+
+    @Test
+    void testSweepsFindTheColumnsPassedThrough() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(SEED)));
+        final SplittableRandom random = new SplittableRandom(SEED);
+        int sweptOnlyHits = 0;
+        for (int update = 0; update < UPDATES; update++) {
+            landscape.update();
+            if (update % CHECK_EVERY != 0) {
+                continue;
+            }
+            for (int i = 0; i < BOXES; i++) {
+                final Rectangle box = new Rectangle(random.nextInt(-MAX_SIDE, Constants.WINDOW_WIDTH),
+                        random.nextInt(-MAX_SIDE, Constants.WINDOW_HEIGHT), random.nextInt(1, MAX_SIDE),
+                        random.nextInt(1, MAX_SIDE));
+                final int dx = random.nextInt(-MAX_SIDE, MAX_SIDE);
+                final int dy = random.nextBoolean() ? 0 : random.nextInt(-MAX_SIDE, MAX_SIDE);
+                final int steps = Math.max(Math.abs(dx), Math.abs(dy));
+                boolean stepped = false;
+                for (int step = 0; step <= steps && !stepped; step++) {
+                    stepped = landscape.hitsTerrain(box.x + (steps == 0 ? 0 : dx * step / steps),
+                            box.y + (steps == 0 ? 0 : dy * step / steps), box.width, box.height);
+                }
+                final boolean swept = Sweep.isHit(landscape.timeOfImpact(box.x, box.y, box.width, box.height,
+                        dx, dy));
+                if (dy == 0) {
+                    assertEquals(stepped, swept, box::toString);
+                } else if (stepped) {
+                    assertTrue(swept, box::toString);
+                }
+                sweptOnlyHits += swept && !landscape.hitsTerrain(box.x + dx, box.y + dy, box.width,
+                        box.height) ? 1 : 0;
+            }
+        }
+        assertTrue(sweptOnlyHits > 0);
+    }
+
+    private static int checkMasks(final LandscapeModel landscape, final SplittableRandom random) {
+        final List<MapElement> terrain = getElements(landscape, false);
+        int boxOnlyHits = 0;
+        for (int i = 0; i < MASKS; i++) {
+            final int x = random.nextInt(-MAX_SIDE, Constants.WINDOW_WIDTH);
+            final int y = random.nextInt(-MAX_SIDE, Constants.WINDOW_HEIGHT);
+            final CollisionMask mask = randomMask(random);
+            final boolean boxHit = landscape.hitsTerrain(x, y, mask.getWidth(), mask.getHeight());
+            final boolean maskHit = landscape.hitsTerrain(x, y, mask);
+            assertEquals(hitsByPixel(terrain, x, y, mask), maskHit);
+            if (maskHit) {
+                assertTrue(boxHit);
+            }
+            boxOnlyHits += boxHit && !maskHit ? 1 : 0;
+        }
+        assertFalse(landscape.hitsTerrain(0, 0, CollisionMask.solid(0, 0)));
+        return boxOnlyHits;
+    }
+
+    private static CollisionMask randomMask(final SplittableRandom random) {
+        final BufferedImage image = new BufferedImage(random.nextInt(1, MAX_SIDE), random.nextInt(1, MAX_SIDE),
+                BufferedImage.TYPE_INT_ARGB);
+        for (int row = 0; row < image.getHeight(); row++) {
+            for (int column = 0; column < image.getWidth(); column++) {
+                if (random.nextInt(4) == 0) {
+                    image.setRGB(column, row, OPAQUE);
+                }
+            }
+        }
+        return CollisionMask.of(image, image.getWidth(), image.getHeight());
+    }
+
+    private static boolean hitsByPixel(final List<MapElement> terrain, final int x, final int y,
+            final CollisionMask mask) {
+        for (final MapElement element : terrain) {
+            final Rectangle box = element.getHitBox();
+            for (int row = box.y; row < box.y + box.height; row++) {
+                for (int column = box.x; column < box.x + box.width; column++) {
+                    final CollisionMask surface = element.getMask();
+                    final boolean solid = surface == null || row - box.y >= surface.getHeight()
+                            || surface.isOpaque(column - box.x, row - box.y);
+                    if (solid && mask.isOpaque(column - x, row - y)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int checkBoxes(final LandscapeModel landscape, final SplittableRandom random) {
+        final List<MapElement> terrain = getElements(landscape, false);
+        final List<MapElement> ceiling = getElements(landscape, true);
+        int hits = 0;
+        for (int i = 0; i < BOXES; i++) {
+            final Rectangle box = new Rectangle(random.nextInt(-MAX_SIDE, Constants.WINDOW_WIDTH),
+                    random.nextInt(-MAX_SIDE, Constants.WINDOW_HEIGHT), random.nextInt(1, MAX_SIDE),
+                    random.nextInt(1, MAX_SIDE));
+            final boolean expected = terrain.stream().anyMatch(e -> e.getHitBox().intersects(box));
+            assertEquals(expected, landscape.hitsTerrain(box.x, box.y, box.width, box.height), box::toString);
+            assertEquals(ceiling.stream().anyMatch(e -> e.getHitBox().intersects(box)),
+                    landscape.hitsCeiling(box.x, box.y, box.width, box.height), box::toString);
+            hits += expected ? 1 : 0;
+        }
+        return hits;
+    }
+
+    /* The elements of the loaded columns, or only the ones of their ceiling, checked one by one. */
+    private static List<MapElement> getElements(final LandscapeModel landscape, final boolean ceiling) {
+        final List<MapElement> elements = new ArrayList<>();
+        for (final MapColumn column : landscape.getLoadedColumns()) {
+            elements.addAll(ceiling ? column.getCeilingElements() : column.getElements());
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,56 @@
+package scramble.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.model.common.util.BufferedImageManager;
+import scramble.model.map.util.LandUtils;
+import scramble.model.map.util.TileVariants;
+import scramble.model.map.util.enums.LandPart;
+import scramble.model.map.util.enums.TileColour;
+
+class TileVariantsTest {
+
+    private static final int UPSIDE_DOWN = 180;
+
+    @Test
+    void testVariantsAreBuiltOnce() {
+        final BufferedImage first = TileVariants.getSprite(LandPart.LIGHT_BRICK_WALL, true, TileColour.CLOCKWISE);
+        final long hits = TileVariants.getHits();
+        final long misses = TileVariants.getMisses();
+
+        assertSame(first, TileVariants.getSprite(LandPart.LIGHT_BRICK_WALL, true, TileColour.CLOCKWISE));
+        assertTrue(TileVariants.getHits() > hits);
+        assertEquals(misses, TileVariants.getMisses());
+        assertTrue(TileVariants.getHitRate() > 0);
+        assertSame(LandUtils.getSprite(LandPart.TOP_FLAT_FLOOR),
+                TileVariants.getSprite(LandPart.TOP_FLAT_FLOOR, false, TileColour.NONE));
+    }
+
+    @Test
+    void testVariantsMatchTheTransformedSprites() {
+        for (final LandPart part : LandPart.values()) {
+            final BufferedImage rotated = BufferedImageManager
+                    .rotateBufferedImageWithDegree(LandUtils.getSprite(part), UPSIDE_DOWN);
+            for (final TileColour colour : TileColour.values()) {
+                assertSamePixels(colour.apply(rotated), TileVariants.getSprite(part, true, colour));
+                assertSamePixels(colour.apply(LandUtils.getSprite(part)), TileVariants.getSprite(part, false, colour));
+            }
+        }
+    }
+
+    private static void assertSamePixels(final BufferedImage expected, final BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+}
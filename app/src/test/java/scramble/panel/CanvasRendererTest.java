@@ -0,0 +1,54 @@
+package scramble.panel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JLayeredPane;
+
+import org.junit.jupiter.api.Test;
+
+import scramble.view.compact.CanvasRenderer;
+import scramble.view.compact.GamePanel;
+import scramble.view.compact.GameView;
+
+class CanvasRendererTest {
+
+    private static final int SIDE = 10;
+
+    @Test
+    void testLayersAreDrawnFromTheLowest() {
+        final JLayeredPane layers = new JLayeredPane();
+        // Added first on purpose: the layer decides the order, not the insertion
+        layers.add(new SquarePanel(Color.RED), JLayeredPane.MODAL_LAYER);
+        layers.add(new SquarePanel(Color.BLUE), JLayeredPane.DEFAULT_LAYER);
+
+        final BufferedImage frame = new BufferedImage(GameView.WINDOW_WIDTH, GameView.WINDOW_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        final Graphics g = frame.getGraphics();
+        CanvasRenderer.drawLayers(layers, g);
+        g.dispose();
+
+        assertEquals(Color.RED.getRGB(), frame.getRGB(1, 1));
+        assertEquals(Color.BLACK.getRGB(), frame.getRGB(SIDE + 1, SIDE + 1));
+    }
+
+    private static final class SquarePanel extends GamePanel {
+
+        private static final long serialVersionUID = 1L;
+        private final Color color;
+
+        SquarePanel(final Color color) {
+            this.color = color;
+            this.setBounds(0, 0, GameView.WINDOW_WIDTH, GameView.WINDOW_HEIGHT);
+        }
+
+        @Override
+        protected void drawPanel(final Graphics g) {
+            g.setColor(color);
+            g.fillRect(0, 0, SIDE, SIDE);
+        }
+    }
+}
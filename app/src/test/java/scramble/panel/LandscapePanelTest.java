@@ -1,14 +1,38 @@
 package scramble.panel;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.ImageCapabilities;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import scramble.controller.map.MapController;
+import scramble.model.common.impl.GameRandomImpl;
 import scramble.model.map.util.LandUtils;
+import scramble.model.world.LandscapeModel;
+import scramble.model.world.Sprite;
+import scramble.model.world.SpriteLayer;
+import scramble.model.world.WorldSnapshot;
+import scramble.utility.Constants;
+import scramble.view.compact.AcceleratedImages;
 import scramble.view.compact.LandscapePanel;
 
 class LandscapePanelTest {
 
+    private static final int UPDATES = 500;
+    private static final int OPAQUE = 0xFF00FF00;
+
     @Test
     void testResetCorrectlyResetsLandscape() {
         // Create a LandscapePanel instance
@@ -21,4 +45,140 @@ class LandscapePanelTest {
         // Verify that the landscape is reset to the given starter position
         assertEquals(initialPosition, landscapePanel.getCurrentMapX());
     }
+
+    @Test
+    void testPanelDrawsTheChunksOfTheSnapshot() {
+        final LandscapeModel landscape = new LandscapeModel(new MapController(new GameRandomImpl(3)));
+        for (int update = 0; update < UPDATES; update++) {
+            landscape.update();
+        }
+        final WorldSnapshot snapshot = new WorldSnapshot(0, landscape.getCurrentMapX(),
+                Map.of(SpriteLayer.LANDSCAPE, landscape.getSprites()), 0, 0, 0, 0);
+        final LandscapePanel panel = new LandscapePanel(landscape, () -> snapshot);
+
+        final BufferedImage expected = newFrame();
+        final Graphics2D direct = expected.createGraphics();
+        for (final Sprite sprite : snapshot.getSprites(SpriteLayer.LANDSCAPE)) {
+            direct.drawImage(sprite.getImage(), sprite.getX(), sprite.getY(), sprite.getWidth(),
+                    sprite.getHeight(), null);
+        }
+        direct.dispose();
+
+        // The second frame is drawn with the copies made in the first one
+        for (int frame = 0; frame < 2; frame++) {
+            final BufferedImage actual = newFrame();
+            final Graphics2D g = actual.createGraphics();
+            panel.draw(g);
+            g.dispose();
+            assertArrayEquals(pixels(expected), pixels(actual));
+        }
+    }
+
+    @Test
+    void testCopiesOfImagesNotDrawnAreReleased() {
+        final List<BufferedCopy> made = new ArrayList<>();
+        final AcceleratedImages images = new AcceleratedImages((configuration, width, height) -> {
+            final BufferedCopy copy = new BufferedCopy(width, height);
+            made.add(copy);
+            return copy;
+        });
+        final BufferedImage frame = newFrame();
+        final Graphics2D g = frame.createGraphics();
+        final BufferedImage firstImage = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        firstImage.setRGB(0, 0, OPAQUE);
+        final Sprite first = new Sprite(firstImage, 0, 0, 2, 2);
+        final Sprite second = new Sprite(new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB), 2, 0, 2, 2);
+        images.draw(g, first);
+        images.draw(g, second);
+        images.endFrame();
+        assertEquals(2, images.size());
+        assertEquals(2, made.size());
+        assertEquals(OPAQUE, made.get(0).getSnapshot().getRGB(0, 0));
+
+        images.draw(g, second);
+        images.endFrame();
+        g.dispose();
+        assertEquals(1, images.size());
+        assertEquals(2, made.size());
+        assertTrue(made.get(0).isFlushed());
+        assertFalse(made.get(1).isFlushed());
+    }
+
+    private static BufferedImage newFrame() {
+        return new BufferedImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static int[] pixels(final BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    /* A copy kept in a plain image, which is never lost. */
+    private static final class BufferedCopy extends VolatileImage {
+
+        private final BufferedImage image;
+        private boolean flushed;
+
+        BufferedCopy(final int width, final int height) {
+            this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        boolean isFlushed() {
+            return this.flushed;
+        }
+
+        @Override
+        public BufferedImage getSnapshot() {
+            return this.image;
+        }
+
+        @Override
+        public int getWidth() {
+            return this.image.getWidth();
+        }
+
+        @Override
+        public int getHeight() {
+            return this.image.getHeight();
+        }
+
+        @Override
+        public Graphics2D createGraphics() {
+            return this.image.createGraphics();
+        }
+
+        @Override
+        public int validate(final GraphicsConfiguration gc) {
+            return IMAGE_OK;
+        }
+
+        @Override
+        public boolean contentsLost() {
+            return false;
+        }
+
+        @Override
+        public ImageCapabilities getCapabilities() {
+            return new ImageCapabilities(false);
+        }
+
+        @Override
+        public int getWidth(final ImageObserver observer) {
+            return getWidth();
+        }
+
+        @Override
+        public int getHeight(final ImageObserver observer) {
+            return getHeight();
+        }
+
+        @Override
+        public Object getProperty(final String name, final ImageObserver observer) {
+            return this.image.getProperty(name, observer);
+        }
+
+        @Override
+        public void flush() {
+            this.flushed = true;
+        }
+    }
 }
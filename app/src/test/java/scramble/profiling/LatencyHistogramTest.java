@@ -0,0 +1,71 @@
+package scramble.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scramble.controller.profiling.LatencyHistogram;
+import scramble.controller.profiling.LatencySummary;
+import scramble.controller.profiling.Profiler;
+
+class LatencyHistogramTest {
+
+    private static final long MICRO = 1000;
+    private static final int VALUES = 1000;
+    // Every value is reported with an error below 1/32 of itself
+    private static final double ERROR = 1.0 / 32;
+
+    @Test
+    void testPercentilesAreWithinTheBucketError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= VALUES; i++) {
+            histogram.record(i * MICRO);
+        }
+        final LatencySummary summary = histogram.drain("test");
+        assertEquals(VALUES, summary.getCount());
+        assertEquals(VALUES * MICRO, summary.getMaxNanos());
+        assertCloseTo(VALUES / 2 * MICRO, summary.getP50Nanos());
+        assertCloseTo(VALUES * 99 / 100 * MICRO, summary.getP99Nanos());
+    }
+
+    @Test
+    void testDrainEmptiesTheHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(MICRO);
+        histogram.drain("test");
+        final LatencySummary summary = histogram.drain("test");
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getMaxNanos());
+        assertEquals(0, summary.getP99Nanos());
+    }
+
+    @Test
+    void testSectionsAreLookedUpByName() {
+        assertSame(Profiler.section("test.section"), Profiler.section("test.section"));
+    }
+
+    @Test
+    void testFlushReturnsOnceTheReportIsWritten(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("profile.txt");
+        Profiler.setDumpFile(file);
+        try {
+            Profiler.section("test.flushed").record(MICRO);
+            Profiler.flush();
+            assertTrue(Files.readString(file, StandardCharsets.UTF_8).contains("test.flushed"));
+        } finally {
+            Profiler.setDumpFile(null);
+        }
+    }
+
+    private static void assertCloseTo(final long expected, final long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected * ERROR, expected + " != " + actual);
+    }
+}
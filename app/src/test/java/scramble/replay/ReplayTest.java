@@ -0,0 +1,117 @@
+package scramble.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import scramble.controller.command.impl.BulletCommand;
+import scramble.controller.command.impl.SpaceShipCommand;
+import scramble.controller.replay.InputEvent;
+import scramble.controller.replay.Replay;
+import scramble.controller.replay.ReplayPlayer;
+import scramble.controller.replay.ReplayRecorder;
+import scramble.controller.session.GameSession;
+import scramble.model.bullets.BulletType;
+import scramble.model.spaceship.Directions;
+
+class ReplayTest {
+
+    private static final long SEED = 1981L;
+    private static final int TICKS = 600;
+    private static final int MOVE_TICKS = 40;
+    private static final int SHOOT_EVERY = 25;
+
+    @TempDir
+    private Path folder;
+
+    @Test
+    void testReplayPlaysTheSameGame() throws IOException {
+        final Replay recorded = record();
+        assertEquals(TICKS, recorded.getTicks());
+        assertFalse(recorded.getEvents().isEmpty());
+
+        final Path file = folder.resolve("game.replay");
+        recorded.save(file);
+        final Replay loaded = Replay.load(file);
+        assertEquals(recorded.getSeed(), loaded.getSeed());
+        assertFalse(loaded.isEndless());
+        assertEquals(recorded.getTicks(), loaded.getTicks());
+        assertEquals(recorded.getChecksum(), loaded.getChecksum());
+        assertEquals(recorded.getEvents(), loaded.getEvents());
+
+        final ReplayPlayer player = new ReplayPlayer(loaded);
+        assertTrue(player.play());
+        assertEquals(TICKS, player.getSession().getGameLoop().getTickCount());
+    }
+
+    @Test
+    void testReplayPlaysTheSameGameOnAMapWithNoEnd() throws IOException {
+        final Replay recorded = record(true);
+        assertTrue(recorded.isEndless());
+
+        final Path file = folder.resolve("endless.replay");
+        recorded.save(file);
+        final Replay loaded = Replay.load(file);
+        assertTrue(loaded.isEndless());
+        assertTrue(new ReplayPlayer(loaded).play());
+        assertFalse(new ReplayPlayer(new Replay(loaded.getSeed(), loaded.getTicks(), loaded.getChecksum(),
+                loaded.getEvents())).play());
+    }
+
+    @Test
+    void testReplayIsFrameExact() {
+        final Replay recorded = record();
+        final List<InputEvent> late = new ArrayList<>();
+        for (final InputEvent event : recorded.getEvents()) {
+            late.add(event.getAction().name().startsWith("MOVE")
+                    ? new InputEvent(event.getTick() + 1, event.getAction(), event.isPressed())
+                    : event);
+        }
+        assertFalse(new ReplayPlayer(new Replay(recorded.getSeed(), recorded.getTicks(), recorded.getChecksum(),
+                late)).play());
+    }
+
+    @Test
+    void testNotAReplay() throws IOException {
+        final Path file = folder.resolve("text.replay");
+        Files.writeString(file, "not a replay");
+        assertThrows(IOException.class, () -> Replay.load(file));
+    }
+
+    private static Replay record() {
+        return record(false);
+    }
+
+    private static Replay record(final boolean endless) {
+        final GameSession session = new GameSession(SEED, endless);
+        final ReplayRecorder recorder = new ReplayRecorder(SEED, endless);
+        session.setRecorder(recorder);
+        session.submit(session::start);
+        for (int i = 0; i < TICKS; i++) {
+            if (i % MOVE_TICKS == 0) {
+                final Directions direction = i / MOVE_TICKS % 2 == 0 ? Directions.DOWN : Directions.UP;
+                session.submit(new SpaceShipCommand(session, direction, true));
+            } else if (i % MOVE_TICKS == MOVE_TICKS / 2) {
+                session.submit(new SpaceShipCommand(session, Directions.DOWN, false));
+                session.submit(new SpaceShipCommand(session, Directions.UP, false));
+            }
+            if (i % SHOOT_EVERY == 0) {
+                session.submit(new BulletCommand(session,
+                        i % 2 == 0 ? BulletType.TYPE_HORIZONTAL : BulletType.TYPE_BOMB));
+            }
+            session.step();
+        }
+        session.step();
+        return recorder.toReplay();
+    }
+}
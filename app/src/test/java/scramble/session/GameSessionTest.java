@@ -0,0 +1,125 @@
+package scramble.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import scramble.controller.command.impl.SpaceShipCommand;
+import scramble.controller.session.GameSession;
+import scramble.model.enemy.Rocket;
+import scramble.model.spaceship.Directions;
+import scramble.model.world.SpriteLayer;
+import scramble.model.world.WorldSnapshot;
+import scramble.utility.Constants;
+
+class GameSessionTest {
+
+    private static final int MAX_TICKS = 100_000;
+    private static final long SEED = 1981L;
+    private static final int SEED_TICKS = 2000;
+
+    @Test
+    void testSessionRunsWithoutWindow() {
+        final GameSession session = new GameSession();
+        final int startX = session.getWorld().getLandscape().getCurrentMapX();
+
+        session.step();
+        assertEquals(startX, session.getWorld().getLandscape().getCurrentMapX());
+
+        session.start();
+        final int updates = 10;
+        for (int i = 0; i < updates * Constants.ENTITY_UPDATE_MS / Constants.GAME_TICK_MS; i++) {
+            session.step();
+        }
+        assertEquals(startX + updates * Constants.LANDSCAPEX_SPEED,
+                session.getWorld().getLandscape().getCurrentMapX());
+    }
+
+    @Test
+    void testCommandsRunOnTheNextTick() {
+        final GameSession session = new GameSession();
+        session.start();
+        final int startX = session.getWorld().getSpaceship().getPosition().getFirstElement();
+
+        session.submit(new SpaceShipCommand(session, Directions.RIGHT, true));
+        assertEquals(startX, session.getWorld().getSpaceship().getPosition().getFirstElement());
+
+        session.step();
+        assertTrue(session.getWorld().getSpaceship().getPosition().getFirstElement() > startX);
+    }
+
+    @Test
+    void testSpaceshipLosesLivesUntilGameOver() {
+        final GameSession session = new GameSession();
+        session.start();
+        int ticks = 0;
+        while (session.isPlaying() && ticks < MAX_TICKS) {
+            session.step();
+            ticks++;
+        }
+        assertFalse(session.isPlaying());
+        assertEquals(0, session.getLogicController().getLives());
+
+        session.reset();
+        assertEquals(Constants.MAX_LIVES, session.getLogicController().getLives());
+        assertEquals(Constants.MAX_FUEL, session.getWorld().getFuelBar().getFuelLevel());
+    }
+
+    @Test
+    void testSameSeedPlaysTheSameGame() {
+        final GameSession first = new GameSession(SEED);
+        final GameSession second = new GameSession(SEED);
+        assertIterableEquals(columnsOf(first), columnsOf(second));
+
+        first.start();
+        second.start();
+        for (int i = 0; i < SEED_TICKS; i++) {
+            first.step();
+            second.step();
+        }
+        assertIterableEquals(rocketsOf(first), rocketsOf(second));
+        assertEquals(first.getWorld().getLandscape().getCurrentMapX(),
+                second.getWorld().getLandscape().getCurrentMapX());
+    }
+
+    @Test
+    void testSnapshotIsPublishedByTheLoop() {
+        final GameSession session = new GameSession();
+        assertEquals(WorldSnapshot.EMPTY, session.getSnapshot());
+
+        session.start();
+        session.step();
+        session.publishSnapshot();
+        final WorldSnapshot snapshot = session.getSnapshot();
+        assertEquals(1, snapshot.getTick());
+        assertEquals(session.getWorld().getLandscape().getCurrentMapX(), snapshot.getCameraX());
+        assertEquals(1, snapshot.getSprites(SpriteLayer.SPACESHIP).size());
+        assertFalse(snapshot.getSprites(SpriteLayer.LANDSCAPE).isEmpty());
+
+        // The world moves on, the published snapshot does not
+        for (int i = 0; i < SEED_TICKS; i++) {
+            session.step();
+        }
+        assertEquals(1, snapshot.getTick());
+        assertEquals(Constants.MAX_LIVES, snapshot.getLives());
+    }
+
+    private static List<String> columnsOf(final GameSession session) {
+        return session.getWorld().getLandscape().getLoadedColumns().stream()
+                .map(column -> column.getFloorBehaviour() + " " + column.getBIsHeight() + " "
+                        + column.getCeilingElements().size())
+                .toList();
+    }
+
+    private static List<String> rocketsOf(final GameSession session) {
+        return session.getWorld().getRockets().getRockets().stream()
+                .map(Rocket::getPosition)
+                .map(p -> p.getFirstElement() + "," + p.getSecondElement())
+                .toList();
+    }
+}
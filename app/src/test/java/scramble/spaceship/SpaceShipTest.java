@@ -17,6 +17,7 @@ import scramble.utility.Constants;
 class SpaceShipTest {
 
     @Test
+    @SuppressWarnings("deprecation")
     void testCreateSpaceship() {
         final SpaceShip spaceShip = new SpaceShip(0, 0, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
 
@@ -29,6 +30,7 @@ class SpaceShipTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testDetectsEnemyCollisionAccurately() {
         // Create a SpaceShip instance
         final SpaceShip spaceShip = new SpaceShip(0, 0, Constants.SPACESHIP_WIDTH, Constants.SPACESHIP_HEIGHT);
@@ -52,6 +52,8 @@ application {
 
 tasks.test {
     useJUnitPlatform()
+    // The tests keep the cache of the map in the build directory, not in the one of the user
+    systemProperty("scramble.cache", layout.buildDirectory.dir("test-cache").get().asFile.absolutePath)
     testLogging {
         events(*org.gradle.api.tasks.testing.logging.TestLogEvent.values())
         showStandardStreams = true
@@ -74,4 +76,61 @@ sourceSets {
             setSrcDirs(listOf("app/src/main/resources"))
         }
     }
-}
\ No newline at end of file
+    create("jmh") {
+        java {
+            setSrcDirs(listOf("app/src/jmh/java")) // Point to the benchmarks
+        }
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    // JMH microbenchmarks, see the "jmh" task
+    val jmhVersion = "1.37"
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+    "jmhCompileOnly"("com.github.spotbugs:spotbugs-annotations:4.8.6")
+}
+
+/*
+ * Runs the benchmarks and writes the results in build/reports/jmh/results.json.
+ * A subset can be run with -PjmhInclude=<regex>, e.g. -PjmhInclude=Collision
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes the results as JSON"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    providers.gradleProperty("jmhInclude").orNull?.let { args(it) }
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+}
+/*
+ * Compiles the raw data of the stages into build/map/stages.map, which "run"
+ * passes to the game so that it reads the map without parsing the csv files.
+ */
+val compiledMap = layout.buildDirectory.file("map/stages.map")
+
+tasks.register<JavaExec>("compileMap") {
+    group = "build"
+    description = "Compiles the stages of the map into a binary file"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("scramble.model.map.impl.MapCompiler")
+    inputs.dir("app/src/main/resources/stage")
+    outputs.file(compiledMap)
+    args(compiledMap.get().asFile.absolutePath)
+}
+
+tasks.named<JavaExec>("run") {
+    dependsOn("compileMap")
+    systemProperty("scramble.map", compiledMap.get().asFile.absolutePath)
+}